@@ -18,6 +18,9 @@ package io.jmix.audit;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
 
 @ConfigurationProperties("jmix.audit")
 public class AuditProperties {
@@ -26,12 +29,65 @@ public class AuditProperties {
     //ToDo: make system user name globally configurable?
     String systemUsername;
 
+    /**
+     * Whether entity log items are written to the database asynchronously after the business transaction is
+     * committed, instead of being saved in this transaction.
+     */
+    boolean asyncEntityLogEnabled;
+
+    /**
+     * Maximum number of entity log items waiting to be written asynchronously.
+     */
+    int asyncEntityLogQueueCapacity;
+
+    /**
+     * Maximum number of entity log items inserted in one JDBC batch.
+     */
+    int asyncEntityLogBatchSize;
+
+    /**
+     * Maximum time an entity log item waits in the queue for a batch to fill up.
+     */
+    Duration asyncEntityLogFlushInterval;
+
+    /**
+     * Time a committing thread waits for free space in the full queue. After that, the item is written to the
+     * spill directory if it is set, or to the database synchronously.
+     */
+    Duration asyncEntityLogOfferTimeout;
+
+    /**
+     * Local directory for entity log items that did not fit into the queue, could not be written to the database,
+     * or remained in the queue on shutdown. The items are written to the database when the queue is empty.
+     */
+    String asyncEntityLogSpillDir;
+
+    /**
+     * Whether attribute changes of new entity log items are stored in the compact JSON format instead of the
+     * {@link java.util.Properties} text format. Both formats are read regardless of this property.
+     */
+    boolean entityLogCompactChangesEnabled;
+
     public AuditProperties(
             @DefaultValue("true") boolean enabled,
-            @DefaultValue("system") String systemUsername
+            @DefaultValue("system") String systemUsername,
+            @DefaultValue("false") boolean asyncEntityLogEnabled,
+            @DefaultValue("10000") int asyncEntityLogQueueCapacity,
+            @DefaultValue("100") int asyncEntityLogBatchSize,
+            @DefaultValue("1s") Duration asyncEntityLogFlushInterval,
+            @DefaultValue("100ms") Duration asyncEntityLogOfferTimeout,
+            @Nullable String asyncEntityLogSpillDir,
+            @DefaultValue("false") boolean entityLogCompactChangesEnabled
     ) {
         this.enabled = enabled;
         this.systemUsername = systemUsername;
+        this.asyncEntityLogEnabled = asyncEntityLogEnabled;
+        this.asyncEntityLogQueueCapacity = asyncEntityLogQueueCapacity;
+        this.asyncEntityLogBatchSize = asyncEntityLogBatchSize;
+        this.asyncEntityLogFlushInterval = asyncEntityLogFlushInterval;
+        this.asyncEntityLogOfferTimeout = asyncEntityLogOfferTimeout;
+        this.asyncEntityLogSpillDir = asyncEntityLogSpillDir;
+        this.entityLogCompactChangesEnabled = entityLogCompactChangesEnabled;
     }
 
     public boolean isEnabled() {
@@ -41,4 +97,54 @@ public class AuditProperties {
     public String getSystemUsername() {
         return systemUsername;
     }
+
+    /**
+     * @see #asyncEntityLogEnabled
+     */
+    public boolean isAsyncEntityLogEnabled() {
+        return asyncEntityLogEnabled;
+    }
+
+    /**
+     * @see #asyncEntityLogQueueCapacity
+     */
+    public int getAsyncEntityLogQueueCapacity() {
+        return asyncEntityLogQueueCapacity;
+    }
+
+    /**
+     * @see #asyncEntityLogBatchSize
+     */
+    public int getAsyncEntityLogBatchSize() {
+        return asyncEntityLogBatchSize;
+    }
+
+    /**
+     * @see #asyncEntityLogFlushInterval
+     */
+    public Duration getAsyncEntityLogFlushInterval() {
+        return asyncEntityLogFlushInterval;
+    }
+
+    /**
+     * @see #asyncEntityLogOfferTimeout
+     */
+    public Duration getAsyncEntityLogOfferTimeout() {
+        return asyncEntityLogOfferTimeout;
+    }
+
+    /**
+     * @see #asyncEntityLogSpillDir
+     */
+    @Nullable
+    public String getAsyncEntityLogSpillDir() {
+        return asyncEntityLogSpillDir;
+    }
+
+    /**
+     * @see #entityLogCompactChangesEnabled
+     */
+    public boolean isEntityLogCompactChangesEnabled() {
+        return entityLogCompactChangesEnabled;
+    }
 }
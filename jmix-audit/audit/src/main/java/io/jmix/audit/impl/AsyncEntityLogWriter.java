@@ -0,0 +1,418 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.audit.AuditProperties;
+import io.jmix.audit.entity.EntityLogItem;
+import io.jmix.audit.entity.ReferenceToEntity;
+import io.jmix.core.Stores;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.persistence.DbTypeConverter;
+import io.jmix.data.persistence.DbmsSpecifics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Writes entity log items to the database asynchronously if {@link AuditProperties#isAsyncEntityLogEnabled()} is set.
+ * <p>
+ * Items are put to a bounded in-memory queue after the business transaction is committed and are inserted by a
+ * background thread with JDBC batches. If the queue is full, the committing thread waits for
+ * {@link AuditProperties#getAsyncEntityLogOfferTimeout()} and then writes the item to the spill directory, or to the
+ * database synchronously if the directory is not set. Items that could not be written to the database and items
+ * remaining in the queue on shutdown are also written to the spill directory. The spilled items are written to the
+ * database when the queue becomes empty, including after restart. Items in the queue are lost if the application
+ * terminates abnormally.
+ * <p>
+ * If the spill directory is not set, a batch that cannot be written is retried {@link #MAX_WRITE_ATTEMPTS} times.
+ * After that its items are written one by one, and the items that still cannot be written are logged and dropped,
+ * so that a single invalid item doesn't block the items queued after it.
+ * <p>
+ * As the items are inserted with JDBC, no entity events are published for them.
+ * <p>
+ * Metrics: {@code jmix.audit.entityLog.queue.size} - number of items in the queue,
+ * {@code jmix.audit.entityLog.lag} - time between the commit of a change and the insert of its item,
+ * {@code jmix.audit.entityLog.spilled} - number of items written to the spill directory,
+ * {@code jmix.audit.entityLog.dropped} - number of items that could not be written and were dropped.
+ */
+@Component("audit_AsyncEntityLogWriter")
+public class AsyncEntityLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEntityLogWriter.class);
+
+    protected static final String INSERT_SQL = "insert into AUDIT_ENTITY_LOG (ID, CREATE_TS, CREATED_BY, " +
+            "EVENT_TS, USERNAME, SUBSTITUTED_USERNAME, CHANGE_TYPE, ENTITY, ENTITY_INSTANCE_NAME, ENTITY_ID, " +
+            "STRING_ENTITY_ID, INT_ENTITY_ID, LONG_ENTITY_ID, CHANGES, SYS_TENANT_ID) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    protected static final String SPILL_FILE_PREFIX = "entity-log-";
+    protected static final String SPILL_FILE_SUFFIX = ".ser";
+
+    protected static final int MAX_WRITE_ATTEMPTS = 3;
+
+    protected final AuditProperties properties;
+    protected final StoreAwareLocator storeAwareLocator;
+    protected final DbmsSpecifics dbmsSpecifics;
+
+    @Nullable
+    protected final BlockingQueue<Record> queue;
+    @Nullable
+    protected final Path spillDir;
+
+    protected final Timer lagTimer;
+    protected final Counter spilledCounter;
+    protected final Counter droppedCounter;
+
+    protected Duration writeRetryDelay = Duration.ofSeconds(5);
+
+    protected volatile boolean running;
+    protected Thread writerThread;
+    protected volatile List<Record> interruptedBatch = List.of();
+
+    /**
+     * Entity log item prepared for insert. Contains the values of the {@code AUDIT_ENTITY_LOG} columns.
+     */
+    public record Record(UUID id,
+                         Date createTs,
+                         @Nullable String createdBy,
+                         Date eventTs,
+                         @Nullable String username,
+                         @Nullable String substitutedUsername,
+                         String changeType,
+                         String entity,
+                         @Nullable String entityInstanceName,
+                         @Nullable UUID entityId,
+                         @Nullable String stringEntityId,
+                         @Nullable Integer intEntityId,
+                         @Nullable Long longEntityId,
+                         @Nullable String changes,
+                         @Nullable String sysTenantId,
+                         long enqueueTime) implements Serializable {
+
+        public static Record of(EntityLogItem item) {
+            ReferenceToEntity ref = item.getEntityRef();
+            return new Record(item.getId(), item.getCreateTs(), item.getCreatedBy(), item.getEventTs(),
+                    item.getUsername(), item.getSubstitutedUsername(), item.getType().getId(), item.getEntity(),
+                    item.getEntityInstanceName(), ref.getEntityId(), ref.getStringEntityId(), ref.getIntEntityId(),
+                    ref.getLongEntityId(), item.getChanges(), item.getSysTenantId(), System.currentTimeMillis());
+        }
+    }
+
+    public AsyncEntityLogWriter(AuditProperties properties,
+                                StoreAwareLocator storeAwareLocator,
+                                DbmsSpecifics dbmsSpecifics,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.storeAwareLocator = storeAwareLocator;
+        this.dbmsSpecifics = dbmsSpecifics;
+
+        if (properties.isAsyncEntityLogEnabled()) {
+            queue = new ArrayBlockingQueue<>(Math.max(1, properties.getAsyncEntityLogQueueCapacity()));
+            meterRegistry.gauge("jmix.audit.entityLog.queue.size", queue, Collection::size);
+        } else {
+            queue = null;
+        }
+        String spillDirName = properties.getAsyncEntityLogSpillDir();
+        spillDir = spillDirName == null ? null : Paths.get(spillDirName);
+
+        lagTimer = meterRegistry.timer("jmix.audit.entityLog.lag");
+        spilledCounter = meterRegistry.counter("jmix.audit.entityLog.spilled");
+        droppedCounter = meterRegistry.counter("jmix.audit.entityLog.dropped");
+    }
+
+    public boolean isEnabled() {
+        return queue != null;
+    }
+
+    /**
+     * Puts the item to the queue. Must be invoked after the transaction that created the item is committed.
+     */
+    public void enqueue(EntityLogItem item) {
+        if (queue == null) {
+            throw new IllegalStateException("Asynchronous entity log is disabled");
+        }
+        Record record = Record.of(item);
+        boolean queued;
+        try {
+            queued = queue.offer(record,
+                    properties.getAsyncEntityLogOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            if (spillDir != null) {
+                log.debug("Entity log queue is full, spilling item {}", record.id());
+                spill(List.of(record));
+            } else {
+                log.debug("Entity log queue is full, writing item {} synchronously", record.id());
+                write(List.of(record));
+            }
+        }
+    }
+
+    @PostConstruct
+    protected void start() {
+        if (queue == null) {
+            return;
+        }
+        if (spillDir != null) {
+            try {
+                Files.createDirectories(spillDir);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create entity log spill directory " + spillDir, e);
+            }
+        }
+        running = true;
+        writerThread = new ThreadFactoryBuilder()
+                .setNameFormat("jmix-entity-log-writer")
+                .setDaemon(true)
+                .build()
+                .newThread(this::run);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    protected void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Record> remaining = new ArrayList<>(interruptedBatch);
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            if (spillDir != null) {
+                spill(remaining);
+            } else {
+                writeOrDrop(remaining);
+            }
+        }
+    }
+
+    protected void run() {
+        int batchSize = Math.max(1, properties.getAsyncEntityLogBatchSize());
+        long flushInterval = properties.getAsyncEntityLogFlushInterval().toNanos();
+        List<Record> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Record first = queue.poll(flushInterval, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    writeSpilledFile();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long timeout = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || timeout <= 0) {
+                        break;
+                    }
+                    Record next = queue.poll(timeout, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeOrSpill(batch);
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                // stop() writes this batch and the records remaining in the queue
+                interruptedBatch = batch;
+                return;
+            } catch (RuntimeException e) {
+                // keep the writer thread alive, otherwise the queue is never drained
+                log.error("Error writing {} entity log items, dropping them", batch.size(), e);
+                droppedCounter.increment(batch.size());
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    protected void writeOrSpill(List<Record> records) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(records);
+                return;
+            } catch (RuntimeException e) {
+                if (spillDir != null) {
+                    log.error("Error writing {} entity log items, spilling them", records.size(), e);
+                    spill(records);
+                    return;
+                }
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    log.error("Error writing {} entity log items, writing them one by one", records.size(), e);
+                    writeEach(records);
+                    return;
+                }
+                log.error("Error writing {} entity log items, retrying", records.size(), e);
+                TimeUnit.MILLISECONDS.sleep(writeRetryDelay.toMillis());
+            }
+        }
+    }
+
+    /**
+     * Writes the records in one batch, or one by one if the batch fails. Records that cannot be written are dropped.
+     */
+    protected void writeOrDrop(List<Record> records) {
+        try {
+            write(records);
+        } catch (RuntimeException e) {
+            log.error("Error writing {} entity log items, writing them one by one", records.size(), e);
+            writeEach(records);
+        }
+    }
+
+    /**
+     * Writes each record in a separate transaction. Records that cannot be written are logged and dropped.
+     */
+    protected void writeEach(List<Record> records) {
+        for (Record record : records) {
+            try {
+                write(List.of(record));
+            } catch (RuntimeException e) {
+                log.error("Error writing entity log item {}, dropping it: {}", record.id(), record, e);
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    protected void write(List<Record> records) {
+        DbTypeConverter converter = dbmsSpecifics.getDbTypeConverter();
+        storeAwareLocator.getTransactionTemplate(Stores.MAIN).executeWithoutResult(status ->
+                storeAwareLocator.getJdbcTemplate(Stores.MAIN).batchUpdate(INSERT_SQL, records, records.size(),
+                        (ps, record) -> setParameters(ps, record, converter)));
+
+        long now = System.currentTimeMillis();
+        for (Record record : records) {
+            lagTimer.record(now - record.enqueueTime(), TimeUnit.MILLISECONDS);
+        }
+        log.debug("Written {} entity log items", records.size());
+    }
+
+    protected void setParameters(PreparedStatement ps, Record record, DbTypeConverter converter) throws SQLException {
+        int i = 1;
+        setParameter(ps, i++, record.id(), UUID.class, converter);
+        setParameter(ps, i++, record.createTs(), Date.class, converter);
+        setParameter(ps, i++, record.createdBy(), String.class, converter);
+        setParameter(ps, i++, record.eventTs(), Date.class, converter);
+        setParameter(ps, i++, record.username(), String.class, converter);
+        setParameter(ps, i++, record.substitutedUsername(), String.class, converter);
+        setParameter(ps, i++, record.changeType(), String.class, converter);
+        setParameter(ps, i++, record.entity(), String.class, converter);
+        setParameter(ps, i++, record.entityInstanceName(), String.class, converter);
+        setParameter(ps, i++, record.entityId(), UUID.class, converter);
+        setParameter(ps, i++, record.stringEntityId(), String.class, converter);
+        setParameter(ps, i++, record.intEntityId(), Integer.class, converter);
+        setParameter(ps, i++, record.longEntityId(), Long.class, converter);
+        setParameter(ps, i++, record.changes(), String.class, converter);
+        setParameter(ps, i, record.sysTenantId(), String.class, converter);
+    }
+
+    protected void setParameter(PreparedStatement ps, int index, @Nullable Object value, Class<?> type,
+                                DbTypeConverter converter) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, converter.getSqlType(type));
+        } else {
+            ps.setObject(index, converter.getSqlObject(value));
+        }
+    }
+
+    protected void spill(List<Record> records) {
+        Objects.requireNonNull(spillDir);
+        String fileName = SPILL_FILE_PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID();
+        Path tempFile = spillDir.resolve(fileName + ".tmp");
+        try {
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeObject(new ArrayList<>(records));
+            }
+            // the file becomes visible to the writer only when it is complete
+            Files.move(tempFile, spillDir.resolve(fileName + SPILL_FILE_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            spilledCounter.increment(records.size());
+        } catch (IOException e) {
+            log.error("Error spilling {} entity log items, writing them synchronously", records.size(), e);
+            writeOrDrop(records);
+        }
+    }
+
+    /**
+     * Writes the records of the oldest spilled file to the database and deletes the file.
+     */
+    @SuppressWarnings("unchecked")
+    protected void writeSpilledFile() {
+        if (spillDir == null) {
+            return;
+        }
+        Path file;
+        try (Stream<Path> files = Files.list(spillDir)) {
+            file = files
+                    .filter(path -> path.getFileName().toString().endsWith(SPILL_FILE_SUFFIX))
+                    .min(Comparator.comparing(path -> path.getFileName().toString()))
+                    .orElse(null);
+        } catch (IOException e) {
+            log.error("Error listing entity log spill directory {}", spillDir, e);
+            return;
+        }
+        if (file == null) {
+            return;
+        }
+        List<Record> records;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            records = (List<Record>) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.error("Error reading spilled entity log items from {}, renaming the file", file, e);
+            try {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".failed"));
+            } catch (IOException ex) {
+                log.error("Error renaming {}", file, ex);
+            }
+            return;
+        }
+        try {
+            write(records);
+            Files.delete(file);
+            log.debug("Written {} spilled entity log items from {}", records.size(), file);
+        } catch (IOException | RuntimeException e) {
+            // the file is retried when the queue becomes empty next time
+            log.error("Error writing spilled entity log items from {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.audit.impl;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.jmix.audit.AuditProperties;
+import io.jmix.audit.entity.EntityLogAttr;
+import io.jmix.audit.entity.EntityLogItem;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.*;
+
+import static io.jmix.audit.entity.EntityLogAttr.*;
+
+/**
+ * Encodes attribute changes of entity log items to the {@link EntityLogItem#getChanges()} text and decodes them back.
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ *     <li>{@link Properties} text format, where each part of an attribute change is stored in a separate line with
+ *     a key consisting of the attribute name and a suffix, for example {@code customer-oldVlId=...}</li>
+ *     <li>compact JSON format, where each attribute is stored once. If only the new value is present, it is stored
+ *     as a string, otherwise as an array of the new value, new value id, old value, old value id and messages pack
+ *     with trailing nulls omitted, for example
+ *     {@code {"name":"John","customer":["Smith","1f0c...",null,"8ae2..."]}}</li>
+ * </ul>
+ * The format of new items is defined by {@link AuditProperties#isEntityLogCompactChangesEnabled()}, both formats
+ * are always decoded.
+ */
+@Component("audit_EntityLogChangesCodec")
+public class EntityLogChangesCodec {
+
+    protected static final String[] SKIP_NAMES = new String[]{VALUE_ID_SUFFIX,
+            MP_SUFFIX, OLD_VALUE_SUFFIX, OLD_VALUE_ID_SUFFIX};
+
+    protected final AuditProperties properties;
+
+    public EntityLogChangesCodec(AuditProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Encodes attribute changes in the format defined by the application properties.
+     */
+    public String encode(Collection<EntityLogAttr> attributes) {
+        return properties.isEntityLogCompactChangesEnabled() ? encodeCompact(attributes) : encodeProperties(attributes);
+    }
+
+    /**
+     * Encodes attribute changes in the compact JSON format.
+     */
+    public String encodeCompact(Collection<EntityLogAttr> attributes) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            writer.setSerializeNulls(true);
+            writer.beginObject();
+            for (EntityLogAttr attr : attributes) {
+                writer.name(attr.getName());
+                String[] parts = {attr.getValue(), attr.getValueId(), attr.getOldValue(), attr.getOldValueId(),
+                        attr.getMessagesPack()};
+                int length = parts.length;
+                while (length > 1 && parts[length - 1] == null) {
+                    length--;
+                }
+                if (length == 1) {
+                    writer.value(parts[0]);
+                } else {
+                    writer.beginArray();
+                    for (int i = 0; i < length; i++) {
+                        writer.value(parts[i]);
+                    }
+                    writer.endArray();
+                }
+            }
+            writer.endObject();
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing entity log attributes", e);
+        }
+        return stringWriter.toString();
+    }
+
+    /**
+     * Encodes attribute changes in the {@link Properties} text format.
+     */
+    public String encodeProperties(Collection<EntityLogAttr> attributes) {
+        Properties properties = new Properties();
+        for (EntityLogAttr attr : attributes) {
+            properties.setProperty(attr.getName(), StringUtils.defaultString(attr.getValue()));
+            if (attr.getValueId() != null) {
+                properties.setProperty(attr.getName() + VALUE_ID_SUFFIX, attr.getValueId());
+            }
+            if (attr.getOldValue() != null) {
+                properties.setProperty(attr.getName() + OLD_VALUE_SUFFIX, attr.getOldValue());
+            }
+            if (attr.getOldValueId() != null) {
+                properties.setProperty(attr.getName() + OLD_VALUE_ID_SUFFIX, attr.getOldValueId());
+            }
+            if (attr.getMessagesPack() != null) {
+                properties.setProperty(attr.getName() + MP_SUFFIX, attr.getMessagesPack());
+            }
+        }
+        return storeProperties(properties);
+    }
+
+    /**
+     * Writes the properties in the {@link Properties} text format without the comments line.
+     */
+    public String storeProperties(Properties properties) {
+        try {
+            StringWriter writer = new StringWriter();
+            properties.store(writer, null);
+            String changes = writer.toString();
+            if (changes.startsWith("#"))
+                changes = changes.substring(changes.indexOf("\n") + 1); // cut off comments line
+            return changes;
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing entity log attributes", e);
+        }
+    }
+
+    /**
+     * Returns true if the changes are stored in the compact JSON format.
+     */
+    public boolean isCompact(@Nullable String changes) {
+        return changes != null && changes.startsWith("{");
+    }
+
+    /**
+     * Decodes attribute changes stored in any supported format. The returned attributes are not linked to
+     * an entity log item.
+     */
+    public List<EntityLogAttr> decode(@Nullable String changes) {
+        if (StringUtils.isEmpty(changes)) {
+            return new ArrayList<>();
+        }
+        try {
+            return isCompact(changes) ? decodeCompact(changes) : decodeProperties(changes);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Unable to decode entity log attributes", e);
+        }
+    }
+
+    protected List<EntityLogAttr> decodeCompact(String changes) throws IOException {
+        List<EntityLogAttr> attributes = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new StringReader(changes))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                EntityLogAttr attr = createAttribute(reader.nextName());
+                if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    String[] parts = new String[5];
+                    reader.beginArray();
+                    for (int i = 0; reader.hasNext(); i++) {
+                        String part = nextNullableString(reader);
+                        if (i < parts.length) {
+                            parts[i] = part;
+                        }
+                    }
+                    reader.endArray();
+                    attr.setValue(parts[0]);
+                    attr.setValueId(parts[1]);
+                    attr.setOldValue(parts[2]);
+                    attr.setOldValueId(parts[3]);
+                    attr.setMessagesPack(parts[4]);
+                } else {
+                    attr.setValue(nextNullableString(reader));
+                }
+                attributes.add(attr);
+            }
+            reader.endObject();
+        }
+        return attributes;
+    }
+
+    @Nullable
+    protected String nextNullableString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    protected List<EntityLogAttr> decodeProperties(String changes) throws IOException {
+        List<EntityLogAttr> attributes = new ArrayList<>();
+        Properties properties = new Properties();
+        properties.load(new StringReader(changes));
+        Enumeration<?> names = properties.propertyNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            if (StringUtils.endsWithAny(name, SKIP_NAMES))
+                continue;
+
+            EntityLogAttr attr = createAttribute(name);
+            attr.setValue(properties.getProperty(name));
+            attr.setValueId(properties.getProperty(name + VALUE_ID_SUFFIX));
+            attr.setOldValue(properties.getProperty(name + OLD_VALUE_SUFFIX));
+            attr.setOldValueId(properties.getProperty(name + OLD_VALUE_ID_SUFFIX));
+            attr.setMessagesPack(properties.getProperty(name + MP_SUFFIX));
+            attributes.add(attr);
+        }
+        return attributes;
+    }
+
+    protected EntityLogAttr createAttribute(String name) {
+        EntityLogAttr attr = new EntityLogAttr();
+        attr.setId(UUID.randomUUID());
+        attr.setName(name);
+        return attr;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.audit.impl;
+
+import io.jmix.audit.entity.EntityLogAttr;
+import io.jmix.core.Stores;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.persistence.DbTypeConverter;
+import io.jmix.data.persistence.DbmsSpecifics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Converts the {@code CHANGES} column of existing entity log items between the {@link java.util.Properties} text
+ * format and the compact JSON format, see {@link EntityLogChangesCodec}.
+ * <p>
+ * Rows are processed in batches ordered by id, each batch in a separate transaction, so the conversion can be
+ * executed on a working application and repeated after interruption. Rows that are already in the target format
+ * or cannot be decoded are skipped.
+ */
+@Component("audit_EntityLogChangesMigration")
+public class EntityLogChangesMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityLogChangesMigration.class);
+
+    protected final EntityLogChangesCodec codec;
+    protected final StoreAwareLocator storeAwareLocator;
+    protected final DbmsSpecifics dbmsSpecifics;
+
+    public EntityLogChangesMigration(EntityLogChangesCodec codec,
+                                     StoreAwareLocator storeAwareLocator,
+                                     DbmsSpecifics dbmsSpecifics) {
+        this.codec = codec;
+        this.storeAwareLocator = storeAwareLocator;
+        this.dbmsSpecifics = dbmsSpecifics;
+    }
+
+    /**
+     * Converts all entity log items to the compact JSON format.
+     *
+     * @param batchSize number of rows read and updated in one transaction
+     * @return number of converted rows
+     */
+    public int migrateToCompact(int batchSize) {
+        return migrate(true, batchSize);
+    }
+
+    /**
+     * Converts all entity log items back to the {@link java.util.Properties} text format.
+     *
+     * @param batchSize number of rows read and updated in one transaction
+     * @return number of converted rows
+     */
+    public int migrateToProperties(int batchSize) {
+        return migrate(false, batchSize);
+    }
+
+    protected int migrate(boolean compact, int batchSize) {
+        DbTypeConverter converter = dbmsSpecifics.getDbTypeConverter();
+        int converted = 0;
+        UUID lastId = null;
+        while (true) {
+            UUID fromId = lastId;
+            Batch batch = storeAwareLocator.getTransactionTemplate(Stores.MAIN).execute(status ->
+                    migrateBatch(fromId, compact, Math.max(1, batchSize), converter));
+            if (batch == null || batch.lastId() == null) {
+                break;
+            }
+            converted += batch.converted();
+            lastId = batch.lastId();
+            log.debug("Converted {} entity log items", converted);
+        }
+        log.info("Converted {} entity log items to the {} format", converted, compact ? "compact" : "properties");
+        return converted;
+    }
+
+    protected Batch migrateBatch(@Nullable UUID fromId, boolean compact, int batchSize, DbTypeConverter converter) {
+        JdbcTemplate jdbcTemplate = storeAwareLocator.getJdbcTemplate(Stores.MAIN);
+        jdbcTemplate.setMaxRows(batchSize);
+
+        List<Object[]> rows = fromId == null
+                ? jdbcTemplate.query("select ID, CHANGES from AUDIT_ENTITY_LOG order by ID",
+                (rs, rowNum) -> new Object[]{converter.getJavaObject(rs, 1), rs.getString(2)})
+                : jdbcTemplate.query("select ID, CHANGES from AUDIT_ENTITY_LOG where ID > ? order by ID",
+                (rs, rowNum) -> new Object[]{converter.getJavaObject(rs, 1), rs.getString(2)},
+                converter.getSqlObject(fromId));
+        if (rows.isEmpty()) {
+            return new Batch(null, 0);
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        for (Object[] row : rows) {
+            String changes = (String) row[1];
+            if (changes == null || codec.isCompact(changes) == compact) {
+                continue;
+            }
+            List<EntityLogAttr> attributes;
+            try {
+                attributes = codec.decode(changes);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping entity log item {}: {}", row[0], e.getMessage());
+                continue;
+            }
+            String encoded = compact ? codec.encodeCompact(attributes) : codec.encodeProperties(attributes);
+            updates.add(new Object[]{encoded, converter.getSqlObject(row[0])});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update AUDIT_ENTITY_LOG set CHANGES = ? where ID = ?", updates,
+                    new int[]{converter.getSqlType(String.class), converter.getSqlType(UUID.class)});
+        }
+        Object lastId = rows.get(rows.size() - 1)[0];
+        return new Batch(lastId instanceof UUID ? (UUID) lastId : UUID.fromString(lastId.toString()), updates.size());
+    }
+
+    protected record Batch(@Nullable UUID lastId, int converted) {
+    }
+}
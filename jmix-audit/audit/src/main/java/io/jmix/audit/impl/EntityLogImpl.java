@@ -15,7 +15,6 @@
  */
 package io.jmix.audit.impl;
 
-import com.google.common.base.Strings;
 import io.jmix.audit.AuditProperties;
 import io.jmix.audit.EntityLog;
 import io.jmix.audit.entity.EntityLogAttr;
@@ -54,8 +53,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.*;
 
-import java.io.IOException;
-import java.io.StringWriter;
 import java.util.*;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -99,6 +96,12 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     @Autowired
     protected CurrentUserSubstitution currentUserSubstitution;
 
+    @Autowired
+    protected AsyncEntityLogWriter asyncEntityLogWriter;
+
+    @Autowired
+    protected EntityLogChangesCodec changesCodec;
+
     @Autowired
     protected void setTransactionManager(PlatformTransactionManager transactionManager) {
         transaction = new TransactionTemplate(transactionManager);
@@ -188,31 +191,13 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
 
         processAttributes(itemToSave, sameEntityList, attributes);
 
-        Properties properties = new Properties();
-
-        for (EntityLogAttr attr : itemToSave.getAttributes()) {
-            properties.setProperty(attr.getName(), Strings.nullToEmpty(attr.getValue()));
-            if (attr.getValueId() != null) {
-                properties.setProperty(attr.getName() + EntityLogAttr.VALUE_ID_SUFFIX, attr.getValueId());
-            }
-            if (attr.getOldValue() != null) {
-                properties.setProperty(attr.getName() + EntityLogAttr.OLD_VALUE_SUFFIX, attr.getOldValue());
-            }
-            if (attr.getOldValueId() != null) {
-                properties.setProperty(attr.getName() + EntityLogAttr.OLD_VALUE_ID_SUFFIX, attr.getOldValueId());
-            }
-            if (attr.getMessagesPack() != null) {
-                properties.setProperty(attr.getName() + EntityLogAttr.MP_SUFFIX, attr.getMessagesPack());
-            }
-        }
-
         if (itemToSave.getType() == EntityLogItem.Type.MODIFY) {
             sameEntityList.stream()
                     .filter(entityLogItem -> entityLogItem.getType() == EntityLogItem.Type.CREATE)
                     .findFirst()
                     .ifPresent(entityLogItem -> itemToSave.setType(EntityLogItem.Type.CREATE));
         }
-        itemToSave.setChanges(getChanges(properties));
+        itemToSave.setChanges(changesCodec.encode(itemToSave.getAttributes()));
     }
 
     protected void processAttributes(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList, Set<String> attributes) {
@@ -259,7 +244,9 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         String storeName = metadata.getClass(item.getEntity()).getStore().getName();
 
         entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
-        if (item.getDbGeneratedIdEntity() == null) {
+        if (asyncEntityLogWriter.isEnabled()) {
+            saveItemAsync(item);
+        } else if (item.getDbGeneratedIdEntity() == null) {
             if (Stores.isMain(storeName)) {
                 entityManager.persist(item);
             } else {
@@ -280,6 +267,38 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         }
     }
 
+    /**
+     * Passes the item to {@link AsyncEntityLogWriter} after the current transaction is committed, so the business
+     * transaction does not wait for the insert to the audit table.
+     */
+    protected void saveItemAsync(EntityLogItem item) {
+        // these fields are set by JPA entity listeners when the item is persisted synchronously
+        item.setCreateTs(timeSource.currentTimestamp());
+        item.setCreatedBy(findUsername());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAsync(item);
+                }
+            });
+        } else {
+            enqueueAsync(item);
+        }
+    }
+
+    protected void enqueueAsync(EntityLogItem item) {
+        if (item.getDbGeneratedIdEntity() != null) {
+            item.getEntityRef().setObjectEntityId(EntityValues.getId(item.getDbGeneratedIdEntity()));
+        }
+        try {
+            asyncEntityLogWriter.enqueue(item);
+        } catch (Exception e) {
+            logError(item, e);
+        }
+    }
+
     @Override
     public synchronized boolean isEnabled() {
         return enabled && isLoggingForCurrentThread();
@@ -622,17 +641,14 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         return result;
     }
 
+    /**
+     * Writes the properties in the {@link Properties} text format of the {@code CHANGES} column.
+     *
+     * @deprecated changes of entity log items are written by {@link EntityLogChangesCodec#encode(Collection)}
+     */
+    @Deprecated
     protected String getChanges(Properties properties) {
-        try {
-            StringWriter writer = new StringWriter();
-            properties.store(writer, null);
-            String changes = writer.toString();
-            if (changes.startsWith("#"))
-                changes = changes.substring(changes.indexOf("\n") + 1); // cut off comments line
-            return changes;
-        } catch (IOException e) {
-            throw new RuntimeException("Error writing entity log attributes", e);
-        }
+        return changesCodec.storeProperties(properties);
     }
 
     @Override
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.jmix.audit.AuditProperties
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.AsyncEntityLogWriter
+import io.jmix.core.TimeSource
+import io.jmix.core.UuidProvider
+import io.jmix.data.StoreAwareLocator
+import io.jmix.data.persistence.DbmsSpecifics
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+
+import java.nio.file.Files
+import java.time.Duration
+
+class EntityLogAsyncWriterTest extends AbstractEntityLogTest {
+
+    @Autowired
+    StoreAwareLocator storeAwareLocator
+    @Autowired
+    DbmsSpecifics dbmsSpecifics
+    @Autowired
+    TimeSource timeSource
+
+    void setup() {
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+        }
+    }
+
+    def "queued items are written in batches"() {
+        def writer = createWriter(null)
+        def entityId = UuidProvider.createUuid()
+
+        when:
+        writer.start()
+        3.times { writer.enqueue(createItem(entityId)) }
+        writer.stop()
+
+        then:
+        getEntityLogItems('test_UuidEntity', entityId).size() == 3
+    }
+
+    def "spilled items are written when the writer is idle"() {
+        def spillDir = Files.createTempDirectory('entity-log')
+        def writer = createWriter(spillDir.toString())
+        def entityId = UuidProvider.createUuid()
+
+        when:
+        writer.spill([AsyncEntityLogWriter.Record.of(createItem(entityId))])
+
+        then:
+        Files.list(spillDir).count() == 1
+
+        when:
+        writer.start()
+        long deadline = System.currentTimeMillis() + 5000
+        while (Files.list(spillDir).count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50)
+        }
+        writer.stop()
+
+        then:
+        getEntityLogItems('test_UuidEntity', entityId).size() == 1
+        Files.list(spillDir).count() == 0
+
+        cleanup:
+        spillDir.toFile().deleteDir()
+    }
+
+    def "item that cannot be written is dropped without blocking the next items"() {
+        def meterRegistry = new SimpleMeterRegistry()
+        def writer = createWriter(null, meterRegistry)
+        writer.writeRetryDelay = Duration.ofMillis(10)
+        def entityId = UuidProvider.createUuid()
+        def item = createItem(entityId)
+
+        when: "the same item is enqueued twice, so the second insert violates the primary key"
+        writer.start()
+        writer.enqueue(item)
+        writer.enqueue(item)
+        writer.enqueue(createItem(entityId))
+        long deadline = System.currentTimeMillis() + 5000
+        while (meterRegistry.counter('jmix.audit.entityLog.dropped').count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50)
+        }
+        writer.enqueue(createItem(entityId))
+        writer.stop()
+
+        then:
+        meterRegistry.counter('jmix.audit.entityLog.dropped').count() == 1
+        getEntityLogItems('test_UuidEntity', entityId).size() == 3
+    }
+
+    protected AsyncEntityLogWriter createWriter(String spillDir) {
+        return createWriter(spillDir, new SimpleMeterRegistry())
+    }
+
+    protected AsyncEntityLogWriter createWriter(String spillDir, MeterRegistry meterRegistry) {
+        def properties = new AuditProperties(true, 'system', true, 10, 2,
+                Duration.ofMillis(100), Duration.ofMillis(100), spillDir, false)
+        return new AsyncEntityLogWriter(properties, storeAwareLocator, dbmsSpecifics, meterRegistry)
+    }
+
+    protected EntityLogItem createItem(UUID entityId) {
+        EntityLogItem item = metadata.create(EntityLogItem)
+        item.createTs = timeSource.currentTimestamp()
+        item.eventTs = timeSource.currentTimestamp()
+        item.username = 'admin'
+        item.type = EntityLogItem.Type.CREATE
+        item.entity = 'test_UuidEntity'
+        item.entityRef.entityId = entityId
+        return item
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.jmix.audit.entity.EntityLogAttr
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogChangesCodec
+import io.jmix.audit.impl.EntityLogChangesMigration
+import io.jmix.core.TimeSource
+import io.jmix.core.UuidProvider
+import org.springframework.beans.factory.annotation.Autowired
+
+class EntityLogChangesCodecTest extends AbstractEntityLogTest {
+
+    @Autowired
+    EntityLogChangesCodec codec
+    @Autowired
+    EntityLogChangesMigration migration
+    @Autowired
+    TimeSource timeSource
+
+    void setup() {
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+        }
+    }
+
+    def "both formats are decoded to the same attributes"() {
+        def attributes = [
+                createAttr('name', 'new name', null, 'old name', null),
+                createAttr('customer', 'Smith', UuidProvider.createUuid().toString(), null, 'x=y\n"z"'),
+                createAttr('amount', '10', null, null, null)
+        ]
+
+        when:
+        def compact = codec.encodeCompact(attributes)
+        def properties = codec.encodeProperties(attributes)
+
+        then:
+        codec.isCompact(compact)
+        !codec.isCompact(properties)
+        compact.length() < properties.length()
+
+        toMap(codec.decode(compact)) == toMap(attributes)
+        toMap(codec.decode(properties)) == toMap(attributes)
+        codec.decode(null).isEmpty()
+    }
+
+    def "existing items are converted to the compact format"() {
+        def entityId = UuidProvider.createUuid()
+        def attributes = [createAttr('name', 'new name', null, 'old name', null)]
+
+        withTransaction {
+            EntityLogItem item = metadata.create(EntityLogItem)
+            item.eventTs = timeSource.currentTimestamp()
+            item.type = EntityLogItem.Type.MODIFY
+            item.entity = 'test_UuidEntity'
+            item.entityRef.entityId = entityId
+            item.changes = codec.encodeProperties(attributes)
+            em.persist(item)
+        }
+
+        when:
+        def converted = migration.migrateToCompact(1)
+
+        then:
+        converted == 1
+        codec.isCompact(jdbc.queryForObject('select CHANGES from AUDIT_ENTITY_LOG', String))
+
+        def items = getEntityLogItems('test_UuidEntity', entityId)
+        toMap(items[0].attributes) == toMap(attributes)
+
+        when:
+        converted = migration.migrateToCompact(1)
+
+        then:
+        converted == 0
+    }
+
+    protected EntityLogAttr createAttr(String name, String value, String valueId, String oldValue, String mp) {
+        def attr = new EntityLogAttr()
+        attr.name = name
+        attr.value = value
+        attr.valueId = valueId
+        attr.oldValue = oldValue
+        attr.messagesPack = mp
+        return attr
+    }
+
+    protected Map<String, List<String>> toMap(Collection<EntityLogAttr> attributes) {
+        attributes.collectEntries {
+            [(it.name): [it.value, it.valueId, it.oldValue, it.oldValueId, it.messagesPack]]
+        }
+    }
+}
@@ -18,14 +18,17 @@ package io.jmix.awsfs;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.FileRef;
-import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
+import io.jmix.core.RangedFileStorage;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
 import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.Preconditions;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,32 +49,41 @@ import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
-import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
-import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Internal
 @Component("awsfs_FileStorage")
-public class AwsFileStorage implements FileStorage {
+public class AwsFileStorage implements RangedFileStorage {
 
     private static final Logger log = LoggerFactory.getLogger(AwsFileStorage.class);
     private static final String DEFAULT_STORAGE_NAME = "s3";
@@ -94,8 +106,15 @@ public class AwsFileStorage implements FileStorage {
     @Autowired
     protected TimeSource timeSource;
 
+    protected int uploadConcurrency = 4;
+    protected int uploadMaxBufferedParts = 16;
+    protected String checksumAlgorithm;
+
     protected AtomicReference<S3Client> s3ClientReference = new AtomicReference<>();
 
+    protected volatile ExecutorService uploadExecutor;
+    protected volatile PartBufferPool partBufferPool;
+
     public AwsFileStorage() {
         this(DEFAULT_STORAGE_NAME);
     }
@@ -133,6 +152,9 @@ public class AwsFileStorage implements FileStorage {
             this.chunkSize = properties.getChunkSize();
             this.endpointUrl = properties.getEndpointUrl();
             this.usePathStyleBucketAddressing = properties.getUsePathStyleBucketAddressing();
+            this.uploadConcurrency = properties.getUploadConcurrency();
+            this.uploadMaxBufferedParts = properties.getUploadMaxBufferedParts();
+            this.checksumAlgorithm = properties.getChecksumAlgorithm();
         }
     }
 
@@ -194,62 +216,216 @@ public class AwsFileStorage implements FileStorage {
     @Override
     public FileRef saveStream(String fileName, InputStream inputStream, Map<String, Object> parameters) {
         String fileKey = createFileKey(fileName);
-        String bucket = this.bucket;
-        int s3ChunkSizeBytes = this.chunkSize * 1024;
+        int partSize = this.chunkSize * 1024;
 
         Map<String, String> fileRefParameters = Maps.toMap(parameters.keySet(), key -> parameters.get(key).toString());
         FileRef fileRef = new FileRef(getStorageName(), fileKey, fileName, fileRefParameters);
 
-        try (BufferedInputStream bos = new BufferedInputStream(inputStream, s3ChunkSizeBytes)) {
-            byte[] chunkBytes = new byte[s3ChunkSizeBytes];
-            int nBytes = bos.read(chunkBytes);
+        PartBufferPool bufferPool = getPartBufferPool();
+        String uploadId = null;
+        List<Future<CompletedPart>> uploads = new ArrayList<>();
+        // buffer acquired by this thread and not yet handed over to a part upload task
+        byte[] pendingBuffer = null;
+        try {
+            byte[] buffer = bufferPool.acquire(partSize);
+            int nBytes = readPart(inputStream, buffer, bufferPool);
+            pendingBuffer = buffer;
             S3Client s3Client = s3ClientReference.get();
-            if (nBytes < s3ChunkSizeBytes) {
-                s3Client.putObject(objectBuilder -> objectBuilder
+            if (nBytes < partSize) {
+                s3Client.putObject(PutObjectRequest.builder()
                         .bucket(bucket)
                         .key(fileKey)
-                        .build(), fromBytes(chunkBytes, nBytes));
+                        .checksumAlgorithm(getChecksumAlgorithm())
+                        .build(), fromBytes(buffer, nBytes));
                 return fileRef;
             }
 
-            CreateMultipartUploadResponse response = s3Client.createMultipartUpload(uploadBuilder -> uploadBuilder
-                    .bucket(bucket)
-                    .key(fileKey));
-
-            List<CompletedPart> completedParts = new ArrayList<>();
-            UploadPartRequest.Builder partBuilder = UploadPartRequest.builder()
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
                     .bucket(bucket)
                     .key(fileKey)
-                    .uploadId(response.uploadId());
+                    .checksumAlgorithm(getChecksumAlgorithm())
+                    .build()).uploadId();
+
+            ExecutorService executor = getUploadExecutor();
+            int concurrency = Math.max(1, uploadConcurrency);
+            int completedCount = 0;
             for (int partNumber = 1; 0 < nBytes; partNumber++) {
-                UploadPartResponse partResponse = s3Client.uploadPart(partBuilder
-                        .partNumber(partNumber)
-                        .build(), fromBytes(chunkBytes, nBytes));
-                CompletedPart completedPart = CompletedPart.builder()
-                        .partNumber(partNumber)
-                        .eTag(partResponse.eTag())
-                        .build();
-                completedParts.add(completedPart);
-                nBytes = bos.read(chunkBytes);
+                uploads.add(executor.submit(createPartUpload(s3Client, fileKey, uploadId, partNumber,
+                        buffer, nBytes, bufferPool)));
+                pendingBuffer = null;
+                if (nBytes < partSize) {
+                    break;
+                }
+                // wait for the oldest part to keep the number of parts in flight within the concurrency
+                if (uploads.size() - completedCount >= concurrency) {
+                    uploads.get(completedCount++).get();
+                }
+                buffer = bufferPool.acquire(partSize);
+                nBytes = readPart(inputStream, buffer, bufferPool);
+                pendingBuffer = buffer;
+            }
+            if (pendingBuffer != null) {
+                bufferPool.release(pendingBuffer);
+                pendingBuffer = null;
             }
 
-            s3Client.completeMultipartUpload(completeBuilder -> completeBuilder
+            List<CompletedPart> completedParts = new ArrayList<>(uploads.size());
+            for (Future<CompletedPart> upload : uploads) {
+                completedParts.add(upload.get());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                     .bucket(bucket)
                     .key(fileKey)
-                    .uploadId(response.uploadId())
-                    .multipartUpload(multipartBuilder -> multipartBuilder.parts(completedParts)));
+                    .uploadId(uploadId)
+                    .multipartUpload(multipartBuilder -> multipartBuilder.parts(completedParts))
+                    .build());
             return fileRef;
-        } catch (IOException | SdkException e) {
-            log.error("Error saving file to S3 storage", e);
+        } catch (InterruptedException e) {
+            abortUpload(fileKey, uploadId, uploads);
+            Thread.currentThread().interrupt();
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                    String.format("Saving file %s was interrupted.", fileName), e);
+        } catch (IOException | SdkException | ExecutionException | RejectedExecutionException e) {
+            abortUpload(fileKey, uploadId, uploads);
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("Error saving file to S3 storage", cause);
             String message = String.format("Could not save file %s.", fileName);
             throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, message);
+        } finally {
+            if (pendingBuffer != null) {
+                bufferPool.release(pendingBuffer);
+            }
+        }
+    }
+
+    /**
+     * Reads the input stream until the buffer is full or the stream ends. Releases the buffer if reading fails.
+     */
+    protected int readPart(InputStream inputStream, byte[] buffer, PartBufferPool bufferPool) throws IOException {
+        try {
+            return IOUtils.read(inputStream, buffer);
+        } catch (IOException | RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+    }
+
+    protected Callable<CompletedPart> createPartUpload(S3Client s3Client, String fileKey, String uploadId,
+                                                       int partNumber, byte[] buffer, int length,
+                                                       PartBufferPool bufferPool) {
+        return () -> {
+            try {
+                UploadPartResponse partResponse = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(fileKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .checksumAlgorithm(getChecksumAlgorithm())
+                        .build(), fromBytes(buffer, length));
+                CompletedPart.Builder completedPart = CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(partResponse.eTag());
+                ChecksumAlgorithm checksumAlgorithm = getChecksumAlgorithm();
+                if (checksumAlgorithm != null) {
+                    switch (checksumAlgorithm) {
+                        case CRC32 -> completedPart.checksumCRC32(partResponse.checksumCRC32());
+                        case CRC32_C -> completedPart.checksumCRC32C(partResponse.checksumCRC32C());
+                        case SHA1 -> completedPart.checksumSHA1(partResponse.checksumSHA1());
+                        case SHA256 -> completedPart.checksumSHA256(partResponse.checksumSHA256());
+                        default -> {
+                        }
+                    }
+                }
+                return completedPart.build();
+            } finally {
+                bufferPool.release(buffer);
+            }
+        };
+    }
+
+    /**
+     * Waits for the parts in flight, so that their buffers are released and no parts are stored after the abort,
+     * and aborts the multipart upload.
+     */
+    protected void abortUpload(String fileKey, @Nullable String uploadId, List<Future<CompletedPart>> uploads) {
+        for (Future<CompletedPart> upload : uploads) {
+            try {
+                upload.get();
+            } catch (ExecutionException | CancellationException e) {
+                // already reported by the failed part or not relevant after the failure
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3ClientReference.get().abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("Unable to abort multipart upload {} of {}", uploadId, fileKey, e);
+        }
+    }
+
+    @Nullable
+    protected ChecksumAlgorithm getChecksumAlgorithm() {
+        return Strings.isNullOrEmpty(checksumAlgorithm) ? null : ChecksumAlgorithm.fromValue(checksumAlgorithm);
+    }
+
+    protected ExecutorService getUploadExecutor() {
+        ExecutorService executor = uploadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = uploadExecutor;
+                if (executor == null) {
+                    // parts in flight never exceed the number of buffers, so threads are bounded by the same limit
+                    int maxThreads = Math.max(1, uploadMaxBufferedParts);
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                            60L, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("awsfs-upload-" + storageName + "-%d")
+                                    .setDaemon(true)
+                                    .build());
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    uploadExecutor = executor = threadPoolExecutor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    protected PartBufferPool getPartBufferPool() {
+        PartBufferPool bufferPool = partBufferPool;
+        if (bufferPool == null) {
+            synchronized (this) {
+                bufferPool = partBufferPool;
+                if (bufferPool == null) {
+                    partBufferPool = bufferPool = new PartBufferPool(Math.max(2, uploadMaxBufferedParts));
+                }
+            }
+        }
+        return bufferPool;
+    }
+
+    @PreDestroy
+    protected void shutdownUploadExecutor() {
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdownNow();
         }
     }
 
     protected RequestBody fromBytes(byte[] buffer, int length) {
-        length = Math.max(0, length);
-        byte[] bytes = Arrays.copyOf(buffer, length);
-        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes), length, Mimetype.MIMETYPE_OCTET_STREAM);
+        int contentLength = Math.max(0, length);
+        // the buffer is not reused until the request is completed, so it is not copied
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, contentLength),
+                contentLength, Mimetype.MIMETYPE_OCTET_STREAM);
     }
 
     @Override
@@ -270,6 +446,47 @@ public class AwsFileStorage implements FileStorage {
         return is;
     }
 
+    @Override
+    public FileMetadata getFileMetadata(FileRef reference) {
+        try {
+            S3Client s3Client = s3ClientReference.get();
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(reference.getPath())
+                    .build());
+            return new FileMetadata(response.contentLength(), response.eTag(), response.lastModified());
+        } catch (NoSuchKeyException e) {
+            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.getFileName());
+        } catch (SdkException e) {
+            if (e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+                throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.getFileName());
+            }
+            log.error("Error loading file metadata from S3 storage", e);
+            String message = String.format("Could not load file %s.", reference.getFileName());
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, message);
+        }
+    }
+
+    /**
+     * Writes the range requested from S3 with a ranged GET, so only the requested bytes are transferred.
+     */
+    @Override
+    public void writeRange(FileRef reference, long offset, long length, OutputStream outputStream) {
+        try {
+            S3Client s3Client = s3ClientReference.get();
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(reference.getPath())
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build();
+            s3Client.getObject(getObjectRequest, ResponseTransformer.toOutputStream(outputStream));
+        } catch (SdkException e) {
+            log.error("Error loading file from S3 storage", e);
+            String message = String.format("Could not load file %s.", reference.getFileName());
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, message);
+        }
+    }
+
     @Override
     public void removeFile(FileRef reference) {
         try {
@@ -328,4 +545,43 @@ public class AwsFileStorage implements FileStorage {
     public void setUsePathStyleBucketAddressing(boolean usePathStyleBucketAddressing) {
         this.usePathStyleBucketAddressing = usePathStyleBucketAddressing;
     }
+
+    public void setUploadConcurrency(int uploadConcurrency) {
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
+    public void setUploadMaxBufferedParts(int uploadMaxBufferedParts) {
+        this.uploadMaxBufferedParts = uploadMaxBufferedParts;
+    }
+
+    public void setChecksumAlgorithm(@Nullable String checksumAlgorithm) {
+        this.checksumAlgorithm = checksumAlgorithm;
+    }
+
+    /**
+     * Limits the number of part buffers allocated at the same time and reuses released buffers.
+     */
+    protected static class PartBufferPool {
+
+        protected final Semaphore permits;
+        protected final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+        public PartBufferPool(int maxBuffers) {
+            this.permits = new Semaphore(maxBuffers);
+        }
+
+        /**
+         * Returns a buffer of the given size, waiting until the number of allocated buffers is below the limit.
+         */
+        public byte[] acquire(int size) throws InterruptedException {
+            permits.acquire();
+            byte[] buffer = freeBuffers.poll();
+            return buffer != null && buffer.length == size ? buffer : new byte[size];
+        }
+
+        public void release(byte[] buffer) {
+            freeBuffers.offer(buffer);
+            permits.release();
+        }
+    }
 }
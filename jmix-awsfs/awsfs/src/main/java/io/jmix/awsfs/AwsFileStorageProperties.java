@@ -2,6 +2,7 @@ package io.jmix.awsfs;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.lang.Nullable;
 
 @ConfigurationProperties(prefix = "jmix.awsfs")
 public class AwsFileStorageProperties {
@@ -27,7 +28,8 @@ public class AwsFileStorageProperties {
     String bucket;
 
     /**
-     * Amazon S3 chunk size (kB).
+     * Amazon S3 chunk size (kB). Files larger than the chunk size are uploaded with the multipart upload using parts
+     * of this size, so it must be at least 5 MB for Amazon S3.
      */
     int chunkSize;
 
@@ -41,6 +43,23 @@ public class AwsFileStorageProperties {
      */
     boolean usePathStyleBucketAddressing;
 
+    /**
+     * Maximum number of parts of a file uploaded in parallel.
+     */
+    int uploadConcurrency;
+
+    /**
+     * Maximum number of part buffers allocated by all uploads of a storage at the same time. Limits the memory used
+     * by uploads to this number multiplied by the chunk size.
+     */
+    int uploadMaxBufferedParts;
+
+    /**
+     * Checksum algorithm used to verify uploaded data, for example {@code CRC32C} or {@code SHA256}. If not set,
+     * no additional checksum is sent.
+     */
+    String checksumAlgorithm;
+
     public AwsFileStorageProperties(
             String accessKey,
             String secretAccessKey,
@@ -48,7 +67,10 @@ public class AwsFileStorageProperties {
             String bucket,
             @DefaultValue("8192") int chunkSize,
             @DefaultValue("") String endpointUrl,
-            @DefaultValue("false") boolean usePathStyleBucketAddressing) {
+            @DefaultValue("false") boolean usePathStyleBucketAddressing,
+            @DefaultValue("4") int uploadConcurrency,
+            @DefaultValue("16") int uploadMaxBufferedParts,
+            @Nullable String checksumAlgorithm) {
         this.accessKey = accessKey;
         this.secretAccessKey = secretAccessKey;
         this.region = region;
@@ -56,6 +78,9 @@ public class AwsFileStorageProperties {
         this.chunkSize = chunkSize;
         this.endpointUrl = endpointUrl;
         this.usePathStyleBucketAddressing = usePathStyleBucketAddressing;
+        this.uploadConcurrency = uploadConcurrency;
+        this.uploadMaxBufferedParts = uploadMaxBufferedParts;
+        this.checksumAlgorithm = checksumAlgorithm;
     }
 
     /**
@@ -106,4 +131,26 @@ public class AwsFileStorageProperties {
     public boolean getUsePathStyleBucketAddressing() {
         return usePathStyleBucketAddressing;
     }
+
+    /**
+     * @see #uploadConcurrency
+     */
+    public int getUploadConcurrency() {
+        return uploadConcurrency;
+    }
+
+    /**
+     * @see #uploadMaxBufferedParts
+     */
+    public int getUploadMaxBufferedParts() {
+        return uploadMaxBufferedParts;
+    }
+
+    /**
+     * @see #checksumAlgorithm
+     */
+    @Nullable
+    public String getChecksumAlgorithm() {
+        return checksumAlgorithm;
+    }
 }
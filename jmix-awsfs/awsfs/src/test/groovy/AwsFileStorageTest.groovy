@@ -15,12 +15,16 @@
  */
 
 import io.jmix.awsfs.AwsFileStorageConfiguration
+import io.jmix.awsfs.AwsFileStorage
 import io.jmix.core.FileStorage
+import io.jmix.core.FileStorageException
 import io.jmix.core.CoreConfiguration
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
+import spock.lang.Timeout
 import test_support.AwsFileStorageTestConfiguration
+import test_support.InMemoryS3Client
 import test_support.TestContextInititalizer
 
 @ContextConfiguration(
@@ -36,4 +40,75 @@ class AwsFileStorageTest extends Specification {
         expect:
         fileStorage.getStorageName() == 's3'
     }
-}
\ No newline at end of file
+
+    def "large file is uploaded in parallel parts"() {
+        def s3Client = setUpS3Client()
+        byte[] content = new byte[10 * 1024 + 100]
+        new Random(1).nextBytes(content)
+
+        when:
+        def fileRef = fileStorage.saveStream('large.bin', new ByteArrayInputStream(content))
+
+        then:
+        s3Client.getObject(fileRef.path) == content
+        s3Client.maxPartsInFlight > 1
+        s3Client.maxPartsInFlight <= 4
+    }
+
+    def "small file is uploaded in one request"() {
+        def s3Client = setUpS3Client()
+        byte[] content = 'small'.bytes
+
+        when:
+        def fileRef = fileStorage.saveStream('small.txt', new ByteArrayInputStream(content))
+
+        then:
+        s3Client.getObject(fileRef.path) == content
+    }
+
+    def "multipart upload is aborted on failure"() {
+        def s3Client = setUpS3Client()
+        s3Client.failOnPart = 3
+
+        when:
+        fileStorage.saveStream('large.bin', new ByteArrayInputStream(new byte[10 * 1024]))
+
+        then:
+        thrown(FileStorageException)
+        s3Client.abortedUploads.size() == 1
+    }
+
+    @Timeout(30)
+    def "part buffers are released when multipart upload cannot be created"() {
+        def s3Client = setUpS3Client()
+        def awsFileStorage = (AwsFileStorage) fileStorage
+        int failures = awsFileStorage.uploadMaxBufferedParts * 2
+        s3Client.createUploadFailures = failures
+        byte[] content = new byte[4 * 1024]
+        new Random(2).nextBytes(content)
+
+        when:
+        failures.times {
+            try {
+                fileStorage.saveStream('large.bin', new ByteArrayInputStream(content))
+                assert false: 'saving should fail'
+            } catch (FileStorageException ignored) {
+            }
+        }
+        def fileRef = fileStorage.saveStream('large.bin', new ByteArrayInputStream(content))
+
+        then:
+        s3Client.getObject(fileRef.path) == content
+        awsFileStorage.partBufferPool.permits.availablePermits() == Math.max(2, awsFileStorage.uploadMaxBufferedParts)
+    }
+
+    private InMemoryS3Client setUpS3Client() {
+        def awsFileStorage = (AwsFileStorage) fileStorage
+        awsFileStorage.setBucket('test')
+        awsFileStorage.setChunkSize(1)
+        awsFileStorage.setUploadConcurrency(4)
+        def s3Client = new InMemoryS3Client()
+        awsFileStorage.s3ClientReference.set(s3Client)
+        return s3Client
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in of S3 supporting the operations used to upload files.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    protected final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    protected final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    protected final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+    protected final AtomicInteger partsInFlight = new AtomicInteger();
+    protected final AtomicInteger maxPartsInFlight = new AtomicInteger();
+
+    protected volatile int failOnPart = -1;
+    protected final AtomicInteger createUploadFailures = new AtomicInteger();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+        objects.put(putObjectRequest.key(), readBody(requestBody));
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        if (createUploadFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            throw SdkClientException.create("Multipart upload could not be created");
+        }
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        maxPartsInFlight.accumulateAndGet(partsInFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(10);
+            if (request.partNumber() == failOnPart) {
+                throw SdkClientException.create("Part " + failOnPart + " failed");
+            }
+            uploads.get(request.uploadId()).put(request.partNumber(), readBody(requestBody));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("Interrupted", e);
+        } finally {
+            partsInFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            outputStream.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), outputStream.toByteArray());
+        return CompleteMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        abortedUploads.add(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    public byte[] getObject(String key) {
+        return objects.get(key);
+    }
+
+    public Set<String> getAbortedUploads() {
+        return abortedUploads;
+    }
+
+    public int getMaxPartsInFlight() {
+        return maxPartsInFlight.get();
+    }
+
+    public void setFailOnPart(int failOnPart) {
+        this.failOnPart = failOnPart;
+    }
+
+    /**
+     * Makes the given number of next {@link #createMultipartUpload(CreateMultipartUploadRequest)} calls fail.
+     */
+    public void setCreateUploadFailures(int createUploadFailures) {
+        this.createUploadFailures.set(createUploadFailures);
+    }
+
+    protected byte[] readBody(RequestBody requestBody) {
+        try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
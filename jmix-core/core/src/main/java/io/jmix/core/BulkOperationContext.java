@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import org.springframework.lang.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Defines a set-based operation which updates or removes all entities matching a query, without loading them
+ * into memory.
+ * <p>
+ * Data stores supporting set-based statements execute the operation by a single statement per batch of
+ * affected identifiers and publish {@link io.jmix.core.event.EntityChangedEvent}s containing only the entity id
+ * and the names of changed attributes. Other data stores load the matching entities and save them one by one.
+ * <p>
+ * Instead of using this class directly, consider fluent interface with the entry points in
+ * {@link DataManager#bulkUpdate(Class)} and {@link DataManager#bulkRemove(Class)}.
+ */
+public class BulkOperationContext implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4309123364517458412L;
+
+    /**
+     * Type of the bulk operation.
+     */
+    public enum Type {
+        UPDATE,
+        REMOVE
+    }
+
+    protected MetaClass metaClass;
+    protected Type type;
+    protected LoadContext.Query query;
+    protected Map<String, Object> values = new LinkedHashMap<>();
+    protected boolean joinTransaction = true;
+    protected List<AccessConstraint<?>> accessConstraints;
+    protected Map<String, Serializable> hints;
+
+    /**
+     * @param metaClass metaclass of the affected entities
+     * @param type      type of the operation
+     */
+    public BulkOperationContext(MetaClass metaClass, Type type) {
+        Preconditions.checkNotNullArgument(metaClass, "metaClass is null");
+        Preconditions.checkNotNullArgument(type, "type is null");
+        this.metaClass = metaClass;
+        this.type = type;
+    }
+
+    /**
+     * @return metaclass of the affected entities
+     */
+    public MetaClass getEntityMetaClass() {
+        return metaClass;
+    }
+
+    /**
+     * @return type of the operation
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return query selecting the affected entities, or null if the operation affects all instances
+     */
+    @Nullable
+    public LoadContext.Query getQuery() {
+        return query;
+    }
+
+    /**
+     * @param query query selecting the affected entities. Paging and sorting parameters of the query are ignored.
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setQuery(@Nullable LoadContext.Query query) {
+        this.query = query;
+        return this;
+    }
+
+    /**
+     * @return map of attribute names to the new values assigned by the update operation
+     */
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Sets the new value of an attribute. Only local attributes and to-one references can be updated.
+     *
+     * @param property attribute name
+     * @param value    new value
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setValue(String property, @Nullable Object value) {
+        Preconditions.checkNotEmptyString(property, "property is empty");
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return whether to join existing transaction or always start a new one
+     */
+    public boolean isJoinTransaction() {
+        return joinTransaction;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public BulkOperationContext setJoinTransaction(boolean joinTransaction) {
+        this.joinTransaction = joinTransaction;
+        return this;
+    }
+
+    /**
+     * Returns the list of access constraints.
+     */
+    public List<AccessConstraint<?>> getAccessConstraints() {
+        return accessConstraints == null ? Collections.emptyList() : accessConstraints;
+    }
+
+    /**
+     * Sets the list of access constraints.
+     */
+    public BulkOperationContext setAccessConstraints(List<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints = accessConstraints;
+        return this;
+    }
+
+    /**
+     * @return custom hints which are used by the query
+     */
+    public Map<String, Serializable> getHints() {
+        return hints == null ? Collections.emptyMap() : Collections.unmodifiableMap(hints);
+    }
+
+    /**
+     * Sets custom hint that should be used by the query.
+     */
+    public BulkOperationContext setHint(String hintName, Serializable value) {
+        if (hints == null) {
+            hints = new HashMap<>();
+        }
+        hints.put(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets custom hints that should be used by the query.
+     */
+    public BulkOperationContext setHints(Map<String, Serializable> hints) {
+        this.hints = hints;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationContext{" +
+                "metaClass=" + metaClass +
+                ", type=" + type +
+                ", query=" + query +
+                ", values=" + values.keySet() +
+                '}';
+    }
+}
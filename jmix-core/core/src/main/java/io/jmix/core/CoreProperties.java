@@ -57,6 +57,29 @@ public class CoreProperties {
     List<Locale> availableLocales;
     int crossDataStoreReferenceLoadingBatchSize;
 
+    /**
+     * Whether references to entities from different data stores are loaded in parallel if they are not required to
+     * be loaded in the current transaction.
+     */
+    boolean crossDataStoreReferenceParallelLoadingEnabled;
+
+    /**
+     * Number of entity instances loaded at once by {@link UnconstrainedDataManager#loadStream(LoadContext)}.
+     */
+    int loadStreamChunkSize;
+
+    /**
+     * Maximum number of loads executed concurrently by {@link UnconstrainedDataManager#loadAsync(LoadContext)} and
+     * {@link UnconstrainedDataManager#loadListAsync(LoadContext)}.
+     */
+    int asyncLoadMaxConcurrency;
+
+    /**
+     * Whether asynchronous loads are executed in virtual threads. Takes effect only if the application runs on
+     * Java 21 or later, otherwise a pool of platform threads is used.
+     */
+    boolean asyncLoadVirtualThreadsEnabled;
+
     /**
      * Whether to generate identifiers for entities located in additional data stores.
      */
@@ -139,7 +162,11 @@ public class CoreProperties {
             @DefaultValue("5000") Duration triggerFilesProcessInterval,
             @DefaultValue("true") boolean roundDecimalValueByFormat,
             @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault,
-            @DefaultValue("true") boolean instanceNameFallbackEnabled) {
+            @DefaultValue("true") boolean instanceNameFallbackEnabled,
+            @DefaultValue("1000") int loadStreamChunkSize,
+            @DefaultValue("10") int asyncLoadMaxConcurrency,
+            @DefaultValue("false") boolean asyncLoadVirtualThreadsEnabled,
+            @DefaultValue("true") boolean crossDataStoreReferenceParallelLoadingEnabled) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -170,6 +197,10 @@ public class CoreProperties {
         this.roundDecimalValueByFormat = roundDecimalValueByFormat;
         this.skipNullOrEmptyConditionsByDefault = skipNullOrEmptyConditionsByDefault;
         this.instanceNameFallbackEnabled = instanceNameFallbackEnabled;
+        this.loadStreamChunkSize = loadStreamChunkSize;
+        this.asyncLoadMaxConcurrency = asyncLoadMaxConcurrency;
+        this.asyncLoadVirtualThreadsEnabled = asyncLoadVirtualThreadsEnabled;
+        this.crossDataStoreReferenceParallelLoadingEnabled = crossDataStoreReferenceParallelLoadingEnabled;
     }
 
     public String getWebHostName() {
@@ -209,6 +240,34 @@ public class CoreProperties {
         return crossDataStoreReferenceLoadingBatchSize;
     }
 
+    /**
+     * @see #crossDataStoreReferenceParallelLoadingEnabled
+     */
+    public boolean isCrossDataStoreReferenceParallelLoadingEnabled() {
+        return crossDataStoreReferenceParallelLoadingEnabled;
+    }
+
+    /**
+     * @see #loadStreamChunkSize
+     */
+    public int getLoadStreamChunkSize() {
+        return loadStreamChunkSize;
+    }
+
+    /**
+     * @see #asyncLoadMaxConcurrency
+     */
+    public int getAsyncLoadMaxConcurrency() {
+        return asyncLoadMaxConcurrency;
+    }
+
+    /**
+     * @see #asyncLoadVirtualThreadsEnabled
+     */
+    public boolean isAsyncLoadVirtualThreadsEnabled() {
+        return asyncLoadVirtualThreadsEnabled;
+    }
+
     /**
      * @see #idGenerationForEntitiesInAdditionalDataStoresEnabled
      */
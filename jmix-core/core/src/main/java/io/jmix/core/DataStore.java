@@ -16,11 +16,15 @@
 
 package io.jmix.core;
 
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.datastore.EntityCursor;
+import io.jmix.core.datastore.PagingEntityCursor;
 import io.jmix.core.entity.KeyValueEntity;
 
 import org.springframework.lang.Nullable;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface defining methods for CRUD operations on entities.
@@ -55,6 +59,49 @@ public interface DataStore {
      */
     List<Object> loadList(LoadContext<?> context);
 
+    /**
+     * Loads collection of entity instances by chunks without keeping the whole result in memory.
+     * <p>
+     * The default implementation requests consecutive pages using {@link #loadList(LoadContext)}. Implementations
+     * backed by a database should override it to read the result with a single forward-only cursor.
+     * <p>
+     * The returned stream may hold data store resources, so it must be closed after use.
+     *
+     * @param chunkSize maximum number of instances in a chunk
+     * @return a stream of non-empty lists of instances
+     */
+    default Stream<List<Object>> loadChunks(LoadContext<?> context, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+
+        EntityCursor cursor = new PagingEntityCursor(context, chunkSize, this::loadList);
+        Iterator<List<Object>> iterator = new Iterator<>() {
+            List<Object> next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    List<Object> chunk = cursor.nextChunk();
+                    next = chunk.isEmpty() ? null : chunk;
+                }
+                return next != null;
+            }
+
+            @Override
+            public List<Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Object> result = next;
+                next = null;
+                return result;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
     /**
      * Returns the number of entity instances for the given query passed in the {@link LoadContext}.
      *
@@ -69,6 +116,44 @@ public interface DataStore {
      */
     Set<?> save(SaveContext context);
 
+    /**
+     * Updates or removes all entities matching the query of the context.
+     * <p>
+     * The default implementation loads the matching entities and saves or removes them using
+     * {@link #save(SaveContext)}. Implementations backed by a database should override it to execute set-based
+     * statements without loading the entities.
+     *
+     * @return number of affected instances
+     */
+    default int bulkOperation(BulkOperationContext context) {
+        LoadContext<Object> loadContext = new LoadContext<>(context.getEntityMetaClass());
+        loadContext.setQuery(context.getQuery());
+        loadContext.setHints(new HashMap<>(context.getHints()));
+        loadContext.setAccessConstraints(context.getAccessConstraints());
+        loadContext.setJoinTransaction(context.isJoinTransaction());
+
+        List<Object> entities = loadList(loadContext);
+        if (entities.isEmpty()) {
+            return 0;
+        }
+
+        SaveContext saveContext = new SaveContext()
+                .setDiscardSaved(true)
+                .setHints(new HashMap<>(context.getHints()))
+                .setAccessConstraints(context.getAccessConstraints())
+                .setJoinTransaction(context.isJoinTransaction());
+        for (Object entity : entities) {
+            if (context.getType() == BulkOperationContext.Type.UPDATE) {
+                context.getValues().forEach((property, value) -> EntityValues.setValue(entity, property, value));
+                saveContext.saving(entity);
+            } else {
+                saveContext.removing(entity);
+            }
+        }
+        save(saveContext);
+        return entities.size();
+    }
+
     /**
      * Loads list of key-value pairs.
      *
@@ -19,8 +19,12 @@ package io.jmix.core;
 import io.jmix.core.metamodel.model.MetaClass;
 
 import org.springframework.lang.Nullable;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class that is used for serialization and deserialization of entities to JSON.
@@ -64,6 +68,48 @@ public interface EntitySerialization {
                   @Nullable FetchPlan fetchPlan,
                   EntitySerializationOption... options);
 
+    /**
+     * Serializes a collection of entities to the JSON array and writes it to the given writer. Method works like the
+     * {@link #toJson(Collection, FetchPlan, EntitySerializationOption...)}, but doesn't build the whole JSON string in
+     * memory, so it should be preferred for large collections.
+     *
+     * @param entities  a list of entities to be serialized
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON object
+     * @param writer    a writer to write the JSON array to. The writer is not closed by this method.
+     * @param options   options specifying how an entity should be serialized
+     * @throws IOException if an I/O error occurs while writing
+     */
+    default void toJson(Collection<?> entities,
+                        @Nullable FetchPlan fetchPlan,
+                        Writer writer,
+                        EntitySerializationOption... options) throws IOException {
+        writer.write(toJson(entities, fetchPlan, options));
+    }
+
+    /**
+     * Serializes a stream of entities to the JSON array and writes it to the given writer. Entities are taken from the
+     * stream and written one by one, so the stream can be backed by a chunked load (see
+     * {@link UnconstrainedDataManager#loadStream(LoadContext)}) to serialize result sets that don't fit in memory.
+     * <p>
+     * Note that the {@link EntitySerializationOption#COMPACT_REPEATED_ENTITIES} option requires keeping track of all
+     * serialized instances until the stream is exhausted.
+     * <p>
+     * The default implementation collects the stream into a list and delegates to
+     * {@link #toJson(Collection, FetchPlan, EntitySerializationOption...)}.
+     *
+     * @param entities  a stream of entities to be serialized. The stream is not closed by this method.
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON object
+     * @param writer    a writer to write the JSON array to. The writer is not closed by this method.
+     * @param options   options specifying how an entity should be serialized
+     * @throws IOException if an I/O error occurs while writing
+     */
+    default void toJson(Stream<?> entities,
+                        @Nullable FetchPlan fetchPlan,
+                        Writer writer,
+                        EntitySerializationOption... options) throws IOException {
+        writer.write(toJson(entities.collect(Collectors.toList()), fetchPlan, options));
+    }
+
     /**
      * An overloaded version of the {@link #toJson(Object, FetchPlan, EntitySerializationOption...)} method with a null
      * {@code fetchPlan} parameter and with no serialization options.
@@ -17,6 +17,7 @@
 package io.jmix.core;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +33,19 @@ public interface FileTransferService {
                                   Boolean attachment,
                                   HttpServletResponse response) throws FileTransferException;
 
+    /**
+     * Writes a file to the response taking into account the conditional ({@code If-None-Match},
+     * {@code If-Modified-Since}) and {@code Range} headers of the request. The headers are supported only for
+     * storages implementing {@link RangedFileStorage}.
+     */
+    default void downloadAndWriteResponse(FileRef fileReference,
+                                          String fileStorageName,
+                                          Boolean attachment,
+                                          @Nullable HttpServletRequest request,
+                                          HttpServletResponse response) throws FileTransferException {
+        downloadAndWriteResponse(fileReference, fileStorageName, attachment, response);
+    }
+
     ResponseEntity<FileInfoResponse> multipartFileUpload(MultipartFile file,
                                                          String name,
                                                          String fileStorageName,
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Scope;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Fluent API for set-based updating and removing of entities.
+ *
+ * @see UnconstrainedDataManager#bulkUpdate(Class)
+ * @see UnconstrainedDataManager#bulkRemove(Class)
+ */
+@Component("core_FluentBulkOperation")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class FluentBulkOperation<E> {
+
+    private Class<E> entityClass;
+    private MetaClass metaClass;
+    private BulkOperationContext.Type type;
+
+    private UnconstrainedDataManager dataManager;
+
+    private String queryString;
+    private Condition condition;
+    private Map<String, Object> parameters = new HashMap<>();
+    private Map<String, Object> values = new LinkedHashMap<>();
+    private boolean joinTransaction = true;
+    private Map<String, Serializable> hints = new HashMap<>();
+    private Collection<AccessConstraint<?>> accessConstraints = new ArrayList<>(0);
+
+    @Autowired
+    private Metadata metadata;
+
+    @Autowired
+    private MetadataTools metadataTools;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    public FluentBulkOperation(Class<E> entityClass, BulkOperationContext.Type type) {
+        this.entityClass = entityClass;
+        this.type = type;
+    }
+
+    @PostConstruct
+    private void init() {
+        this.metaClass = metadata.getClass(entityClass);
+    }
+
+    public void setDataManager(UnconstrainedDataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    BulkOperationContext createContext() {
+        if (type == BulkOperationContext.Type.UPDATE && values.isEmpty()) {
+            throw new IllegalStateException("No values to update are set");
+        }
+
+        BulkOperationContext context = new BulkOperationContext(metaClass, type);
+        values.forEach(context::setValue);
+
+        String actualQueryString;
+        if (queryString != null) {
+            Collection<QueryStringProcessor> processors = applicationContext.getBeansOfType(QueryStringProcessor.class).values();
+            actualQueryString = QueryUtils.applyQueryStringProcessors(processors, queryString, entityClass);
+        } else {
+            actualQueryString = metadataTools.isJpaEntity(metaClass) ?
+                    String.format("select e from %s e", metaClass.getName()) : null;
+        }
+        LoadContext.Query query = new LoadContext.Query(actualQueryString);
+        query.setCondition(condition);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            query.setParameter(entry.getKey(), entry.getValue());
+        }
+        context.setQuery(query);
+
+        context.setJoinTransaction(joinTransaction);
+        context.setHints(new HashMap<>(hints));
+        context.setAccessConstraints(new ArrayList<>(accessConstraints));
+        return context;
+    }
+
+    /**
+     * Executes the operation.
+     *
+     * @return number of affected entities
+     */
+    public int execute() {
+        return dataManager.bulkOperation(createContext());
+    }
+
+    /**
+     * Sets the new value of an attribute. Only local attributes and to-one references can be updated.
+     */
+    public FluentBulkOperation<E> set(String property, @Nullable Object value) {
+        if (type != BulkOperationContext.Type.UPDATE) {
+            throw new IllegalStateException("Values can be set only for the bulk update operation");
+        }
+        Preconditions.checkNotEmptyString(property, "property is empty");
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * Selects the affected entities by a query. The query should select entities with the {@code e} alias,
+     * or be a shortcut condition (e.g. {@code "e.status = :status"}).
+     */
+    public FluentBulkOperation<E> query(String queryString) {
+        Preconditions.checkNotEmptyString(queryString, "queryString is empty");
+        this.queryString = queryString;
+        return this;
+    }
+
+    /**
+     * Selects the affected entities by a query with positional parameters (e.g. {@code "e.name = ?1 and e.status = ?2"}).
+     * <p>
+     * Always use {@code e} as the entity alias.
+     */
+    public FluentBulkOperation<E> query(String queryString, Object... parameters) {
+        String processed = queryString;
+        if (parameters != null) {
+            for (int i = 1; i <= parameters.length; i++) {
+                String paramName = "_p" + i;
+                this.parameters.put(paramName, parameters[i - 1]);
+                processed = processed.replace("?" + i, ":" + paramName);
+            }
+        }
+        return query(processed);
+    }
+
+    /**
+     * Selects the affected entities by a condition.
+     */
+    public FluentBulkOperation<E> condition(Condition condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * Sets value for a query parameter.
+     *
+     * @param name  parameter name
+     * @param value parameter value
+     */
+    public FluentBulkOperation<E> parameter(String name, Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * Sets the map of query parameters.
+     */
+    public FluentBulkOperation<E> parameters(Map<String, Object> parameters) {
+        this.parameters.putAll(parameters);
+        return this;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public FluentBulkOperation<E> joinTransaction(boolean join) {
+        this.joinTransaction = join;
+        return this;
+    }
+
+    /**
+     * Adds custom hint that should be used by the query.
+     */
+    public FluentBulkOperation<E> hint(String hintName, Serializable value) {
+        hints.put(hintName, value);
+        return this;
+    }
+
+    /**
+     * Adds custom hints that should be used by the query.
+     */
+    public FluentBulkOperation<E> hints(Map<String, Serializable> hints) {
+        this.hints.putAll(hints);
+        return this;
+    }
+
+    /**
+     * Adds additional access constraints.
+     */
+    public FluentBulkOperation<E> accessConstraints(Collection<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints.addAll(accessConstraints);
+        return this;
+    }
+}
@@ -35,7 +35,9 @@ import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component("core_FluentLoader")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -72,6 +74,9 @@ public class FluentLoader<E> {
     @Autowired
     private AccessConstraintsRegistry accessConstraintsRegistry;
 
+    @Autowired
+    private KeysetPagination keysetPagination;
+
     public void setDataManager(UnconstrainedDataManager dataManager) {
         this.dataManager = dataManager;
     }
@@ -97,6 +102,22 @@ public class FluentLoader<E> {
         return loadContext;
     }
 
+    private void initKeysetParameters(LoadContext.Query query, boolean keyset, @Nullable Object keysetAfterEntity) {
+        if (!keyset)
+            return;
+
+        query.setKeysetPagination(true);
+        if (keysetAfterEntity != null) {
+            Sort keysetSort = keysetPagination.getKeysetSort(metaClass, query.getSort());
+            KeysetPosition position = keysetPagination.createPosition(keysetAfterEntity, keysetSort);
+            if (position == null) {
+                throw new IllegalArgumentException("Cannot start a page after " + keysetAfterEntity
+                        + ": values of the sort properties must be not null");
+            }
+            query.setKeysetPosition(position);
+        }
+    }
+
     protected LoadContext<E> instantiateLoadContext(MetaClass metaClass) {
         return new LoadContext<>(metaClass);
     }
@@ -287,6 +308,15 @@ public class FluentLoader<E> {
             throw new NoResultException();
         }
 
+        /**
+         * Switches to asynchronous loading. Terminal methods of the returned object return {@link CompletableFuture}s.
+         *
+         * @see UnconstrainedDataManager#loadAsync(LoadContext)
+         */
+        public AsyncById<E> async() {
+            return new AsyncById<>(this);
+        }
+
         /**
          * Sets a fetch plan.
          */
@@ -408,6 +438,15 @@ public class FluentLoader<E> {
             return Collections.emptyList();
         }
 
+        /**
+         * Switches to asynchronous loading. Terminal methods of the returned object return {@link CompletableFuture}s.
+         *
+         * @see UnconstrainedDataManager#loadListAsync(LoadContext)
+         */
+        public AsyncByIds<E> async() {
+            return new AsyncByIds<>(this);
+        }
+
         /**
          * Sets a fetch plan.
          */
@@ -520,6 +559,8 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private boolean keyset;
+        private Object keysetAfterEntity;
 
         protected ByQuery(FluentLoader<E> loader, String queryString, ApplicationContext applicationContext) {
             Preconditions.checkNotEmptyString(queryString, "queryString is empty");
@@ -563,6 +604,7 @@ public class FluentLoader<E> {
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
             loadContext.getQuery().setCacheable(cacheable);
+            loader.initKeysetParameters(loadContext.getQuery(), keyset, keysetAfterEntity);
 
             return loadContext;
         }
@@ -575,6 +617,33 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities by chunks of the default size and returns them as a lazily populated stream.
+         * The stream must be closed after use, for example:
+         * <pre>
+         * try (Stream&lt;Customer&gt; customers = dataManager.load(Customer.class).all().stream()) {
+         *     customers.forEach(customer -&gt; process(customer));
+         * }
+         * </pre>
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext)
+         */
+        public Stream<E> stream() {
+            LoadContext<E> loadContext = createLoadContext();
+            return loader.dataManager.loadStream(loadContext);
+        }
+
+        /**
+         * Loads entities by chunks of the given size and returns them as a lazily populated stream.
+         * The stream must be closed after use.
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext, int)
+         */
+        public Stream<E> stream(int chunkSize) {
+            LoadContext<E> loadContext = createLoadContext();
+            return loader.dataManager.loadStream(loadContext, chunkSize);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -597,6 +666,16 @@ public class FluentLoader<E> {
                 throw new NoResultException();
         }
 
+        /**
+         * Switches to asynchronous loading. Terminal methods of the returned object return {@link CompletableFuture}s.
+         *
+         * @see UnconstrainedDataManager#loadAsync(LoadContext)
+         * @see UnconstrainedDataManager#loadListAsync(LoadContext)
+         */
+        public AsyncByQuery<E> async() {
+            return new AsyncByQuery<>(loader.dataManager, createLoadContext());
+        }
+
         /**
          * Sets a fetch plan.
          */
@@ -720,6 +799,27 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Switches to the keyset pagination mode and sets the last entity of the previous page. The loaded page
+         * starts after this entity in the order defined by the sort extended by the primary key. Use {@code null}
+         * to load the first page. Unlike {@link #firstResult(int)}, loading deep pages doesn't slow down, for example:
+         * <pre>
+         * List&lt;Order&gt; page = dataManager.load(Order.class)
+         *      .all()
+         *      .sort(Sort.by(Sort.Direction.DESC, "date"))
+         *      .keysetAfter(lastOrderOfPreviousPage)
+         *      .maxResults(100)
+         *      .list();
+         * </pre>
+         *
+         * @see KeysetPagination
+         */
+        public ByQuery<E> keysetAfter(@Nullable Object lastEntity) {
+            this.keyset = true;
+            this.keysetAfterEntity = lastEntity;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -773,6 +873,8 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private boolean keyset;
+        private Object keysetAfterEntity;
         private Condition condition;
 
         protected ByCondition(FluentLoader<E> loader, String entityName, boolean jpaEntity, Condition condition) {
@@ -790,6 +892,8 @@ public class FluentLoader<E> {
             this.maxResults = byQuery.maxResults;
             this.sort = byQuery.sort;
             this.cacheable = byQuery.cacheable;
+            this.keyset = byQuery.keyset;
+            this.keysetAfterEntity = byQuery.keysetAfterEntity;
         }
 
         LoadContext<E> createLoadContext() {
@@ -814,6 +918,7 @@ public class FluentLoader<E> {
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
             loadContext.getQuery().setCacheable(cacheable);
+            loader.initKeysetParameters(loadContext.getQuery(), keyset, keysetAfterEntity);
 
             return loadContext;
         }
@@ -826,6 +931,33 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities by chunks of the default size and returns them as a lazily populated stream.
+         * The stream must be closed after use, for example:
+         * <pre>
+         * try (Stream&lt;Customer&gt; customers = dataManager.load(Customer.class).all().stream()) {
+         *     customers.forEach(customer -&gt; process(customer));
+         * }
+         * </pre>
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext)
+         */
+        public Stream<E> stream() {
+            LoadContext<E> loadContext = createLoadContext();
+            return loader.dataManager.loadStream(loadContext);
+        }
+
+        /**
+         * Loads entities by chunks of the given size and returns them as a lazily populated stream.
+         * The stream must be closed after use.
+         *
+         * @see UnconstrainedDataManager#loadStream(LoadContext, int)
+         */
+        public Stream<E> stream(int chunkSize) {
+            LoadContext<E> loadContext = createLoadContext();
+            return loader.dataManager.loadStream(loadContext, chunkSize);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -848,6 +980,16 @@ public class FluentLoader<E> {
                 throw new NoResultException();
         }
 
+        /**
+         * Switches to asynchronous loading. Terminal methods of the returned object return {@link CompletableFuture}s.
+         *
+         * @see UnconstrainedDataManager#loadAsync(LoadContext)
+         * @see UnconstrainedDataManager#loadListAsync(LoadContext)
+         */
+        public AsyncByCondition<E> async() {
+            return new AsyncByCondition<>(loader.dataManager, createLoadContext());
+        }
+
         /**
          * Sets a fetch plan.
          */
@@ -963,6 +1105,27 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Switches to the keyset pagination mode and sets the last entity of the previous page. The loaded page
+         * starts after this entity in the order defined by the sort extended by the primary key. Use {@code null}
+         * to load the first page. Unlike {@link #firstResult(int)}, loading deep pages doesn't slow down, for example:
+         * <pre>
+         * List&lt;Order&gt; page = dataManager.load(Order.class)
+         *      .all()
+         *      .sort(Sort.by(Sort.Direction.DESC, "date"))
+         *      .keysetAfter(lastOrderOfPreviousPage)
+         *      .maxResults(100)
+         *      .list();
+         * </pre>
+         *
+         * @see KeysetPagination
+         */
+        public ByCondition<E> keysetAfter(@Nullable Object lastEntity) {
+            this.keyset = true;
+            this.keysetAfterEntity = lastEntity;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -1005,4 +1168,116 @@ public class FluentLoader<E> {
             return this;
         }
     }
+
+    /**
+     * Asynchronous terminal operations of {@link ById}.
+     */
+    public static class AsyncById<E> {
+
+        private final UnconstrainedDataManager dataManager;
+        private final LoadContext<E> loadContext;
+
+        protected AsyncById(ById<E> byId) {
+            this.dataManager = byId.loader.dataManager;
+            this.loadContext = byId.id != null ? byId.createLoadContext() : null;
+        }
+
+        /**
+         * Loads a single instance and wraps it in Optional.
+         */
+        public CompletableFuture<Optional<E>> optional() {
+            if (loadContext == null) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            return dataManager.loadAsync(loadContext).thenApply(Optional::ofNullable);
+        }
+
+        /**
+         * Loads a single instance. The returned future is completed exceptionally with {@link NoResultException}
+         * if nothing was loaded.
+         */
+        public CompletableFuture<E> one() {
+            if (loadContext == null) {
+                return CompletableFuture.failedFuture(new NoResultException());
+            }
+            return dataManager.loadAsync(loadContext).thenApply(FluentLoader::requireResult);
+        }
+    }
+
+    /**
+     * Asynchronous terminal operations of {@link ByIds}.
+     */
+    public static class AsyncByIds<E> {
+
+        private final UnconstrainedDataManager dataManager;
+        private final LoadContext<E> loadContext;
+
+        protected AsyncByIds(ByIds<E> byIds) {
+            this.dataManager = byIds.loader.dataManager;
+            this.loadContext = byIds.ids != null && !byIds.ids.isEmpty() ? byIds.createLoadContext() : null;
+        }
+
+        /**
+         * Loads a list of entities.
+         */
+        public CompletableFuture<List<E>> list() {
+            if (loadContext == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return dataManager.loadListAsync(loadContext);
+        }
+    }
+
+    /**
+     * Asynchronous terminal operations of {@link ByQuery}.
+     */
+    public static class AsyncByQuery<E> {
+
+        private final UnconstrainedDataManager dataManager;
+        private final LoadContext<E> loadContext;
+
+        protected AsyncByQuery(UnconstrainedDataManager dataManager, LoadContext<E> loadContext) {
+            this.dataManager = dataManager;
+            this.loadContext = loadContext;
+        }
+
+        /**
+         * Loads a list of entities.
+         */
+        public CompletableFuture<List<E>> list() {
+            return dataManager.loadListAsync(loadContext);
+        }
+
+        /**
+         * Loads a single instance and wraps it in Optional.
+         */
+        public CompletableFuture<Optional<E>> optional() {
+            return dataManager.loadAsync(loadContext).thenApply(Optional::ofNullable);
+        }
+
+        /**
+         * Loads a single instance. The returned future is completed exceptionally with {@link NoResultException}
+         * if nothing was loaded.
+         */
+        public CompletableFuture<E> one() {
+            return dataManager.loadAsync(loadContext).thenApply(FluentLoader::requireResult);
+        }
+    }
+
+    /**
+     * Asynchronous terminal operations of {@link ByCondition}.
+     */
+    public static class AsyncByCondition<E> extends AsyncByQuery<E> {
+
+        protected AsyncByCondition(UnconstrainedDataManager dataManager, LoadContext<E> loadContext) {
+            super(dataManager, loadContext);
+        }
+    }
+
+    private static <E> E requireResult(@Nullable E entity) {
+        if (entity == null) {
+            throw new NoResultException();
+        }
+        return entity;
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.core.metamodel.model.Range;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supports keyset (seek) pagination of entities.
+ * <p>
+ * In the keyset mode, the query is ordered by the requested sort extended by the primary key, so the order of
+ * entities is stable and each entity is uniquely identified by the values of the sort properties. Instead of skipping
+ * {@code firstResult} rows, the next page is selected by a condition which compares the sort properties with the
+ * values of the last entity of the previous page ({@link KeysetPosition}). Such queries don't slow down on deep
+ * pages if the sort properties are indexed.
+ * <p>
+ * Limitations: the sort properties must be local datatype or enum properties (possibly of referenced entities),
+ * and their values must be not null. Entities with composite primary keys are not supported.
+ *
+ * @see LoadContext.Query#setKeysetPagination(boolean)
+ * @see LoadContext.Query#setKeysetPosition(KeysetPosition)
+ */
+@Component("core_KeysetPagination")
+public class KeysetPagination {
+
+    protected final MetadataTools metadataTools;
+
+    public KeysetPagination(MetadataTools metadataTools) {
+        this.metadataTools = metadataTools;
+    }
+
+    /**
+     * Returns true if the entities of the given class can be loaded in the keyset mode with the given sort.
+     */
+    public boolean isSupported(MetaClass metaClass, @Nullable Sort sort) {
+        if (metadataTools.hasCompositePrimaryKey(metaClass) || metadataTools.getPrimaryKeyName(metaClass) == null) {
+            return false;
+        }
+        if (sort != null) {
+            for (Sort.Order order : sort.getOrders()) {
+                MetaPropertyPath propertyPath = metaClass.getPropertyPath(order.getProperty());
+                if (propertyPath == null) {
+                    return false;
+                }
+                Range range = propertyPath.getRange();
+                if (!range.isDatatype() && !range.isEnum()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sort used in the keyset mode: the given sort extended by the primary key if it is not
+     * included yet.
+     *
+     * @throws IllegalArgumentException if the keyset mode is not supported for the given entity and sort
+     */
+    public Sort getKeysetSort(MetaClass metaClass, @Nullable Sort sort) {
+        if (!isSupported(metaClass, sort)) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset pagination is not supported for %s sorted by %s", metaClass.getName(), sort));
+        }
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null) {
+            for (Sort.Order order : sort.getOrders()) {
+                orders.add(order);
+                if (order.getProperty().equals(primaryKeyName)) {
+                    // orders after a unique property don't affect the result
+                    return Sort.by(orders);
+                }
+            }
+        }
+        orders.add(Sort.Order.asc(primaryKeyName));
+        return Sort.by(orders);
+    }
+
+    /**
+     * Creates a position after the given entity for the given keyset sort.
+     *
+     * @param entity     last entity of a page
+     * @param keysetSort sort returned by {@link #getKeysetSort(MetaClass, Sort)}
+     * @return position or null if some of the sort properties of the entity are null
+     */
+    @Nullable
+    public KeysetPosition createPosition(Object entity, Sort keysetSort) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Sort.Order order : keysetSort.getOrders()) {
+            Object value = EntityValues.getValueEx(entity, order.getProperty());
+            if (value == null) {
+                return null;
+            }
+            values.put(order.getProperty(), value);
+        }
+        return KeysetPosition.of(values);
+    }
+
+    /**
+     * Creates a condition selecting entities located after the given position in the order defined by the
+     * keyset sort. For sort {@code a asc, b desc, id asc} the condition is
+     * {@code a > :a or (a = :a and b < :b) or (a = :a and b = :b and id > :id)}.
+     *
+     * @param position   position of the last entity of the previous page
+     * @param keysetSort sort returned by {@link #getKeysetSort(MetaClass, Sort)}
+     */
+    public Condition createCondition(KeysetPosition position, Sort keysetSort) {
+        List<Sort.Order> orders = keysetSort.getOrders();
+        LogicalCondition result = LogicalCondition.or();
+        for (int i = 0; i < orders.size(); i++) {
+            LogicalCondition branch = LogicalCondition.and();
+            for (int j = 0; j < i; j++) {
+                Sort.Order previousOrder = orders.get(j);
+                branch.add(PropertyCondition.equal(previousOrder.getProperty(), getValue(position, previousOrder)));
+            }
+            Sort.Order order = orders.get(i);
+            String operation = order.getDirection() == Sort.Direction.DESC
+                    ? PropertyCondition.Operation.LESS
+                    : PropertyCondition.Operation.GREATER;
+            branch.add(PropertyCondition.create(order.getProperty(), operation, getValue(position, order)));
+            result.add(branch);
+        }
+        return result;
+    }
+
+    /**
+     * Converts the keyset mode of the context query into the sort and condition understood by data stores.
+     * The context passed by the caller stays unchanged.
+     *
+     * @param context load context
+     * @return the given context if its query is not in the keyset mode, otherwise a copy of the context with
+     * the converted query
+     */
+    @SuppressWarnings("unchecked")
+    public <E> LoadContext<E> apply(LoadContext<E> context) {
+        LoadContext.Query query = context.getQuery();
+        if (query == null || !query.isKeysetPagination()) {
+            return context;
+        }
+        LoadContext<E> keysetContext = (LoadContext<E>) context.copy();
+        LoadContext.Query keysetQuery = keysetContext.getQuery();
+        keysetQuery.setKeysetPagination(false);
+
+        Sort keysetSort = getKeysetSort(context.getEntityMetaClass(), query.getSort());
+        keysetQuery.setSort(keysetSort);
+
+        KeysetPosition position = query.getKeysetPosition();
+        if (position != null) {
+            Condition positionCondition = createCondition(position, keysetSort);
+            Condition condition = keysetQuery.getCondition();
+            keysetQuery.setCondition(condition == null
+                    ? positionCondition
+                    : LogicalCondition.and(condition, positionCondition));
+        }
+        return keysetContext;
+    }
+
+    protected Object getValue(KeysetPosition position, Sort.Order order) {
+        Object value = position.getValues().get(order.getProperty());
+        if (value == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset position %s doesn't contain a value of sort property '%s'", position, order.getProperty()));
+        }
+        return value;
+    }
+}
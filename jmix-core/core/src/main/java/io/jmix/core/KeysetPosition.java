@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.common.util.Preconditions;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Position in a result set ordered for keyset pagination. Contains values of the sort properties of the last
+ * entity of the previous page. The next page starts after the entity with these values.
+ *
+ * @see KeysetPagination
+ * @see LoadContext.Query#setKeysetPosition(KeysetPosition)
+ */
+public class KeysetPosition implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2591804765032931542L;
+
+    private final Map<String, Object> values;
+
+    protected KeysetPosition(Map<String, Object> values) {
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    /**
+     * Creates a position for the given values of the sort properties.
+     *
+     * @param values map of sort property paths to their values
+     */
+    public static KeysetPosition of(Map<String, Object> values) {
+        Preconditions.checkNotNullArgument(values, "values map is null");
+        return new KeysetPosition(values);
+    }
+
+    /**
+     * Returns unmodifiable map of sort property paths to their values.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return values.equals(((KeysetPosition) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(values);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPosition" + values;
+    }
+}
@@ -330,6 +330,8 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
         private Condition condition;
         private Sort sort;
         private boolean distinct;
+        private boolean keysetPagination;
+        private KeysetPosition keysetPosition;
 
         protected Query() {
         }
@@ -495,6 +497,52 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             this.distinct = distinct;
         }
 
+        /**
+         * @return true if the query is executed in the keyset pagination mode
+         * @see KeysetPagination
+         */
+        public boolean isKeysetPagination() {
+            return keysetPagination;
+        }
+
+        /**
+         * Sets whether the query is executed in the keyset pagination mode. In this mode, the results are ordered by
+         * the query sort extended by the primary key, and the page starts after the {@link #getKeysetPosition()}
+         * if it is set.
+         *
+         * @param keysetPagination whether to use keyset pagination
+         * @return this query instance for chaining
+         * @see KeysetPagination
+         */
+        public Query setKeysetPagination(boolean keysetPagination) {
+            this.keysetPagination = keysetPagination;
+            return this;
+        }
+
+        /**
+         * @return position after which the page starts in the keyset pagination mode
+         */
+        @Nullable
+        public KeysetPosition getKeysetPosition() {
+            return keysetPosition;
+        }
+
+        /**
+         * Sets the position after which the page starts and switches the query to the keyset pagination mode if the
+         * position is not null.
+         *
+         * @param keysetPosition values of the sort properties of the last entity of the previous page
+         * @return this query instance for chaining
+         * @see KeysetPagination#createPosition(Object, Sort)
+         */
+        public Query setKeysetPosition(@Nullable KeysetPosition keysetPosition) {
+            this.keysetPosition = keysetPosition;
+            if (keysetPosition != null) {
+                this.keysetPagination = true;
+            }
+            return this;
+        }
+
         /**
          * Creates a copy of this Query instance.
          */
@@ -512,6 +560,9 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             query.cacheable = this.cacheable;
             query.condition = this.condition == null ? null : this.condition.copy();
             query.sort = this.sort;
+            query.distinct = this.distinct;
+            query.keysetPagination = this.keysetPagination;
+            query.keysetPosition = this.keysetPosition;
         }
 
         @Override
@@ -545,6 +596,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
                     ", firstResult=" + firstResult +
                     ", maxResults=" + maxResults +
                     ", distinct=" + distinct +
+                    (keysetPagination ? ", keysetPosition=" + keysetPosition : "") +
                     "}";
             return StringHelper.removeExtraSpaces(stringResult.replace('\n', ' '));
         }
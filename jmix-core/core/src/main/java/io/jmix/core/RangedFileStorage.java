@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core;
+
+import org.springframework.lang.Nullable;
+
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Optional extension of {@link FileStorage} that provides file metadata and reads of arbitrary byte ranges.
+ * <p>
+ * {@link FileTransferService} uses it to set the {@code Content-Length}, {@code ETag} and {@code Last-Modified}
+ * headers and to serve conditional and partial ({@code Range}) downloads.
+ */
+public interface RangedFileStorage extends FileStorage {
+
+    /**
+     * Returns size and version information of a file.
+     *
+     * @param reference file reference
+     * @return file metadata
+     * @throws IllegalArgumentException if file reference is invalid
+     * @throws FileStorageException     of the {@link FileStorageException.Type#FILE_NOT_FOUND} type if the file
+     *                                  does not exist, or if something else goes wrong
+     */
+    FileMetadata getFileMetadata(FileRef reference);
+
+    /**
+     * Writes a range of a file contents to the output stream.
+     *
+     * @param reference    file reference
+     * @param offset       position of the first byte to write
+     * @param length       number of bytes to write
+     * @param outputStream output stream, must be closed in the calling code
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    void writeRange(FileRef reference, long offset, long length, OutputStream outputStream);
+
+    /**
+     * Size and version information of a file.
+     *
+     * @param size         file size in bytes
+     * @param eTag         quoted strong entity tag that changes when the file contents changes, or null if
+     *                     the storage cannot provide it
+     * @param lastModified last modification time, or null if the storage cannot provide it
+     */
+    record FileMetadata(long size, @Nullable String eTag, @Nullable Instant lastModified) {
+    }
+}
@@ -35,6 +35,7 @@ public class SaveContext implements Serializable {
     protected Map<Object, FetchPlan> fetchPlans = new HashMap<>();
 
     protected boolean discardSaved;
+    protected boolean bulkMode;
     protected boolean joinTransaction = true;
     protected List<AccessConstraint<?>> accessConstraints;
     protected Map<String, Serializable> hints;
@@ -158,6 +159,25 @@ public class SaveContext implements Serializable {
         return this;
     }
 
+    /**
+     * @return true if the entities are saved in the bulk mode
+     */
+    public boolean isBulkMode() {
+        return bulkMode;
+    }
+
+    /**
+     * Set to true when saving a large number of entities at once, for example when importing data.
+     * <p>
+     * In the bulk mode, data stores write the resulting statements in JDBC batches
+     * and reload saved instances by batches of identifiers instead of one by one. Combine it with
+     * {@link #setDiscardSaved(boolean)} if the calling code does not need saved instances to skip reloading at all.
+     */
+    public SaveContext setBulkMode(boolean bulkMode) {
+        this.bulkMode = bulkMode;
+        return this;
+    }
+
     /**
      * Returns the list of access constraints.
      */
@@ -22,6 +22,8 @@ import org.springframework.lang.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Central interface to provide CRUD functionality for entities.
@@ -54,6 +56,56 @@ public interface UnconstrainedDataManager {
      */
     <E> List<E> loadList(LoadContext<E> context);
 
+    /**
+     * Loads entity instances by chunks of the size defined by the {@code jmix.core.load-stream-chunk-size}
+     * property and returns them as a lazily populated stream.
+     *
+     * @param context {@link LoadContext} object, defining what and how to load
+     * @return a stream of entity instances that must be closed after use
+     * @see #loadStream(LoadContext, int)
+     */
+    <E> Stream<E> loadStream(LoadContext<E> context);
+
+    /**
+     * Loads entity instances by chunks of the given size and returns them as a lazily populated stream.
+     * <p>Only one chunk of instances is held in memory at a time, so this method is suitable for processing
+     * results of any size. The chunks are read in a transaction which remains open until the stream is closed, so
+     * always close the stream, e.g. using try-with-resources.</p>
+     * <p>If the method is invoked in an active transaction and {@link LoadContext#isJoinTransaction()} is set, the
+     * chunks are read in this transaction, and the stream elements are processed in it too, so changes made while
+     * processing the stream belong to the caller's unit of work. The stream must be closed before the transaction
+     * completes in this case. Otherwise, the chunks are read in a separate transaction, and the stream elements are
+     * processed outside of any transaction.</p>
+     *
+     * @param context   {@link LoadContext} object, defining what and how to load
+     * @param chunkSize number of instances loaded at once
+     * @return a stream of entity instances that must be closed after use
+     */
+    <E> Stream<E> loadStream(LoadContext<E> context, int chunkSize);
+
+    /**
+     * Loads a single entity instance asynchronously.
+     * <p>The load is executed in a separate thread with the security context, locale and logging context of the
+     * calling thread, and in a separate transaction, so it doesn't see uncommitted changes made in the transaction
+     * of the caller. The number of concurrent asynchronous loads is limited by the
+     * {@code jmix.core.async-load-max-concurrency} property.</p>
+     *
+     * @param context {@link LoadContext} object, defining what and how to load
+     * @return future completed with the loaded object, or with null if not found
+     * @see #load(LoadContext)
+     */
+    <E> CompletableFuture<E> loadAsync(LoadContext<E> context);
+
+    /**
+     * Loads collection of entity instances asynchronously.
+     * <p>See {@link #loadAsync(LoadContext)} for the details of the execution.</p>
+     *
+     * @param context {@link LoadContext} object, defining what and how to load
+     * @return future completed with the list of entity instances, or with empty list if nothing found
+     * @see #loadList(LoadContext)
+     */
+    <E> CompletableFuture<List<E>> loadListAsync(LoadContext<E> context);
+
     /**
      * Returns the number of entity instances for the given query passed in the {@link LoadContext}.
      *
@@ -121,6 +173,48 @@ public interface UnconstrainedDataManager {
      */
     <E> void remove(Id<E> entityId);
 
+    /**
+     * Updates or removes all entities matching the query of the context by a set-based operation, without loading
+     * them into memory.
+     * <p>
+     * An {@link io.jmix.core.event.EntityChangedEvent} is published for each affected entity. As the entities are not
+     * loaded, its changes contain only the attributes assigned by the operation, with null old values.
+     *
+     * @param context {@link BulkOperationContext} object defining the affected entities and the operation
+     * @return number of affected entities
+     */
+    int bulkOperation(BulkOperationContext context);
+
+    /**
+     * Entry point to the fluent API for set-based updating of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int updated = dataManager.bulkUpdate(Customer.class)
+     *      .set("status", CustomerStatus.INACTIVE)
+     *      .query("e.lastOrderDate &lt; :date")
+     *      .parameter("date", date)
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the updated entities
+     */
+    <E> FluentBulkOperation<E> bulkUpdate(Class<E> entityClass);
+
+    /**
+     * Entry point to the fluent API for set-based removing of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int removed = dataManager.bulkRemove(Order.class)
+     *      .condition(PropertyCondition.equal("status", OrderStatus.CANCELLED))
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the removed entities
+     */
+    <E> FluentBulkOperation<E> bulkRemove(Class<E> entityClass);
+
     /**
      * Loads list of key-value pairs.
      *
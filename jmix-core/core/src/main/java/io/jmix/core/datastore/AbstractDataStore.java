@@ -20,6 +20,7 @@ import com.google.common.base.Preconditions;
 import io.jmix.core.*;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.slf4j.Logger;
@@ -31,6 +32,8 @@ import java.lang.reflect.Field;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class AbstractDataStore implements DataStore {
     protected final List<DataStoreEventListener> listeners = new ArrayList<>();
@@ -160,6 +163,40 @@ public abstract class AbstractDataStore implements DataStore {
         return afterLoadEvent.getResultEntities();
     }
 
+    /**
+     * Loads entities by chunks in a load transaction that stays open until the returned stream is closed.
+     * <p>
+     * If {@link LoadContext#isJoinTransaction()} is set and the caller has an active transaction, chunks are read in
+     * this transaction, and the caller processes them in the same transaction. Otherwise, chunks are read in a separate
+     * transaction which is suspended while the caller processes a chunk, so the caller can work with other data in its
+     * own transactions.
+     * <p>
+     * For each chunk, {@link DataStoreEntityLoadingEvent} and {@link DataStoreAfterEntityLoadEvent} are fired, so
+     * in-memory constraints are applied the same way as in {@link #loadList(LoadContext)}.
+     */
+    @Override
+    public Stream<List<Object>> loadChunks(LoadContext<?> context, int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+
+        if (log.isDebugEnabled()) {
+            log.debug("loadChunks: store={}, metaClass={}, fetchPlan={}, chunkSize={}, query={}",
+                    getName(), context.getEntityMetaClass(), context.getFetchPlan(), chunkSize, context.getQuery());
+        }
+
+        EventSharedState loadState = new EventSharedState();
+
+        DataStoreBeforeEntityLoadEvent beforeLoadEvent = new DataStoreBeforeEntityLoadEvent(context, loadState);
+        fireEvent(beforeLoadEvent);
+
+        if (beforeLoadEvent.loadPrevented()) {
+            return Stream.empty();
+        }
+
+        ChunkIterator iterator = new ChunkIterator(context, chunkSize, loadState);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
     @Override
     public long getCount(LoadContext<?> context) {
         if (log.isDebugEnabled()) {
@@ -236,7 +273,10 @@ public abstract class AbstractDataStore implements DataStore {
             rollbackTransaction(transaction);
         }
 
-        return context.isDiscardSaved() ? Collections.emptySet() : loadAllAfterSave(context, savedEntities);
+        if (context.isDiscardSaved()) {
+            return Collections.emptySet();
+        }
+        return context.isBulkMode() ? loadAllAfterBulkSave(context, savedEntities) : loadAllAfterSave(context, savedEntities);
     }
 
     @Override
@@ -336,6 +376,64 @@ public abstract class AbstractDataStore implements DataStore {
     protected void beforeLoadTransactionCommit(LoadContext<?> context, Collection<Object> entities, TransactionContextState transactionContextState) {
     }
 
+    /**
+     * Opens a cursor for {@link #loadChunks(LoadContext, int)}. Invoked inside the load transaction.
+     * <p>
+     * The default implementation requests consecutive pages using {@link #loadAll(LoadContext)}. Override this method
+     * to read the result with a single database cursor.
+     */
+    protected EntityCursor openCursor(LoadContext<?> context, int chunkSize) {
+        return new PagingEntityCursor(context, chunkSize, chunkContext -> {
+            List<Object> entities = loadAll(chunkContext);
+            return chunkContext.getIds().isEmpty() ? entities : checkAndReorderLoadedEntities(chunkContext, entities);
+        });
+    }
+
+    /**
+     * Returns true if a transaction of this data store is active in the current thread. In this case
+     * {@link #loadChunks(LoadContext, int)} reads chunks in this transaction if {@link LoadContext#isJoinTransaction()}
+     * is set, so the code processing the chunks works in the same transaction.
+     */
+    protected boolean isTransactionActive() {
+        return false;
+    }
+
+    /**
+     * Invoked by {@link #loadChunks(LoadContext, int)} before reading each chunk.
+     *
+     * @param joinedTransaction whether chunks are read in the transaction of the caller
+     */
+    protected void beforeChunkLoad(LoadContext<?> context, boolean joinedTransaction,
+                                   TransactionContextState transactionContextState) {
+    }
+
+    /**
+     * Invoked for each chunk loaded by {@link #loadChunks(LoadContext, int)} before the chunk is passed to the caller.
+     * Override this method to release resources held for the loaded entities.
+     *
+     * @param joinedTransaction whether chunks are read in the transaction of the caller
+     */
+    protected void afterChunkLoaded(LoadContext<?> context, List<Object> entities, boolean joinedTransaction,
+                                    TransactionContextState transactionContextState) {
+    }
+
+    /**
+     * Suspends the given load transaction while a chunk loaded by {@link #loadChunks(LoadContext, int)} is processed
+     * by the caller.
+     *
+     * @return object to be passed to {@link #resumeTransaction(Object)}, or null if suspension is not supported
+     */
+    @Nullable
+    protected Object suspendTransaction(Object transaction) {
+        return null;
+    }
+
+    /**
+     * Resumes a load transaction suspended by {@link #suspendTransaction(Object)}.
+     */
+    protected void resumeTransaction(Object suspendedTransaction) {
+    }
+
     protected void beforeSaveTransactionCommit(SaveContext context, Collection<Object> savedEntities,
                                                Collection<Object> removedEntities) {
     }
@@ -480,6 +578,77 @@ public abstract class AbstractDataStore implements DataStore {
         return resultEntities;
     }
 
+    /**
+     * Reloads entities saved in the bulk mode using one load context for all instances of the same class
+     * and fetch plan.
+     */
+    protected Set<Object> loadAllAfterBulkSave(SaveContext context, Set<Object> savedEntities) {
+        Map<MetaClass, Map<FetchPlan, Map<Object, Object>>> groups = new LinkedHashMap<>();
+        for (Object entity : savedEntities) {
+            groups.computeIfAbsent(metadata.getClass(entity), metaClass -> new LinkedHashMap<>())
+                    .computeIfAbsent(getFetchPlanForSave(context.getFetchPlans(), entity), fetchPlan -> new LinkedHashMap<>())
+                    .put(Objects.requireNonNull(EntityValues.getId(entity)), entity);
+        }
+
+        Map<EntityLoadInfo, List<Object>> loadedEntities = new LinkedHashMap<>();
+        Object loadTransaction = beginLoadTransaction(context.isJoinTransaction());
+        try {
+            TransactionContextState txContextState = getTransactionContextState(context.isJoinTransaction());
+            for (Map.Entry<MetaClass, Map<FetchPlan, Map<Object, Object>>> classEntry : groups.entrySet()) {
+                for (Map.Entry<FetchPlan, Map<Object, Object>> fetchPlanEntry : classEntry.getValue().entrySet()) {
+                    Map<Object, Object> idToEntity = fetchPlanEntry.getValue();
+
+                    EventSharedState loadState = new EventSharedState();
+                    LoadContext<?> loadContext = new LoadContext<>(classEntry.getKey())
+                            .setIds(idToEntity.keySet())
+                            .setFetchPlan(fetchPlanEntry.getKey());
+
+                    DataStoreEntityReloadEvent reloadEvent = new DataStoreEntityReloadEvent(loadContext, context, loadState);
+                    fireEvent(reloadEvent);
+
+                    DataStoreBeforeEntityLoadEvent beforeLoadEvent = new DataStoreBeforeEntityLoadEvent(loadContext, loadState);
+                    fireEvent(beforeLoadEvent);
+
+                    if (!beforeLoadEvent.loadPrevented()) {
+                        List<Object> fetchedEntities = loadAll(loadContext);
+                        for (Object fetchedEntity : fetchedEntities) {
+                            Object entity = idToEntity.get(EntityValues.getId(fetchedEntity));
+                            if (entity != null) {
+                                copyNonPersistentAttributes(entity, fetchedEntity);
+                            }
+                        }
+
+                        DataStoreEntityLoadingEvent loadEvent =
+                                new DataStoreEntityLoadingEvent(loadContext, fetchedEntities, loadState);
+                        fireEvent(loadEvent);
+
+                        loadedEntities.put(new EntityLoadInfo(loadContext, loadState), loadEvent.getResultEntities());
+                    }
+                }
+            }
+
+            for (Map.Entry<EntityLoadInfo, List<Object>> entry : loadedEntities.entrySet()) {
+                beforeLoadTransactionCommit(entry.getKey().loadContext, entry.getValue(), txContextState);
+            }
+            commitTransaction(loadTransaction);
+        } finally {
+            rollbackTransaction(loadTransaction);
+        }
+
+        Set<Object> resultEntities = new HashSet<>();
+        for (Map.Entry<EntityLoadInfo, List<Object>> entry : loadedEntities.entrySet()) {
+            EntityLoadInfo loadInfo = entry.getKey();
+
+            DataStoreAfterEntityLoadEvent afterLoadEvent =
+                    new DataStoreAfterEntityLoadEvent(loadInfo.loadContext, entry.getValue(), loadInfo.eventState);
+            fireEvent(afterLoadEvent);
+
+            resultEntities.addAll(afterLoadEvent.getResultEntities());
+        }
+
+        return resultEntities;
+    }
+
     protected FetchPlan getFetchPlanForSave(Map<Object, FetchPlan> fetchPlans, Object entity) {
         FetchPlan fetchPlan = fetchPlans.get(entity);
         if (fetchPlan == null) {
@@ -518,6 +687,116 @@ public abstract class AbstractDataStore implements DataStore {
         }
     }
 
+    /**
+     * Iterates over chunks of entities keeping the load transaction open between invocations.
+     */
+    protected class ChunkIterator implements Iterator<List<Object>> {
+        protected final LoadContext<?> context;
+        protected final int chunkSize;
+        protected final EventSharedState eventState;
+
+        protected Object transaction;
+        protected boolean joinedTransaction;
+        protected Object suspendedTransaction;
+        protected TransactionContextState txContextState;
+        protected EntityCursor cursor;
+        protected List<Object> next;
+        protected boolean finished;
+
+        public ChunkIterator(LoadContext<?> context, int chunkSize, EventSharedState eventState) {
+            this.context = context;
+            this.chunkSize = chunkSize;
+            this.eventState = eventState;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = fetchNextChunk();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+                if (next == null) {
+                    close();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Object> entities = next;
+            next = null;
+
+            DataStoreAfterEntityLoadEvent afterLoadEvent = new DataStoreAfterEntityLoadEvent(context, entities, eventState);
+            fireEvent(afterLoadEvent);
+
+            return afterLoadEvent.getResultEntities();
+        }
+
+        @Nullable
+        protected List<Object> fetchNextChunk() {
+            if (transaction == null) {
+                joinedTransaction = context.isJoinTransaction() && isTransactionActive();
+                transaction = beginLoadTransaction(joinedTransaction);
+                txContextState = getTransactionContextState(joinedTransaction);
+                cursor = openCursor(context, chunkSize);
+            } else if (suspendedTransaction != null) {
+                resumeTransaction(suspendedTransaction);
+                suspendedTransaction = null;
+            }
+
+            while (true) {
+                beforeChunkLoad(context, joinedTransaction, txContextState);
+                List<Object> entities = cursor.nextChunk();
+                if (entities.isEmpty()) {
+                    return null;
+                }
+
+                DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, entities, eventState);
+                fireEvent(loadEvent);
+
+                List<Object> resultList = loadEvent.getResultEntities();
+                afterChunkLoaded(context, resultList, joinedTransaction, txContextState);
+
+                if (!resultList.isEmpty()) {
+                    if (!joinedTransaction) {
+                        suspendedTransaction = suspendTransaction(transaction);
+                    }
+                    return resultList;
+                }
+            }
+        }
+
+        public void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            next = null;
+            if (transaction == null) {
+                return;
+            }
+            if (suspendedTransaction != null) {
+                resumeTransaction(suspendedTransaction);
+                suspendedTransaction = null;
+            }
+            try {
+                if (cursor != null) {
+                    cursor.close();
+                }
+                commitTransaction(transaction);
+            } finally {
+                rollbackTransaction(transaction);
+            }
+        }
+    }
+
     /**
      * Designed to store and share various data during load transaction.
      * <p>
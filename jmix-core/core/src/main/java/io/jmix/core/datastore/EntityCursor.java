@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.datastore;
+
+import io.jmix.core.DataStore;
+import io.jmix.core.LoadContext;
+
+import java.util.List;
+
+/**
+ * Forward-only source of entity chunks used by {@link DataStore#loadChunks(LoadContext, int)}.
+ */
+public interface EntityCursor {
+
+    /**
+     * @return next chunk of entities, or empty list if there are no more entities
+     */
+    List<Object> nextChunk();
+
+    void close();
+}
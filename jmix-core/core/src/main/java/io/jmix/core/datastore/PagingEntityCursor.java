@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.datastore;
+
+import io.jmix.core.LoadContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor emulation that loads consecutive pages of the query result, or consecutive portions of the identifiers if
+ * the context is defined by {@link LoadContext#getIds()}.
+ */
+public class PagingEntityCursor implements EntityCursor {
+    protected final LoadContext<?> context;
+    protected final int chunkSize;
+    protected final Function<LoadContext<?>, List<Object>> loader;
+    protected final int requestedMax;
+    protected int firstResult;
+    protected int loaded;
+    protected boolean finished;
+
+    /**
+     * @param context   context defining what to load
+     * @param chunkSize maximum number of instances in a chunk
+     * @param loader    function loading instances for a copy of the context restricted to a single chunk
+     */
+    public PagingEntityCursor(LoadContext<?> context, int chunkSize, Function<LoadContext<?>, List<Object>> loader) {
+        this.context = context;
+        this.chunkSize = chunkSize;
+        this.loader = loader;
+        this.requestedMax = context.getQuery() == null ? 0 : context.getQuery().getMaxResults();
+        this.firstResult = context.getQuery() == null ? 0 : context.getQuery().getFirstResult();
+    }
+
+    @Override
+    public List<Object> nextChunk() {
+        if (finished) {
+            return Collections.emptyList();
+        }
+
+        LoadContext<?> chunkContext = context.copy();
+        if (!context.getIds().isEmpty()) {
+            int toIndex = Math.min(loaded + chunkSize, context.getIds().size());
+            chunkContext.setIds(context.getIds().subList(loaded, toIndex));
+            loaded = toIndex;
+            finished = loaded >= context.getIds().size();
+            return loader.apply(chunkContext);
+        }
+
+        if (chunkContext.getQuery() == null) {
+            finished = true;
+            return loader.apply(chunkContext);
+        }
+
+        int maxResults = requestedMax == 0 ? chunkSize : Math.min(chunkSize, requestedMax - loaded);
+        chunkContext.getQuery().setFirstResult(firstResult);
+        chunkContext.getQuery().setMaxResults(maxResults);
+        List<Object> entities = loader.apply(chunkContext);
+        firstResult += maxResults;
+        loaded += entities.size();
+        finished = entities.size() < maxResults || (requestedMax != 0 && loaded >= requestedMax);
+        return entities;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+    }
+}
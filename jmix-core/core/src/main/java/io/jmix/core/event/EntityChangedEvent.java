@@ -95,6 +95,9 @@ public class EntityChangedEvent<E> extends ApplicationEvent implements Resolvabl
      *   <li>For {@code DELETED} event, contains all entity attributes. Old values are the attribute values at the moment
      *       of loading the entity from the database.
      *  </ul>
+     * Events published by set-based bulk operations (see {@code DataManager.bulkUpdate()} and
+     * {@code DataManager.bulkRemove()}) are an exception: entities are not loaded, so the changes contain only the
+     * attributes assigned by the operation, and all old values are null.
      */
     public AttributeChanges getChanges() {
         return changes;
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.impl.logging.LogMdc;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Executes asynchronous loads of {@link io.jmix.core.UnconstrainedDataManager}.
+ * <p>
+ * The security context of the calling thread (which defines the current user, its tenant and locale), the Spring
+ * locale context and the logging MDC are propagated to the thread executing a task. The number of concurrently
+ * executed tasks is limited by the {@link CoreProperties#getAsyncLoadMaxConcurrency()} property to avoid exhausting
+ * the database connection pool.
+ */
+@Component("core_AsyncLoadExecutor")
+public class AsyncLoadExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncLoadExecutor.class);
+
+    private static final ThreadLocal<Boolean> executingTask = new ThreadLocal<>();
+
+    protected final ExecutorService executorService;
+
+    @Nullable
+    protected final Semaphore permits;
+
+    public AsyncLoadExecutor(CoreProperties properties) {
+        int maxConcurrency = Math.max(1, properties.getAsyncLoadMaxConcurrency());
+
+        ExecutorService virtualThreadExecutor = properties.isAsyncLoadVirtualThreadsEnabled()
+                ? createVirtualThreadExecutor()
+                : null;
+        if (virtualThreadExecutor != null) {
+            executorService = virtualThreadExecutor;
+            // virtual threads are not pooled, so the concurrency is limited by permits
+            permits = new Semaphore(maxConcurrency);
+        } else {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    maxConcurrency, maxConcurrency,
+                    60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-async-load-%d")
+                            .setDaemon(true)
+                            .build());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executorService = threadPoolExecutor;
+            permits = null;
+        }
+    }
+
+    /**
+     * Executes the given task asynchronously in the context of the calling thread.
+     *
+     * @param task task to execute
+     * @return future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(withCallerContext(task), executorService);
+    }
+
+    /**
+     * Returns true if the current thread is executing a task submitted to this executor. Such tasks should not wait
+     * for other tasks of the executor to avoid exhausting the limited number of threads.
+     */
+    public boolean isExecutingTask() {
+        return Boolean.TRUE.equals(executingTask.get());
+    }
+
+    protected <T> Supplier<T> withCallerContext(Supplier<T> task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+            Map<String, String> previousMdcContext = MDC.getCopyOfContextMap();
+
+            SecurityContextHolder.setContext(securityContext);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            } else {
+                LogMdc.setup(securityContext.getAuthentication());
+            }
+            executingTask.set(Boolean.TRUE);
+            try {
+                return executeWithPermit(task);
+            } finally {
+                executingTask.remove();
+                SecurityContextHolder.setContext(previousSecurityContext);
+                LocaleContextHolder.setLocaleContext(previousLocaleContext);
+                if (previousMdcContext != null) {
+                    MDC.setContextMap(previousMdcContext);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+
+    protected <T> T executeWithPermit(Supplier<T> task) {
+        if (permits == null) {
+            return task.get();
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Nullable
+    protected ExecutorService createVirtualThreadExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() is available since Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported by the current Java runtime, " +
+                    "asynchronous loads will be executed in platform threads");
+            return null;
+        }
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        executorService.shutdownNow();
+    }
+}
@@ -16,20 +16,26 @@
 
 package io.jmix.core.impl;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +48,8 @@ public class CrossDataStoreReferenceLoader {
 
     private static final Logger log = LoggerFactory.getLogger(CrossDataStoreReferenceLoader.class);
 
+    private static final String LOAD_TIMER_NAME = "jmix.CrossDataStoreReferenceLoader.load";
+
     @Autowired
     private Metadata metadata;
 
@@ -57,6 +65,12 @@ public class CrossDataStoreReferenceLoader {
     @Autowired
     private EntityStates entityStates;
 
+    @Autowired
+    private AsyncLoadExecutor asyncLoadExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private MetaClass metaClass;
 
     private FetchPlan fetchPlan;
@@ -134,13 +148,29 @@ public class CrossDataStoreReferenceLoader {
         }
         if (entityCrossDataStorePropertyList.size() == 1) {
             loadOne(entityCrossDataStorePropertyList.get(0));
-        } else {
-            entityCrossDataStorePropertyList.stream()
-                    .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp))
-                    .forEach((ap, eapList) ->
-                            loadMany(ap, eapList.stream().map(eap -> eap.entity).collect(Collectors.toList()))
-                    );
+            return;
         }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // references to the same entity with the same fetch plan are loaded together even if they are
+        // defined by different properties
+        Map<List<Object>, LoadGroup> loadGroups = new LinkedHashMap<>();
+        for (EntityCrossDataStoreProperty entityCrossDataStoreProperty : entityCrossDataStorePropertyList) {
+            CrossDataStoreProperty crossProp = entityCrossDataStoreProperty.crossProp;
+            if (crossProp.needsFakeInstance()) {
+                setFakeInstance(entityCrossDataStoreProperty.entity, crossProp);
+            } else {
+                assert crossProp.fetchPlanProperty != null;
+                List<Object> groupKey = Arrays.asList(crossProp.property.getRange().asClass(),
+                        crossProp.fetchPlanProperty.getFetchPlan());
+                loadGroups.computeIfAbsent(groupKey, k -> new LoadGroup(crossProp))
+                        .entityProperties.add(entityCrossDataStoreProperty);
+            }
+        }
+        loadGroups(loadGroups.values());
+
+        sample.stop(meterRegistry.timer("jmix.CrossDataStoreReferenceLoader.process", "entity", metaClass.getName()));
     }
 
     private Set<Object> getAffectedEntities(Collection entities,
@@ -188,9 +218,7 @@ public class CrossDataStoreReferenceLoader {
         Object id = EntityValues.getValue(entity, aProp.relatedPropertyName);
 
         if (aProp.needsFakeInstance()) {
-            Object fakeInstance = metadata.create(aProp.property.getRange().asClass(), id);
-            entityStates.makePatch(fakeInstance);
-            EntityValues.setValue(entity, aProp.property.getName(), fakeInstance);
+            setFakeInstance(entity, aProp);
 
         } else {
             LoadContext<?> loadContext = new LoadContext<>(aProp.property.getRange().asClass())
@@ -199,106 +227,172 @@ public class CrossDataStoreReferenceLoader {
             if (aProp.fetchPlanProperty.getFetchPlan() != null)
                 loadContext.setFetchPlan(aProp.fetchPlanProperty.getFetchPlan());
             loadContext.setJoinTransaction(joinTransaction);
+
+            Timer.Sample sample = Timer.start(meterRegistry);
             Object relatedEntity = dataManager.load(loadContext);
+            sample.stop(meterRegistry.timer(LOAD_TIMER_NAME, "entity", aProp.property.getRange().asClass().getName()));
+
             EntityValues.setValue(entity, aProp.property.getName(), relatedEntity);
         }
 
     }
 
-    private void loadMany(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        int offset = 0, limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
-        while (true) {
-            int end = offset + limit;
-            List<Object> batch = entities.subList(offset, Math.min(end, entities.size()));
-            loadBatch(crossDataStoreProperty, batch);
-            if (end >= entities.size())
-                break;
-            else
-                offset += limit;
+    private void setFakeInstance(Object entity, CrossDataStoreProperty crossDataStoreProperty) {
+        Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+        if (id != null) {
+            Object fakeInstance = metadata.create(crossDataStoreProperty.property.getRange().asClass(), id);
+            entityStates.makePatch(fakeInstance);
+
+            EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
         }
     }
 
-    private void loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        List<Object> idList = entities.stream()
-                .map(e -> EntityValues.getValue(e, crossDataStoreProperty.relatedPropertyName))
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
-
-        if (idList.isEmpty())
+    private void loadGroups(Collection<LoadGroup> loadGroups) {
+        int batchSize = properties.getCrossDataStoreReferenceLoadingBatchSize();
+
+        List<LoadBatch> batches = new ArrayList<>();
+        for (LoadGroup loadGroup : loadGroups) {
+            List<Object> idList = loadGroup.entityProperties.stream()
+                    .map(eap -> EntityValues.getValue(eap.entity, eap.crossProp.relatedPropertyName))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+            for (List<Object> batchIds : Lists.partition(idList, batchSize)) {
+                batches.add(new LoadBatch(loadGroup, createLoadContext(loadGroup.crossProp, batchIds)));
+            }
+        }
+        if (batches.isEmpty())
             return;
 
-        MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
-
-        if (crossDataStoreProperty.needsFakeInstance()) {
-            for (Object entity : entities) {
-                Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                if (id != null) {
-                    Object fakeInstance = metadata.create(cdsrMetaClass, id);
-                    entityStates.makePatch(fakeInstance);
-
-                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+        if (batches.size() > 1 && isParallelLoadingAllowed()) {
+            List<CompletableFuture<? extends List<?>>> futures = new ArrayList<>(batches.size());
+            for (LoadBatch batch : batches) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                futures.add(dataManager.loadListAsync(batch.loadContext)
+                        .whenComplete((result, throwable) -> sample.stop(loadTimer(batch))));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
+                throw e;
+            }
+            for (int i = 0; i < batches.size(); i++) {
+                batches.get(i).loadGroup.addLoaded(futures.get(i).join());
             }
         } else {
-            LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
-
-            if (metadataTools.isJpa(crossDataStoreProperty.property)) {
-                // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
-                // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
-                MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
-                if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
-                    String queryString = String.format(
-                            "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
-                    loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
-                } else {
-                    // composite key entity
-                    StringBuilder sb = new StringBuilder("select e from ");
-                    sb.append(cdsrMetaClass).append(" e where ");
-
-                    MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
-                    for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
-                        MetaProperty property = it.next();
-                        sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
-                        sb.append(" in :list_").append(property.getName());
-                        if (it.hasNext())
-                            sb.append(" and ");
-                    }
-                    LoadContext.Query query = new LoadContext.Query(sb.toString());
-                    for (MetaProperty property : idMetaClass.getProperties()) {
-                        List<Object> propList = idList.stream()
-                                .map(o -> EntityValues.getValue(o, property.getName()))
-                                .collect(Collectors.toList());
-                        query.setParameter("list_" + property.getName(), propList);
-                    }
-                    loadContext.setQuery(query);
+            for (LoadBatch batch : batches) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                List<?> loadedEntities = dataManager.loadList(batch.loadContext);
+                sample.stop(loadTimer(batch));
+                batch.loadGroup.addLoaded(loadedEntities);
+            }
+        }
+
+        for (LoadGroup loadGroup : loadGroups) {
+            for (EntityCrossDataStoreProperty eap : loadGroup.entityProperties) {
+                Object relatedPropertyValue = EntityValues.getValue(eap.entity, eap.crossProp.relatedPropertyName);
+                if (relatedPropertyValue == null)
+                    continue;
+                Object loadedEntity = loadGroup.loadedEntities.get(relatedPropertyValue);
+                if (loadedEntity != null) {
+                    EntityValues.setValue(eap.entity, eap.crossProp.property.getName(), loadedEntity);
                 }
+            }
+        }
+    }
+
+    /**
+     * Parallel loads are executed in separate transactions, so they are used only if the references should not be
+     * loaded in the current transaction, and the current thread is not executing an asynchronous load itself.
+     */
+    private boolean isParallelLoadingAllowed() {
+        return properties.isCrossDataStoreReferenceParallelLoadingEnabled()
+                && !asyncLoadExecutor.isExecutingTask()
+                && (!joinTransaction || !TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    private Timer loadTimer(LoadBatch batch) {
+        return meterRegistry.timer(LOAD_TIMER_NAME, "entity", batch.loadContext.getEntityMetaClass().getName());
+    }
+
+    private LoadContext<?> createLoadContext(CrossDataStoreProperty crossDataStoreProperty, List<Object> idList) {
+        MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
+        LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
+
+        if (metadataTools.isJpa(crossDataStoreProperty.property)) {
+            // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
+            // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
+            if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
+                String queryString = String.format(
+                        "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
+                loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
             } else {
-                // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
-                loadContext.setIds(idList);
+                // composite key entity
+                StringBuilder sb = new StringBuilder("select e from ");
+                sb.append(cdsrMetaClass).append(" e where ");
+
+                MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
+                for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
+                    MetaProperty property = it.next();
+                    sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
+                    sb.append(" in :list_").append(property.getName());
+                    if (it.hasNext())
+                        sb.append(" and ");
+                }
+                LoadContext.Query query = new LoadContext.Query(sb.toString());
+                for (MetaProperty property : idMetaClass.getProperties()) {
+                    List<Object> propList = idList.stream()
+                            .map(o -> EntityValues.getValue(o, property.getName()))
+                            .collect(Collectors.toList());
+                    query.setParameter("list_" + property.getName(), propList);
+                }
+                loadContext.setQuery(query);
             }
+        } else {
+            // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
+            loadContext.setIds(idList);
+        }
 
-            assert crossDataStoreProperty.fetchPlanProperty != null;
-            loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
+        assert crossDataStoreProperty.fetchPlanProperty != null;
+        loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
+        loadContext.setJoinTransaction(joinTransaction);
+        return loadContext;
+    }
+
+    private static class LoadGroup {
 
-            List<?> loadedEntities = dataManager.loadList(loadContext);
+        private final CrossDataStoreProperty crossProp;
+        private final List<EntityCrossDataStoreProperty> entityProperties = new ArrayList<>();
+        private final Map<Object, Object> loadedEntities = new HashMap<>();
 
+        private LoadGroup(CrossDataStoreProperty crossProp) {
+            this.crossProp = crossProp;
+        }
+
+        private void addLoaded(List<?> entities) {
             for (Object entity : entities) {
-                Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                loadedEntities.stream()
-                        .filter(e -> {
-                            Object id = EntityValues.getId(e);
-                            assert id != null;
-                            return id.equals(relatedPropertyValue);
-                        })
-                        .findAny()
-                        .ifPresent(e -> EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), e)
-                        );
+                Object id = EntityValues.getId(entity);
+                assert id != null;
+                loadedEntities.put(id, entity);
             }
         }
     }
 
+    private static class LoadBatch {
+
+        private final LoadGroup loadGroup;
+        private final LoadContext<?> loadContext;
+
+        private LoadBatch(LoadGroup loadGroup, LoadContext<?> loadContext) {
+            this.loadGroup = loadGroup;
+            this.loadContext = loadContext;
+        }
+    }
+
     private static class EntityCrossDataStoreProperty {
 
         private final Object entity;
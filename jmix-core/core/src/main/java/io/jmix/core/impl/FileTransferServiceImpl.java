@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -38,8 +39,11 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -57,11 +61,22 @@ public class FileTransferServiceImpl implements FileTransferService {
                                          String fileStorageName,
                                          Boolean attachment,
                                          HttpServletResponse response) throws FileTransferException {
+        downloadAndWriteResponse(fileReference, fileStorageName, attachment, null, response);
+    }
+
+    @Override
+    public void downloadAndWriteResponse(FileRef fileReference,
+                                         String fileStorageName,
+                                         Boolean attachment,
+                                         @Nullable HttpServletRequest request,
+                                         HttpServletResponse response) throws FileTransferException {
         FileStorage fileStorage = getFileStorageByNameOrDefault(fileStorageName);
 
-        if (!fileStorage.fileExists(fileReference)) {
-            throw new FileTransferException("File not found", "File not found. File reference: " +
-                    fileReference, HttpStatus.NOT_FOUND);
+        RangedFileStorage.FileMetadata metadata = null;
+        if (fileStorage instanceof RangedFileStorage rangedFileStorage) {
+            metadata = getFileMetadata(rangedFileStorage, fileReference);
+        } else if (!fileStorage.fileExists(fileReference)) {
+            throw fileNotFound(fileReference);
         }
 
         try {
@@ -77,17 +92,140 @@ public class FileTransferServiceImpl implements FileTransferService {
             }
             response.setHeader("Content-Disposition", contentDisposition);
 
-            ServletOutputStream os = response.getOutputStream();
-            InputStream is = fileStorage.openStream(fileReference);
-            IOUtils.copy(is, os);
-            os.flush();
-
+            if (metadata != null) {
+                writeRangedResponse((RangedFileStorage) fileStorage, fileReference, metadata, request, response);
+            } else {
+                ServletOutputStream os = response.getOutputStream();
+                try (InputStream is = fileStorage.openStream(fileReference)) {
+                    IOUtils.copy(is, os);
+                }
+                os.flush();
+            }
         } catch (Exception e) {
             log.error("Error on downloading the file {}", fileReference, e);
             throw new FileTransferException("Error on downloading the file", "", HttpStatus.INTERNAL_SERVER_ERROR, e);
         }
     }
 
+    private RangedFileStorage.FileMetadata getFileMetadata(RangedFileStorage fileStorage, FileRef fileReference) {
+        try {
+            return fileStorage.getFileMetadata(fileReference);
+        } catch (FileStorageException e) {
+            if (e.getType() == FileStorageException.Type.FILE_NOT_FOUND) {
+                throw fileNotFound(fileReference);
+            }
+            log.error("Error on downloading the file {}", fileReference, e);
+            throw new FileTransferException("Error on downloading the file", "", HttpStatus.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private FileTransferException fileNotFound(FileRef fileReference) {
+        return new FileTransferException("File not found", "File not found. File reference: " +
+                fileReference, HttpStatus.NOT_FOUND);
+    }
+
+    private void writeRangedResponse(RangedFileStorage fileStorage,
+                                     FileRef fileReference,
+                                     RangedFileStorage.FileMetadata metadata,
+                                     @Nullable HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        long size = metadata.size();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (metadata.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, metadata.eTag());
+        }
+        if (metadata.lastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, metadata.lastModified().toEpochMilli());
+        }
+
+        if (request != null && isNotModified(request, metadata)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long offset = 0;
+        long length = size;
+        String rangeHeader = request != null ? request.getHeader(HttpHeaders.RANGE) : null;
+        if (rangeHeader != null && isIfRangeSatisfied(request, metadata)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring invalid Range header '{}': {}", rangeHeader, e.getMessage());
+                ranges = Collections.emptyList();
+            }
+            // multiple ranges are not supported, the whole file is sent instead as allowed by RFC 9110
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    offset = range.getRangeStart(size);
+                    length = range.getRangeEnd(size) - offset + 1;
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + offset + "-" + (offset + length - 1) + "/" + size);
+            }
+        }
+
+        response.setContentLengthLong(length);
+        ServletOutputStream os = response.getOutputStream();
+        if (length > 0) {
+            fileStorage.writeRange(fileReference, offset, length, os);
+        }
+        os.flush();
+    }
+
+    private boolean isNotModified(HttpServletRequest request, RangedFileStorage.FileMetadata metadata) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (metadata.eTag() == null) {
+                return false;
+            }
+            String eTag = stripWeakPrefix(metadata.eTag());
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || stripWeakPrefix(tag).equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && metadata.lastModified() != null
+                && metadata.lastModified().getEpochSecond() <= ifModifiedSince / 1000;
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, RangedFileStorage.FileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires the strong comparison
+            return metadata.eTag() != null && !metadata.eTag().startsWith("W/") && ifRange.equals(metadata.eTag());
+        }
+        long date = getDateHeader(request, HttpHeaders.IF_RANGE);
+        return date != -1 && metadata.lastModified() != null
+                && metadata.lastModified().getEpochSecond() == date / 1000;
+    }
+
+    private String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
     private String getContentDispositionFilename(String filename) {
         String encodedFilename = rfc5987Encode(filename);
 
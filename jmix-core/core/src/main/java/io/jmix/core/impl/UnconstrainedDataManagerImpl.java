@@ -37,7 +37,9 @@ import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Primary
 @Component("core_UnconstrainedDataManager")
@@ -73,6 +75,9 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
     @Autowired
     protected ObjectProvider<FluentValuesLoader> fluentValuesLoaderProvider;
 
+    @Autowired
+    protected ObjectProvider<FluentBulkOperation> fluentBulkOperationProvider;
+
     @Autowired
     protected ObjectProvider<CrossDataStoreReferenceLoader> crossDataStoreReferenceLoaderProvider;
 
@@ -85,6 +90,12 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
     @Autowired
     protected TransactionManagerLocator transactionManagerLocator;
 
+    @Autowired
+    protected AsyncLoadExecutor asyncLoadExecutor;
+
+    @Autowired
+    protected KeysetPagination keysetPagination;
+
     @Nullable
     @Override
     public <E> E load(LoadContext<E> context) {
@@ -92,9 +103,10 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
 
         context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        LoadContext<E> storeContext = keysetPagination.apply(context);
 
         @SuppressWarnings("unchecked")
-        E entity = (E) storage.load(context);
+        E entity = (E) storage.load(storeContext);
 
         if (entity != null)
             readCrossDataStoreReferences(Collections.singletonList(entity), context.getFetchPlan(), metaClass, context.isJoinTransaction());
@@ -107,14 +119,48 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
 
         context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        LoadContext<E> storeContext = keysetPagination.apply(context);
 
         @SuppressWarnings("unchecked")
-        List<E> entities = (List<E>) storage.loadList(context);
+        List<E> entities = (List<E>) storage.loadList(storeContext);
 
         readCrossDataStoreReferences(entities, context.getFetchPlan(), metaClass, context.isJoinTransaction());
         return entities;
     }
 
+    @Override
+    public <E> Stream<E> loadStream(LoadContext<E> context) {
+        return loadStream(context, properties.getLoadStreamChunkSize());
+    }
+
+    @Override
+    public <E> Stream<E> loadStream(LoadContext<E> context, int chunkSize) {
+        MetaClass metaClass = getEffectiveMetaClassFromContext(context);
+        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        LoadContext<E> storeContext = keysetPagination.apply(context);
+
+        return storage.loadChunks(storeContext, chunkSize)
+                .flatMap(chunk -> {
+                    @SuppressWarnings("unchecked")
+                    List<E> entities = (List<E>) chunk;
+
+                    readCrossDataStoreReferences(entities, context.getFetchPlan(), metaClass, context.isJoinTransaction());
+                    return entities.stream();
+                });
+    }
+
+    @Override
+    public <E> CompletableFuture<E> loadAsync(LoadContext<E> context) {
+        return asyncLoadExecutor.submit(() -> load(context));
+    }
+
+    @Override
+    public <E> CompletableFuture<List<E>> loadListAsync(LoadContext<E> context) {
+        return asyncLoadExecutor.submit(() -> loadList(context));
+    }
+
     @Override
     public long getCount(LoadContext<?> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
@@ -160,6 +206,30 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         remove(getReference(entityId));
     }
 
+    @Override
+    public int bulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+        return storage.bulkOperation(context);
+    }
+
+    @Override
+    public <E> FluentBulkOperation<E> bulkUpdate(Class<E> entityClass) {
+        //noinspection unchecked
+        FluentBulkOperation<E> operation = fluentBulkOperationProvider.getObject(entityClass, BulkOperationContext.Type.UPDATE);
+        operation.setDataManager(this);
+        return operation;
+    }
+
+    @Override
+    public <E> FluentBulkOperation<E> bulkRemove(Class<E> entityClass) {
+        //noinspection unchecked
+        FluentBulkOperation<E> operation = fluentBulkOperationProvider.getObject(entityClass, BulkOperationContext.Type.REMOVE);
+        operation.setDataManager(this);
+        return operation;
+    }
+
     @Override
     public EntitySet save(SaveContext context) {
         context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
@@ -237,6 +307,7 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         if (!toRepeat.isEmpty()) {
             SaveContext sc = new SaveContext();
             sc.setJoinTransaction(context.isJoinTransaction());
+            sc.setBulkMode(context.isBulkMode());
             for (Object entity : result) {
                 if (toRepeat.contains(entity)) {
                     sc.saving(entity, context.getFetchPlans().get(entity));
@@ -319,6 +390,7 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         SaveContext newCtx = new SaveContext();
         newCtx.setHints(context.getHints());
         newCtx.setDiscardSaved(context.isDiscardSaved());
+        newCtx.setBulkMode(context.isBulkMode());
         newCtx.setAccessConstraints(context.getAccessConstraints());
         newCtx.setJoinTransaction(context.isJoinTransaction());
         return newCtx;
@@ -17,11 +17,15 @@
 
 package io.jmix.core.impl.serialization;
 
+import com.google.common.base.Equivalence;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.ExportImportEntityContext;
 import io.jmix.core.annotation.Secret;
@@ -40,12 +44,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Component("core_EntitySerialization")
 public class EntitySerializationImpl implements EntitySerialization {
@@ -79,15 +87,92 @@ public class EntitySerializationImpl implements EntitySerialization {
     protected ThreadLocal<EntitySerializationContext> context =
             ThreadLocal.withInitial(EntitySerializationContext::new);
 
+    /**
+     * Gson instances are immutable and thread-safe, so they are built once for each combination of a fetch plan
+     * (or a result meta-class) and serialization options.
+     * <p>
+     * Fetch plans are compared by identity: comparing them by value requires traversing the whole plan graph, and
+     * all unnamed plans of an entity have the same hash code. The cached Gson instances reference their fetch plans,
+     * so the cache is bounded only by its maximum size: each new ad-hoc plan adds an entry until it is evicted.
+     */
+    protected Cache<Equivalence.Wrapper<FetchPlan>, Map<Set<EntitySerializationOption>, Gson>> serializationGsonCache =
+            CacheBuilder.newBuilder()
+                    .maximumSize(1000)
+                    .build();
+
+    protected Map<Set<EntitySerializationOption>, Gson> noFetchPlanSerializationGsons = new ConcurrentHashMap<>();
+
+    protected Cache<List<Object>, Gson> deserializationGsonCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+
+    protected Map<MetaClass, SerializationPlan> serializationPlans = new ConcurrentHashMap<>();
+
+    protected Map<Class<?>, List<Field>> clearableFields = new ConcurrentHashMap<>();
+
     /**
      * Class is used for storing a collection of entities already processed during the serialization.
      */
     protected static class EntitySerializationContext {
         protected Table<Object, MetaClass, Object> processedEntities = HashBasedTable.create();
 
+        protected Map<MetaClass, ExportImportEntityContext> exportImportContexts = new HashMap<>();
+
         protected Table<Object, MetaClass, Object> getProcessedEntities() {
             return processedEntities;
         }
+
+        protected Map<MetaClass, ExportImportEntityContext> getExportImportContexts() {
+            return exportImportContexts;
+        }
+    }
+
+    /**
+     * Metadata of an entity class required by the serializer. It is resolved once for each {@link MetaClass}
+     * instead of once for each serialized instance.
+     */
+    protected static class SerializationPlan {
+        protected final List<PropertyPlan> properties;
+        @Nullable
+        protected final MetaProperty primaryKeyProperty;
+        protected final boolean compositePrimaryKey;
+        @Nullable
+        protected final Datatype idDatatype;
+
+        public SerializationPlan(List<PropertyPlan> properties,
+                                 @Nullable MetaProperty primaryKeyProperty,
+                                 boolean compositePrimaryKey,
+                                 @Nullable Datatype idDatatype) {
+            this.properties = properties;
+            this.primaryKeyProperty = primaryKeyProperty;
+            this.compositePrimaryKey = compositePrimaryKey;
+            this.idDatatype = idDatatype;
+        }
+    }
+
+    /**
+     * Precomputed characteristics of a property written by the serializer.
+     */
+    protected static class PropertyPlan {
+        protected final MetaProperty metaProperty;
+        protected final String name;
+        protected final boolean primaryKey;
+        protected final boolean secret;
+        protected final boolean jpa;
+        protected final boolean additional;
+        @Nullable
+        protected final EntityAttributeSerializationExtension extension;
+
+        public PropertyPlan(MetaProperty metaProperty, boolean primaryKey, boolean secret, boolean jpa,
+                            boolean additional, @Nullable EntityAttributeSerializationExtension extension) {
+            this.metaProperty = metaProperty;
+            this.name = metaProperty.getName();
+            this.primaryKey = primaryKey;
+            this.secret = secret;
+            this.jpa = jpa;
+            this.additional = additional;
+            this.extension = extension;
+        }
     }
 
     @Override
@@ -100,7 +185,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                          @Nullable FetchPlan fetchPlan,
                          EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(fetchPlan, options).toJson(entity);
+        return getGsonForSerialization(fetchPlan, options).toJson(entity);
     }
 
     @Override
@@ -113,13 +198,62 @@ public class EntitySerializationImpl implements EntitySerialization {
                          @Nullable FetchPlan fetchPlan,
                          EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(fetchPlan, options).toJson(entities);
+        return getGsonForSerialization(fetchPlan, options).toJson(entities);
+    }
+
+    @Override
+    public void toJson(Collection<?> entities,
+                       @Nullable FetchPlan fetchPlan,
+                       Writer writer,
+                       EntitySerializationOption... options) throws IOException {
+        context.remove();
+        try {
+            getGsonForSerialization(fetchPlan, options).toJson(entities, writer);
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        } finally {
+            context.remove();
+        }
+    }
+
+    @Override
+    public void toJson(Stream<?> entities,
+                       @Nullable FetchPlan fetchPlan,
+                       Writer writer,
+                       EntitySerializationOption... options) throws IOException {
+        context.remove();
+        Gson gson = getGsonForSerialization(fetchPlan, options);
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.beginArray();
+            Iterator<?> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                Object entity = iterator.next();
+                if (entity == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    gson.toJson(entity, entity.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        } finally {
+            context.remove();
+        }
     }
 
     @Override
     public String objectToJson(Object object, EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(null, options).toJson(object);
+        return getGsonForSerialization(null, options).toJson(object);
     }
 
     @SuppressWarnings("unchecked")
@@ -128,7 +262,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                                 @Nullable MetaClass metaClass,
                                 EntitySerializationOption... options) {
         context.remove();
-        return (T) createGsonForDeserialization(metaClass, options).fromJson(json, Entity.class);
+        return (T) getGsonForDeserialization(metaClass, options).fromJson(json, Entity.class);
     }
 
     @Override
@@ -138,13 +272,82 @@ public class EntitySerializationImpl implements EntitySerialization {
         context.remove();
         Type collectionType = new TypeToken<Collection<Entity>>() {
         }.getType();
-        return createGsonForDeserialization(metaClass, options).fromJson(json, collectionType);
+        return getGsonForDeserialization(metaClass, options).fromJson(json, collectionType);
     }
 
     @Override
     public <T> T objectFromJson(String json, Type type, EntitySerializationOption... options) {
         context.remove();
-        return createGsonForDeserialization(null, options).fromJson(json, type);
+        return getGsonForDeserialization(null, options).fromJson(json, type);
+    }
+
+    protected Gson getGsonForSerialization(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
+        Map<Set<EntitySerializationOption>, Gson> gsons = fetchPlan == null
+                ? noFetchPlanSerializationGsons
+                : serializationGsonCache.asMap().computeIfAbsent(Equivalence.identity().wrap(fetchPlan),
+                        k -> new ConcurrentHashMap<>());
+        return gsons.computeIfAbsent(toOptionSet(options), k -> createGsonForSerialization(fetchPlan, options));
+    }
+
+    protected Gson getGsonForDeserialization(@Nullable MetaClass metaClass, EntitySerializationOption... options) {
+        List<Object> key = Arrays.asList(metaClass, toOptionSet(options));
+        return deserializationGsonCache.asMap().computeIfAbsent(key, k -> createGsonForDeserialization(metaClass, options));
+    }
+
+    protected Set<EntitySerializationOption> toOptionSet(EntitySerializationOption... options) {
+        Set<EntitySerializationOption> optionSet = EnumSet.noneOf(EntitySerializationOption.class);
+        Collections.addAll(optionSet, options);
+        return optionSet;
+    }
+
+    protected SerializationPlan getSerializationPlan(MetaClass metaClass) {
+        return serializationPlans.computeIfAbsent(metaClass, this::createSerializationPlan);
+    }
+
+    protected SerializationPlan createSerializationPlan(MetaClass metaClass) {
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        List<PropertyPlan> properties = new ArrayList<>();
+        for (MetaProperty metaProperty : metaClass.getProperties()) {
+            properties.add(createPropertyPlan(metaProperty, primaryKeyName, false));
+        }
+
+        MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+        boolean compositePrimaryKey = primaryKeyProperty != null && metadataTools.hasCompositePrimaryKey(metaClass);
+        Datatype idDatatype = primaryKeyProperty != null && !compositePrimaryKey
+                ? datatypeRegistry.find(primaryKeyProperty.getJavaType())
+                : null;
+        return new SerializationPlan(Collections.unmodifiableList(properties),
+                primaryKeyProperty, compositePrimaryKey, idDatatype);
+    }
+
+    protected PropertyPlan createPropertyPlan(MetaProperty metaProperty, @Nullable String primaryKeyName, boolean additional) {
+        return new PropertyPlan(
+                metaProperty,
+                Objects.equals(primaryKeyName, metaProperty.getName()),
+                metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class),
+                metadataTools.isJpa(metaProperty),
+                additional,
+                extensionResolver.findExtension(metaProperty));
+    }
+
+    protected List<Field> getClearableFields(Class<?> entityClass) {
+        return clearableFields.computeIfAbsent(entityClass, clazz -> {
+            MetaClass metaClass = metadata.getClass(clazz);
+            String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+            String uuidPropertyName = metadataTools.getUuidPropertyName(clazz);
+            List<Field> fields = new ArrayList<>();
+            for (MetaProperty metaProperty : metaClass.getProperties()) {
+                if (metaProperty.getName().equals(primaryKeyName) || metaProperty.getName().equals(uuidPropertyName))
+                    continue;
+
+                Field field = getField(clazz, metaProperty.getName());
+                if (field != null) {
+                    makeFieldAccessible(field);
+                    fields.add(field);
+                }
+            }
+            return Collections.unmodifiableList(fields);
+        });
     }
 
     protected Gson createGsonForSerialization(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
@@ -220,7 +423,7 @@ public class EntitySerializationImpl implements EntitySerialization {
         protected JsonObject serializeEntity(Entity entity, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
             JsonObject jsonObject = new JsonObject();
             MetaClass metaClass = metadata.getClass(entity);
-            if (metadataTools.getPrimaryKeyName(metaClass) != null) {
+            if (getSerializationPlan(metaClass).primaryKeyProperty != null) {
                 if (!ignoreEntityName) {
                     jsonObject.addProperty(ENTITY_NAME_PROP, metaClass.getName());
                 }
@@ -262,14 +465,17 @@ public class EntitySerializationImpl implements EntitySerialization {
 
         protected void writeIdField(Entity entity, JsonObject jsonObject) {
             MetaClass metaClass = metadata.getClass(entity);
-            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+            SerializationPlan plan = getSerializationPlan(metaClass);
+            MetaProperty primaryKeyProperty = plan.primaryKeyProperty;
             if (primaryKeyProperty == null)
                 throw new EntitySerializationException("Primary key property not found for entity " + metaClass);
-            if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            if (plan.compositePrimaryKey) {
                 JsonObject serializedIdEntity = serializeEntity((Entity) EntityValues.getId(entity), null, Collections.emptySet());
                 jsonObject.add("id", serializedIdEntity);
             } else {
-                Datatype idDatatype = datatypeRegistry.get(primaryKeyProperty.getJavaType());
+                Datatype idDatatype = plan.idDatatype != null
+                        ? plan.idDatatype
+                        : datatypeRegistry.get(primaryKeyProperty.getJavaType());
                 jsonObject.addProperty("id", idDatatype.format(EntityValues.getId(entity)));
             }
         }
@@ -294,37 +500,69 @@ public class EntitySerializationImpl implements EntitySerialization {
             return true;
         }
 
+        protected boolean propertyWritingAllowed(PropertyPlan propertyPlan, Entity entity, ExportImportEntityContext exportImportContext) {
+            if (!serializeSecretFields && propertyPlan.secret) {
+                return false;
+            }
+            if (!propertyPlan.primaryKey) {
+                String propertyName = propertyPlan.name;
+                if (propertyPlan.jpa) {
+                    return entityStates.isLoaded(entity, propertyName) && exportImportContext.canExported(propertyName);
+                } else {
+                    return (!propertyPlan.metaProperty.isReadOnly() || !doNotSerializeReadOnlyProperties)
+                            && exportImportContext.canExported(propertyName);
+                }
+            }
+            return true;
+        }
+
+        protected ExportImportEntityContext getExportImportContext(MetaClass metaClass) {
+            // constraints depend on the current user, so they are evaluated once per serialization call only
+            return context.get().getExportImportContexts().computeIfAbsent(metaClass, mc -> {
+                ExportImportEntityContext exportImportEntityContext = new ExportImportEntityContext(mc);
+                if (doNotSerializeDeniedProperties) {
+                    accessManager.applyRegisteredConstraints(exportImportEntityContext);
+                }
+                return exportImportEntityContext;
+            });
+        }
+
         protected void writeFields(Entity entity, JsonObject jsonObject, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
             MetaClass metaClass = metadata.getClass(entity);
-            Collection<MetaProperty> properties = new ArrayList<>(metaClass.getProperties());
-
+            SerializationPlan plan = getSerializationPlan(metaClass);
+            List<PropertyPlan> properties = plan.properties;
+            // additional properties (e.g. dynamic attributes) can change at runtime, so they are not cached
             Set<MetaProperty> additionalProperties = metadataTools.getAdditionalProperties(metaClass);
-            properties.addAll(additionalProperties);
-            ExportImportEntityContext exportImportEntityContext = new ExportImportEntityContext(metaClass);
-            if (doNotSerializeDeniedProperties) {
-                accessManager.applyRegisteredConstraints(exportImportEntityContext);
+            if (!additionalProperties.isEmpty()) {
+                String primaryKeyName = plan.primaryKeyProperty != null ? plan.primaryKeyProperty.getName() : null;
+                properties = new ArrayList<>(properties);
+                for (MetaProperty additionalProperty : additionalProperties) {
+                    properties.add(createPropertyPlan(additionalProperty, primaryKeyName, true));
+                }
             }
+            ExportImportEntityContext exportImportEntityContext = getExportImportContext(metaClass);
+            boolean isNew = entityStates.isNew(entity);
 
-            for (MetaProperty metaProperty : properties) {
-                if (!propertyWritingAllowed(metaProperty, entity, exportImportEntityContext)) {
+            for (PropertyPlan propertyPlan : properties) {
+                MetaProperty metaProperty = propertyPlan.metaProperty;
+                if (!propertyWritingAllowed(propertyPlan, entity, exportImportEntityContext)) {
                     continue;
                 }
                 FetchPlanProperty fetchPlanProperty = null;
-                if (!additionalProperties.contains(metaProperty)) {
+                if (!propertyPlan.additional) {
                     if (fetchPlan != null) {
-                        fetchPlanProperty = fetchPlan.getProperty(metaProperty.getName());
+                        fetchPlanProperty = fetchPlan.getProperty(propertyPlan.name);
                         if (fetchPlanProperty == null) continue;
                     }
 
-                    if (!entityStates.isNew(entity)
-                            && !entityStates.isLoaded(entity, metaProperty.getName())) {
+                    if (!isNew && !entityStates.isLoaded(entity, propertyPlan.name)) {
                         continue;
                     }
                 }
 
                 Object fieldValue;
                 try {
-                    fieldValue = EntityValues.getValue(entity, metaProperty.getName());
+                    fieldValue = EntityValues.getValue(entity, propertyPlan.name);
                 } catch (EntityValueAccessException e) {
                     continue;
                 }
@@ -336,7 +574,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                     continue;
                 }
 
-                EntityAttributeSerializationExtension extension = extensionResolver.findExtension(metaProperty);
+                EntityAttributeSerializationExtension extension = propertyPlan.extension;
                 if (extension != null) {
                     jsonObject.add(metaProperty.getName(), extension.toJson(metaProperty, fieldValue));
                     continue;
@@ -681,20 +919,11 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
 
         protected void clearFields(Object entity) {
-            MetaClass metaClass = metadata.getClass(entity);
-            for (MetaProperty metaProperty : metaClass.getProperties()) {
-                if (metaProperty.getName().equals(metadataTools.getPrimaryKeyName(metaClass)) ||
-                        metaProperty.getName().equals(metadataTools.getUuidPropertyName(entity.getClass())))
-                    continue;
-
-                Field field = getField(entity.getClass(), metaProperty.getName());
-                if (field != null) {
-                    makeFieldAccessible(field);
-                    try {
-                        field.set(entity, null);
-                    } catch (IllegalAccessException e) {
-                        throw new EntitySerializationException("Can't get access to field " + field.getName() + " of class " + entity.getClass().getName(), e);
-                    }
+            for (Field field : getClearableFields(entity.getClass())) {
+                try {
+                    field.set(entity, null);
+                } catch (IllegalAccessException e) {
+                    throw new EntitySerializationException("Can't get access to field " + field.getName() + " of class " + entity.getClass().getName(), e);
                 }
             }
         }
@@ -21,6 +21,7 @@ import com.google.gson.reflect.TypeToken
 import io.jmix.core.CoreConfiguration
 import io.jmix.core.EntitySerialization
 import io.jmix.core.EntitySerializationOption
+import io.jmix.core.FetchPlans
 import io.jmix.core.Metadata
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.ContextConfiguration
@@ -28,6 +29,8 @@ import spock.lang.Specification
 import test_support.base.TestBaseConfiguration
 import test_support.base.entity.TestSecretFieldEntity
 
+import java.util.stream.Stream
+
 @ContextConfiguration(classes = [CoreConfiguration, TestBaseConfiguration])
 class EntitySerializationTest extends Specification {
 
@@ -37,6 +40,9 @@ class EntitySerializationTest extends Specification {
     @Autowired
     Metadata metadata
 
+    @Autowired
+    FetchPlans fetchPlans
+
     def "should not serialize @Secret fields by default"() {
 
         TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
@@ -69,4 +75,77 @@ class EntitySerializationTest extends Specification {
         jsonFields['regularField'] == 'regular'
         jsonFields['secretField'] == 'secret'
     }
+
+    def "should not share options between serializations"() {
+
+        TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+        entity.regularField = 'regular'
+        entity.secretField = 'secret'
+
+        when:
+
+        def withSecret = entitySerialization.toJson(entity, null, EntitySerializationOption.SERIALIZE_SECRET_FIELDS)
+        def withoutSecret = entitySerialization.toJson(entity)
+
+        then:
+        withSecret.contains('secretField')
+        !withoutSecret.contains('secretField')
+    }
+
+    def "should write collection to writer"() {
+
+        def entities = (1..3).collect { i ->
+            TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+            entity.regularField = "regular$i"
+            entity
+        }
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(entities, null, writer)
+
+        then:
+        writer.toString() == entitySerialization.toJson(entities)
+        List<Map<String, Object>> jsonEntities = new Gson().fromJson(writer.toString(), new TypeToken<List<Map<String, Object>>>() {}.getType())
+        jsonEntities*.get('regularField') == ['regular1', 'regular2', 'regular3']
+    }
+
+    def "should write stream to writer"() {
+
+        def entities = (1..3).collect { i ->
+            TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+            entity.regularField = "regular$i"
+            entity
+        }
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(entities.stream(), null, writer, EntitySerializationOption.SERIALIZE_NULLS)
+        def emptyWriter = new StringWriter()
+        entitySerialization.toJson(Stream.empty(), null, emptyWriter)
+
+        then:
+        writer.toString() == entitySerialization.toJson(entities, null, EntitySerializationOption.SERIALIZE_NULLS)
+        emptyWriter.toString() == '[]'
+    }
+
+    def "should not share serializers between different unnamed fetch plans"() {
+
+        TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+        entity.regularField = 'regular'
+
+        def emptyPlan = fetchPlans.builder(TestSecretFieldEntity).build()
+        def regularFieldPlan = fetchPlans.builder(TestSecretFieldEntity).add('regularField').build()
+
+        when:
+
+        def withoutRegularField = entitySerialization.toJson(entity, emptyPlan)
+        def withRegularField = entitySerialization.toJson(entity, regularFieldPlan)
+
+        then:
+        !withoutRegularField.contains('regularField')
+        withRegularField.contains('regularField')
+    }
 }
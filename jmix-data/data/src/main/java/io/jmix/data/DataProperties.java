@@ -33,17 +33,32 @@ public class DataProperties {
     String uniqueConstraintViolationPattern;
     boolean useUserLocaleForRelativeDateTimeMoments;
 
+    /**
+     * Percentage of the number id cache size. When the number of remaining ids in the cached block drops to this
+     * value, the next block is requested from the sequence in background. Zero disables prefetching.
+     */
+    int numberIdCachePrefetchPercent;
+
+    /**
+     * Maximum number of parsed and transformed JPQL queries kept in memory. Zero disables caching.
+     */
+    int jpqlQueryCacheSize;
+
     public DataProperties(
             @DefaultValue("true") boolean useReadOnlyTransactionForLoad,
             @DefaultValue("100") int numberIdCacheSize,
             boolean useEntityDataStoreForIdSequence,
             @Nullable String uniqueConstraintViolationPattern,
-            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments) {
+            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments,
+            @DefaultValue("20") int numberIdCachePrefetchPercent,
+            @DefaultValue("1000") int jpqlQueryCacheSize) {
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
         this.numberIdCacheSize = numberIdCacheSize;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
         this.uniqueConstraintViolationPattern = uniqueConstraintViolationPattern;
         this.useUserLocaleForRelativeDateTimeMoments = useUserLocaleForRelativeDateTimeMoments;
+        this.numberIdCachePrefetchPercent = numberIdCachePrefetchPercent;
+        this.jpqlQueryCacheSize = jpqlQueryCacheSize;
     }
 
     public boolean isUseReadOnlyTransactionForLoad() {
@@ -69,4 +84,18 @@ public class DataProperties {
     public boolean isUseUserLocaleForRelativeDateTimeMoments() {
         return useUserLocaleForRelativeDateTimeMoments;
     }
+
+    /**
+     * @see #numberIdCachePrefetchPercent
+     */
+    public int getNumberIdCachePrefetchPercent() {
+        return numberIdCachePrefetchPercent;
+    }
+
+    /**
+     * @see #jpqlQueryCacheSize
+     */
+    public int getJpqlQueryCacheSize() {
+        return jpqlQueryCacheSize;
+    }
 }
@@ -31,6 +31,7 @@ import io.jmix.core.querycondition.PropertyCondition;
 import io.jmix.data.JmixQuery;
 import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
+import io.jmix.data.impl.jpql.JpqlQueryCache;
 import io.jmix.data.impl.jpql.generator.ConditionGenerationContext;
 import io.jmix.data.impl.jpql.generator.ConditionJpqlGenerator;
 import io.jmix.data.impl.jpql.generator.ParameterJpqlGenerator;
@@ -104,6 +105,9 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     @Autowired
     protected CoreProperties coreProperties;
 
+    @Autowired
+    protected JpqlQueryCache jpqlQueryCache;
+
     public JpqlQueryBuilder setId(@Nullable Object id) {
         this.id = id;
         return this;
@@ -331,17 +335,23 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
 
     protected void applyCount() {
         if (countQuery) {
-            QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
-            transformer.replaceWithCount();
-            resultQuery = transformer.getResult();
+            String query = resultQuery;
+            resultQuery = jpqlQueryCache.getTransformedQuery(() -> {
+                QueryTransformer transformer = queryTransformerFactory.transformer(query);
+                transformer.replaceWithCount();
+                return transformer.getResult();
+            }, "count", query);
         }
     }
 
     protected void applyDistinct() {
         if (distinct) {
-            QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
-            transformer.addDistinct();
-            resultQuery = transformer.getResult();
+            String query = resultQuery;
+            resultQuery = jpqlQueryCache.getTransformedQuery(() -> {
+                QueryTransformer transformer = queryTransformerFactory.transformer(query);
+                transformer.addDistinct();
+                return transformer.getResult();
+            }, "distinct", query);
         }
     }
 
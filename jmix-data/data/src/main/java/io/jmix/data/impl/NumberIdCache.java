@@ -17,6 +17,7 @@
 package io.jmix.data.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.annotation.Internal;
@@ -24,22 +25,37 @@ import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.data.DataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Intermediate cache for generated ids of entities with long/integer PK.
  * The cache size is determined by the {@code jmix.data.numberIdCacheSize} property.
+ * <p>
+ * Ids are allocated from blocks of sequence values without locking. When the number of remaining ids in the
+ * current block drops to {@code jmix.data.numberIdCachePrefetchPercent} percent of the cache size, the next block
+ * is requested from the sequence in background, so threads rarely have to wait for the database.
  */
 @Component("data_NumberIdCache")
 public class NumberIdCache {
 
+    private static final Logger log = LoggerFactory.getLogger(NumberIdCache.class);
+
     @Autowired
     protected Metadata metadata;
     @Autowired
@@ -48,46 +64,124 @@ public class NumberIdCache {
     protected DataProperties dataProperties;
     @Autowired
     private MetadataTools metadataTools;
+    @Autowired
+    protected MeterRegistry meterRegistry;
 
     protected ConcurrentMap<String, Generator> cache = new ConcurrentHashMap<>();
 
+    protected ExecutorService prefetchExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("jmix-number-id-prefetch-%d")
+                    .setDaemon(true)
+                    .build()
+    );
+
+    @PreDestroy
+    public void destroy() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Range of ids obtained by a single sequence call: ids from {@code start + 1} to {@code end} inclusive.
+     */
+    protected static class Block {
+        protected final long start;
+        protected final long end;
+        protected final long prefetchAt;
+        protected final AtomicLong counter;
+
+        public Block(long start, int size, int prefetchThreshold) {
+            this.start = start;
+            this.end = start + size;
+            this.prefetchAt = prefetchThreshold > 0 ? end - prefetchThreshold : Long.MIN_VALUE;
+            this.counter = new AtomicLong(start);
+        }
+    }
+
     protected class Generator {
-        protected long counter;
-        protected long sequenceValue;
         protected String entityName;
         protected String sequenceName;
         protected boolean cached;
 
+        protected volatile Block block;
+        // guarded by this
+        protected CompletableFuture<Block> nextBlock;
+
         public Generator(String entityName,
                          @Nullable String sequenceName,
                          boolean cached) {
             this.entityName = entityName;
             this.sequenceName = sequenceName;
             this.cached = cached;
-            if (useIdCache()) {
-                createCachedCounter();
-            }
         }
 
         protected boolean useIdCache() {
             return dataProperties.getNumberIdCacheSize() != 0 && cached;
         }
 
-        protected void createCachedCounter() {
-            sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
-            counter = sequenceValue;
+        protected Block fetchBlock() {
+            int size = dataProperties.getNumberIdCacheSize();
+            int prefetchThreshold = size * dataProperties.getNumberIdCachePrefetchPercent() / 100;
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            sample.stop(meterRegistry.timer("jmix.NumberIdCache.refill", "sequence", getCacheKey(entityName, sequenceName)));
+
+            return new Block(sequenceValue, size, prefetchThreshold);
         }
 
-        public synchronized long getNext() {
+        public long getNext() {
             if (!useIdCache()) {
                 return numberIdWorker.createLongId(entityName, sequenceName);
-            } else {
-                long next = ++counter;
-                if (next > sequenceValue + dataProperties.getNumberIdCacheSize()) {
-                    createCachedCounter();
-                    next = ++counter;
+            }
+            while (true) {
+                Block current = block;
+                if (current != null) {
+                    long next = current.counter.incrementAndGet();
+                    if (next <= current.end) {
+                        if (next == current.prefetchAt) {
+                            prefetch(current);
+                        }
+                        return next;
+                    }
                 }
-                return next;
+                switchBlock(current);
+            }
+        }
+
+        protected synchronized void prefetch(Block current) {
+            if (block != current || nextBlock != null) {
+                return;
+            }
+            nextBlock = CompletableFuture.supplyAsync(this::fetchBlock, prefetchExecutor);
+        }
+
+        protected synchronized void switchBlock(@Nullable Block exhausted) {
+            if (block != exhausted) {
+                // another thread has already switched the block
+                return;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Block newBlock = null;
+            if (nextBlock != null) {
+                try {
+                    newBlock = nextBlock.join();
+                } catch (RuntimeException e) {
+                    log.warn("Unable to prefetch ids for {}, fetching synchronously", getCacheKey(entityName, sequenceName), e);
+                }
+                nextBlock = null;
+            }
+            if (newBlock == null) {
+                newBlock = fetchBlock();
+            }
+            block = newBlock;
+            sample.stop(meterRegistry.timer("jmix.NumberIdCache.wait", "sequence", getCacheKey(entityName, sequenceName)));
+        }
+
+        protected synchronized void cancelPrefetch() {
+            if (nextBlock != null) {
+                nextBlock.cancel(false);
+                nextBlock = null;
             }
         }
     }
@@ -151,6 +245,7 @@ public class NumberIdCache {
      */
     @Internal
     public void reset() {
+        cache.values().forEach(Generator::cancelPrefetch);
         cache.clear();
     }
 
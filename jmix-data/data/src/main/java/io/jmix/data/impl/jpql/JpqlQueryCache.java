@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jmix.core.annotation.Internal;
+import io.jmix.data.DataProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of parsed JPQL query trees and results of JPQL transformations, which allows repeatedly executed
+ * queries to skip parsing.
+ * <p>
+ * Parsed trees are shared between {@link QueryParserAstBased} instances, so they must be used only for reading.
+ * Transformations are cached by the source query and all inputs of the transformation.
+ * <p>
+ * The size of the cache is determined by the {@code jmix.data.jpql-query-cache-size} property, zero disables caching.
+ */
+@Component("data_JpqlQueryCache")
+public class JpqlQueryCache {
+
+    protected final boolean enabled;
+    protected final Cache<TreeKey, QueryTree> trees;
+    protected final Cache<List<Object>, String> transformedQueries;
+
+    public JpqlQueryCache(DataProperties dataProperties) {
+        int size = dataProperties.getJpqlQueryCacheSize();
+        this.enabled = size > 0;
+        this.trees = CacheBuilder.newBuilder().maximumSize(Math.max(size, 0)).build();
+        this.transformedQueries = CacheBuilder.newBuilder().maximumSize(Math.max(size, 0)).build();
+    }
+
+    /**
+     * Returns a parsed tree of the query, parsing it only if it's not cached yet. The returned tree must not be
+     * modified.
+     *
+     * @param model  domain model
+     * @param query  JPQL query
+     * @param parser function to parse and validate the query, its exceptions are not cached
+     */
+    public QueryTree getQueryTree(DomainModel model, String query, Supplier<QueryTree> parser) {
+        if (!enabled) {
+            return parser.get();
+        }
+        TreeKey key = new TreeKey(model, query);
+        QueryTree tree = trees.getIfPresent(key);
+        if (tree == null) {
+            tree = parser.get();
+            trees.put(key, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the result of a JPQL transformation, performing it only if the result for the same inputs is not
+     * cached yet.
+     *
+     * @param transformation function performing the transformation
+     * @param keyParts       name of the transformation, source query and all other inputs which affect the result.
+     *                       The objects must implement {@code equals()} and {@code hashCode()}.
+     */
+    public String getTransformedQuery(Supplier<String> transformation, Object... keyParts) {
+        if (!enabled) {
+            return transformation.get();
+        }
+        List<Object> key = Arrays.asList(keyParts);
+        String result = transformedQueries.getIfPresent(key);
+        if (result == null) {
+            result = transformation.get();
+            transformedQueries.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * INTERNAL. Used by tests.
+     */
+    @Internal
+    public void clear() {
+        trees.invalidateAll();
+        transformedQueries.invalidateAll();
+    }
+
+    protected static class TreeKey {
+        protected final DomainModel model;
+        protected final String query;
+
+        public TreeKey(DomainModel model, String query) {
+            this.model = model;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TreeKey treeKey = (TreeKey) o;
+            return model == treeKey.model && query.equals(treeKey.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(model), query);
+        }
+    }
+}
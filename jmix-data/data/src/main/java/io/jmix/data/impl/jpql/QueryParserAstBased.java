@@ -21,9 +21,11 @@ import io.jmix.data.impl.jpql.model.Attribute;
 import io.jmix.data.impl.jpql.model.JpqlEntityModel;
 import io.jmix.data.impl.jpql.tree.IdentificationVariableNode;
 import io.jmix.data.impl.jpql.tree.PathNode;
+import io.jmix.data.impl.jpql.tree.SelectedItemNode;
 import io.jmix.data.impl.jpql.tree.SimpleConditionNode;
 import org.antlr.runtime.tree.TreeVisitor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -47,6 +49,9 @@ public class QueryParserAstBased implements QueryParser {
     protected boolean originalEntityChecked;
     protected EntityNameAndPath originalEntityNameAndPath;
 
+    @Autowired(required = false)
+    protected JpqlQueryCache queryCache;
+
     protected static class EntityNameAndPath {
         String entityName;
         String entityPath;
@@ -70,19 +75,26 @@ public class QueryParserAstBased implements QueryParser {
 
     protected QueryTree getTree() {
         if (queryTree == null) {
-            try {
-                queryTree = new QueryTree(model, query);
-            } catch (JPA2RecognitionException e) {
-                throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]\n%s", StringUtils.strip(query), e.getMessage()));
-            }
-            List<ErrorRec> errors = new ArrayList<>(queryTree.getInvalidIdVarNodes());
-            if (!errors.isEmpty()) {
-                throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]", StringUtils.strip(query)), errors);
-            }
+            // the parser doesn't modify the tree, so it can be shared
+            queryTree = queryCache != null ? queryCache.getQueryTree(model, query, this::parseTree) : parseTree();
         }
         return queryTree;
     }
 
+    protected QueryTree parseTree() {
+        QueryTree tree;
+        try {
+            tree = new QueryTree(model, query);
+        } catch (JPA2RecognitionException e) {
+            throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]\n%s", StringUtils.strip(query), e.getMessage()));
+        }
+        List<ErrorRec> errors = new ArrayList<>(tree.getInvalidIdVarNodes());
+        if (!errors.isEmpty()) {
+            throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]", StringUtils.strip(query)), errors);
+        }
+        return tree;
+    }
+
     protected QueryTreeAnalyzer getAnalyzer() {
         if (queryAnalyzer == null) {
             queryAnalyzer = new QueryTreeAnalyzer(getTree());
@@ -212,8 +224,10 @@ public class QueryParserAstBased implements QueryParser {
         return getTree().getAstSelectedNodes()
                 .map(node -> {
                     TreeToQuery toQuery = new TreeToQuery();
-                    node.setSkipSeparator(true);
-                    new TreeVisitor().visit(node, toQuery);
+                    // the tree may be shared with other parsers, so a detached copy is rendered
+                    SelectedItemNode copy = (SelectedItemNode) node.dupNode();
+                    copy.setSkipSeparator(true);
+                    new TreeVisitor().visit(copy, toQuery);
                     return toQuery.getQueryString();
                 })
                 .collect(Collectors.toList());
@@ -21,6 +21,7 @@ import io.jmix.core.querycondition.Condition;
 import io.jmix.data.QueryParser;
 import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
+import io.jmix.data.impl.jpql.JpqlQueryCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -35,6 +36,8 @@ public class ConditionJpqlGenerator {
     protected QueryTransformerFactory queryTransformerFactory;
     @Autowired
     protected ConditionGeneratorResolver resolver;
+    @Autowired
+    protected JpqlQueryCache jpqlQueryCache;
 
     /**
      * Returns a JPQL query modified according to the given tree of conditions.
@@ -47,7 +50,6 @@ public class ConditionJpqlGenerator {
         if (context.getCondition() == null) {
             return query;
         }
-        QueryTransformer transformer = queryTransformerFactory.transformer(query);
         QueryParser parser = queryTransformerFactory.parser(query);
         context.setEntityAlias(parser.getEntityAlias());
 
@@ -60,12 +62,15 @@ public class ConditionJpqlGenerator {
         String joins = generateJoins(context);
         String where = generateWhere(context);
 
-        if (!Strings.isNullOrEmpty(joins)) {
-            transformer.addJoinAndWhere(joins, where);
-        } else {
-            transformer.addWhere(where);
-        }
-        return transformer.getResult();
+        return jpqlQueryCache.getTransformedQuery(() -> {
+            QueryTransformer transformer = queryTransformerFactory.transformer(query);
+            if (!Strings.isNullOrEmpty(joins)) {
+                transformer.addJoinAndWhere(joins, where);
+            } else {
+                transformer.addWhere(where);
+            }
+            return transformer.getResult();
+        }, "condition", query, joins, where);
     }
 
     private void copyGenerationContext(ConditionGenerationContext generationContext) {
@@ -19,6 +19,7 @@ package io.jmix.data.impl.jpql.generator;
 import com.google.common.collect.Iterables;
 import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
+import io.jmix.data.impl.jpql.JpqlQueryCache;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.data.persistence.JpqlSortExpressionProvider;
 import io.jmix.core.*;
@@ -49,6 +50,8 @@ public class SortJpqlGenerator {
     protected JpqlSortExpressionProvider jpqlSortExpressionProvider;
     @Autowired
     protected DbmsSpecifics dbmsSpecifics;
+    @Autowired
+    protected JpqlQueryCache jpqlQueryCache;
 
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(SortJpqlGenerator.class);
 
@@ -113,9 +116,14 @@ public class SortJpqlGenerator {
 
     protected String transformQuery(String queryString, Map<String, Sort.Direction> sortExpressions, Sort.Direction direction) {
         if (!sortExpressions.isEmpty()) {
-            QueryTransformer transformer = queryTransformerFactory.transformer(queryString);
-            transformer.replaceOrderByExpressions(sortExpressions);
-            return transformer.getResult();
+            List<Map.Entry<String, Sort.Direction>> orderedExpressions = sortExpressions.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .toList();
+            return jpqlQueryCache.getTransformedQuery(() -> {
+                QueryTransformer transformer = queryTransformerFactory.transformer(queryString);
+                transformer.replaceOrderByExpressions(sortExpressions);
+                return transformer.getResult();
+            }, "sort", queryString, orderedExpressions);
         } else {
             return queryString;
         }
@@ -52,8 +52,8 @@ public class SelectedItemNode extends BaseCustomNode {
 
     @Override
     public CommonTree treeToQueryPre(QueryBuilder sb, List<ErrorRec> invalidNodes) {
-        CommonTree prevNode = getPrevNode();
-        if (prevNode instanceof SelectedItemNode && !skipSeparator) {
+        CommonTree prevNode = skipSeparator ? null : getPrevNode();
+        if (prevNode instanceof SelectedItemNode) {
             sb.appendString(", ");
         } else {
             sb.appendSpace();
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.data.impl.jpql;
+
+import io.jmix.data.DataProperties;
+import io.jmix.data.impl.jpql.model.EntityBuilder;
+import io.jmix.data.impl.jpql.model.JpqlEntityModel;
+import io.jmix.data.impl.jpql.transform.QueryTransformerAstBased;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JpqlQueryCacheTest {
+
+    private static final String QUERY = "select h.group, h.createdBy, p.createdBy from sec_GroupHierarchy h " +
+            "join h.parent p where h.createdBy = :createdBy";
+
+    @Test
+    public void testTreeIsShared() {
+        DomainModel model = prepareDomainModel();
+        JpqlQueryCache queryCache = createCache(100);
+
+        QueryParserAstBased parser1 = createParser(model, QUERY, queryCache);
+        QueryParserAstBased parser2 = createParser(model, QUERY, queryCache);
+        assertSame(parser1.getTree(), parser2.getTree());
+
+        QueryParserAstBased otherModelParser = createParser(prepareDomainModel(), QUERY, queryCache);
+        assertNotSame(parser1.getTree(), otherModelParser.getTree());
+    }
+
+    @Test
+    public void testTreeIsNotSharedWhenDisabled() {
+        DomainModel model = prepareDomainModel();
+        JpqlQueryCache queryCache = createCache(0);
+
+        assertNotSame(createParser(model, QUERY, queryCache).getTree(), createParser(model, QUERY, queryCache).getTree());
+    }
+
+    @Test
+    public void testSyntaxErrorIsNotCached() {
+        DomainModel model = prepareDomainModel();
+        JpqlQueryCache queryCache = createCache(100);
+
+        for (int i = 0; i < 2; i++) {
+            QueryParserAstBased parser = createParser(model, "select h from sec_GroupHierarchy", queryCache);
+            assertThrows(JpqlSyntaxException.class, parser::getEntityName);
+        }
+    }
+
+    @Test
+    public void testSharedTreeIsNotModifiedByParsers() throws Exception {
+        DomainModel model = prepareDomainModel();
+        JpqlQueryCache queryCache = createCache(100);
+
+        List<String> expected = new QueryParserAstBased(model, QUERY).getSelectedExpressionsList();
+        assertEquals(3, expected.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        assertEquals(expected, createParser(model, QUERY, queryCache).getSelectedExpressionsList());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // separators of the shared select clause are kept
+        String renderedQuery = new QueryTransformerAstBased(model, QUERY).getResult();
+        QueryTree sharedTree = createParser(model, QUERY, queryCache).getTree();
+        assertEquals(renderedQuery, sharedTree.visit(new TreeToQuery()).getQueryString().trim());
+    }
+
+    private JpqlQueryCache createCache(int size) {
+        return new JpqlQueryCache(new DataProperties(true, 100, false, null, true, 20, size));
+    }
+
+    private QueryParserAstBased createParser(DomainModel model, String query, JpqlQueryCache queryCache) {
+        QueryParserAstBased parser = new QueryParserAstBased(model, query);
+        parser.queryCache = queryCache;
+        return parser;
+    }
+
+    private DomainModel prepareDomainModel() {
+        EntityBuilder builder = EntityBuilder.create();
+        builder.startNewEntity("sec_GroupHierarchy");
+        builder.addReferenceAttribute("group", "sec_Group");
+        builder.addStringAttribute("createdBy");
+        builder.addReferenceAttribute("parent", "sec_GroupHierarchy");
+        JpqlEntityModel groupHierarchy = builder.produce();
+
+        JpqlEntityModel groupEntity = builder.produceImmediately("sec_Group", "name");
+
+        return new DomainModel(groupHierarchy, groupEntity);
+    }
+}
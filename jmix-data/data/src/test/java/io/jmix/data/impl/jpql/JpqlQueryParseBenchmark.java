@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import io.jmix.data.DataProperties;
+import io.jmix.data.impl.jpql.model.EntityBuilder;
+import io.jmix.data.impl.jpql.model.JpqlEntityModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of analyzing a JPQL query with and without {@link JpqlQueryCache}.
+ * <p>
+ * Run with {@code ./gradlew :data:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpqlQueryParseBenchmark {
+
+    @Param({
+            "select u from sec_User u where u.login = :login",
+            "select h from sec_GroupHierarchy h join h.parent p join h.constraints c " +
+                    "where h.createdBy like :createdBy and p.group.name = :groupName and c.group.createdBy in :names " +
+                    "order by h.createdBy"
+    })
+    public String query;
+
+    protected DomainModel model;
+    protected JpqlQueryCache queryCache;
+
+    @Setup
+    public void setup() {
+        model = createDomainModel();
+        queryCache = new JpqlQueryCache(new DataProperties(true, 100, false, null, true, 20, 1000));
+    }
+
+    @Benchmark
+    public Set<String> parseWithoutCache() {
+        return new QueryParserAstBased(model, query).getParamNames();
+    }
+
+    @Benchmark
+    public Set<String> parseWithCache() {
+        QueryParserAstBased parser = new QueryParserAstBased(model, query);
+        parser.queryCache = queryCache;
+        return parser.getParamNames();
+    }
+
+    protected DomainModel createDomainModel() {
+        EntityBuilder builder = EntityBuilder.create();
+        builder.startNewEntity("sec_GroupHierarchy");
+        builder.addReferenceAttribute("group", "sec_Group");
+        builder.addStringAttribute("createdBy");
+        builder.addReferenceAttribute("parent", "sec_GroupHierarchy");
+        builder.addCollectionReferenceAttribute("constraints", "sec_Constraint");
+        JpqlEntityModel groupHierarchy = builder.produce();
+
+        builder = EntityBuilder.create();
+        builder.startNewEntity("sec_Constraint");
+        builder.addReferenceAttribute("group", "sec_GroupHierarchy");
+        JpqlEntityModel constraintEntity = builder.produce();
+
+        JpqlEntityModel groupEntity = builder.produceImmediately("sec_Group", "name");
+
+        builder = EntityBuilder.create();
+        builder.startNewEntity("sec_User");
+        builder.addStringAttribute("login");
+        builder.addReferenceAttribute("group", "sec_Group");
+        JpqlEntityModel userEntity = builder.produce();
+
+        return new DomainModel(groupHierarchy, constraintEntity, userEntity, groupEntity);
+    }
+}
@@ -19,6 +19,10 @@ package io.jmix.eclipselink;
 import io.jmix.core.annotation.Experimental;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "jmix.eclipselink")
 public class EclipselinkProperties {
@@ -31,10 +35,26 @@ public class EclipselinkProperties {
     @Experimental
     boolean disableLazyLoading;
 
+    /**
+     * Query cache limits for particular entities: a map of entity names (e.g. {@code demo_Order}) to limits
+     * applied to cached queries returning instances of the entity.
+     */
+    Map<String, QueryCacheLimits> queryCacheLimits;
+
+    /**
+     * Whether to send names of entities changed in a transaction to all application instances in a cluster
+     * after commit, in order to discard cached queries depending on these entities.
+     */
+    boolean queryCacheClusterInvalidation;
+
     public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled,
-                                 @DefaultValue("false") boolean disableLazyLoading) {
+                                 @DefaultValue("false") boolean disableLazyLoading,
+                                 @DefaultValue Map<String, QueryCacheLimits> queryCacheLimits,
+                                 @DefaultValue("false") boolean queryCacheClusterInvalidation) {
         this.queryCacheEnabled = queryCacheEnabled;
         this.disableLazyLoading = disableLazyLoading;
+        this.queryCacheLimits = queryCacheLimits;
+        this.queryCacheClusterInvalidation = queryCacheClusterInvalidation;
     }
 
     public boolean isQueryCacheEnabled() {
@@ -47,4 +67,54 @@ public class EclipselinkProperties {
     public boolean isDisableLazyLoading() {
         return disableLazyLoading;
     }
+
+    /**
+     * @see #queryCacheLimits
+     */
+    public Map<String, QueryCacheLimits> getQueryCacheLimits() {
+        return queryCacheLimits;
+    }
+
+    /**
+     * @see #queryCacheClusterInvalidation
+     */
+    public boolean isQueryCacheClusterInvalidation() {
+        return queryCacheClusterInvalidation;
+    }
+
+    /**
+     * Limits of the query cache for an entity.
+     */
+    public static class QueryCacheLimits {
+        /**
+         * Maximum number of cached queries returning the entity. When exceeded, the oldest queries are discarded.
+         * Zero means no limit.
+         */
+        int maxSize;
+        /**
+         * Time after which a cached query result is discarded. Not set means no limit.
+         */
+        Duration timeToLive;
+
+        public QueryCacheLimits(@DefaultValue("0") int maxSize,
+                                @Nullable Duration timeToLive) {
+            this.maxSize = maxSize;
+            this.timeToLive = timeToLive;
+        }
+
+        /**
+         * @see #maxSize
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * @see #timeToLive
+         */
+        @Nullable
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+    }
 }
@@ -369,6 +369,27 @@ public class EclipselinkPersistenceSupport implements ApplicationContextAware {
         }
     }
 
+    /**
+     * INTERNAL.
+     * Notifies {@link JpaLifecycleListener}s about entities changed by a set-based statement. The listeners receive
+     * references containing only the identifier and the assigned attribute values, and are flushed before the
+     * current transaction commit.
+     */
+    public void fireBulkEntityChange(String storeName, MetaClass metaClass, Collection<?> ids, EntityOp entityOp,
+                                     Map<String, Object> values, @Nullable AttributeChanges changes) {
+        if (lifecycleListeners == null || lifecycleListeners.isEmpty()) {
+            return;
+        }
+        // make sure the listeners are flushed on commit even if no instances are registered in the persistence context
+        getInstanceContainerResourceHolder(storeName);
+        for (Object id : ids) {
+            Object reference = metadata.create(metaClass.getJavaClass(), id);
+            entityStates.makePatch(reference);
+            values.forEach((property, value) -> EntityValues.setValue(reference, property, value));
+            fireEntityChange(reference, entityOp, changes);
+        }
+    }
+
     protected void fireEntityChange(Object entity, EntityOp entityOp, @Nullable AttributeChanges changes) {
         if (lifecycleListeners == null) {
             return;
@@ -103,14 +103,19 @@ public class EntityChangedEventManager {
         List<EntityChangedEventInfo> list1 = collection1 != null ? new ArrayList<>(collection1) : new ArrayList<>();
         Collection<EntityChangedEventInfo> list2 = collection2 != null ? collection2 : Collections.emptyList();
 
+        // index by entity identity to avoid quadratic lookups when many entities are saved at once
+        Map<Object, EntityChangedEventInfo> infoByEntity = new IdentityHashMap<>(list1.size());
+        for (EntityChangedEventInfo info1 : list1) {
+            infoByEntity.putIfAbsent(info1.getEntity(), info1);
+        }
+
         for (EntityChangedEventInfo info2 : list2) {
-            Optional<EntityChangedEventInfo> opt = list1.stream()
-                    .filter(info1 -> info1.getEntity() == info2.getEntity())
-                    .findAny();
-            if (opt.isPresent()) {
-                opt.get().mergeWith(info2);
+            EntityChangedEventInfo info1 = infoByEntity.get(info2.getEntity());
+            if (info1 != null) {
+                info1.mergeWith(info2);
             } else {
                 list1.add(info2);
+                infoByEntity.put(info2.getEntity(), info2);
             }
         }
         log.trace("merged {}", list1);
@@ -41,6 +41,8 @@ import jakarta.persistence.*;
 import org.eclipse.persistence.config.CascadePolicy;
 import org.eclipse.persistence.config.HintValues;
 import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.config.ResultSetConcurrency;
+import org.eclipse.persistence.config.ResultSetType;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.JmixUtil;
@@ -48,6 +50,7 @@ import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
@@ -168,6 +171,36 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         return result;
     }
 
+    /**
+     * Executes the query using a forward-only read-only JDBC cursor. The query cache is not used.
+     *
+     * @param fetchSize JDBC fetch size
+     * @return cursor that must be closed after use
+     */
+    public JmixQueryCursor<E> getResultCursor(int fetchSize) {
+        logQueryString();
+
+        singleResultExpected = false;
+
+        JpaQuery<E> jpaQuery = getQuery();
+        jpaQuery.setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+        jpaQuery.setHint(QueryHints.RESULT_SET_TYPE, ResultSetType.ForwardOnly);
+        jpaQuery.setHint(QueryHints.RESULT_SET_CONCURRENCY, ResultSetConcurrency.ReadOnly);
+        jpaQuery.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+        preExecute(jpaQuery);
+
+        ScrollableCursor cursor = (ScrollableCursor) jpaQuery.getSingleResult();
+        return new JmixQueryCursor<>(cursor, obj -> {
+            for (Object item : (List) obj) {
+                if (item instanceof Entity) {
+                    for (FetchPlan fetchPlan : fetchPlans) {
+                        entityFetcher.fetch((Entity) item, fetchPlan);
+                    }
+                }
+            }
+        });
+    }
+
     @Override
     public TypedQuery<E> setMaxResults(int maxResult) {
         this.maxResults = maxResult;
@@ -821,8 +854,8 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
                         singleResult,
                         jpaQuery,
                         getAdditionalCriteriaParameters());
-                result = singleResult ? queryCacheMgr.getSingleResultFromCache(queryKey, fetchPlans) :
-                        queryCacheMgr.getResultListFromCache(queryKey, fetchPlans);
+                result = singleResult ? queryCacheMgr.getSingleResultFromCache(queryKey, fetchPlans, entityName) :
+                        queryCacheMgr.getResultListFromCache(queryKey, fetchPlans, entityName);
                 if (result != null) {
                     return result;
                 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl;
+
+import org.eclipse.persistence.queries.ScrollableCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * INTERNAL.
+ * Forward-only cursor over the result of {@link JmixEclipseLinkQuery#getResultCursor(int)}.
+ * Fetch plans of the query are applied to each returned chunk.
+ */
+public class JmixQueryCursor<E> implements AutoCloseable {
+
+    protected final ScrollableCursor cursor;
+    protected final Consumer<Object> fetcher;
+
+    public JmixQueryCursor(ScrollableCursor cursor, Consumer<Object> fetcher) {
+        this.cursor = cursor;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * @param maxSize maximum number of returned results
+     * @return next results, or empty list if the cursor is exhausted
+     */
+    public List<E> next(int maxSize) {
+        List<E> result = new ArrayList<>(maxSize);
+        while (result.size() < maxSize && cursor.hasNext()) {
+            //noinspection unchecked
+            result.add((E) cursor.next());
+        }
+        fetcher.accept(result);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
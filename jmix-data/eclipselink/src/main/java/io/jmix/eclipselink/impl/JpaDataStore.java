@@ -20,13 +20,25 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.jmix.core.Id;
 import io.jmix.core.*;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.accesscontext.EntityAttributeContext;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
 import io.jmix.core.datastore.AbstractDataStore;
+import io.jmix.core.datastore.EntityCursor;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.entity.annotation.OnDeleteInverse;
+import io.jmix.core.event.AttributeChanges;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.Range;
+import io.jmix.core.security.AccessDeniedException;
+import io.jmix.core.security.EntityOp;
+import io.jmix.data.AuditInfoProvider;
 import io.jmix.data.DataProperties;
 import io.jmix.data.PersistenceHints;
+import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.data.accesscontext.ReadEntityQueryContext;
@@ -34,13 +46,18 @@ import io.jmix.data.exception.UniqueConstraintViolationException;
 import io.jmix.data.impl.EntityChangedEventInfo;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpqlQueryBuilder;
+import io.jmix.data.impl.converters.AuditConversionService;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.EclipselinkProperties;
+import io.jmix.eclipselink.impl.dbms.BatchWritingContext;
 import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.*;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.persistence.config.CommitOrderType;
 import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
@@ -48,13 +65,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
+import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
@@ -124,6 +145,15 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected TimeSource timeSource;
+
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    @Autowired
+    protected AuditConversionService auditConversionService;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
@@ -218,6 +248,82 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return resultList;
     }
 
+    @Override
+    protected EntityCursor openCursor(LoadContext<?> context, int chunkSize) {
+        if (!context.getIds().isEmpty()) {
+            return super.openCursor(context, chunkSize);
+        }
+
+        EntityManager em = storeAwareLocator.getEntityManager(storeName);
+        boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+        em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+        try {
+            JmixEclipseLinkQuery<?> query = (JmixEclipseLinkQuery<?>) createQuery(em, context, false);
+            return new JpaEntityCursor(em, query.getResultCursor(chunkSize), chunkSize, softDeletionBefore);
+        } catch (RuntimeException e) {
+            em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            throw e;
+        }
+    }
+
+    @Override
+    protected boolean isTransactionActive() {
+        return TransactionSynchronizationManager.hasResource(storeAwareLocator.getEntityManagerFactory(storeName));
+    }
+
+    @Override
+    protected void beforeChunkLoad(LoadContext<?> context, boolean joinedTransaction,
+                                   TransactionContextState transactionContextState) {
+        if (joinedTransaction) {
+            // entities of the caller's persistence context must stay managed
+            JpaTransactionContextState txState = (JpaTransactionContextState) transactionContextState;
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            txState.alreadyExisted.clear();
+            txState.alreadyExisted.addAll(persistenceSupport.getInstances(em));
+        }
+    }
+
+    @Override
+    protected void afterChunkLoaded(LoadContext<?> context, List<Object> entities, boolean joinedTransaction,
+                                    TransactionContextState transactionContextState) {
+        EntityManager em = storeAwareLocator.getEntityManager(storeName);
+
+        Collection<Object> recentlyLoaded = persistenceSupport.getInstances(em);
+        if (joinedTransaction) {
+            recentlyLoaded.removeAll(((JpaTransactionContextState) transactionContextState).alreadyExisted);
+        }
+
+        for (Object entity : entities) {
+            detachEntity(em, entity, context.getFetchPlan(), false);
+        }
+
+        for (Object entity : recentlyLoaded) {
+            entityEventManager.publishEntityLoadingEvent(entity);
+            // unregister implicitly loaded instances too, otherwise they are kept until the end of the transaction
+            if (em.contains(entity)) {
+                em.detach(entity);
+            }
+        }
+
+        if (!joinedTransaction) {
+            em.clear();
+        }
+    }
+
+    @Override
+    protected Object suspendTransaction(Object transaction) {
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        PlatformTransactionManager txManager = storeAwareLocator.getTransactionManager(storeName);
+        return txManager.getTransaction(def);
+    }
+
+    @Override
+    protected void resumeTransaction(Object suspendedTransaction) {
+        PlatformTransactionManager txManager = storeAwareLocator.getTransactionManager(storeName);
+        txManager.commit((TransactionStatus) suspendedTransaction);
+    }
+
     @Override
     protected long countAll(LoadContext<?> context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
@@ -359,6 +465,10 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     protected Set<Object> saveAll(SaveContext context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
 
+        if (context.isBulkMode()) {
+            beginBulkWrite((JpaSaveContext) context, em);
+        }
+
         Set<Object> result = new HashSet<>();
         for (Object entity : context.getEntitiesToSave()) {
             if (entityStates.isNew(entity)) {
@@ -379,6 +489,32 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return result;
     }
 
+    /**
+     * Makes the flush of the current unit of work write changes of the same entity in primary key order
+     * and groups consecutive identical statements using JDBC batch writing.
+     * Reverted by {@link #endBulkWrite(JpaSaveContext)}.
+     */
+    protected void beginBulkWrite(JpaSaveContext context, EntityManager em) {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl) em.unwrap(UnitOfWork.class);
+        context.setCommitOrderBeforeBulkSave(unitOfWork.getCommitOrder());
+        unitOfWork.setCommitOrder(CommitOrderType.ID);
+        BatchWritingContext.begin();
+    }
+
+    protected void endBulkWrite(JpaSaveContext context) {
+        CommitOrderType commitOrderBefore = context.getCommitOrderBeforeBulkSave();
+        if (commitOrderBefore == null) {
+            return;
+        }
+        context.setCommitOrderBeforeBulkSave(null);
+        BatchWritingContext.end();
+        // the entity manager of a separate transaction is already closed at this point
+        if (context.isJoinTransaction() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            ((UnitOfWorkImpl) em.unwrap(UnitOfWork.class)).setCommitOrder(commitOrderBefore);
+        }
+    }
+
     @Override
     protected Set<Object> deleteAll(SaveContext context) {
         JpaSaveContext jpaContext = (JpaSaveContext) context;
@@ -408,6 +544,270 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return result;
     }
 
+    @Override
+    public int bulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        log.debug("bulkOperation: store={}, {}", storeName, context);
+
+        checkBulkOperationPermitted(metaClass, context);
+
+        if (!isSetBasedOperationApplicable(metaClass, context)) {
+            log.debug("Set-based {} is not applicable to {}, entities will be loaded and saved one by one",
+                    context.getType(), metaClass.getName());
+            return super.bulkOperation(context);
+        }
+
+        int affected;
+        Object transaction = beginSaveTransaction(context.isJoinTransaction());
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+            try {
+                em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+
+                List<Object> ids = loadBulkOperationIds(em, metaClass, context);
+                if (!ids.isEmpty()) {
+                    boolean softDeletion = context.getType() == BulkOperationContext.Type.REMOVE
+                            && metadataTools.isSoftDeletable(metaClass.getJavaClass())
+                            && PersistenceHints.isSoftDeletion(em);
+                    Map<String, Object> assignedValues = getBulkAssignedValues(metaClass, context, softDeletion);
+
+                    executeBulkStatements(em, metaClass, context, ids, assignedValues, softDeletion);
+                    publishBulkChanges(metaClass, context, ids, assignedValues, softDeletion);
+                }
+                affected = ids.size();
+            } finally {
+                em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+            commitTransaction(transaction);
+        } finally {
+            LazyLoadingContext.setEnabled();
+            rollbackTransaction(transaction);
+        }
+        return affected;
+    }
+
+    protected void checkBulkOperationPermitted(MetaClass metaClass, BulkOperationContext context) {
+        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+
+        if (context.getType() == BulkOperationContext.Type.UPDATE) {
+            if (!entityContext.isUpdatePermitted()) {
+                throw new AccessDeniedException("entity", metaClass.getName(), "update");
+            }
+            for (String property : context.getValues().keySet()) {
+                EntityAttributeContext attributeContext = new EntityAttributeContext(metaClass, property);
+                accessManager.applyConstraints(attributeContext, context.getAccessConstraints());
+                if (!attributeContext.canModify()) {
+                    throw new AccessDeniedException("attribute", metaClass.getName() + "." + property, "modify");
+                }
+            }
+        } else if (!entityContext.isDeletePermitted()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), "delete");
+        }
+    }
+
+    /**
+     * Returns true if the operation can be executed by set-based statements. Otherwise, the entities are loaded and
+     * saved one by one, for example to apply in-memory row-level constraints, delete policies and cascades.
+     */
+    protected boolean isSetBasedOperationApplicable(MetaClass metaClass, BulkOperationContext context) {
+        if (!metadataTools.isJpaEntity(metaClass) || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            return false;
+        }
+
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyConstraints(inMemoryContext, context.getAccessConstraints());
+        if (inMemoryContext.readPredicate() != null
+                || inMemoryContext.updatePredicate() != null
+                || inMemoryContext.deletePredicate() != null) {
+            return false;
+        }
+
+        if (context.getType() == BulkOperationContext.Type.UPDATE) {
+            for (String property : context.getValues().keySet()) {
+                MetaProperty metaProperty = metaClass.findProperty(property);
+                if (metaProperty == null) {
+                    throw new IllegalArgumentException(String.format("Property '%s' is not found in %s", property, metaClass));
+                }
+                if (!metadataTools.isJpa(metaProperty)
+                        || metadataTools.isEmbedded(metaProperty)
+                        || metaProperty.getRange().getCardinality().isMany()
+                        || (metaProperty.getRange().isClass() && !metadataTools.isOwningSide(metaProperty))) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            if (hasDeletePolicies(metaClass) || !metadataTools.getCascadeProperties(metaClass, REMOVE).isEmpty()) {
+                return false;
+            }
+            // join table rows of owned many-to-many collections are removed only by the entity manager
+            return metaClass.getProperties().stream()
+                    .noneMatch(property -> property.getRange().getCardinality() == Range.Cardinality.MANY_TO_MANY);
+        }
+    }
+
+    protected boolean hasDeletePolicies(MetaClass metaClass) {
+        List<MetaClass> classes = new ArrayList<>(metaClass.getAncestors());
+        classes.add(metaClass);
+        for (MetaClass aClass : classes) {
+            if (aClass.getAnnotations().get(OnDelete.class.getName()) != null
+                    || aClass.getAnnotations().get(OnDeleteInverse.class.getName()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<Object> loadBulkOperationIds(EntityManager em, MetaClass metaClass, BulkOperationContext context) {
+        LoadContext.Query contextQuery = context.getQuery();
+
+        String queryString = contextQuery != null && contextQuery.getQueryString() != null ?
+                contextQuery.getQueryString() : String.format("select e from %s e", metaClass.getName());
+        QueryTransformer transformer = queryTransformerFactory.transformer(queryString);
+        transformer.replaceWithSelectId(metadataTools.getPrimaryKeyName(metaClass));
+        transformer.removeOrderBy();
+
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setQueryString(transformer.getResult())
+                .setEntityName(metaClass.getName())
+                .setQueryParameters(contextQuery != null ? new HashMap<>(contextQuery.getParameters()) : new HashMap<>());
+        if (contextQuery != null && contextQuery.getCondition() != null) {
+            queryBuilder.setCondition(contextQuery.getCondition());
+        }
+
+        JmixEclipseLinkQuery<?> query = queryBuilder.getQuery(em);
+        for (Map.Entry<String, Serializable> hint : context.getHints().entrySet()) {
+            query.setHint(hint.getKey(), hint.getValue());
+        }
+
+        ReadEntityQueryContext queryContext = new ReadEntityQueryContext(query, metaClass, queryTransformerFactory);
+        accessManager.applyConstraints(queryContext, context.getAccessConstraints());
+
+        return ((Query) queryContext.getResultQuery()).getResultList();
+    }
+
+    /**
+     * Returns the values assigned by the operation, including the values of audit and soft deletion attributes.
+     */
+    protected Map<String, Object> getBulkAssignedValues(MetaClass metaClass, BulkOperationContext context,
+                                                        boolean softDeletion) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        Class<?> javaClass = metaClass.getJavaClass();
+        Date currentDate = timeSource.currentTimestamp();
+        Object currentUser = auditInfoProvider.getCurrentUser();
+
+        if (context.getType() == BulkOperationContext.Type.UPDATE) {
+            values.putAll(context.getValues());
+            putAuditValue(values, metaClass, metadataTools.findLastModifiedDateProperty(javaClass), currentDate);
+            putAuditValue(values, metaClass, findPropertyByAnnotation(metaClass, LastModifiedBy.class), currentUser);
+        } else if (softDeletion) {
+            putAuditValue(values, metaClass, metadataTools.findDeletedDateProperty(javaClass), currentDate);
+            putAuditValue(values, metaClass, metadataTools.findDeletedByProperty(javaClass), currentUser);
+        }
+        return values;
+    }
+
+    protected void putAuditValue(Map<String, Object> values, MetaClass metaClass,
+                                 @Nullable String property, @Nullable Object value) {
+        if (property == null || values.containsKey(property)) {
+            return;
+        }
+        Class<?> type = metaClass.getProperty(property).getJavaType();
+        if (value == null) {
+            values.put(property, null);
+        } else if (auditConversionService.canConvert(value.getClass(), type)) {
+            values.put(property, auditConversionService.convert(value, type));
+        } else {
+            log.warn("Cannot set {}.{} in bulk operation. Unsupported field type '{}': no converter found.",
+                    metaClass.getName(), property, type.getName());
+        }
+    }
+
+    @Nullable
+    protected String findPropertyByAnnotation(MetaClass metaClass, Class<? extends Annotation> annotationClass) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getAnnotatedElement() != null
+                    && property.getAnnotatedElement().isAnnotationPresent(annotationClass)) {
+                return property.getName();
+            }
+        }
+        return null;
+    }
+
+    protected void executeBulkStatements(EntityManager em, MetaClass metaClass, BulkOperationContext context,
+                                         List<Object> ids, Map<String, Object> assignedValues, boolean softDeletion) {
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        Map<String, Object> parameters = new HashMap<>();
+
+        StringBuilder sb = new StringBuilder();
+        if (context.getType() == BulkOperationContext.Type.UPDATE || softDeletion) {
+            sb.append("update ").append(metaClass.getName()).append(" e set ");
+            List<String> assignments = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<String, Object> entry : assignedValues.entrySet()) {
+                if (entry.getValue() == null) {
+                    assignments.add("e." + entry.getKey() + " = null");
+                } else {
+                    String paramName = "bulkValue" + i++;
+                    assignments.add("e." + entry.getKey() + " = :" + paramName);
+                    parameters.put(paramName, entry.getValue());
+                }
+            }
+            String versionProperty = findPropertyByAnnotation(metaClass, Version.class);
+            if (versionProperty != null && !assignedValues.containsKey(versionProperty)) {
+                assignments.add("e." + versionProperty + " = e." + versionProperty + " + 1");
+            }
+            sb.append(String.join(", ", assignments));
+        } else {
+            sb.append("delete from ").append(metaClass.getName()).append(" e");
+        }
+        sb.append(" where e.").append(primaryKeyName).append(" in :bulkIds");
+        String queryString = sb.toString();
+
+        Integer batchSize = dbmsSpecifics.getDbmsFeatures(storeName).getMaxIdsBatchSize();
+        for (List<Object> partition : Lists.partition(ids, batchSize == null ? Integer.MAX_VALUE : batchSize)) {
+            Query query = em.createQuery(queryString);
+            parameters.forEach(query::setParameter);
+            query.setParameter("bulkIds", partition);
+            query.executeUpdate();
+        }
+    }
+
+    /**
+     * Publishes {@link EntityChangedEvent}s containing only the entity id and the names of assigned attributes, and
+     * notifies lifecycle listeners such as entity log. Old values are not known without loading the entities, so they
+     * are null in the published changes.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected void publishBulkChanges(MetaClass metaClass, BulkOperationContext context, List<Object> ids,
+                                      Map<String, Object> assignedValues, boolean softDeletion) {
+        MetaClass originalMetaClass = extendedEntities.getOriginalOrThisMetaClass(metaClass);
+
+        AttributeChanges.Builder changesBuilder = AttributeChanges.Builder.create();
+        for (String property : assignedValues.keySet()) {
+            changesBuilder.withChange(property, null);
+        }
+        AttributeChanges changes = changesBuilder.build();
+
+        boolean removed = context.getType() == BulkOperationContext.Type.REMOVE;
+        EntityChangedEvent.Type type = removed ? EntityChangedEvent.Type.DELETED : EntityChangedEvent.Type.UPDATED;
+
+        List<EntityChangedEvent> events = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            events.add(new EntityChangedEvent(this, Id.of(id, metaClass.getJavaClass()), type, changes, originalMetaClass));
+        }
+
+        persistenceSupport.fireBulkEntityChange(storeName, metaClass, ids,
+                removed ? EntityOp.DELETE : EntityOp.UPDATE,
+                removed && !softDeletion ? Collections.emptyMap() : assignedValues,
+                removed ? null : changes);
+
+        entityChangedEventManager.publish(events);
+    }
+
     @Override
     protected List<Object> loadAllValues(ValueLoadContext context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
@@ -564,6 +964,9 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Override
     protected void beforeSaveTransactionRollback(SaveContext context) {
         LazyLoadingContext.setEnabled();
+        if (context.isBulkMode()) {
+            endBulkWrite((JpaSaveContext) context);
+        }
         super.beforeSaveTransactionRollback(context);
     }
 
@@ -784,6 +1187,39 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return constraintName.toUpperCase();
     }
 
+    /**
+     * Reads chunks of entities from a forward-only JDBC cursor.
+     */
+    protected static class JpaEntityCursor implements EntityCursor {
+        protected final EntityManager entityManager;
+        protected final JmixQueryCursor<?> queryCursor;
+        protected final int chunkSize;
+        protected final boolean softDeletionBefore;
+
+        public JpaEntityCursor(EntityManager entityManager, JmixQueryCursor<?> queryCursor, int chunkSize,
+                               boolean softDeletionBefore) {
+            this.entityManager = entityManager;
+            this.queryCursor = queryCursor;
+            this.chunkSize = chunkSize;
+            this.softDeletionBefore = softDeletionBefore;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public List<Object> nextChunk() {
+            return (List<Object>) queryCursor.next(chunkSize);
+        }
+
+        @Override
+        public void close() {
+            try {
+                queryCursor.close();
+            } finally {
+                entityManager.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+        }
+    }
+
     /**
      * Helps to distinguish newly loaded entities (including implicitly loaded) from already existed.
      */
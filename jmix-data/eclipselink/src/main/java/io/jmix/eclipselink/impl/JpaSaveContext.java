@@ -1,6 +1,8 @@
 package io.jmix.eclipselink.impl;
 
 import io.jmix.core.SaveContext;
+import org.eclipse.persistence.config.CommitOrderType;
+import org.springframework.lang.Nullable;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -13,6 +15,8 @@ public class JpaSaveContext extends SaveContext {
 
     protected Collection<Object> cascadeAffectedEntities = new LinkedHashSet<>();
 
+    protected transient CommitOrderType commitOrderBeforeBulkSave;
+
 
     public JpaSaveContext(SaveContext context) {
         this.entitiesToSave = context.getEntitiesToSave();
@@ -20,6 +24,7 @@ public class JpaSaveContext extends SaveContext {
 
         this.fetchPlans = context.getFetchPlans();
         this.discardSaved = context.isDiscardSaved();
+        this.bulkMode = context.isBulkMode();
         this.joinTransaction = context.isJoinTransaction();
         this.accessConstraints = context.getAccessConstraints();
         this.hints = context.getHints();
@@ -32,4 +37,17 @@ public class JpaSaveContext extends SaveContext {
     public Collection<Object> getCascadeAffectedEntities() {
         return cascadeAffectedEntities;
     }
+
+    /**
+     * @return commit order of the unit of work before the bulk save has changed it, or null if the bulk save
+     * has not started yet
+     */
+    @Nullable
+    public CommitOrderType getCommitOrderBeforeBulkSave() {
+        return commitOrderBeforeBulkSave;
+    }
+
+    public void setCommitOrderBeforeBulkSave(@Nullable CommitOrderType commitOrderBeforeBulkSave) {
+        this.commitOrderBeforeBulkSave = commitOrderBeforeBulkSave;
+    }
 }
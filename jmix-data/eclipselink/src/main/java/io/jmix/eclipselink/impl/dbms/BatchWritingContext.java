@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.impl.dbms;
+
+/**
+ * Enables JDBC batch writing for the current thread regardless of the {@code eclipselink.jdbc.batch-writing}
+ * persistence unit property. Used by the data store to group statements of bulk saves.
+ * <p>
+ * Checked by Jmix database platforms in {@code usesBatchWriting()}.
+ */
+public final class BatchWritingContext {
+
+    private static final ThreadLocal<Integer> depth = new ThreadLocal<>();
+
+    private BatchWritingContext() {
+    }
+
+    /**
+     * Enables batch writing for the current thread. Each call must be paired with {@link #end()}.
+     */
+    public static void begin() {
+        Integer current = depth.get();
+        depth.set(current == null ? 1 : current + 1);
+    }
+
+    /**
+     * Reverts the corresponding {@link #begin()} call.
+     */
+    public static void end() {
+        Integer current = depth.get();
+        if (current == null || current <= 1) {
+            depth.remove();
+        } else {
+            depth.set(current - 1);
+        }
+    }
+
+    /**
+     * @return true if batch writing is enabled for the current thread
+     */
+    public static boolean isActive() {
+        return depth.get() != null;
+    }
+}
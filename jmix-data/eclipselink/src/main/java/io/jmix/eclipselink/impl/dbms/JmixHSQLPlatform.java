@@ -55,4 +55,9 @@ public class JmixHSQLPlatform extends HSQLPlatform implements UuidMappingInfo {
     public Converter getUuidConverter() {
         return String36UuidConverter.getInstance();
     }
+
+    @Override
+    public boolean usesBatchWriting() {
+        return super.usesBatchWriting() || BatchWritingContext.isActive();
+    }
 }
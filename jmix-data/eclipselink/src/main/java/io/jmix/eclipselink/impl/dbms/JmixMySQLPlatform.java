@@ -68,4 +68,9 @@ public class JmixMySQLPlatform extends MySQLPlatform implements UuidMappingInfo
     public Converter getUuidConverter() {
         return String32UuidConverter.getInstance();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean usesBatchWriting() {
+        return super.usesBatchWriting() || BatchWritingContext.isActive();
+    }
+}
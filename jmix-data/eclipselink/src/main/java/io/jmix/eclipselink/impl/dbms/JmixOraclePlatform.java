@@ -67,4 +67,9 @@ public class JmixOraclePlatform extends Oracle21Platform implements UuidMappingI
     public Converter getUuidConverter() {
         return String32UuidConverter.getInstance();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean usesBatchWriting() {
+        return super.usesBatchWriting() || BatchWritingContext.isActive();
+    }
+}
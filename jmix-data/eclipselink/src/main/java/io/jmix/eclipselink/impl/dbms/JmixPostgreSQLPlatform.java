@@ -60,4 +60,9 @@ public class JmixPostgreSQLPlatform extends PostgreSQLPlatform implements UuidMa
     public Converter getUuidConverter() {
         return UuidUuidConverter.getInstance();
     }
+
+    @Override
+    public boolean usesBatchWriting() {
+        return super.usesBatchWriting() || BatchWritingContext.isActive();
+    }
 }
@@ -56,4 +56,9 @@ public class JmixSQLServerPlatform extends SQLServerPlatform implements UuidMapp
     public Converter getUuidConverter() {
         return UppercaseStringUuidConverter.getInstance();
     }
+
+    @Override
+    public boolean usesBatchWriting() {
+        return super.usesBatchWriting() || BatchWritingContext.isActive();
+    }
 }
@@ -16,7 +16,7 @@
 
 package io.jmix.eclipselink.impl.entitycache;
 
-
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -44,6 +44,11 @@ public interface QueryCache {
      */
     void invalidate(Set<String> typeNames);
 
+    /**
+     * Discards cached query results for the given keys.
+     */
+    void evict(Collection<QueryKey> queryKeys);
+
     /**
      * Discards all queries results in the cache.
      */
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.entitycache;
+
+import io.jmix.core.cluster.ClusterApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * Event sent to all application instances in a cluster to discard cached query results of changed entity types.
+ *
+ * @see QueryCacheManager
+ */
+public class QueryCacheInvalidationEvent extends ClusterApplicationEvent {
+
+    private static final long serialVersionUID = 6309421887561427320L;
+
+    protected final String senderId;
+    protected final Set<String> typeNames;
+    protected final boolean all;
+
+    public QueryCacheInvalidationEvent(Object source, String senderId, Set<String> typeNames, boolean all) {
+        super(source);
+        this.senderId = senderId;
+        this.typeNames = typeNames;
+        this.all = all;
+    }
+
+    /**
+     * Returns identifier of the {@link QueryCacheManager} instance which sent the event.
+     */
+    public String getSenderId() {
+        return senderId;
+    }
+
+    /**
+     * Returns names of changed entity types (metaClass names).
+     */
+    public Set<String> getTypeNames() {
+        return typeNames;
+    }
+
+    /**
+     * Returns true if all cached queries should be discarded.
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCacheInvalidationEvent{" +
+                "senderId='" + senderId + '\'' +
+                ", typeNames=" + typeNames +
+                ", all=" + all +
+                '}';
+    }
+}
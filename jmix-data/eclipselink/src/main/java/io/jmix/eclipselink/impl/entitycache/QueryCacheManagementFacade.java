@@ -22,6 +22,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jmx.export.annotation.*;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 @ManagedResource(description = "Manages query cache", objectName = "jmix.eclipselink:type=QueryCache")
 @Component("eclipselink_QueryCacheManagementFacade")
 public class QueryCacheManagementFacade {
@@ -57,4 +60,25 @@ public class QueryCacheManagementFacade {
         queryCacheMgr.invalidate(entityName);
         return "Done";
     }
+
+    @ManagedOperation(description = "Print query cache statistics by entities")
+    public String printStatistics() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, QueryCacheManager.TypeStatistics> entry : new TreeMap<>(queryCacheMgr.getStatistics()).entrySet()) {
+            QueryCacheManager.TypeStatistics statistics = entry.getValue();
+            sb.append(entry.getKey())
+                    .append(": size=").append(queryCacheMgr.getSize(entry.getKey()))
+                    .append(", hits=").append(statistics.getHits())
+                    .append(", misses=").append(statistics.getMisses())
+                    .append(", evictions=").append(statistics.getEvictions())
+                    .append("\n");
+        }
+        return sb.toString();
+    }
+
+    @ManagedOperation(description = "Reset query cache statistics")
+    public String resetStatistics() {
+        queryCacheMgr.resetStatistics();
+        return "Done";
+    }
 }
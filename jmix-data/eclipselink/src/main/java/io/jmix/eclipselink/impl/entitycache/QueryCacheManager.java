@@ -21,6 +21,8 @@ import io.jmix.core.Entity;
 import io.jmix.core.FetchPlan;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
+import io.jmix.core.UuidProvider;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetadataObject;
@@ -35,12 +37,31 @@ import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
+/**
+ * Provides access to the query cache.
+ * <p>
+ * Keeps an index of cached queries by entity types they depend on, so invalidation of a type discards only the
+ * affected queries without iterating over the whole cache. Also applies the per-entity size and time-to-live limits
+ * defined by the {@code jmix.eclipselink.query-cache-limits} property and collects per-entity statistics.
+ * <p>
+ * If the {@code jmix.eclipselink.query-cache-cluster-invalidation} property is enabled, names of invalidated types
+ * are collected during a transaction and sent to other application instances in a single
+ * {@link QueryCacheInvalidationEvent} after commit.
+ */
 @Component("eclipselink_QueryCacheManager")
 public class QueryCacheManager {
     /**
@@ -59,9 +80,65 @@ public class QueryCacheManager {
     protected MetadataTools metadataTools;
     @Autowired
     protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected ObjectProvider<ClusterApplicationEventPublisher> clusterEventPublisherProvider;
+
+    protected final String instanceId = UuidProvider.createUuid().toString();
 
     protected static final Logger log = LoggerFactory.getLogger(QueryCacheManager.class);
 
+    protected final Map<QueryKey, IndexEntry> indexedKeys = new ConcurrentHashMap<>();
+    // guarded by indexLock
+    protected final Map<String, Set<QueryKey>> keysByRelatedType = new HashMap<>();
+    // guarded by indexLock, keys are in the order of putting to the cache
+    protected final Map<String, LinkedHashSet<QueryKey>> keysByType = new HashMap<>();
+    protected final Object indexLock = new Object();
+
+    protected final ConcurrentMap<String, TypeStatistics> statistics = new ConcurrentHashMap<>();
+
+    protected static class IndexEntry {
+        protected final String type;
+        protected final Set<String> relatedTypes;
+        protected final long putTime;
+
+        public IndexEntry(String type, Set<String> relatedTypes, long putTime) {
+            this.type = type;
+            this.relatedTypes = relatedTypes;
+            this.putTime = putTime;
+        }
+    }
+
+    /**
+     * Query cache statistics for an entity type.
+     */
+    public static class TypeStatistics {
+        protected final LongAdder hits = new LongAdder();
+        protected final LongAdder misses = new LongAdder();
+        protected final LongAdder evictions = new LongAdder();
+
+        /**
+         * Returns number of queries returning the entity which results were found in the cache.
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * Returns number of queries returning the entity which results were not found in the cache.
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Returns number of cached queries returning the entity which were discarded because of invalidation
+         * or limits.
+         */
+        public long getEvictions() {
+            return evictions.sum();
+        }
+    }
+
     /**
      * Returns true if query cache enabled
      */
@@ -72,11 +149,20 @@ public class QueryCacheManager {
     /**
      * Get query results from query cache by specified {@code queryKey}
      */
-    @SuppressWarnings("unchecked")
     public <T> List<T> getResultListFromCache(QueryKey queryKey, List<FetchPlan> fetchPlans) {
+        return getResultListFromCache(queryKey, fetchPlans, null);
+    }
+
+    /**
+     * Get query results from query cache by specified {@code queryKey}
+     *
+     * @param type result entity type (metaClass name) used to collect statistics of cache misses
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getResultListFromCache(QueryKey queryKey, List<FetchPlan> fetchPlans, @Nullable String type) {
         log.debug("Looking for query in cache: {}", queryKey.printDescription());
         List<T> resultList = null;
-        QueryResult queryResult = queryCache.get(queryKey);
+        QueryResult queryResult = getQueryResult(queryKey, type);
         if (queryResult != null) {
             MetaClass metaClass = metadata.getClass(queryResult.getType());
             String storeName = metaClass.getStore().getName();
@@ -118,6 +204,55 @@ public class QueryCacheManager {
         return resultList;
     }
 
+    @Nullable
+    protected QueryResult getQueryResult(QueryKey queryKey, @Nullable String type) {
+        QueryResult queryResult = queryCache.get(queryKey);
+        IndexEntry indexEntry = indexedKeys.get(queryKey);
+        if (queryResult == null) {
+            if (indexEntry != null) {
+                synchronized (indexLock) {
+                    // discarded by the underlying cache itself
+                    if (indexedKeys.get(queryKey) == indexEntry && queryCache.get(queryKey) == null) {
+                        unregisterLocked(queryKey);
+                    }
+                }
+            }
+            if (type != null) {
+                getStatistics(type).misses.increment();
+            }
+            return null;
+        }
+
+        if (indexEntry == null) {
+            // results put by another application instance sharing the cache are not present in the local index and
+            // cannot be invalidated by type here, so they are not trusted; they are left to the instance owning them
+            getStatistics(queryResult.getType()).misses.increment();
+            return null;
+        }
+
+        if (isExpired(indexEntry)) {
+            synchronized (indexLock) {
+                // skip if the results have been put again concurrently
+                if (indexedKeys.get(queryKey) == indexEntry) {
+                    unregisterLocked(queryKey);
+                    getStatistics(indexEntry.type).evictions.increment();
+                    queryCache.evict(Collections.singletonList(queryKey));
+                }
+            }
+            getStatistics(queryResult.getType()).misses.increment();
+            return null;
+        }
+
+        getStatistics(queryResult.getType()).hits.increment();
+        return queryResult;
+    }
+
+    protected boolean isExpired(IndexEntry indexEntry) {
+        EclipselinkProperties.QueryCacheLimits limits = properties.getQueryCacheLimits().get(indexEntry.type);
+        return limits != null && limits.getTimeToLive() != null
+                && System.currentTimeMillis() - indexEntry.putTime > limits.getTimeToLive().toMillis();
+    }
+
     protected <T> List<T> loadAllByIds(List<Object> queryCacheResult,
                                        MetaClass metaClass,
                                        List<FetchPlan> fetchPlans,
@@ -174,10 +309,20 @@ public class QueryCacheManager {
      * Get single query results from query cache by specified {@code queryKey}
      * If query is cached and no results found exception is thrown
      */
-    @SuppressWarnings("unchecked")
     public <T> T getSingleResultFromCache(QueryKey queryKey, List<FetchPlan> fetchPlans) {
+        return getSingleResultFromCache(queryKey, fetchPlans, null);
+    }
+
+    /**
+     * Get single query results from query cache by specified {@code queryKey}
+     * If query is cached and no results found exception is thrown
+     *
+     * @param type result entity type (metaClass name) used to collect statistics of cache misses
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getSingleResultFromCache(QueryKey queryKey, List<FetchPlan> fetchPlans, @Nullable String type) {
         log.debug("Looking for query in cache: {}", queryKey.printDescription());
-        QueryResult queryResult = queryCache.get(queryKey);
+        QueryResult queryResult = getQueryResult(queryKey, type);
         if (queryResult != null) {
             MetaClass metaClass = metadata.getClass(queryResult.getType());
             if (!metadataTools.isCacheable(metaClass)) {
@@ -219,7 +364,7 @@ public class QueryCacheManager {
             queryResult = new QueryResult(Collections.emptyList(), type, getDescendants(relatedTypes));
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
-        queryCache.put(queryKey, queryResult);
+        putToCache(queryKey, queryResult);
     }
 
     /**
@@ -239,7 +384,68 @@ public class QueryCacheManager {
             queryResult = new QueryResult(Collections.emptyList(), type, relatedTypes, exception);
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
-        queryCache.put(queryKey, queryResult);
+        putToCache(queryKey, queryResult);
+    }
+
+    protected void putToCache(QueryKey queryKey, QueryResult queryResult) {
+        String type = queryResult.getType();
+        Set<String> relatedTypes = new HashSet<>();
+        relatedTypes.add(type);
+        if (queryResult.getRelatedTypes() != null) {
+            relatedTypes.addAll(queryResult.getRelatedTypes());
+        }
+
+        synchronized (indexLock) {
+            unregisterLocked(queryKey);
+
+            indexedKeys.put(queryKey, new IndexEntry(type, relatedTypes, System.currentTimeMillis()));
+            for (String relatedType : relatedTypes) {
+                keysByRelatedType.computeIfAbsent(relatedType, t -> new HashSet<>()).add(queryKey);
+            }
+            LinkedHashSet<QueryKey> typeKeys = keysByType.computeIfAbsent(type, t -> new LinkedHashSet<>());
+            typeKeys.add(queryKey);
+
+            queryCache.put(queryKey, queryResult);
+
+            EclipselinkProperties.QueryCacheLimits limits = properties.getQueryCacheLimits().get(type);
+            if (limits != null && limits.getMaxSize() > 0 && typeKeys.size() > limits.getMaxSize()) {
+                List<QueryKey> evicted = new ArrayList<>();
+                Iterator<QueryKey> iterator = typeKeys.iterator();
+                while (typeKeys.size() - evicted.size() > limits.getMaxSize()) {
+                    evicted.add(iterator.next());
+                }
+                for (QueryKey evictedKey : evicted) {
+                    unregisterLocked(evictedKey);
+                }
+                log.debug("Discard {} cached queries for type {} exceeding the limit", evicted.size(), type);
+                getStatistics(type).evictions.add(evicted.size());
+                queryCache.evict(evicted);
+            }
+        }
+    }
+
+    @Nullable
+    protected IndexEntry unregisterLocked(QueryKey queryKey) {
+        IndexEntry indexEntry = indexedKeys.remove(queryKey);
+        if (indexEntry != null) {
+            for (String relatedType : indexEntry.relatedTypes) {
+                Set<QueryKey> keys = keysByRelatedType.get(relatedType);
+                if (keys != null) {
+                    keys.remove(queryKey);
+                    if (keys.isEmpty()) {
+                        keysByRelatedType.remove(relatedType);
+                    }
+                }
+            }
+            Set<QueryKey> typeKeys = keysByType.get(indexEntry.type);
+            if (typeKeys != null) {
+                typeKeys.remove(queryKey);
+                if (typeKeys.isEmpty()) {
+                    keysByType.remove(indexEntry.type);
+                }
+            }
+        }
+        return indexEntry;
     }
 
     /**
@@ -256,9 +462,7 @@ public class QueryCacheManager {
      * Discards cached query results for metaClass name {@code typeName}
      */
     public void invalidate(String typeName) {
-        if (isEnabled()) {
-            queryCache.invalidate(typeName);
-        }
+        invalidate(Collections.singleton(typeName));
     }
 
     /**
@@ -267,17 +471,150 @@ public class QueryCacheManager {
     public void invalidate(Set<String> typeNames) {
         if (isEnabled()) {
             if (typeNames != null && typeNames.size() > 0) {
-                queryCache.invalidate(typeNames);
+                invalidateByTypes(typeNames);
+                sendInvalidation(typeNames, false);
+            }
+        }
+    }
+
+    /**
+     * Discards cached query results for metaClass names {@code typeNames} in this application instance only.
+     * Used when handling changes made by other application instances.
+     */
+    public void invalidateLocal(Set<String> typeNames) {
+        if (isEnabled()) {
+            if (typeNames != null && typeNames.size() > 0) {
+                invalidateByTypes(typeNames);
+            }
+        }
+    }
+
+    protected void invalidateByTypes(Set<String> typeNames) {
+        log.debug("Invalidate cache for types {}", typeNames);
+        synchronized (indexLock) {
+            List<QueryKey> evicted = new ArrayList<>();
+            for (String typeName : typeNames) {
+                Set<QueryKey> keys = keysByRelatedType.get(typeName);
+                if (keys != null) {
+                    for (QueryKey queryKey : new ArrayList<>(keys)) {
+                        IndexEntry indexEntry = unregisterLocked(queryKey);
+                        if (indexEntry != null) {
+                            getStatistics(indexEntry.type).evictions.increment();
+                            evicted.add(queryKey);
+                        }
+                    }
+                }
+            }
+            if (!evicted.isEmpty()) {
+                queryCache.evict(evicted);
             }
         }
     }
 
     public void invalidateAll() {
         if (isEnabled()) {
+            invalidateAllLocal();
+            sendInvalidation(Collections.emptySet(), true);
+        }
+    }
+
+    protected void invalidateAllLocal() {
+        synchronized (indexLock) {
+            for (IndexEntry indexEntry : indexedKeys.values()) {
+                getStatistics(indexEntry.type).evictions.increment();
+            }
+            indexedKeys.clear();
+            keysByRelatedType.clear();
+            keysByType.clear();
             queryCache.invalidateAll();
         }
     }
 
+    protected void sendInvalidation(Set<String> typeNames, boolean all) {
+        if (!properties.isQueryCacheClusterInvalidation()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // collect types changed in the transaction to send them after commit by a single event
+            ClusterInvalidationSynchronization synchronization = null;
+            for (TransactionSynchronization registered : TransactionSynchronizationManager.getSynchronizations()) {
+                if (registered instanceof ClusterInvalidationSynchronization) {
+                    synchronization = (ClusterInvalidationSynchronization) registered;
+                    break;
+                }
+            }
+            if (synchronization == null) {
+                synchronization = new ClusterInvalidationSynchronization();
+                TransactionSynchronizationManager.registerSynchronization(synchronization);
+            }
+            synchronization.typeNames.addAll(typeNames);
+            synchronization.all |= all;
+        } else {
+            publishInvalidationEvent(typeNames, all);
+        }
+    }
+
+    protected void publishInvalidationEvent(Set<String> typeNames, boolean all) {
+        ClusterApplicationEventPublisher publisher = clusterEventPublisherProvider.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(new QueryCacheInvalidationEvent(this, instanceId, new HashSet<>(typeNames), all));
+        }
+    }
+
+    @EventListener
+    public void onQueryCacheInvalidation(QueryCacheInvalidationEvent event) {
+        if (instanceId.equals(event.getSenderId()) || !isEnabled()) {
+            return;
+        }
+        log.debug("Received {}", event);
+        if (event.isAll()) {
+            invalidateAllLocal();
+        } else {
+            invalidateLocal(event.getTypeNames());
+        }
+    }
+
+    protected class ClusterInvalidationSynchronization implements TransactionSynchronization {
+
+        protected final Set<String> typeNames = new HashSet<>();
+        protected boolean all;
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && (all || !typeNames.isEmpty())) {
+                publishInvalidationEvent(all ? Collections.emptySet() : typeNames, all);
+            }
+        }
+    }
+
+    /**
+     * Returns query cache statistics by result entity types (metaClass names).
+     */
+    public Map<String, TypeStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Returns number of cached queries returning instances of the entity type (metaClass name).
+     */
+    public int getSize(String typeName) {
+        synchronized (indexLock) {
+            Set<QueryKey> keys = keysByType.get(typeName);
+            return keys == null ? 0 : keys.size();
+        }
+    }
+
+    /**
+     * Resets collected query cache statistics.
+     */
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    protected TypeStatistics getStatistics(String typeName) {
+        return statistics.computeIfAbsent(typeName, t -> new TypeStatistics());
+    }
+
     protected Set<String> getDescendants(Set<String> relatedTypes) {
         if (relatedTypes == null) return null;
         Set<String> newRelatedTypes = new HashSet<>();
@@ -27,6 +27,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -94,6 +95,13 @@ public class StandardQueryCache implements QueryCache {
         }
     }
 
+    @Override
+    public void evict(Collection<QueryKey> queryKeys) {
+        for (QueryKey queryKey : queryKeys) {
+            queries.evictIfPresent(queryKey);
+        }
+    }
+
     @Override
     public void invalidateAll() {
         log.debug("Invalidate all cache");
@@ -143,7 +143,7 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
                         typeNames.add(metaClass.getName());
                     }
                 });
-                queryCacheManager.invalidate(typeNames);
+                queryCacheManager.invalidateLocal(typeNames);
             }
         }
     }
@@ -17,6 +17,7 @@
 package cache
 
 import io.jmix.core.DataManager
+import io.jmix.eclipselink.impl.entitycache.QueryCacheManager
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.transaction.support.TransactionTemplate
 import test_support.DataSpec
@@ -30,6 +31,9 @@ class CachedQueryTest extends DataSpec {
     @Autowired
     DataManager dataManager
 
+    @Autowired
+    QueryCacheManager queryCacheManager
+
     def "test query with null param"() {
         setup:
         generateEntities(10)
@@ -48,6 +52,40 @@ class CachedQueryTest extends DataSpec {
         dropAllEntities()
     }
 
+    def "test invalidation of cached queries by type"() {
+        setup:
+        generateEntities(10)
+        queryCacheManager.invalidateAll()
+        queryCacheManager.resetStatistics()
+
+        when:
+        2.times {
+            dataManager.load(CacheableEntity)
+                    .query('e.name like :name')
+                    .parameter('name', 'test_%')
+                    .cacheable(true)
+                    .list()
+        }
+        def statistics = queryCacheManager.getStatistics()['test_CacheableEntity']
+
+        then:
+        queryCacheManager.getSize('test_CacheableEntity') == 1
+        statistics.misses == 1
+        statistics.hits == 1
+
+        when:
+        def entity = dataManager.load(CacheableEntity).all().maxResults(1).one()
+        entity.note = 'changed'
+        dataManager.save(entity)
+
+        then:
+        queryCacheManager.getSize('test_CacheableEntity') == 0
+        statistics.evictions == 1
+
+        cleanup:
+        dropAllEntities()
+    }
+
     def generateEntities(int count) {
         for (int i = 0; i < count; i++) {
             jdbc.update(String.format(
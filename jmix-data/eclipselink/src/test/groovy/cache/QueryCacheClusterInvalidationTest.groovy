@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cache
+
+import io.jmix.core.DataManager
+import io.jmix.core.cluster.ClusterApplicationEventChannelSupplier
+import io.jmix.eclipselink.EclipselinkProperties
+import io.jmix.eclipselink.EclipselinkPropertiesAccess
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryCacheInvalidationEvent
+import io.jmix.eclipselink.impl.entitycache.QueryCacheManager
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.messaging.Message
+import org.springframework.messaging.MessageHandler
+import org.springframework.transaction.support.TransactionTemplate
+import test_support.DataSpec
+import test_support.entity.cache.CacheableEntity
+
+class QueryCacheClusterInvalidationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    TransactionTemplate transaction
+
+    @Autowired
+    QueryCacheManager queryCacheManager
+
+    @Autowired
+    QueryCache queryCache
+
+    @Autowired
+    EclipselinkProperties properties
+
+    @Autowired
+    ClusterApplicationEventChannelSupplier channelSupplier
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher
+
+    List<QueryCacheInvalidationEvent> sentEvents = []
+
+    MessageHandler handler = { Message<?> message ->
+        if (message.payload instanceof QueryCacheInvalidationEvent) {
+            sentEvents << (QueryCacheInvalidationEvent) message.payload
+        }
+    }
+
+    void setup() {
+        EclipselinkPropertiesAccess.setQueryCacheClusterInvalidation(properties, true)
+        channelSupplier.get().subscribe(handler)
+        queryCacheManager.invalidateAll()
+        sentEvents.clear()
+    }
+
+    void cleanup() {
+        channelSupplier.get().unsubscribe(handler)
+        EclipselinkPropertiesAccess.setQueryCacheClusterInvalidation(properties, false)
+        jdbc.update("delete from TEST_CACHEABLE_ENTITY")
+    }
+
+    def "changed types are sent once after commit"() {
+        when:
+        transaction.executeWithoutResult {
+            2.times {
+                def entity = dataManager.create(CacheableEntity)
+                entity.name = "entity-$it"
+                dataManager.save(entity)
+            }
+        }
+
+        then:
+        sentEvents.size() == 1
+        sentEvents[0].typeNames.contains('test_CacheableEntity')
+        !sentEvents[0].all
+    }
+
+    def "nothing is sent on rollback"() {
+        when:
+        transaction.executeWithoutResult { status ->
+            def entity = dataManager.create(CacheableEntity)
+            entity.name = 'rolled-back'
+            dataManager.save(entity)
+            status.setRollbackOnly()
+        }
+
+        then:
+        sentEvents.isEmpty()
+    }
+
+    def "event from other instance discards cached queries"() {
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'cached'
+        dataManager.save(entity)
+
+        dataManager.load(CacheableEntity).all().cacheable(true).list()
+
+        expect:
+        queryCacheManager.getSize('test_CacheableEntity') == 1
+
+        when: "the event is received from the cluster channel"
+        eventPublisher.publishEvent(new QueryCacheInvalidationEvent(this, 'other-instance', ['test_CacheableEntity'] as Set, false))
+
+        then:
+        queryCacheManager.getSize('test_CacheableEntity') == 0
+    }
+
+    def "results put by other instance are not used and not evicted"() {
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'cached'
+        dataManager.save(entity)
+
+        dataManager.load(CacheableEntity).all().cacheable(true).list()
+        def queryKey = queryCacheManager.indexedKeys.keySet().first()
+
+        when: "the shared cache contains results which are not in the local index"
+        queryCacheManager.indexedKeys.remove(queryKey)
+        def result = queryCacheManager.getResultListFromCache(queryKey, [])
+
+        then:
+        result == null
+        queryCache.get(queryKey) != null
+    }
+}
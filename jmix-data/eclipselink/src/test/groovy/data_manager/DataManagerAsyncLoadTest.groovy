@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.NoResultException
+import io.jmix.core.impl.AsyncLoadExecutor
+import io.jmix.core.security.CurrentAuthentication
+import io.jmix.core.security.SystemAuthenticator
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class DataManagerAsyncLoadTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    SystemAuthenticator authenticator
+
+    @Autowired
+    CurrentAuthentication currentAuthentication
+
+    @Autowired
+    AsyncLoadExecutor asyncLoadExecutor
+
+    List<Customer> customers = []
+
+    void setup() {
+        ['c1', 'c2', 'c3'].each { name ->
+            def customer = dataManager.create(Customer)
+            customer.name = name
+            customers << dataManager.save(customer)
+        }
+    }
+
+    def "load entities asynchronously"() {
+        when:
+        def list = dataManager.load(Customer).query('e.name like :name').parameter('name', 'c%').async().list()
+        def one = dataManager.load(Id.of(customers[0])).async().one()
+        def byIds = dataManager.load(Customer).ids(customers[1].id, customers[2].id).async().list()
+
+        then:
+        list.get(10, TimeUnit.SECONDS)*.id.toSet() == customers*.id.toSet()
+        one.get(10, TimeUnit.SECONDS) == customers[0]
+        byIds.get(10, TimeUnit.SECONDS)*.id.toSet() == [customers[1].id, customers[2].id].toSet()
+    }
+
+    def "parallel loads are independent"() {
+        when:
+        def futures = customers.collect { customer ->
+            dataManager.loadAsync(new LoadContext<Customer>(metadata.getClass(Customer)).setId(customer.id))
+        }
+        CompletableFuture.allOf(futures as CompletableFuture[]).get(10, TimeUnit.SECONDS)
+
+        then:
+        futures*.join()*.name == ['c1', 'c2', 'c3']
+    }
+
+    def "missing entity completes future exceptionally"() {
+        when:
+        dataManager.load(Customer).id(UUID.randomUUID()).async().one().get(10, TimeUnit.SECONDS)
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof NoResultException
+    }
+
+    def "authentication is propagated to the loading thread"() {
+        when:
+        def username = authenticator.withUser('admin') {
+            asyncLoadExecutor.submit { currentAuthentication.user.username }.get(10, TimeUnit.SECONDS)
+        }
+
+        then:
+        username == 'admin'
+    }
+}
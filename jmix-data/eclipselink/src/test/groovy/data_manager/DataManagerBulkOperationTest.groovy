@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.data.PersistenceHints
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+import test_support.listeners.TestCustomerListener
+
+class DataManagerBulkOperationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    TestCustomerListener listener
+
+    List<Customer> customers = []
+
+    void setup() {
+        ['a1', 'a2', 'b1'].each { name ->
+            def customer = dataManager.create(Customer)
+            customer.name = name
+            customers << dataManager.save(customer)
+        }
+    }
+
+    void cleanup() {
+        listener.changedEventConsumer = null
+    }
+
+    def "bulk update changes matching entities and publishes id-only events"() {
+        List<EntityChangedEvent<Customer>> events = []
+        listener.changedEventConsumer = { events << it }
+
+        when:
+        def count = dataManager.bulkUpdate(Customer)
+                .set('name', 'updated')
+                .query('e.name like :name')
+                .parameter('name', 'a%')
+                .execute()
+
+        then:
+        count == 2
+
+        def reloaded = dataManager.load(Customer).all().list()
+        reloaded.findAll { it.name == 'updated' }*.id.toSet() == [customers[0].id, customers[1].id].toSet()
+        reloaded.find { it.id == customers[0].id }.version == customers[0].version + 1
+        reloaded.find { it.id == customers[2].id }.name == 'b1'
+
+        events.size() == 2
+        events*.type.toSet() == [EntityChangedEvent.Type.UPDATED].toSet()
+        events*.entityId.toSet() == [Id.of(customers[0]), Id.of(customers[1])].toSet()
+        events[0].changes.isChanged('name')
+        events[0].changes.getOldValue('name') == null
+    }
+
+    def "bulk remove soft deletes matching entities"() {
+        List<EntityChangedEvent<Customer>> events = []
+        listener.changedEventConsumer = { events << it }
+
+        when:
+        def count = dataManager.bulkRemove(Customer)
+                .condition(PropertyCondition.equal('name', 'b1'))
+                .execute()
+
+        then:
+        count == 1
+        dataManager.load(Customer).all().list()*.id.toSet() == [customers[0].id, customers[1].id].toSet()
+
+        def removed = dataManager.load(Id.of(customers[2])).hint(PersistenceHints.SOFT_DELETION, false).one()
+        removed.deleteTs != null
+
+        events.size() == 1
+        events[0].type == EntityChangedEvent.Type.DELETED
+        events[0].entityId == Id.of(customers[2])
+    }
+
+    def "bulk remove with disabled soft deletion deletes rows"() {
+        when:
+        def count = dataManager.bulkRemove(Customer)
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .execute()
+
+        then:
+        count == 3
+        dataManager.load(Customer).all().hint(PersistenceHints.SOFT_DELETION, false).list().isEmpty()
+    }
+}
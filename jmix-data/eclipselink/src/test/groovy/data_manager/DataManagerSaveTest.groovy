@@ -18,9 +18,11 @@ package data_manager
 
 import io.jmix.core.*
 import io.jmix.data.PersistenceHints
+import io.jmix.eclipselink.impl.dbms.BatchWritingContext
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.JdbcTemplate
 import test_support.DataSpec
+import test_support.StatementCountingDataSource
 import test_support.entity.TestAppEntity
 import test_support.entity.TestAppEntityItem
 import test_support.entity.TestSecondAppEntity
@@ -32,6 +34,8 @@ import test_support.entity.transient_dto.TestDto
 import test_support.entity.transient_dto.TestEntity
 import test_support.listeners.TestOrderChangedEventListener
 
+import javax.sql.DataSource
+
 class DataManagerSaveTest extends DataSpec {
 
     @Autowired
@@ -49,6 +53,9 @@ class DataManagerSaveTest extends DataSpec {
     @Autowired
     FetchPlans fetchPlans
 
+    @Autowired
+    DataSource dataSource
+
     TestAppEntity appEntity
     TestAppEntityItem appEntityItem
 
@@ -264,4 +271,67 @@ class DataManagerSaveTest extends DataSpec {
         cleanup:
         jdbc.update('delete from DTOE_TEST_ENTITY')
     }
+
+    def "bulk mode reloads saved entities by batches"() {
+        def customers = (1..5).collect {
+            def customer = dataManager.create(Customer)
+            customer.name = "bulk-$it"
+            customer
+        }
+
+        when:
+        def saved = dataManager.save(new SaveContext().saving(customers).setBulkMode(true))
+
+        then:
+        saved.size() == 5
+        customers.every { saved.contains(it) }
+        saved.every { !entityStates.isNew(it) && entityStates.isDetached(it) }
+        saved.get(customers[2]).name == 'bulk-3'
+    }
+
+    def "bulk mode with discarded result does not reload entities"() {
+        def customers = (1..3).collect {
+            def customer = dataManager.create(Customer)
+            customer.name = "bulk-$it"
+            customer
+        }
+
+        when:
+        def saved = dataManager.save(new SaveContext().saving(customers).setBulkMode(true).setDiscardSaved(true))
+
+        then:
+        saved.isEmpty()
+        dataManager.load(Customer).query('e.name like ?1', 'bulk-%').list().size() == 3
+    }
+
+    def "bulk mode writes inserts in JDBC batches"() {
+        def statementCounter = (StatementCountingDataSource) dataSource
+
+        def bulkCustomers = (1..10).collect {
+            def customer = dataManager.create(Customer)
+            customer.name = "bulk-$it"
+            customer
+        }
+        def customers = (1..10).collect {
+            def customer = dataManager.create(Customer)
+            customer.name = "regular-$it"
+            customer
+        }
+
+        when:
+        statementCounter.resetWriteExecutions()
+        dataManager.save(new SaveContext().saving(bulkCustomers).setBulkMode(true).setDiscardSaved(true))
+
+        then:
+        statementCounter.writeExecutions == 1
+        !BatchWritingContext.isActive()
+
+        when:
+        statementCounter.resetWriteExecutions()
+        dataManager.save(new SaveContext().saving(customers).setDiscardSaved(true))
+
+        then:
+        statementCounter.writeExecutions == 10
+        dataManager.load(Customer).query('e.name like ?1', 'bulk-%').list().size() == 10
+    }
 }
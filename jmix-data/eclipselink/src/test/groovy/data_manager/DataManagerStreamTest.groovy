@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.EntityStates
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.Sort
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+import java.util.stream.Collectors
+
+class DataManagerStreamTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityStates entityStates
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    TransactionTemplate transactionTemplate
+
+    void setup() {
+        for (i in 0..<25) {
+            def customer = dataManager.create(Customer)
+            customer.name = String.format('cust-%02d', i)
+            dataManager.save(customer)
+        }
+    }
+
+    def "loads all instances by chunks"() {
+        when:
+        List<Customer> customers
+        def stream = dataManager.load(Customer)
+                .query('select e from sales_Customer e')
+                .sort(Sort.by('name'))
+                .stream(10)
+        try {
+            customers = stream.collect(Collectors.toList())
+        } finally {
+            stream.close()
+        }
+
+        then:
+        customers.size() == 25
+        customers.collect { it.name } == (0..<25).collect { String.format('cust-%02d', it) }
+        customers.every { entityStates.isDetached(it) }
+    }
+
+    def "respects first and max results"() {
+        when:
+        List<Customer> customers
+        def stream = dataManager.load(Customer)
+                .query('select e from sales_Customer e')
+                .sort(Sort.by('name'))
+                .firstResult(5)
+                .maxResults(12)
+                .stream(5)
+        try {
+            customers = stream.collect(Collectors.toList())
+        } finally {
+            stream.close()
+        }
+
+        then:
+        customers.collect { it.name } == (5..<17).collect { String.format('cust-%02d', it) }
+    }
+
+    def "chunks are processed outside of the load transaction"() {
+        when:
+        def stream = dataManager.load(Customer)
+                .query('select e from sales_Customer e')
+                .stream(10)
+        def activeInConsumer = []
+        try {
+            stream.forEach { activeInConsumer << TransactionSynchronizationManager.isActualTransactionActive() }
+        } finally {
+            stream.close()
+        }
+
+        then:
+        activeInConsumer.size() == 25
+        activeInConsumer.every { !it }
+        !TransactionSynchronizationManager.isActualTransactionActive()
+    }
+
+    def "closing partially consumed stream completes the transaction"() {
+        when:
+        def stream = dataManager.load(Customer)
+                .query('select e from sales_Customer e')
+                .stream(10)
+        def first = stream.iterator().next()
+        stream.close()
+
+        then:
+        first != null
+        !TransactionSynchronizationManager.isActualTransactionActive()
+    }
+
+    def "chunks are processed in the caller's transaction"() {
+        when:
+        def activeInConsumer = []
+        transactionTemplate.executeWithoutResult { status ->
+            def stream = dataManager.load(Customer)
+                    .query('select e from sales_Customer e')
+                    .stream(10)
+            try {
+                stream.forEach { customer ->
+                    activeInConsumer << TransactionSynchronizationManager.isActualTransactionActive()
+                    customer.name = customer.name + '-changed'
+                    dataManager.save(customer)
+                }
+            } finally {
+                stream.close()
+            }
+            status.setRollbackOnly()
+        }
+
+        then: "changes made by the consumer are rolled back with the caller's transaction"
+        activeInConsumer.size() == 25
+        activeInConsumer.every { it }
+        dataManager.load(Customer).query('e.name like :name').parameter('name', '%-changed').list().isEmpty()
+    }
+
+    def "loads instances by ids in the requested order"() {
+        def all = dataManager.load(Customer).all().sort(Sort.by('name')).list()
+        def ids = [all[7].id, all[2].id, all[20].id, all[0].id, all[11].id]
+
+        when:
+        List<Customer> customers
+        def stream = dataManager.loadStream(new LoadContext<Customer>(metadata.getClass(Customer)).setIds(ids), 2)
+        try {
+            customers = stream.collect(Collectors.toList())
+        } finally {
+            stream.close()
+        }
+
+        then:
+        customers*.id == ids
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.KeysetPagination
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.Sort
+import io.jmix.core.querycondition.PropertyCondition
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+class KeysetPaginationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    KeysetPagination keysetPagination
+
+    List<Customer> customers = []
+
+    void setup() {
+        // duplicate names check that the order is made unique by the primary key
+        ['a', 'b', 'b', 'c', 'c', 'c', 'd'].each { name ->
+            def customer = dataManager.create(Customer)
+            customer.name = name
+            customers << dataManager.save(customer)
+        }
+    }
+
+    def "pages loaded after the last entity contain all entities in the sort order"() {
+        def expected = dataManager.load(Customer).all()
+                .sort(Sort.by(Sort.Order.desc('name'), Sort.Order.asc('id')))
+                .list()
+
+        when:
+        List<Customer> loaded = []
+        Customer last = null
+        while (true) {
+            def page = dataManager.load(Customer).all()
+                    .sort(Sort.by(Sort.Direction.DESC, 'name'))
+                    .keysetAfter(last)
+                    .maxResults(3)
+                    .list()
+            loaded.addAll(page)
+            if (page.size() < 3) break
+            last = page.last()
+        }
+
+        then:
+        loaded*.id == expected*.id
+    }
+
+    def "keyset position is combined with the query condition"() {
+        def metaClass = metadata.getClass(Customer)
+        def keysetSort = keysetPagination.getKeysetSort(metaClass, Sort.by('name'))
+        def first = dataManager.load(Customer).condition(PropertyCondition.equal('name', 'c'))
+                .sort(Sort.by('name')).keysetAfter(null).maxResults(1).one()
+
+        when:
+        def context = new LoadContext<Customer>(metaClass)
+        def query = context.setQueryString('select e from sales_Customer e')
+                .setCondition(PropertyCondition.equal('name', 'c'))
+                .setSort(Sort.by('name'))
+                .setKeysetPosition(keysetPagination.createPosition(first, keysetSort))
+        def rest = dataManager.loadList(context)
+
+        then:
+        rest.size() == 2
+        rest.every { it.name == 'c' && it.id != first.id }
+
+        and: "the query passed by the caller is not modified"
+        query.isKeysetPagination()
+        query.sort.orders.size() == 1
+    }
+
+    def "keyset sort ends with the primary key"() {
+        def metaClass = metadata.getClass(Customer)
+
+        expect:
+        keysetPagination.getKeysetSort(metaClass, null).orders*.property == ['id']
+        keysetPagination.getKeysetSort(metaClass, Sort.by('name')).orders*.property == ['name', 'id']
+        keysetPagination.getKeysetSort(metaClass, Sort.by('id', 'name')).orders*.property == ['id']
+        !keysetPagination.isSupported(metaClass, Sort.by('nonExistingProperty'))
+    }
+}
@@ -40,6 +40,8 @@ class MultiDbDataManagerTest extends DataSpec {
     DataStoreFactory dataStoreFactory
     @Autowired
     FetchPlans fetchPlans
+    @Autowired
+    CoreProperties coreProperties
 
     Colour colour
 
@@ -162,6 +164,35 @@ class MultiDbDataManagerTest extends DataSpec {
         loadedOrder.mem1Customer != null
     }
 
+    void testCrossDataStoreReferencesLoadedInBatches() {
+        CorePropertiesAccess.setCrossDataStoreReferenceLoadingBatchSize(coreProperties, 2)
+
+        List<Mem1Customer> customers = (1..5).collect { i ->
+            Mem1Customer customer = metadata.create(Mem1Customer)
+            customer.setName("Customer $i")
+            dataManager.save(customer)
+        }
+        List<Long> orderIds = customers.collect { customer ->
+            Db1Order order = metadata.create(Db1Order)
+            order.setOrderDate(new Date())
+            order.setMem1Customer(customer)
+            dataManager.save(order).id
+        }
+
+        when:
+        List<Db1Order> orders = dataManager.load(Db1Order)
+                .ids(orderIds)
+                .fetchPlan({ builder -> builder.add("mem1Customer") })
+                .list()
+
+        then: "references from all batches are loaded"
+        orders.size() == 5
+        orders.collect { it.mem1Customer?.name }.toSet() == customers*.name.toSet()
+
+        cleanup:
+        CorePropertiesAccess.setCrossDataStoreReferenceLoadingBatchSize(coreProperties, 50)
+    }
+
     void testNestedCrossDatastoreEntitiesSaving() {
         when:
         Db1Order order = metadata.create(Db1Order)
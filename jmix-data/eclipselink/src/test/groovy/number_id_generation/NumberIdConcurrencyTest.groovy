@@ -119,6 +119,34 @@ class NumberIdConcurrencyTest extends DataSpec {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
     }
 
+    def "generating ids with background prefetch"() {
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 10)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchPercent(dataProperties, 50)
+
+        when:
+
+        def ids = Collections.synchronizedSet(new HashSet<Long>())
+        ExecutorService executorService = Executors.newFixedThreadPool(10)
+        for (i in 1..1000) {
+            executorService.submit({
+                ids << numberIdCache.createLongId('test$NumberIdSingleTableRoot')
+            })
+        }
+        executorService.shutdown()
+        executorService.awaitTermination(10, TimeUnit.SECONDS)
+
+        then:
+
+        ids.size() == 1000
+        ids.max() <= getCurrentSequenceValue() + 10
+
+        cleanup:
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchPercent(dataProperties, 20)
+    }
+
     def "generate with zero size cache"() {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 0)
 
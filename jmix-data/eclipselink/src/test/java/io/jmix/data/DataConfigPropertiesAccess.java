@@ -24,4 +24,8 @@ public class DataConfigPropertiesAccess {
     public static void setNumberIdCacheSize(DataProperties properties, int value) {
         properties.numberIdCacheSize = value;
     }
+
+    public static void setNumberIdCachePrefetchPercent(DataProperties properties, int value) {
+        properties.numberIdCachePrefetchPercent = value;
+    }
 }
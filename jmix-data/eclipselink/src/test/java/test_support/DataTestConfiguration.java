@@ -67,10 +67,10 @@ public class DataTestConfiguration {
     @Bean
     @Primary
     DataSource dataSource() {
-        return new EmbeddedDatabaseBuilder()
+        return new StatementCountingDataSource(new EmbeddedDatabaseBuilder()
                 .generateUniqueName(true)
                 .setType(EmbeddedDatabaseType.HSQL)
-                .build();
+                .build());
     }
 
     @Bean
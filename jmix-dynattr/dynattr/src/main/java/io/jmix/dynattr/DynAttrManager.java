@@ -29,6 +29,17 @@ public interface DynAttrManager {
      */
     void loadValues(Collection<Object> entities, @Nullable FetchPlan fetchPlan, Collection<AccessConstraint<?>> accessConstraints);
 
+    /**
+     * Fetch dynamic attributes with the given codes from dynamic attributes store for each entity
+     *
+     * @param attributeCodes codes of the attributes to load, null to load all attributes
+     */
+    default void loadValues(Collection<Object> entities, @Nullable FetchPlan fetchPlan,
+                            Collection<AccessConstraint<?>> accessConstraints,
+                            @Nullable Collection<String> attributeCodes) {
+        loadValues(entities, fetchPlan, accessConstraints);
+    }
+
     /**
      * Store dynamic attributes from the entity to store
      */
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dynattr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "jmix.dynattr")
+public class DynAttrProperties {
+
+    /**
+     * Maximum number of entities whose dynamic attribute values are kept in memory. Zero disables caching.
+     * The values are evicted when the entities are saved or removed by {@code DataManager}.
+     */
+    int valuesCacheSize;
+
+    /**
+     * Time after which cached dynamic attribute values are evicted. Limits the staleness of values changed
+     * bypassing {@code DataManager}, for example on another cluster node.
+     */
+    Duration valuesCacheExpiration;
+
+    public DynAttrProperties(
+            @DefaultValue("0") int valuesCacheSize,
+            @DefaultValue("5m") Duration valuesCacheExpiration) {
+        this.valuesCacheSize = valuesCacheSize;
+        this.valuesCacheExpiration = valuesCacheExpiration;
+    }
+
+    /**
+     * @see #valuesCacheSize
+     */
+    public int getValuesCacheSize() {
+        return valuesCacheSize;
+    }
+
+    /**
+     * @see #valuesCacheExpiration
+     */
+    public Duration getValuesCacheExpiration() {
+        return valuesCacheExpiration;
+    }
+}
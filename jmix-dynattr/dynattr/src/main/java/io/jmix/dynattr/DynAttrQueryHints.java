@@ -25,4 +25,12 @@ public interface DynAttrQueryHints {
      * Dynamic attributes are not loaded by default.
      */
     String LOAD_DYN_ATTR = "jmix.dynattr";
+
+    /**
+     * Collection of codes of the dynamic attributes to load when {@link #LOAD_DYN_ATTR} is set.
+     * All attributes are loaded by default.
+     * <p>
+     * Attributes that are not loaded have null values and cannot be removed by setting null.
+     */
+    String DYN_ATTR_CODES = "jmix.dynattr.codes";
 }
@@ -28,6 +28,7 @@ import io.jmix.dynattr.DynamicAttributesState;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 
@@ -38,13 +39,18 @@ public class DynAttrLifecycleListener implements DataStoreEventListener, DataSto
 
     @Autowired
     protected DynAttrManager dynAttrManager;
+    @Autowired
+    protected DynAttrValuesCache valuesCache;
 
     @Override
     public void afterEntityLoad(DataStoreAfterEntityLoadEvent event) {
         LoadContext<?> context = event.getLoadContext();
         Map<String, Object> hints = context.getHints();
         if (Boolean.TRUE.equals(hints.get(DynAttrQueryHints.LOAD_DYN_ATTR))) {
-            dynAttrManager.loadValues(event.getResultEntities(), context.getFetchPlan(), context.getAccessConstraints());
+            @SuppressWarnings("unchecked")
+            Collection<String> attributeCodes = (Collection<String>) hints.get(DynAttrQueryHints.DYN_ATTR_CODES);
+            dynAttrManager.loadValues(event.getResultEntities(), context.getFetchPlan(), context.getAccessConstraints(),
+                    attributeCodes);
         } else {
             dynAttrManager.addDynamicAttributesState(event.getResultEntities(), context.getFetchPlan());
         }
@@ -53,6 +59,12 @@ public class DynAttrLifecycleListener implements DataStoreEventListener, DataSto
     @Override
     public void entitySaving(DataStoreEntitySavingEvent event) {
         dynAttrManager.storeValues(event.getSaveContext().getEntitiesToSave(), event.getSaveContext().getAccessConstraints());
+        valuesCache.invalidate(event.getSaveContext().getEntitiesToSave());
+    }
+
+    @Override
+    public void entityDeleting(DataStoreEntityDeletingEvent event) {
+        valuesCache.invalidate(event.getSaveContext().getEntitiesToRemove());
     }
 
     @Override
@@ -17,6 +17,7 @@
 package io.jmix.dynattr.impl;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.CrudEntityContext;
@@ -39,6 +40,7 @@ import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -76,6 +78,8 @@ public class DynAttrManagerImpl implements DynAttrManager {
     protected FetchPlans fetchPlans;
     @Autowired
     protected AccessManager accessManager;
+    @Autowired
+    protected DynAttrValuesCache valuesCache;
 
     protected String dynamicAttributesStore = Stores.MAIN;
 
@@ -91,14 +95,17 @@ public class DynAttrManagerImpl implements DynAttrManager {
 
     @Override
     public void loadValues(Collection<Object> entities, @Nullable FetchPlan fetchPlan, Collection<AccessConstraint<?>> accessConstraints) {
+        loadValues(entities, fetchPlan, accessConstraints, null);
+    }
+
+    @Override
+    public void loadValues(Collection<Object> entities, @Nullable FetchPlan fetchPlan,
+                           Collection<AccessConstraint<?>> accessConstraints,
+                           @Nullable Collection<String> attributeCodes) {
         Multimap<MetaClass, Object> entitiesToLoad = collectEntitiesToLoad(entities, fetchPlan);
         if (!entitiesToLoad.isEmpty()) {
             storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
-                    .executeWithoutResult(status -> {
-                        for (MetaClass entityClass : entitiesToLoad.keySet()) {
-                            doFetchValues(entityClass, entitiesToLoad.get(entityClass), accessConstraints);
-                        }
-                    });
+                    .executeWithoutResult(status -> doFetchValues(entitiesToLoad, accessConstraints, attributeCodes));
         }
     }
 
@@ -123,15 +130,16 @@ public class DynAttrManagerImpl implements DynAttrManager {
             if (changes.hasChanges()) {
 
                 MetaClass metaClass = metadata.getClass(entity);
-                List<CategoryAttributeValue> attributeValues = loadValues(metaClass, accessConstraints,
-                        Collections.singletonList(referenceToEntitySupport.getReferenceId(entity)));
+                List<CategoryAttributeValue> attributeValues = findValuesToStore(metaClass,
+                        referenceToEntitySupport.getReferenceId(entity));
 
                 for (CategoryAttributeValue attributeValue : attributeValues) {
                     String attributeName = attributeValue.getCode();
                     if (changes.isDeleted(attributeName)) {
                         setValueToCategoryAttributeValue(attributeValue, null);
                         entityManager.remove(attributeValue);
-                    } else if (changes.isUpdated(attributeName)) {
+                    } else if (changes.isUpdated(attributeName) || changes.isCreated(attributeName)) {
+                        // an attribute can be created in the model if it was not loaded because of DYN_ATTR_CODES hint
                         setValueToCategoryAttributeValue(attributeValue, dynamicModel.getValue(attributeName));
 
                         if (BooleanUtils.isTrue(attributeValue.getCategoryAttribute().getIsCollection())) {
@@ -143,7 +151,8 @@ public class DynAttrManagerImpl implements DynAttrManager {
                 List<String> existing = attributeValues.stream().map(CategoryAttributeValue::getCode).collect(Collectors.toList());
                 List<String> toPersist = Stream.concat(
                                 changes.getCreated().keySet().stream(),
-                                changes.getUpdated().keySet().stream().filter(a -> !existing.contains(a))) //Haulmont/jmix-data#43
+                                changes.getUpdated().keySet().stream()) //Haulmont/jmix-data#43
+                        .filter(a -> !existing.contains(a))
                         .collect(Collectors.toList());
 
                 for (String attributeName : toPersist) {
@@ -204,48 +213,97 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
-    protected void doFetchValues(MetaClass metaClass, Collection<Object> entities, Collection<AccessConstraint<?>> accessConstraints) {
-        if (dynAttrMetadata.getAttributes(metaClass).isEmpty() ||
-                metadataTools.hasCompositePrimaryKey(metaClass) && !metadataTools.hasUuid(metaClass)) {
-            for (Object entity : entities) {
-                DynamicAttributesState state = new DynamicAttributesState(getEntityEntry(entity));
-                addExtraState(entity, state);
+    /**
+     * Loads dynamic attribute values of all given entities at once: the values are selected by a query per
+     * {@link #MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH} entities of each class, then collection items and referenced
+     * entities of all selected values are loaded by a query per chunk of ids.
+     */
+    protected void doFetchValues(Multimap<MetaClass, Object> entitiesToLoad,
+                                 Collection<AccessConstraint<?>> accessConstraints,
+                                 @Nullable Collection<String> attributeCodes) {
+        // the cache keeps all attributes of an entity
+        Collection<String> codesToSelect = valuesCache.isEnabled() ? null : attributeCodes;
+
+        Map<MetaClass, Map<Object, Map<String, Object>>> valuesByClass = new HashMap<>();
+        Map<MetaClass, List<Object>> idsToSelectByClass = new HashMap<>();
+        for (MetaClass metaClass : entitiesToLoad.keySet()) {
+            if (!isDynamicAttributesSupported(metaClass)) {
+                continue;
             }
-        } else {
-            List<Object> ids = entities.stream()
-                    .map(e -> referenceToEntitySupport.getReferenceId(e))
-                    .collect(Collectors.toList());
-
-            Multimap<Object, CategoryAttributeValue> allAttributeValues = HashMultimap.create();
-
-            List<Object> currentIds = new ArrayList<>();
-            for (Object id : ids) {
-                currentIds.add(id);
-                if (currentIds.size() >= MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH) {
-                    for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
-                        allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
-                    }
-                    currentIds = new ArrayList<>();
+            Map<Object, Map<String, Object>> valuesById = new HashMap<>();
+            List<Object> idsToSelect = new ArrayList<>();
+            for (Object entity : entitiesToLoad.get(metaClass)) {
+                Object id = referenceToEntitySupport.getReferenceId(entity);
+                if (valuesById.containsKey(id)) {
+                    continue;
+                }
+                Map<String, Object> cachedValues = valuesCache.get(metaClass, id);
+                if (cachedValues != null) {
+                    valuesById.put(id, cachedValues);
+                } else {
+                    valuesById.put(id, new HashMap<>());
+                    idsToSelect.add(id);
                 }
             }
-            if (!currentIds.isEmpty()) {
-                for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
-                    allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
+            valuesByClass.put(metaClass, valuesById);
+            idsToSelectByClass.put(metaClass, idsToSelect);
+        }
+
+        Map<MetaClass, List<CategoryAttributeValue>> selectedValuesByClass = new HashMap<>();
+        List<CategoryAttributeValue> collectionValues = new ArrayList<>();
+        for (Map.Entry<MetaClass, List<Object>> entry : idsToSelectByClass.entrySet()) {
+            List<CategoryAttributeValue> selectedValues = new ArrayList<>();
+            for (List<Object> ids : Lists.partition(entry.getValue(), MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH)) {
+                selectedValues.addAll(findValuesByEntityIds(entry.getKey(), ids, codesToSelect));
+            }
+            for (CategoryAttributeValue value : selectedValues) {
+                if (BooleanUtils.isTrue(value.getCategoryAttribute().getIsCollection())) {
+                    collectionValues.add(value);
                 }
             }
+            selectedValuesByClass.put(entry.getKey(), selectedValues);
+        }
 
-            for (Object entity : entities) {
-                Collection<CategoryAttributeValue> values = allAttributeValues.get(referenceToEntitySupport.getReferenceId(entity));
+        Map<UUID, CategoryAttributeValue> reloadedCollectionValues = new HashMap<>();
+        for (List<CategoryAttributeValue> values : Lists.partition(collectionValues, MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH)) {
+            for (CategoryAttributeValue value : fetchCollectionValues(values)) {
+                reloadedCollectionValues.put(value.getId(), value);
+            }
+        }
+
+        for (Map.Entry<MetaClass, List<Object>> entry : idsToSelectByClass.entrySet()) {
+            Map<Object, Map<String, Object>> valuesById = valuesByClass.get(entry.getKey());
+            for (CategoryAttributeValue value : selectedValuesByClass.get(entry.getKey())) {
+                Map<String, Object> values = valuesById.get(value.getObjectEntityId());
+                CategoryAttribute attribute = value.getCategoryAttribute();
+                if (values != null && attribute != null) {
+                    CategoryAttributeValue reloaded = reloadedCollectionValues.get(value.getId());
+                    values.put(attribute.getCode(), getDetachedValue(reloaded != null ? reloaded : value));
+                }
+            }
+            if (codesToSelect == null) {
+                for (Object id : entry.getValue()) {
+                    valuesCache.put(entry.getKey(), id, Collections.unmodifiableMap(valuesById.get(id)));
+                }
+            }
+        }
+
+        Map<DynAttrValuesCache.EntityRef, Object> referencedEntities =
+                fetchReferencedEntities(accessConstraints, valuesByClass.values(), attributeCodes);
+
+        for (MetaClass metaClass : entitiesToLoad.keySet()) {
+            Map<Object, Map<String, Object>> valuesById = valuesByClass.get(metaClass);
+            for (Object entity : entitiesToLoad.get(metaClass)) {
                 DynamicAttributesState state = new DynamicAttributesState(getEntityEntry(entity));
                 addExtraState(entity, state);
-
+                if (valuesById == null) {
+                    continue;
+                }
                 Map<String, Object> map = new HashMap<>();
-                if (values != null && !values.isEmpty()) {
-                    for (CategoryAttributeValue categoryAttributeValue : values) {
-                        CategoryAttribute attribute = categoryAttributeValue.getCategoryAttribute();
-                        if (attribute != null) {
-                            map.put(attribute.getCode(), categoryAttributeValue.getValue());
-                        }
+                Map<String, Object> values = valuesById.get(referenceToEntitySupport.getReferenceId(entity));
+                for (Map.Entry<String, Object> valueEntry : values.entrySet()) {
+                    if (attributeCodes == null || attributeCodes.contains(valueEntry.getKey())) {
+                        map.put(valueEntry.getKey(), getAttachedValue(valueEntry.getValue(), referencedEntities));
                     }
                 }
                 state.setDynamicAttributes(new DynamicAttributes(map));
@@ -253,63 +311,155 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
-    protected List<CategoryAttributeValue> loadValues(MetaClass metaClass, Collection<AccessConstraint<?>> accessConstraints,
-                                                      List<Object> entityIds) {
-
-        List<CategoryAttributeValue> mainAttributeValues = findValuesByEntityIds(metaClass, entityIds);
-
-        List<CategoryAttributeValue> entityValues = mainAttributeValues.stream()
-                .filter(v -> v.getObjectEntityValueId() != null)
-                .collect(Collectors.toList());
-
-        List<CategoryAttributeValue> collectionValues = mainAttributeValues.stream()
-                .filter(v -> BooleanUtils.isTrue(v.getCategoryAttribute().getIsCollection()))
-                .collect(Collectors.toList());
+    protected boolean isDynamicAttributesSupported(MetaClass metaClass) {
+        return !dynAttrMetadata.getAttributes(metaClass).isEmpty() &&
+                (!metadataTools.hasCompositePrimaryKey(metaClass) || metadataTools.hasUuid(metaClass));
+    }
 
-        if (collectionValues.isEmpty()) {
-            fetchEntityValues(accessConstraints, entityValues);
+    /**
+     * Returns the value of the attribute with references to entities replaced by {@link DynAttrValuesCache.EntityRef}.
+     */
+    @Nullable
+    protected Object getDetachedValue(CategoryAttributeValue value) {
+        CategoryAttribute attribute = value.getCategoryAttribute();
+        if (BooleanUtils.isTrue(attribute.getIsCollection())) {
+            List<Object> items = new ArrayList<>();
+            if (value.getChildValues() != null) {
+                for (CategoryAttributeValue child : value.getChildValues()) {
+                    if (child.getDeleteTs() == null) {
+                        items.add(attribute.getDataType() == AttributeType.ENTITY
+                                ? createEntityRef(attribute, child.getObjectEntityValueId())
+                                : child.getValue());
+                    }
+                }
+            }
+            return Collections.unmodifiableList(items);
+        }
+        if (value.getObjectEntityValueId() != null) {
+            return createEntityRef(attribute, value.getObjectEntityValueId());
+        }
+        return value.getValue();
+    }
 
-            return mainAttributeValues;
-        } else {
-            List<CategoryAttributeValue> reloadedCollectionValues = fetchCollectionValues(collectionValues);
+    @Nullable
+    protected DynAttrValuesCache.EntityRef createEntityRef(CategoryAttribute attribute, @Nullable Object id) {
+        return id == null ? null : new DynAttrValuesCache.EntityRef(attribute.getEntityClass(), id);
+    }
 
-            List<CategoryAttributeValue> values = new ArrayList<>(mainAttributeValues.size());
+    /**
+     * Returns the value of the attribute with {@link DynAttrValuesCache.EntityRef}s replaced by the loaded entities.
+     */
+    @Nullable
+    protected Object getAttachedValue(@Nullable Object value, Map<DynAttrValuesCache.EntityRef, Object> referencedEntities) {
+        if (value instanceof DynAttrValuesCache.EntityRef entityRef) {
+            return referencedEntities.get(entityRef);
+        } else if (value instanceof List<?> list) {
+            List<Object> items = new ArrayList<>(list.size());
+            for (Object item : list) {
+                items.add(getAttachedValue(item, referencedEntities));
+            }
+            return items;
+        } else if (value instanceof Date date) {
+            // cached values must not be modified
+            return date.clone();
+        }
+        return value;
+    }
 
-            for (CategoryAttributeValue value : reloadedCollectionValues) {
-                if (value.getCategoryAttribute().getDataType() == AttributeType.ENTITY && value.getChildValues() != null) {
-                    for (CategoryAttributeValue child : value.getChildValues()) {
-                        if (child.getDeleteTs() == null) {
-                            entityValues.add(child);
+    /**
+     * Loads entities referenced by the attribute values if the entities are permitted to read.
+     */
+    protected Map<DynAttrValuesCache.EntityRef, Object> fetchReferencedEntities(
+            Collection<AccessConstraint<?>> accessConstraints,
+            Collection<Map<Object, Map<String, Object>>> valuesByClass,
+            @Nullable Collection<String> attributeCodes) {
+        Multimap<String, Object> idsByClassName = HashMultimap.create();
+        for (Map<Object, Map<String, Object>> valuesById : valuesByClass) {
+            for (Map<String, Object> values : valuesById.values()) {
+                for (Map.Entry<String, Object> entry : values.entrySet()) {
+                    if (attributeCodes != null && !attributeCodes.contains(entry.getKey())) {
+                        continue;
+                    }
+                    Object value = entry.getValue();
+                    if (value instanceof DynAttrValuesCache.EntityRef entityRef) {
+                        idsByClassName.put(entityRef.entityClass(), entityRef.id());
+                    } else if (value instanceof List<?> list) {
+                        for (Object item : list) {
+                            if (item instanceof DynAttrValuesCache.EntityRef entityRef) {
+                                idsByClassName.put(entityRef.entityClass(), entityRef.id());
+                            }
                         }
                     }
                 }
             }
-            fetchEntityValues(accessConstraints, entityValues);
-
-            for (CategoryAttributeValue value : reloadedCollectionValues) {
-                if (value.getChildValues() != null) {
-                    value.setTransientCollectionValue(
-                            value.getChildValues().stream()
-                                    .filter(v -> v.getDeleteTs() == null)
-                                    .map(CategoryAttributeValue::getValue)
-                                    .collect(Collectors.toList())
-                    );
-                }
+        }
+
+        Map<DynAttrValuesCache.EntityRef, Object> result = new HashMap<>();
+        EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
+        for (Map.Entry<String, Collection<Object>> entry : idsByClassName.asMap().entrySet()) {
+            MetaClass metaClass;
+            try {
+                metaClass = metadata.getClass(ReflectionHelper.loadClass(entry.getKey()));
+            } catch (ClassNotFoundException e) {
+                log.error("Class {} not found", entry.getKey());
+                continue;
+            }
+
+            CrudEntityContext crudEntityContext = new CrudEntityContext(metaClass);
+            accessManager.applyConstraints(crudEntityContext, accessConstraints);
+            if (!crudEntityContext.isReadPermitted()) {
+                continue;
             }
 
-            for (CategoryAttributeValue value : mainAttributeValues) {
-                if (!reloadedCollectionValues.contains(value)) {
-                    values.add(value);
+            String pkName = referenceToEntitySupport.getPrimaryKeyForLoadingEntity(metaClass);
+            for (List<Object> ids : Lists.partition(new ArrayList<>(entry.getValue()), MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH)) {
+                List<?> resultList = entityManager.createQuery(
+                                String.format("select e from %s e where e.%s in :ids", metaClass.getName(), pkName))
+                        .setParameter("ids", ids)
+                        .setHint(PersistenceHints.FETCH_PLAN, fetchPlanRepository.getFetchPlan(metaClass, FetchPlan.INSTANCE_NAME))
+                        .getResultList();
+                for (Object entity : resultList) {
+                    result.put(new DynAttrValuesCache.EntityRef(entry.getKey(), referenceToEntitySupport.getReferenceId(entity)),
+                            entity);
                 }
             }
-            values.addAll(reloadedCollectionValues);
+        }
+        return result;
+    }
+
+    /**
+     * Selects the stored values of the entity. Collection values are reloaded together with their items.
+     */
+    protected List<CategoryAttributeValue> findValuesToStore(MetaClass metaClass, Object entityId) {
+        List<CategoryAttributeValue> values = findValuesByEntityIds(metaClass, Collections.singletonList(entityId));
 
+        List<CategoryAttributeValue> collectionValues = values.stream()
+                .filter(v -> BooleanUtils.isTrue(v.getCategoryAttribute().getIsCollection()))
+                .collect(Collectors.toList());
+        if (collectionValues.isEmpty()) {
             return values;
         }
-    }
 
+        List<CategoryAttributeValue> reloadedCollectionValues = fetchCollectionValues(collectionValues);
+        List<CategoryAttributeValue> result = new ArrayList<>(values.size());
+        for (CategoryAttributeValue value : values) {
+            if (!reloadedCollectionValues.contains(value)) {
+                result.add(value);
+            }
+        }
+        result.addAll(reloadedCollectionValues);
+        return result;
+    }
 
     protected List<CategoryAttributeValue> findValuesByEntityIds(MetaClass metaClass, List<Object> entityIds) {
+        return findValuesByEntityIds(metaClass, entityIds, null);
+    }
+
+    /**
+     * @param attributeCodes codes of the attributes to select, null to select all attributes
+     */
+    protected List<CategoryAttributeValue> findValuesByEntityIds(MetaClass metaClass, List<Object> entityIds,
+                                                                 @Nullable Collection<String> attributeCodes) {
         EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
 
         FetchPlan fetchPlan = fetchPlans.builder(CategoryAttributeValue.class)
@@ -320,83 +470,32 @@ public class DynAttrManagerImpl implements DynAttrManager {
                 })
                 .build();
 
-        List<CategoryAttributeValue> result;
+        String codesCondition = attributeCodes == null ? "" : " and v.code in :codes";
+
+        TypedQuery<CategoryAttributeValue> query;
         if (metadataTools.hasUuid(metaClass)) {
-            result = entityManager.createQuery(
-                            String.format("select v from dynat_CategoryAttributeValue v where v.entity.%s in :ids and v.parent is null",
-                                    referenceToEntitySupport.getReferenceIdPropertyName(metaClass)), CategoryAttributeValue.class)
+            query = entityManager.createQuery(
+                            String.format("select v from dynat_CategoryAttributeValue v where v.entity.%s in :ids and v.parent is null%s",
+                                    referenceToEntitySupport.getReferenceIdPropertyName(metaClass), codesCondition), CategoryAttributeValue.class)
                     .setParameter("ids", entityIds)
-                    .setHint(PersistenceHints.FETCH_PLAN, fetchPlan)
-                    .getResultList();
+                    .setHint(PersistenceHints.FETCH_PLAN, fetchPlan);
         } else {
-            result = entityManager.createQuery(String.format("select v from dynat_CategoryAttributeValue v where v.entity.%s in :ids " +
-                                    "and v.categoryAttribute.categoryEntityType = :entityType and v.parent is null",
-                            referenceToEntitySupport.getReferenceIdPropertyName(metaClass)), CategoryAttributeValue.class)
+            query = entityManager.createQuery(String.format("select v from dynat_CategoryAttributeValue v where v.entity.%s in :ids " +
+                                    "and v.categoryAttribute.categoryEntityType = :entityType and v.parent is null%s",
+                            referenceToEntitySupport.getReferenceIdPropertyName(metaClass), codesCondition), CategoryAttributeValue.class)
                     .setParameter("ids", entityIds)
                     .setParameter("entityType", metaClass.getName())
-                    .setHint(PersistenceHints.FETCH_PLAN, fetchPlan)
-                    .getResultList();
+                    .setHint(PersistenceHints.FETCH_PLAN, fetchPlan);
+        }
+        if (attributeCodes != null) {
+            query.setParameter("codes", attributeCodes);
         }
+        List<CategoryAttributeValue> result = query.getResultList();
         return result.stream()
                 .filter(v -> v.getDeleteTs() == null)
                 .collect(Collectors.toList());
     }
 
-    /**
-     * Method loads entity values for CategoryAttributeValues of entity type and sets entity values to the corresponding
-     * property of the {@code CategoryAttributeValue} entity.
-     */
-    @SuppressWarnings("unchecked")
-    protected void fetchEntityValues(Collection<AccessConstraint<?>> accessConstraints, List<CategoryAttributeValue> values) {
-        Multimap<MetaClass, Object> entityIds = HashMultimap.create();
-        Multimap<MetaClass, CategoryAttributeValue> valuesByType = HashMultimap.create();
-
-        for (CategoryAttributeValue value : values) {
-            String className = value.getCategoryAttribute().getEntityClass();
-            try {
-                Class<?> aClass = ReflectionHelper.loadClass(className);
-                MetaClass metaClass = metadata.getClass(aClass);
-
-                CrudEntityContext crudEntityContext = new CrudEntityContext(metaClass);
-                accessManager.applyConstraints(crudEntityContext, accessConstraints);
-
-                if (crudEntityContext.isReadPermitted()) {
-                    entityIds.put(metaClass, value.getObjectEntityValueId());
-                    valuesByType.put(metaClass, value);
-                }
-            } catch (ClassNotFoundException e) {
-                log.error("Class {} not found", className);
-            }
-        }
-
-        EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
-
-        for (Map.Entry<MetaClass, Collection<Object>> entry : entityIds.asMap().entrySet()) {
-
-            MetaClass metaClass = entry.getKey();
-            Collection<Object> ids = entry.getValue();
-
-            if (!ids.isEmpty()) {
-                String pkName = referenceToEntitySupport.getPrimaryKeyForLoadingEntity(metaClass);
-                List<?> resultList = entityManager.createQuery(
-                                String.format("select e from %s e where e.%s in :ids", metaClass.getName(), pkName))
-                        .setParameter("ids", ids)
-                        .setHint(PersistenceHints.FETCH_PLAN, fetchPlanRepository.getFetchPlan(metaClass, FetchPlan.INSTANCE_NAME))
-                        .getResultList();
-
-
-                Map<Object, Object> entityById = new LinkedHashMap<>();
-                for (Object entity : resultList) {
-                    entityById.put(EntityValues.getId(entity), entity);
-                }
-
-                for (CategoryAttributeValue value : valuesByType.get(metaClass)) {
-                    value.setTransientEntityValue(entityById.get(value.getObjectEntityValueId()));
-                }
-            }
-        }
-    }
-
     protected List<CategoryAttributeValue> fetchCollectionValues(List<CategoryAttributeValue> values) {
         EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
 
@@ -61,6 +61,8 @@ public class DynAttrMetadataImpl implements DynAttrMetadata {
     protected CacheManager cacheManager;
     @Autowired
     protected CacheOperations cacheOperations;
+    @Autowired
+    protected DynAttrValuesCache valuesCache;
 
     protected Cache cache;
     protected String dynamicAttributesStore = Stores.MAIN;
@@ -123,6 +125,7 @@ public class DynAttrMetadataImpl implements DynAttrMetadata {
     @Override
     public void reload() {
         cache.invalidate();
+        valuesCache.invalidateAll();
     }
 
     protected CacheItem loadCacheItem(String entityName) {
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dynattr.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.Metadata;
+import io.jmix.core.ReferenceToEntitySupport;
+import io.jmix.core.UuidProvider;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.dynattr.DynAttrProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches dynamic attribute values of entities by entity id.
+ * <p>
+ * Values are stored in the form independent of the current user: references to entities are stored as
+ * {@link EntityRef} and resolved by {@link DynAttrManagerImpl} on each load taking into account the access
+ * constraints. The cache is disabled if {@link DynAttrProperties#getValuesCacheSize()} is zero.
+ * <p>
+ * Evictions are sent to other application instances of a cluster by {@link DynAttrValuesCacheInvalidationEvent}.
+ */
+@Component("dynat_DynAttrValuesCache")
+public class DynAttrValuesCache {
+
+    protected final Metadata metadata;
+    protected final ExtendedEntities extendedEntities;
+    protected final ReferenceToEntitySupport referenceToEntitySupport;
+    protected final ObjectProvider<ClusterApplicationEventPublisher> clusterEventPublisherProvider;
+
+    protected final String instanceId = UuidProvider.createUuid().toString();
+
+    @Nullable
+    protected final Cache<Key, Map<String, Object>> cache;
+
+    public DynAttrValuesCache(DynAttrProperties properties,
+                              Metadata metadata,
+                              ExtendedEntities extendedEntities,
+                              ReferenceToEntitySupport referenceToEntitySupport,
+                              ObjectProvider<ClusterApplicationEventPublisher> clusterEventPublisherProvider) {
+        this.metadata = metadata;
+        this.extendedEntities = extendedEntities;
+        this.referenceToEntitySupport = referenceToEntitySupport;
+        this.clusterEventPublisherProvider = clusterEventPublisherProvider;
+
+        if (properties.getValuesCacheSize() > 0) {
+            cache = CacheBuilder.newBuilder()
+                    .maximumSize(properties.getValuesCacheSize())
+                    .expireAfterWrite(properties.getValuesCacheExpiration())
+                    .build();
+        } else {
+            cache = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @return cached values by attribute codes or null if the values of the entity are not cached
+     */
+    @Nullable
+    public Map<String, Object> get(MetaClass metaClass, Object referenceId) {
+        return cache == null ? null : cache.getIfPresent(createKey(metaClass, referenceId));
+    }
+
+    public void put(MetaClass metaClass, Object referenceId, Map<String, Object> values) {
+        if (cache != null) {
+            cache.put(createKey(metaClass, referenceId), values);
+        }
+    }
+
+    /**
+     * Evicts the values of the given entities in this and other application instances. If a transaction is active,
+     * the values are evicted once more after its completion to drop the values cached by concurrent loads before the
+     * changes were committed, and other instances are notified only after the commit.
+     */
+    public void invalidate(Collection<?> entities) {
+        if (cache == null || entities.isEmpty()) {
+            return;
+        }
+        List<Key> keys = entities.stream()
+                .map(entity -> createKey(metadata.getClass(entity), referenceToEntitySupport.getReferenceId(entity)))
+                .toList();
+        cache.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keys);
+                    if (status == STATUS_COMMITTED) {
+                        publishInvalidationEvent(keys, false);
+                    }
+                }
+            });
+        } else {
+            publishInvalidationEvent(keys, false);
+        }
+    }
+
+    /**
+     * Evicts all values in this and other application instances.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+            publishInvalidationEvent(Collections.emptyList(), true);
+        }
+    }
+
+    protected void publishInvalidationEvent(List<Key> keys, boolean all) {
+        ClusterApplicationEventPublisher publisher = clusterEventPublisherProvider.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(new DynAttrValuesCacheInvalidationEvent(this, instanceId, new ArrayList<>(keys), all));
+        }
+    }
+
+    @EventListener
+    public void onValuesCacheInvalidation(DynAttrValuesCacheInvalidationEvent event) {
+        if (cache == null || instanceId.equals(event.getSenderId())) {
+            return;
+        }
+        if (event.isAll()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.getKeys());
+        }
+    }
+
+    protected Key createKey(MetaClass metaClass, Object referenceId) {
+        return new Key(extendedEntities.getOriginalOrThisMetaClass(metaClass).getName(), referenceId);
+    }
+
+    /**
+     * Key of the cached values of an entity.
+     *
+     * @param entityName  name of the original meta-class of the entity
+     * @param referenceId reference id of the entity
+     */
+    public record Key(String entityName, Object referenceId) implements Serializable {
+    }
+
+    /**
+     * Reference to an entity which is a value of a dynamic attribute.
+     *
+     * @param entityClass class name of the referenced entity
+     * @param id          reference id of the referenced entity
+     */
+    public record EntityRef(String entityClass, Object id) {
+    }
+}
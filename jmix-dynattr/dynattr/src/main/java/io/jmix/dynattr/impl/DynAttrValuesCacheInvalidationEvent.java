@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.dynattr.impl;
+
+import io.jmix.core.cluster.ClusterApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Event sent to all application instances in a cluster to evict cached dynamic attribute values of changed entities.
+ *
+ * @see DynAttrValuesCache
+ */
+public class DynAttrValuesCacheInvalidationEvent extends ClusterApplicationEvent {
+
+    private static final long serialVersionUID = -4183617905628716634L;
+
+    protected final String senderId;
+    protected final List<DynAttrValuesCache.Key> keys;
+    protected final boolean all;
+
+    public DynAttrValuesCacheInvalidationEvent(Object source, String senderId, List<DynAttrValuesCache.Key> keys,
+                                               boolean all) {
+        super(source);
+        this.senderId = senderId;
+        this.keys = keys;
+        this.all = all;
+    }
+
+    /**
+     * Returns identifier of the {@link DynAttrValuesCache} instance which sent the event.
+     */
+    public String getSenderId() {
+        return senderId;
+    }
+
+    /**
+     * Returns keys of the entities whose values should be evicted.
+     */
+    public List<DynAttrValuesCache.Key> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns true if all cached values should be evicted.
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        return "DynAttrValuesCacheInvalidationEvent{" +
+                "senderId='" + senderId + '\'' +
+                ", keys=" + keys +
+                ", all=" + all +
+                '}';
+    }
+}
@@ -271,6 +271,46 @@ class DynamicAttributesTest extends Specification {
         EntityValues.getValue(user, '+userAttribute') == 'userName'
     }
 
+    def "load only requested dynamic attributes"() {
+        setup:
+
+        def user = dataManager.load(User)
+                .id(user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .one()
+
+        EntityValues.setValue(user, '+userAttribute', 'userName')
+        EntityValues.setValue(user, '+userEnumAttribute', 'option1')
+        dataManager.save(user)
+
+        when:
+
+        user = dataManager.load(User)
+                .id(user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .hint(DynAttrQueryHints.DYN_ATTR_CODES, ['userAttribute'])
+                .one()
+
+        then:
+        EntityValues.getValue(user, '+userAttribute') == 'userName'
+        EntityValues.getValue(user, '+userEnumAttribute') == null
+
+        when: "an attribute that was not loaded is changed"
+
+        EntityValues.setValue(user, '+userEnumAttribute', 'option2')
+        dataManager.save(user)
+        user = dataManager.load(User)
+                .id(user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .one()
+
+        then: "the existing value is updated"
+        EntityValues.getValue(user, '+userAttribute') == 'userName'
+        EntityValues.getValue(user, '+userEnumAttribute') == 'option2'
+        new JdbcTemplate(dataSource).queryForObject(
+                "select count(*) from DYNAT_ATTR_VALUE where CODE = 'userEnumAttribute'", Integer) == 1
+    }
+
     def "load nested dynamic attributes"() {
         setup:
 
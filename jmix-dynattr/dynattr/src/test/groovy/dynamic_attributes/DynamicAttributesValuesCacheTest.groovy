@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dynamic_attributes
+
+import io.jmix.core.entity.EntityValues
+import io.jmix.dynattr.DynAttrQueryHints
+import io.jmix.dynattr.impl.DynAttrValuesCache
+import io.jmix.dynattr.impl.DynAttrValuesCacheInvalidationEvent
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import test_support.entity.User
+
+/**
+ * Runs all dynamic attributes tests with the values cache enabled.
+ */
+@TestPropertySource(properties = ['jmix.dynattr.values-cache-size = 100'])
+class DynamicAttributesValuesCacheTest extends DynamicAttributesTest {
+
+    @Autowired
+    DynAttrValuesCache valuesCache
+    @Autowired
+    ApplicationEventPublisher eventPublisher
+
+    def "values are loaded from the cache until the entity is saved"() {
+        setup:
+
+        def user = loadUser()
+        EntityValues.setValue(user, '+userAttribute', 'userName')
+        dataManager.save(user)
+        loadUser()
+
+        when: "the value is changed bypassing the data manager"
+
+        updateStringValue('changedInDb')
+        user = loadUser()
+
+        then:
+        valuesCache.get(metadata.getClass(User), user1.id) != null
+        EntityValues.getValue(user, '+userAttribute') == 'userName'
+
+        when: "the entity is saved"
+
+        EntityValues.setValue(user, '+userAttribute', 'savedValue')
+        dataManager.save(user)
+
+        then:
+        valuesCache.get(metadata.getClass(User), user1.id) == null
+        EntityValues.getValue(loadUser(), '+userAttribute') == 'savedValue'
+    }
+
+    def "values are evicted by the invalidation event of another instance"() {
+        setup:
+
+        def user = loadUser()
+        EntityValues.setValue(user, '+userAttribute', 'userName')
+        dataManager.save(user)
+        loadUser()
+        updateStringValue('changedInDb')
+
+        when: "the event is sent by this instance"
+
+        eventPublisher.publishEvent(new DynAttrValuesCacheInvalidationEvent(this, valuesCache.instanceId,
+                [new DynAttrValuesCache.Key('dynattr$User', user1.id)], false))
+
+        then:
+        EntityValues.getValue(loadUser(), '+userAttribute') == 'userName'
+
+        when: "the event is sent by another instance"
+
+        eventPublisher.publishEvent(new DynAttrValuesCacheInvalidationEvent(this, 'otherInstance',
+                [new DynAttrValuesCache.Key('dynattr$User', user1.id)], false))
+
+        then:
+        valuesCache.get(metadata.getClass(User), user1.id) == null
+        EntityValues.getValue(loadUser(), '+userAttribute') == 'changedInDb'
+
+        when: "all values are evicted by another instance"
+
+        updateStringValue('changedAgain')
+        eventPublisher.publishEvent(new DynAttrValuesCacheInvalidationEvent(this, 'otherInstance', [], true))
+
+        then:
+        EntityValues.getValue(loadUser(), '+userAttribute') == 'changedAgain'
+    }
+
+    protected User loadUser() {
+        dataManager.load(User)
+                .id(user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .one()
+    }
+
+    protected void updateStringValue(String value) {
+        new JdbcTemplate(dataSource).update(
+                "update DYNAT_ATTR_VALUE set STRING_VALUE = ? where CODE = 'userAttribute'", value)
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.jmix.email;
 
+import io.jmix.core.FileRef;
 import org.springframework.lang.Nullable;
 import jakarta.mail.Part;
 import java.io.Serializable;
@@ -27,6 +28,14 @@ public class EmailAttachment implements Serializable {
     private static final long serialVersionUID = 8201729520638588939L;
 
     private final byte[] data;
+
+    /**
+     * Content already saved to file storage. If set, queued messages reference this file instead of storing their own
+     * copy of the content, and the content is streamed from the file storage when the message is sent. The file is
+     * owned by the application and is not removed by {@link EmailCleaner}.
+     */
+    private final FileRef file;
+
     private final String name;
 
     private final String contentId;
@@ -59,16 +68,47 @@ public class EmailAttachment implements Serializable {
     public EmailAttachment(byte[] data, String name, @Nullable String contentId, String disposition,
                            @Nullable String encoding) {
         this.data = data;
+        this.file = null;
         this.name = name;
         this.contentId = contentId;
         this.disposition = disposition;
         this.encoding = encoding;
     }
 
+    /**
+     * Create attachment referencing the content saved to file storage. Use it to attach the same large file to many
+     * messages without loading it into memory.
+     */
+    public EmailAttachment(FileRef file, String name, @Nullable String contentId, String disposition,
+                           @Nullable String encoding) {
+        this.data = null;
+        this.file = file;
+        this.name = name;
+        this.contentId = contentId;
+        this.disposition = disposition;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Create file attachment referencing the content saved to file storage.
+     */
+    public EmailAttachment(FileRef file, String name) {
+        this(file, name, null, Part.ATTACHMENT, null);
+    }
+
+    /**
+     * @return attachment content or null if the attachment references a {@link #getFile() file}
+     */
+    @Nullable
     public byte[] getData() {
         return data;
     }
 
+    @Nullable
+    public FileRef getFile() {
+        return file;
+    }
+
     public String getName() {
         return name;
     }
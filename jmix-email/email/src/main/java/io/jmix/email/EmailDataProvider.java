@@ -26,7 +26,8 @@ import java.util.List;
  */
 public interface EmailDataProvider {
     /**
-     * Loads email messages to be sent.
+     * Loads email messages to be sent and moves them to the {@link SendingStatus#SENDING} status. A message is
+     * returned only to the caller which has claimed it, even if the queue is processed by several nodes.
      */
     List<SendingMessage> loadEmailsToSend();
 
@@ -50,6 +51,14 @@ public interface EmailDataProvider {
      */
     void persistMessage(SendingMessage sendingMessage, SendingStatus status);
 
+    /**
+     * Persists several messages. Implementations may save them in one transaction and share file storage content
+     * between them.
+     */
+    default void persistMessages(List<SendingMessage> sendingMessages, SendingStatus status) {
+        sendingMessages.forEach(sendingMessage -> persistMessage(sendingMessage, status));
+    }
+
     /**
      * Migrate list of existing messages to be stored in file storage, in a single transaction.
      */
@@ -19,6 +19,10 @@ package io.jmix.email;
 import io.jmix.email.entity.SendingMessage;
 
 import jakarta.mail.MessagingException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Adapter to javax.mail email sending API.
  * <br>
@@ -27,11 +31,40 @@ import jakarta.mail.MessagingException;
 public interface EmailSender {
     /**
      * Sends email with help of {@link org.springframework.mail.javamail.JavaMailSender}.
-     * Message body and attachments' content must be loaded from file storage.
+     * Message body must be loaded from file storage. Attachments' content is loaded from file storage too, unless
+     * {@link #isAttachmentStreamingSupported()} returns true.
      * <br>
      * Use {@link Emailer} instead if you need email to be delivered reliably and stored to email history.
      *
      * @throws MessagingException if delivery fails
      */
     void sendEmail(SendingMessage sendingMessage) throws MessagingException;
-}
\ No newline at end of file
+
+    /**
+     * Sends several emails, reusing the SMTP connection for all of them when the implementation supports it.
+     * The messages are prepared as described in {@link #sendEmail(SendingMessage)}.
+     *
+     * @param sendingMessages messages to send
+     * @return messages that were not delivered, mapped to the corresponding exceptions
+     */
+    default Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = new LinkedHashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                sendEmail(sendingMessage);
+            } catch (Exception e) {
+                failures.put(sendingMessage, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Returns true if the sender reads the content of attachments saved to file storage by itself, using
+     * {@link io.jmix.email.entity.SendingAttachment#getContentFile()}. Otherwise, the content is loaded into
+     * {@link io.jmix.email.entity.SendingAttachment#getContent()} before the message is passed to the sender.
+     */
+    default boolean isAttachmentStreamingSupported() {
+        return false;
+    }
+}
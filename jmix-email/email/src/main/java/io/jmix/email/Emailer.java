@@ -19,6 +19,7 @@ import io.jmix.email.entity.SendingMessage;
 
 import org.springframework.lang.Nullable;
 import java.util.Date;
+import java.util.List;
 
 
 /**
@@ -79,6 +80,22 @@ public interface Emailer {
      */
     SendingMessage sendEmailAsync(EmailInfo info);
 
+    /**
+     * Send several emails asynchronously, e.g. the same content to many recipients.
+     * <p>
+     * All messages are saved in one transaction. If {@link EmailerProperties#isUseFileStorage()} is enabled, equal
+     * bodies and the same attachments (the same {@link EmailAttachment} instances or data arrays) are saved to file
+     * storage once and referenced by all created messages.
+     *
+     * @param infos         email details
+     * @param attemptsLimit count of attempts to send. If not specified,
+     *                      {@link EmailerProperties#getDefaultSendingAttemptsLimit()} is used
+     * @param deadline      Emailer tries to send messages till deadline
+     * @return created {@link SendingMessage}s in the order of the passed email details
+     */
+    List<SendingMessage> sendEmailsAsync(List<EmailInfo> infos, @Nullable Integer attemptsLimit,
+                                         @Nullable Date deadline);
+
     /**
      * Send emails added to the queue.
      * <p>
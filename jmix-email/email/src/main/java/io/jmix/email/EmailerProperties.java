@@ -118,6 +118,33 @@ public class EmailerProperties {
      */
     boolean cleanFileStorage;
 
+    /**
+     * Number of queued messages claimed for sending by a single database transaction. Messages are claimed page by
+     * page with conditional updates, so several application nodes can process the queue concurrently without sending
+     * the same message twice.
+     */
+    int queueClaimPageSize;
+
+    /**
+     * Number of queued messages sent by a single task over one SMTP connection. The default value (1) sends each
+     * message in a separate task.
+     */
+    int sendingBatchSize;
+
+    /**
+     * Maximum number of authenticated SMTP connections kept open and reused between sending tasks. Zero value (0)
+     * means that a new connection is opened for every send operation.
+     */
+    @PositiveOrZero
+    int smtpConnectionPoolSize;
+
+    /**
+     * Maximum number of messages per second sent to the SMTP server. Zero value (0) means that the sending rate is not
+     * limited.
+     */
+    @PositiveOrZero
+    double smtpRateLimit;
+
     public EmailerProperties(@DefaultValue("DoNotReply@localhost") String fromAddress,
                              @DefaultValue("2") int scheduledSendingDelayCallCount,
                              @DefaultValue("100") int messageQueueCapacity,
@@ -131,7 +158,11 @@ public class EmailerProperties {
                              @DefaultValue("0") int maxAgeOfImportantMessages,
                              @DefaultValue("0") int maxAgeOfNonImportantMessages,
                              @DefaultValue("0 0 0 * * ?") String emailCleaningCron,
-                             @DefaultValue("false") boolean cleanFileStorage) {
+                             @DefaultValue("false") boolean cleanFileStorage,
+                             @DefaultValue("50") int queueClaimPageSize,
+                             @DefaultValue("1") int sendingBatchSize,
+                             @DefaultValue("0") int smtpConnectionPoolSize,
+                             @DefaultValue("0") double smtpRateLimit) {
         this.fromAddress = fromAddress;
         this.scheduledSendingDelayCallCount = scheduledSendingDelayCallCount;
         this.messageQueueCapacity = messageQueueCapacity;
@@ -146,6 +177,10 @@ public class EmailerProperties {
         this.maxAgeOfNonImportantMessages = maxAgeOfNonImportantMessages;
         this.emailCleaningCron = emailCleaningCron;
         this.cleanFileStorage = cleanFileStorage;
+        this.queueClaimPageSize = queueClaimPageSize;
+        this.sendingBatchSize = sendingBatchSize;
+        this.smtpConnectionPoolSize = smtpConnectionPoolSize;
+        this.smtpRateLimit = smtpRateLimit;
     }
 
     /**
@@ -259,4 +294,32 @@ public class EmailerProperties {
     public boolean getCleanFileStorage() {
         return cleanFileStorage;
     }
+
+    /**
+     * @see #queueClaimPageSize
+     */
+    public int getQueueClaimPageSize() {
+        return queueClaimPageSize;
+    }
+
+    /**
+     * @see #sendingBatchSize
+     */
+    public int getSendingBatchSize() {
+        return sendingBatchSize;
+    }
+
+    /**
+     * @see #smtpConnectionPoolSize
+     */
+    public int getSmtpConnectionPoolSize() {
+        return smtpConnectionPoolSize;
+    }
+
+    /**
+     * @see #smtpRateLimit
+     */
+    public double getSmtpRateLimit() {
+        return smtpRateLimit;
+    }
 }
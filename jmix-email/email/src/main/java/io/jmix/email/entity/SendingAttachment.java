@@ -86,6 +86,13 @@ public class SendingAttachment implements Serializable {
     @Column(name = "CONTENT_FILE")
     protected FileRef contentFile;
 
+    /**
+     * Whether {@link #contentFile} was saved to file storage by the application rather than by the emailer. Such
+     * files are not removed together with the message.
+     */
+    @Column(name = "EXTERNAL_CONTENT_FILE")
+    protected Boolean externalContentFile;
+
     @Column(name = "NAME", length = 500)
     protected String name;
 
@@ -222,6 +229,14 @@ public class SendingAttachment implements Serializable {
         this.contentFile = contentFile;
     }
 
+    public Boolean getExternalContentFile() {
+        return externalContentFile;
+    }
+
+    public void setExternalContentFile(Boolean externalContentFile) {
+        this.externalContentFile = externalContentFile;
+    }
+
     public String getSysTenantId() {
         return sysTenantId;
     }
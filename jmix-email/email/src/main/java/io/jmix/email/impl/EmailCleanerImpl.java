@@ -17,12 +17,14 @@
 package io.jmix.email.impl;
 
 import io.jmix.core.FetchPlanRepository;
+import io.jmix.core.FileRef;
 import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageLocator;
 import io.jmix.core.TimeSource;
 import io.jmix.data.PersistenceHints;
 import io.jmix.email.EmailCleaner;
 import io.jmix.email.EmailerProperties;
+import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 
@@ -87,23 +88,49 @@ public class EmailCleanerImpl implements EmailCleaner {
                 .setHint(PersistenceHints.FETCH_PLAN,
                         fetchPlanRepository.getFetchPlan(SendingMessage.class, "sendingMessage.deleteFile"))
                 .getResultList();
+        if (messagesToDelete.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = messagesToDelete.stream().map(SendingMessage::getId).collect(Collectors.toList());
         if (emailerProperties.getCleanFileStorage()) {
+            Set<FileRef> files = new HashSet<>();
             messagesToDelete.forEach(msg -> {
+                // files passed by the application in EmailAttachment are not owned by the emailer
                 msg.getAttachments().stream()
-                        .filter(attachment -> attachment.getContentFile() != null)
-                        .forEach(attachment -> fileStorage.removeFile(attachment.getContentFile()));
+                        .filter(attachment -> !Boolean.TRUE.equals(attachment.getExternalContentFile()))
+                        .map(SendingAttachment::getContentFile)
+                        .filter(Objects::nonNull)
+                        .forEach(files::add);
                 if (msg.getContentTextFile() != null) {
-                    fileStorage.removeFile(msg.getContentTextFile());
+                    files.add(msg.getContentTextFile());
                 }
             });
+            // files can be shared with messages which are not deleted yet, see Emailer#sendEmailsAsync(List, ...)
+            files.removeAll(findFilesReferencedByOtherMessages(files, ids));
+            files.forEach(fileStorage::removeFile);
         }
 
-        if (!messagesToDelete.isEmpty()) {
-            return entityManager.createQuery("delete from email_SendingMessage msg where msg.id in :ids", Integer.class)
-                    .setParameter("ids", messagesToDelete.stream().map(SendingMessage::getId).collect(Collectors.toList()))
-                    .executeUpdate();
-        } else {
-            return 0;
+        return entityManager.createQuery("delete from email_SendingMessage msg where msg.id in :ids", Integer.class)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private Set<FileRef> findFilesReferencedByOtherMessages(Set<FileRef> files, List<UUID> ids) {
+        Set<FileRef> referencedFiles = new HashSet<>();
+        if (files.isEmpty()) {
+            return referencedFiles;
         }
+        referencedFiles.addAll(entityManager.createQuery("select a.contentFile from email_SendingAttachment a" +
+                        " where a.contentFile in :files and a.message.id not in :ids", FileRef.class)
+                .setParameter("files", files)
+                .setParameter("ids", ids)
+                .getResultList());
+        referencedFiles.addAll(entityManager.createQuery("select msg.contentTextFile from email_SendingMessage msg" +
+                        " where msg.contentTextFile in :files and msg.id not in :ids", FileRef.class)
+                .setParameter("files", files)
+                .setParameter("ids", ids)
+                .getResultList());
+        return referencedFiles;
     }
 }
@@ -16,10 +16,12 @@
 
 package io.jmix.email.impl;
 
+import com.google.common.collect.Lists;
 import io.jmix.core.*;
 import io.jmix.data.PersistenceHints;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.email.EmailDataProvider;
+import io.jmix.email.EmailSender;
 import io.jmix.email.EmailerProperties;
 import io.jmix.email.SendingStatus;
 import io.jmix.email.entity.SendingAttachment;
@@ -40,10 +42,7 @@ import jakarta.persistence.PersistenceContext;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 @Component("email_EmailDataProvider")
 public class EmailDataProviderImpl implements EmailDataProvider {
@@ -77,6 +76,9 @@ public class EmailDataProviderImpl implements EmailDataProvider {
     @Autowired
     protected EntityEventManager entityEventManager;
 
+    @Autowired
+    protected EmailSender emailSender;
+
     @Autowired
     protected void setTransactionManager(PlatformTransactionManager transactionManager) {
         transaction = new TransactionTemplate(transactionManager);
@@ -86,33 +88,86 @@ public class EmailDataProviderImpl implements EmailDataProvider {
     @Override
     public List<SendingMessage> loadEmailsToSend() {
         Date sendTimeoutTime = DateUtils.addSeconds(timeSource.currentTimestamp(), -emailerProperties.getSendingTimeoutSec());
+        int capacity = emailerProperties.getMessageQueueCapacity();
+        int pageSize = Math.max(1, emailerProperties.getQueueClaimPageSize());
+
+        List<UUID> claimedIds = new ArrayList<>();
+        while (claimedIds.size() < capacity) {
+            int limit = Math.min(pageSize, capacity - claimedIds.size());
+            List<UUID> candidateIds = transaction.execute(status ->
+                    entityManager.createQuery(
+                            "select sm.id from email_SendingMessage sm" +
+                                    " where sm.status = :statusQueue or (sm.status = :statusSending and sm.updateTs < :time)" +
+                                    " order by sm.createTs",
+                            UUID.class)
+                            .setParameter("statusQueue", SendingStatus.QUEUE.getId())
+                            .setParameter("time", sendTimeoutTime)
+                            .setParameter("statusSending", SendingStatus.SENDING.getId())
+                            .setMaxResults(limit)
+                            .getResultList());
+            if (candidateIds == null || candidateIds.isEmpty()) {
+                break;
+            }
 
-        List<SendingMessage> emailsToSend = new ArrayList<>();
-        FetchPlan fetchPlan = fetchPlanRepository.getFetchPlan(SendingMessage.class, "sendingMessage.loadFromQueue");
-        transaction.executeWithoutResult(status -> {
-            List<SendingMessage> resList = entityManager.createQuery(
-                    "select sm from email_SendingMessage sm" +
-                            " where sm.status = :statusQueue or (sm.status = :statusSending and sm.updateTs < :time)" +
-                            " order by sm.createTs",
-                    SendingMessage.class)
-                    .setParameter("statusQueue", SendingStatus.QUEUE.getId())
-                    .setParameter("time", sendTimeoutTime)
-                    .setParameter("statusSending", SendingStatus.SENDING.getId())
-                    .setHint(PersistenceHints.FETCH_PLAN, fetchPlan)
-                    .setMaxResults(emailerProperties.getMessageQueueCapacity())
-                    .getResultList();
-
-            resList.forEach(msg -> {
-                    msg.setStatus(SendingStatus.SENDING);
-                    emailsToSend.add(msg);
-            });
-        });
+            claimedIds.addAll(claimMessages(candidateIds, sendTimeoutTime));
+
+            if (candidateIds.size() < limit) {
+                break;
+            }
+        }
+
+        List<SendingMessage> emailsToSend = new ArrayList<>(claimedIds.size());
+        if (!claimedIds.isEmpty()) {
+            FetchPlan fetchPlan = fetchPlanRepository.getFetchPlan(SendingMessage.class, "sendingMessage.loadFromQueue");
+            for (List<UUID> ids : Lists.partition(claimedIds, pageSize)) {
+                transaction.executeWithoutResult(status -> emailsToSend.addAll(
+                        entityManager.createQuery(
+                                "select sm from email_SendingMessage sm where sm.id in :ids order by sm.createTs",
+                                SendingMessage.class)
+                                .setParameter("ids", ids)
+                                .setHint(PersistenceHints.FETCH_PLAN, fetchPlan)
+                                .getResultList()));
+            }
+        }
 
         emailsToSend.forEach(this::loadBodyAndAttachments);
 
         return emailsToSend;
     }
 
+    /**
+     * Moves the given messages to the {@link SendingStatus#SENDING} status. Each message is claimed by a conditional
+     * update which holds the row lock until the transaction is committed, so a message which is concurrently claimed
+     * by another node is skipped.
+     *
+     * @return identifiers of the messages claimed by this call
+     */
+    protected List<UUID> claimMessages(List<UUID> candidateIds, Date sendTimeoutTime) {
+        List<UUID> claimedIds = new ArrayList<>(candidateIds.size());
+        transaction.executeWithoutResult(status -> {
+            Date now = timeSource.currentTimestamp();
+            for (UUID id : candidateIds) {
+                int updated = entityManager.createQuery(
+                        "update email_SendingMessage sm set sm.status = :statusSending, sm.updateTs = :now," +
+                                " sm.version = sm.version + 1" +
+                                " where sm.id = :id and (sm.status = :statusQueue" +
+                                " or (sm.status = :statusSending and sm.updateTs < :time))")
+                        .setParameter("statusSending", SendingStatus.SENDING.getId())
+                        .setParameter("statusQueue", SendingStatus.QUEUE.getId())
+                        .setParameter("now", now)
+                        .setParameter("time", sendTimeoutTime)
+                        .setParameter("id", id)
+                        .executeUpdate();
+                if (updated == 1) {
+                    claimedIds.add(id);
+                } else {
+                    log.debug("Message {} has already been claimed for sending", id);
+                }
+            }
+        });
+        return claimedIds;
+    }
+
     @Override
     public void updateStatus(SendingMessage sendingMessage, SendingStatus status) {
         try {
@@ -164,14 +219,21 @@ public class EmailDataProviderImpl implements EmailDataProvider {
 
     @Override
     public void persistMessage(SendingMessage sendingMessage, SendingStatus status) {
+        persistMessages(Collections.singletonList(sendingMessage), status);
+    }
+
+    @Override
+    public void persistMessages(List<SendingMessage> sendingMessages, SendingStatus status) {
         MessagePersistingContext context = new MessagePersistingContext();
         try {
             transaction.executeWithoutResult(transactionStatus -> {
-                if (sendingMessage.getAttemptsLimit() == null) {
-                    sendingMessage.setAttemptsLimit(emailerProperties.getDefaultSendingAttemptsLimit());
+                for (SendingMessage sendingMessage : sendingMessages) {
+                    if (sendingMessage.getAttemptsLimit() == null) {
+                        sendingMessage.setAttemptsLimit(emailerProperties.getDefaultSendingAttemptsLimit());
+                    }
+                    sendingMessage.setStatus(status);
+                    persistSendingMessage(sendingMessage, context);
                 }
-                sendingMessage.setStatus(status);
-                persistSendingMessage(sendingMessage, context);
             });
             context.finished();
         } finally {
@@ -212,6 +274,9 @@ public class EmailDataProviderImpl implements EmailDataProvider {
 
     protected void migrateAttachment(SendingAttachment attachment) {
         attachment = entityManager.merge(attachment);
+        if (attachment.getContentFile() != null) {
+            return;
+        }
         FileRef contentFile = createContentFile(null, attachment.getContent(), attachment.getName());
         attachment.setContentFile(contentFile);
         attachment.setContent(null);
@@ -238,11 +303,13 @@ public class EmailDataProviderImpl implements EmailDataProvider {
                 String body = bodyTextFromByteArray(bodyContent);
                 message.setContentText(body);
             }
-
-            for (SendingAttachment attachment : message.getAttachments()) {
-                if (attachment.getContentFile() != null) {
-                    byte[] content = IOUtils.toByteArray(getFileStorage().openStream(attachment.getContentFile()));
-                    attachment.setContent(content);
+            if (!emailSender.isAttachmentStreamingSupported()) {
+                for (SendingAttachment attachment : message.getAttachments()) {
+                    if (attachment.getContent() == null && attachment.getContentFile() != null) {
+                        FileRef contentFile = attachment.getContentFile();
+                        FileStorage fileStorage = fileStorageLocator.getByName(contentFile.getStorageName());
+                        attachment.setContent(IOUtils.toByteArray(fileStorage.openStream(contentFile)));
+                    }
                 }
             }
         } catch (IOException e) {
@@ -254,10 +321,15 @@ public class EmailDataProviderImpl implements EmailDataProvider {
         boolean useFileStorage = emailerProperties.isUseFileStorage();
 
         if (useFileStorage) {
-            byte[] bodyBytes = bodyTextToBytes(message);
-
-            String fileName = getFileName(message);
-            FileRef contentTextFile = createContentFile(context, bodyBytes, fileName);
+            // equal bodies of messages persisted together are stored once
+            FileRef contentTextFile = context.bodyFiles.get(message.getContentText());
+            if (contentTextFile == null) {
+                byte[] bodyBytes = bodyTextToBytes(message);
+
+                String fileName = getFileName(message);
+                contentTextFile = createContentFile(context, bodyBytes, fileName);
+                context.bodyFiles.put(message.getContentText(), contentTextFile);
+            }
             message.setContentTextFile(contentTextFile);
             message.setContentText(null);
         }
@@ -266,8 +338,13 @@ public class EmailDataProviderImpl implements EmailDataProvider {
         entityManager.persist(message);
 
         message.getAttachments().forEach(attachment -> {
-            if (useFileStorage) {
-                FileRef contentFile = createContentFile(context, attachment.getContent(), attachment.getName());
+            if (useFileStorage && attachment.getContentFile() == null) {
+                // the same attachment sent to several recipients is stored once
+                FileRef contentFile = context.attachmentFiles.get(attachment.getContent());
+                if (contentFile == null) {
+                    contentFile = createContentFile(context, attachment.getContent(), attachment.getName());
+                    context.attachmentFiles.put(attachment.getContent(), contentFile);
+                }
                 attachment.setContentFile(contentFile);
                 attachment.setContent(null);
             }
@@ -299,6 +376,8 @@ public class EmailDataProviderImpl implements EmailDataProvider {
 
     protected static class MessagePersistingContext {
         public final List<FileRef> files = new ArrayList<>();
+        public final Map<String, FileRef> bodyFiles = new HashMap<>();
+        public final Map<byte[], FileRef> attachmentFiles = new IdentityHashMap<>();
 
         public void finished() {
             files.clear();
@@ -18,11 +18,17 @@ package io.jmix.email.impl;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
+import com.google.common.util.concurrent.RateLimiter;
 import io.jmix.core.CoreProperties;
+import io.jmix.core.FileRef;
+import io.jmix.core.FileStorage;
+import io.jmix.core.FileStorageException;
+import io.jmix.core.FileStorageLocator;
 import io.jmix.core.FileTypesHelper;
 import io.jmix.core.TimeSource;
 import io.jmix.email.EmailHeader;
 import io.jmix.email.EmailSender;
+import io.jmix.email.EmailerProperties;
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -31,18 +37,28 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.stereotype.Component;
 
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
+import jakarta.mail.EncodingAware;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Part;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.*;
 import java.io.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("email_EmailSender")
 public class EmailSenderImpl implements EmailSender {
@@ -61,10 +77,31 @@ public class EmailSenderImpl implements EmailSender {
     @Autowired
     protected MeterRegistry meterRegistry;
 
+    @Autowired
+    protected EmailerProperties emailerProperties;
+
+    @Autowired
+    protected SmtpTransportPool transportPool;
+
+    @Autowired
+    protected FileStorageLocator fileStorageLocator;
+
+    protected final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
     @Override
     public void sendEmail(SendingMessage sendingMessage) throws MessagingException {
         MimeMessage msg = createMimeMessage(sendingMessage);
 
+        if (transportPool.isEnabled()) {
+            Map<SendingMessage, Exception> failures = new LinkedHashMap<>();
+            sendPooled(Map.of(sendingMessage, msg), failures);
+            if (failures.containsKey(sendingMessage)) {
+                throw (MailSendException) failures.get(sendingMessage);
+            }
+            return;
+        }
+
+        acquireSendPermits(1);
         Timer.Sample sample = Timer.start(meterRegistry);
         mailSender.send(msg);
         sample.stop(meterRegistry.timer("jmix.EmailSender.send"));
@@ -72,6 +109,119 @@ public class EmailSenderImpl implements EmailSender {
         log.info("Email '{}' to '{}' has been sent successfully", msg.getSubject(), sendingMessage.getAddress());
     }
 
+    /**
+     * Attachments saved to file storage are streamed by {@link FileStorageDataSource} when the message is written.
+     */
+    @Override
+    public boolean isAttachmentStreamingSupported() {
+        return true;
+    }
+
+    @Override
+    public Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = new LinkedHashMap<>();
+        Map<SendingMessage, MimeMessage> mimeMessages = new LinkedHashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                mimeMessages.put(sendingMessage, createMimeMessage(sendingMessage));
+            } catch (Exception e) {
+                failures.put(sendingMessage, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        if (transportPool.isEnabled()) {
+            sendPooled(mimeMessages, failures);
+        } else {
+            sendBatch(mimeMessages, failures);
+        }
+        return failures;
+    }
+
+    /**
+     * Sends the messages one by one over a pooled connection, so the rate limit is applied to every message. If the
+     * connection breaks, the next message is sent over a new one.
+     */
+    protected void sendPooled(Map<SendingMessage, MimeMessage> mimeMessages, Map<SendingMessage, Exception> failures) {
+        Transport transport = null;
+        try {
+            for (Map.Entry<SendingMessage, MimeMessage> entry : mimeMessages.entrySet()) {
+                MimeMessage msg = entry.getValue();
+                acquireSendPermits(1);
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    transport.sendMessage(msg, msg.getAllRecipients());
+                    sample.stop(meterRegistry.timer("jmix.EmailSender.send"));
+                    log.info("Email '{}' to '{}' has been sent successfully",
+                            msg.getSubject(), entry.getKey().getAddress());
+                } catch (Exception e) {
+                    failures.put(entry.getKey(), new MailSendException("Failed to send message", e));
+                    // recipients rejected by the server do not affect the connection
+                    if (transport != null && !(e instanceof SendFailedException)) {
+                        transportPool.release(transport, false);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, true);
+            }
+        }
+    }
+
+    /**
+     * Sends the messages by a single call of the mail sender, which uses one connection for all of them.
+     */
+    protected void sendBatch(Map<SendingMessage, MimeMessage> mimeMessages, Map<SendingMessage, Exception> failures) {
+        acquireSendPermits(mimeMessages.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            mailSender.send(mimeMessages.values().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                mimeMessages.keySet().forEach(sendingMessage -> failures.put(sendingMessage, e));
+                return;
+            }
+        } catch (MailException e) {
+            mimeMessages.keySet().forEach(sendingMessage -> failures.put(sendingMessage, e));
+            return;
+        }
+        sample.stop(meterRegistry.timer("jmix.EmailSender.sendBatch"));
+
+        for (Map.Entry<SendingMessage, MimeMessage> entry : mimeMessages.entrySet()) {
+            Exception e = failedMessages.get(entry.getValue());
+            if (e != null) {
+                failures.put(entry.getKey(), new MailSendException("Failed to send message", e));
+            } else {
+                log.info("Email '{}' to '{}' has been sent successfully",
+                        entry.getKey().getSubject(), entry.getKey().getAddress());
+            }
+        }
+    }
+
+    /**
+     * Blocks until the given number of messages may be sent according to
+     * {@link EmailerProperties#getSmtpRateLimit()}. Limits are tracked separately for every SMTP server.
+     */
+    protected void acquireSendPermits(int count) {
+        double rateLimit = emailerProperties.getSmtpRateLimit();
+        if (rateLimit <= 0) {
+            return;
+        }
+        String serverKey = mailSender instanceof JavaMailSenderImpl sender
+                ? sender.getHost() + ":" + sender.getPort()
+                : "default";
+        rateLimiters.computeIfAbsent(serverKey, key -> RateLimiter.create(rateLimit)).acquire(count);
+    }
+
     protected MimeMessage createMimeMessage(SendingMessage sendingMessage) throws MessagingException {
         MimeMessage msg = mailSender.createMimeMessage();
         assignRecipient(Message.RecipientType.TO, sendingMessage.getAddress(), msg);
@@ -159,7 +309,13 @@ public class EmailSenderImpl implements EmailSender {
     }
 
     protected MimeBodyPart createAttachmentPart(SendingAttachment attachment) throws MessagingException {
-        DataSource source = new MyByteArrayDataSource(attachment.getContent());
+        DataSource source;
+        if (attachment.getContent() == null && attachment.getContentFile() != null) {
+            FileRef contentFile = attachment.getContentFile();
+            source = new FileStorageDataSource(fileStorageLocator.getByName(contentFile.getStorageName()), contentFile);
+        } else {
+            source = new MyByteArrayDataSource(attachment.getContent());
+        }
 
         String mimeType = FileTypesHelper.getMIMEType(attachment.getName());
 
@@ -229,4 +385,50 @@ public class EmailSenderImpl implements EmailSender {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Streams attachment content from file storage, so the content is not kept in memory and the same file can be
+     * attached to many messages.
+     */
+    protected static class FileStorageDataSource implements DataSource, EncodingAware {
+        private final FileStorage fileStorage;
+        private final FileRef fileRef;
+
+        public FileStorageDataSource(FileStorage fileStorage, FileRef fileRef) {
+            this.fileStorage = fileStorage;
+            this.fileRef = fileRef;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return fileStorage.openStream(fileRef);
+            } catch (FileStorageException e) {
+                throw new IOException("Unable to open attachment " + fileRef, e);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return fileRef.getFileName();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new IOException("Attachment data source is read-only");
+        }
+
+        /**
+         * Prevents reading the whole content to detect the transfer encoding when the message is prepared.
+         */
+        @Override
+        public String getEncoding() {
+            return "base64";
+        }
+    }
+}
@@ -16,6 +16,9 @@
 package io.jmix.email.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import io.jmix.core.FileRef;
+import io.jmix.core.FileStorageLocator;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.security.SystemAuthenticator;
@@ -23,6 +26,7 @@ import io.jmix.email.*;
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
 import org.slf4j.Logger;
@@ -36,6 +40,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.lang.Nullable;
 import jakarta.annotation.Resource;
 import jakarta.mail.internet.AddressException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -75,6 +81,9 @@ public class EmailerImpl implements Emailer {
     @Autowired
     protected EmailCleaner emailCleaner;
 
+    @Autowired
+    protected FileStorageLocator fileStorageLocator;
+
     @Override
     public void sendEmail(String address, String subject, String body, String bodyContentType, Boolean important,
                           EmailAttachment... attachment) throws EmailException {
@@ -107,6 +116,18 @@ public class EmailerImpl implements Emailer {
         return message;
     }
 
+    @Override
+    public List<SendingMessage> sendEmailsAsync(List<EmailInfo> infos, @Nullable Integer attemptsLimit,
+                                                @Nullable Date deadline) {
+        List<SendingMessage> messages = new ArrayList<>(infos.size());
+        for (EmailInfo info : infos) {
+            prepareEmailInfo(info);
+            messages.add(convertToSendingMessage(info, attemptsLimit, deadline));
+        }
+        emailDataProvider.persistMessages(messages, SendingStatus.QUEUE);
+        return messages;
+    }
+
     protected void prepareEmailInfo(EmailInfo emailInfo) {
         if (StringUtils.isBlank(emailInfo.getAddresses())) {
             throw new IllegalArgumentException("Addresses are not specified");
@@ -174,11 +195,7 @@ public class EmailerImpl implements Emailer {
     }
 
     protected void sendSendingMessage(SendingMessage sendingMessage) {
-        Objects.requireNonNull(sendingMessage, "sendingMessage is null");
-        Objects.requireNonNull(sendingMessage.getAddress(), "sendingMessage.address is null");
-        Objects.requireNonNull(sendingMessage.getSubject(), "sendingMessage.subject is null");
-        Objects.requireNonNull(sendingMessage.getContentText(), "sendingMessage.contentText is null");
-        Objects.requireNonNull(sendingMessage.getFrom(), "sendingMessage.from is null");
+        validateSendingMessage(sendingMessage);
         try {
             emailSender.sendEmail(sendingMessage);
             emailDataProvider.updateStatus(sendingMessage, SendingStatus.SENT);
@@ -189,6 +206,48 @@ public class EmailerImpl implements Emailer {
         }
     }
 
+    protected void sendSendingMessages(List<SendingMessage> sendingMessages) {
+        List<SendingMessage> messagesToSend = new ArrayList<>(sendingMessages.size());
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                validateSendingMessage(sendingMessage);
+                messagesToSend.add(sendingMessage);
+            } catch (NullPointerException e) {
+                log.error("Unable to send email to '{}'", sendingMessage.getAddress(), e);
+                emailDataProvider.updateStatus(sendingMessage, SendingStatus.NOT_SENT);
+            }
+        }
+
+        Map<SendingMessage, Exception> failures;
+        try {
+            failures = emailSender.sendEmails(messagesToSend);
+        } catch (Exception e) {
+            failures = new HashMap<>();
+            for (SendingMessage sendingMessage : messagesToSend) {
+                failures.put(sendingMessage, e);
+            }
+        }
+
+        for (SendingMessage sendingMessage : messagesToSend) {
+            Exception e = failures.get(sendingMessage);
+            if (e == null) {
+                emailDataProvider.updateStatus(sendingMessage, SendingStatus.SENT);
+            } else {
+                log.warn("Unable to send email to '{}'", sendingMessage.getAddress(), e);
+                SendingStatus newStatus = isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT;
+                emailDataProvider.updateStatus(sendingMessage, newStatus);
+            }
+        }
+    }
+
+    protected void validateSendingMessage(SendingMessage sendingMessage) {
+        Objects.requireNonNull(sendingMessage, "sendingMessage is null");
+        Objects.requireNonNull(sendingMessage.getAddress(), "sendingMessage.address is null");
+        Objects.requireNonNull(sendingMessage.getSubject(), "sendingMessage.subject is null");
+        Objects.requireNonNull(sendingMessage.getContentText(), "sendingMessage.contentText is null");
+        Objects.requireNonNull(sendingMessage.getFrom(), "sendingMessage.from is null");
+    }
+
     protected void persistAndSendEmail(EmailInfo emailInfo) throws EmailException {
         Objects.requireNonNull(emailInfo.getAddresses(), "addresses are null");
         Objects.requireNonNull(emailInfo.getSubject(), "subject is null");
@@ -200,6 +259,7 @@ public class EmailerImpl implements Emailer {
         SendingMessage persistedMessage = persistMessageIfPossible(sendingMessage);
 
         try {
+            loadAttachmentsContent(sendingMessage);
             emailSender.sendEmail(sendingMessage);
             if (persistedMessage != null) {
                 emailDataProvider.updateStatus(persistedMessage, SendingStatus.SENT);
@@ -215,6 +275,25 @@ public class EmailerImpl implements Emailer {
         }
     }
 
+    /**
+     * Loads the content of attachments referencing files passed in {@link EmailAttachment} if the email sender does
+     * not read them from file storage by itself.
+     */
+    protected void loadAttachmentsContent(SendingMessage sendingMessage) throws IOException {
+        if (emailSender.isAttachmentStreamingSupported()) {
+            return;
+        }
+        for (SendingAttachment attachment : sendingMessage.getAttachments()) {
+            if (attachment.getContent() == null && attachment.getContentFile() != null) {
+                FileRef contentFile = attachment.getContentFile();
+                try (InputStream inputStream = fileStorageLocator.getByName(contentFile.getStorageName())
+                        .openStream(contentFile)) {
+                    attachment.setContent(IOUtils.toByteArray(inputStream));
+                }
+            }
+        }
+    }
+
     /*
      * Try to persist message and catch all errors to allow actual delivery
      * in case of database or file storage failure.
@@ -275,7 +354,14 @@ public class EmailerImpl implements Emailer {
         List<SendingMessage> messagesToSend = emailDataProvider.loadEmailsToSend();
         log.trace("Found {} messages to be sent", messagesToSend.size());
 
-        messagesToSend.forEach(this::submitExecutorTask);
+        int batchSize = emailerProperties.getSendingBatchSize();
+        if (batchSize > 1) {
+            for (List<SendingMessage> batch : Lists.partition(messagesToSend, batchSize)) {
+                submitBatchExecutorTask(new ArrayList<>(batch));
+            }
+        } else {
+            messagesToSend.forEach(this::submitExecutorTask);
+        }
 
         if (messagesToSend.isEmpty()) {
             return "";
@@ -298,6 +384,20 @@ public class EmailerImpl implements Emailer {
         }
     }
 
+    protected void submitBatchExecutorTask(List<SendingMessage> batch) {
+        try {
+            Runnable mailSendTask = applicationContext.getBean(EmailBatchSendTask.class, batch);
+            mailSendTaskExecutor.execute(mailSendTask);
+        } catch (RejectedExecutionException e) {
+            batch.forEach(msg -> emailDataProvider.updateStatus(msg, SendingStatus.QUEUE));
+        } catch (Exception e) {
+            log.error("Exception while sending batch of {} emails: ", batch.size(), e);
+
+            SendingStatus newStatus = isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT;
+            batch.forEach(msg -> emailDataProvider.updateStatus(msg, newStatus));
+        }
+    }
+
     protected String getContentBodyType(SendingMessage sendingMessage) {
         String bodyContentType;
         String text = sendingMessage.getContentText();
@@ -324,6 +424,10 @@ public class EmailerImpl implements Emailer {
     protected SendingAttachment toSendingAttachment(EmailAttachment ea) {
         SendingAttachment sendingAttachment = metadata.create(SendingAttachment.class);
         sendingAttachment.setContent(ea.getData());
+        sendingAttachment.setContentFile(ea.getFile());
+        if (ea.getFile() != null) {
+            sendingAttachment.setExternalContentFile(true);
+        }
         sendingAttachment.setContentId(ea.getContentId());
         sendingAttachment.setName(ea.getName());
         sendingAttachment.setEncoding(ea.getEncoding());
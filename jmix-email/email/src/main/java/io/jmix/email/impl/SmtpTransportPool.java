@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.email.impl;
+
+import io.jmix.email.EmailerProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps authenticated SMTP connections of the {@link JavaMailSenderImpl} open between send operations.
+ * <p>
+ * The pool is used only if {@link EmailerProperties#getSmtpConnectionPoolSize()} is positive and the mail sender is a
+ * {@link JavaMailSenderImpl}, because the connection settings are taken from it. A connection is validated before
+ * reuse, so connections closed by the server are silently replaced.
+ */
+@Component("email_SmtpTransportPool")
+public class SmtpTransportPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    @Autowired
+    protected JavaMailSender mailSender;
+
+    @Autowired
+    protected EmailerProperties emailerProperties;
+
+    protected final Deque<Transport> idleTransports = new ConcurrentLinkedDeque<>();
+
+    protected volatile Semaphore permits;
+
+    public boolean isEnabled() {
+        return emailerProperties.getSmtpConnectionPoolSize() > 0 && mailSender instanceof JavaMailSenderImpl;
+    }
+
+    /**
+     * Returns a connected transport, waiting if all connections of the pool are in use. The transport must be given
+     * back by {@link #release(Transport, boolean)}.
+     */
+    public Transport borrow() throws MessagingException {
+        Semaphore semaphore = getPermits();
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for SMTP connection", e);
+        }
+        try {
+            Transport transport;
+            while ((transport = idleTransports.pollFirst()) != null) {
+                if (transport.isConnected()) {
+                    return transport;
+                }
+                close(transport);
+            }
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives the transport back to the pool.
+     *
+     * @param reusable false if the transport failed and must be closed
+     */
+    public void release(Transport transport, boolean reusable) {
+        try {
+            if (reusable) {
+                idleTransports.offerFirst(transport);
+            } else {
+                close(transport);
+            }
+        } finally {
+            getPermits().release();
+        }
+    }
+
+    protected Transport connect() throws MessagingException {
+        JavaMailSenderImpl sender = (JavaMailSenderImpl) mailSender;
+        String protocol = sender.getProtocol() != null ? sender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        String username = sender.getUsername();
+        String password = sender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        Transport transport = sender.getSession().getTransport(protocol);
+        transport.connect(sender.getHost(), sender.getPort(), username, password);
+        log.debug("Opened SMTP connection to {}:{}", sender.getHost(), sender.getPort());
+        return transport;
+    }
+
+    protected void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Unable to close SMTP connection", e);
+        }
+    }
+
+    protected Semaphore getPermits() {
+        if (permits == null) {
+            synchronized (this) {
+                if (permits == null) {
+                    permits = new Semaphore(Math.max(1, emailerProperties.getSmtpConnectionPoolSize()));
+                }
+            }
+        }
+        return permits;
+    }
+
+    @PreDestroy
+    protected void closeAll() {
+        Transport transport;
+        while ((transport = idleTransports.pollFirst()) != null) {
+            close(transport);
+        }
+    }
+}
@@ -103,6 +103,28 @@ class EmailCleanerTest extends EmailSpecification {
         fileRefs.every { fileStorage.fileExists(it) }
     }
 
+    def 'files passed by the application in attachments are not deleted'() {
+        EmailerConfigPropertiesAccess.setCleanFileStorage(emailerProperties, true)
+        def externalFile = fileStorage.saveStream('external.txt', new ByteArrayInputStream('external'.bytes))
+        def emailInfo = createEmailInfo(false)
+        emailInfo.attachments = [new EmailAttachment(externalFile, 'external.txt')]
+        emailer.sendEmailAsync(emailInfo)
+
+        when:
+        def sendingMessages = loadAllSendingMessages()
+        def ownFiles = collectFileRefs(sendingMessages).findAll { it != externalFile }
+        def messagesToDelete = sendingMessages
+                .each { it.setCreateTs(Date.from(timeSource.now().minusHours(25).toInstant())) }
+                .toArray()
+        dataManager.save(messagesToDelete)
+        emailCleaner.deleteOldEmails()
+
+        then:
+        loadAllSendingMessages().isEmpty()
+        fileStorage.fileExists(externalFile)
+        ownFiles.every { !fileStorage.fileExists(it) }
+    }
+
     private List<SendingMessage> loadAllSendingMessages() {
         return dataManager.load(SendingMessage)
                 .all()
@@ -47,4 +47,20 @@ public class EmailerConfigPropertiesAccess {
     public static void setCleanFileStorage(EmailerProperties properties, boolean cleanFileStorage) {
         properties.cleanFileStorage = cleanFileStorage;
     }
+
+    public static void setSendingBatchSize(EmailerProperties properties, int sendingBatchSize) {
+        properties.sendingBatchSize = sendingBatchSize;
+    }
+
+    public static void setQueueClaimPageSize(EmailerProperties properties, int queueClaimPageSize) {
+        properties.queueClaimPageSize = queueClaimPageSize;
+    }
+
+    public static void setSmtpConnectionPoolSize(EmailerProperties properties, int smtpConnectionPoolSize) {
+        properties.smtpConnectionPoolSize = smtpConnectionPoolSize;
+    }
+
+    public static void setSmtpRateLimit(EmailerProperties properties, double smtpRateLimit) {
+        properties.smtpRateLimit = smtpRateLimit;
+    }
 }
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
@@ -39,10 +40,21 @@ import jakarta.mail.Part;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -438,6 +450,131 @@ public class EmailerTest {
         assertEquals(2, sendingMsg.getAttemptsLimit().intValue());
     }
 
+    @Test
+    public void testAsynchronousBatch() throws Exception {
+        EmailerConfigPropertiesAccess.setSendingBatchSize(emailerProperties, 2);
+        EmailerConfigPropertiesAccess.setQueueClaimPageSize(emailerProperties, 2);
+        testMailSender.clearBuffer();
+
+        List<SendingMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailInfo myInfo = EmailInfoBuilder.create()
+                    .setAddresses("recipient" + i + "@example.com")
+                    .setSubject("Test " + i)
+                    .setBody("Test Email Body")
+                    .build();
+            messages.add(emailer.sendEmailAsync(myInfo, 2, getDeadlineWhichDoesntMatter()));
+        }
+
+        try {
+            // will fail
+            testMailSender.failPlease();
+            try {
+                emailer.processQueuedEmails();
+            } finally {
+                testMailSender.workNormallyPlease();
+            }
+            for (SendingMessage message : messages) {
+                assertEquals(SendingStatus.QUEUE, reload(message).getStatus());
+            }
+
+            // all messages are claimed page by page and sent in batches
+            emailer.processQueuedEmails();
+
+            assertEquals(3, testMailSender.getBufferSize());
+            for (SendingMessage message : messages) {
+                SendingMessage sendingMsg = reload(message);
+                assertEquals(SendingStatus.SENT, sendingMsg.getStatus());
+                assertEquals(2, sendingMsg.getAttemptsMade().intValue());
+            }
+
+            // already sent messages are not claimed again
+            testMailSender.clearBuffer();
+            emailer.processQueuedEmails();
+            assertTrue(testMailSender.isEmpty());
+        } finally {
+            EmailerConfigPropertiesAccess.setSendingBatchSize(emailerProperties, 1);
+            EmailerConfigPropertiesAccess.setQueueClaimPageSize(emailerProperties, 50);
+        }
+    }
+
+    @Test
+    public void testConcurrentClaimers() throws Exception {
+        EmailerConfigPropertiesAccess.setQueueClaimPageSize(emailerProperties, 2);
+        List<UUID> queuedIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            EmailInfo myInfo = EmailInfoBuilder.create()
+                    .setAddresses("recipient" + i + "@example.com")
+                    .setSubject("Test " + i)
+                    .setBody("Test Email Body")
+                    .build();
+            queuedIds.add(emailer.sendEmailAsync(myInfo).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<SendingMessage> claimed = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<List<SendingMessage>> claimer = () -> {
+                start.await();
+                return emailDataProvider.loadEmailsToSend();
+            };
+            Future<List<SendingMessage>> first = executor.submit(claimer);
+            Future<List<SendingMessage>> second = executor.submit(claimer);
+            start.countDown();
+            claimed.addAll(first.get(30, TimeUnit.SECONDS));
+            claimed.addAll(second.get(30, TimeUnit.SECONDS));
+
+            // each message is claimed by one claimer only
+            List<UUID> claimedIds = claimed.stream().map(SendingMessage::getId).toList();
+            assertEquals(new HashSet<>(claimedIds).size(), claimedIds.size());
+            assertEquals(new HashSet<>(queuedIds), new HashSet<>(claimedIds));
+            for (SendingMessage message : claimed) {
+                assertEquals(SendingStatus.SENDING, message.getStatus());
+            }
+
+            // claimed messages are not claimed again before the sending timeout
+            assertTrue(emailDataProvider.loadEmailsToSend().isEmpty());
+
+            // pages of the claimers partly overlap, each message of the overlap is claimed by one of them
+            List<UUID> overlapIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                EmailInfo myInfo = EmailInfoBuilder.create()
+                        .setAddresses("overlap" + i + "@example.com")
+                        .setSubject("Overlap " + i)
+                        .setBody("Test Email Body")
+                        .build();
+                overlapIds.add(emailer.sendEmailAsync(myInfo).getId());
+            }
+            Date sendTimeoutTime = DateUtils.addSeconds(timeSource.currentTimestamp(),
+                    -emailerProperties.getSendingTimeoutSec());
+            CountDownLatch overlapStart = new CountDownLatch(1);
+            Future<List<UUID>> firstPage = executor.submit(() ->
+                    claimPage(overlapIds.subList(0, 7), sendTimeoutTime, overlapStart));
+            Future<List<UUID>> secondPage = executor.submit(() ->
+                    claimPage(overlapIds.subList(3, 10), sendTimeoutTime, overlapStart));
+            overlapStart.countDown();
+            List<UUID> overlapClaimedIds = new ArrayList<>(firstPage.get(30, TimeUnit.SECONDS));
+            overlapClaimedIds.addAll(secondPage.get(30, TimeUnit.SECONDS));
+            claimed.addAll(dataManager.load(SendingMessage.class).ids(overlapIds).list());
+
+            assertEquals(new HashSet<>(overlapClaimedIds).size(), overlapClaimedIds.size());
+            assertEquals(new HashSet<>(overlapIds), new HashSet<>(overlapClaimedIds));
+        } finally {
+            executor.shutdownNow();
+            claimed.forEach(message -> emailDataProvider.updateStatus(message, SendingStatus.SENT));
+            EmailerConfigPropertiesAccess.setQueueClaimPageSize(emailerProperties, 50);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> claimPage(List<UUID> candidateIds, Date sendTimeoutTime, CountDownLatch start)
+            throws InterruptedException {
+        start.await();
+        return (List<UUID>) ReflectionTestUtils.invokeMethod(emailDataProvider, "claimMessages",
+                candidateIds, sendTimeoutTime);
+    }
+
     @Test
     public void testSeveralRecipients() throws Exception {
         doTestSeveralRecipients(false);
@@ -703,6 +840,106 @@ public class EmailerTest {
         assertByteArrayEquals(expectedBytes, actualBytes);
     }
 
+    @Test
+    public void testAttachmentContentIsLoadedForCustomSender() throws Exception {
+        byte[] expectedBytes = new byte[]{1, 2, 3, 4, 6};
+        FileRef fileRef = fileStorageLocator.getDefault()
+                .saveStream("custom.pdf", new ByteArrayInputStream(expectedBytes));
+        EmailInfo emailInfo = EmailInfoBuilder.create()
+                .setAddresses("recipient@example.com")
+                .setSubject("Test")
+                .setBody("Test Email Body")
+                .setAttachments(new EmailAttachment(fileRef, "custom.pdf"))
+                .build();
+        emailer.sendEmailAsync(emailInfo);
+
+        Object defaultSender = ReflectionTestUtils.getField(emailDataProvider, "emailSender");
+        EmailSender customSender = sendingMessage -> {
+        };
+        ReflectionTestUtils.setField(emailDataProvider, "emailSender", customSender);
+        List<SendingMessage> messages = new ArrayList<>();
+        try {
+            messages.addAll(emailDataProvider.loadEmailsToSend());
+
+            assertEquals(1, messages.size());
+            assertByteArrayEquals(expectedBytes, messages.get(0).getAttachments().get(0).getContent());
+        } finally {
+            ReflectionTestUtils.setField(emailDataProvider, "emailSender", defaultSender);
+            messages.forEach(message -> emailDataProvider.updateStatus(message, SendingStatus.SENT));
+        }
+    }
+
+    @Test
+    public void testBulkAsynchronousSharesStoredContent() throws Exception {
+        EmailerConfigPropertiesAccess.setUseFileStorage(emailerProperties, true);
+        testMailSender.clearBuffer();
+
+        byte[] expectedBytes = new byte[]{1, 2, 3, 4, 6};
+        EmailAttachment fileAttachment = new EmailAttachment(expectedBytes, "invoice.pdf");
+
+        List<EmailInfo> infos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            infos.add(EmailInfoBuilder.create()
+                    .setAddresses("recipient" + i + "@example.com")
+                    .setSubject("Test")
+                    .setBody("Test Email Body")
+                    .setAttachments(fileAttachment)
+                    .build());
+        }
+        List<SendingMessage> messages = emailer.sendEmailsAsync(infos, null, null);
+
+        // body and attachment are stored once
+        List<SendingMessage> reloaded = new ArrayList<>();
+        for (SendingMessage message : messages) {
+            reloaded.add(reload(message, "sendingMessage.loadFromQueue"));
+        }
+        SendingMessage first = reloaded.get(0);
+        assertNotNull(first.getContentTextFile());
+        assertNotNull(first.getAttachments().get(0).getContentFile());
+        for (SendingMessage msg : reloaded) {
+            assertNull(msg.getContentText());
+            assertEquals(first.getContentTextFile(), msg.getContentTextFile());
+            assertNull(msg.getAttachments().get(0).getContent());
+            assertEquals(first.getAttachments().get(0).getContentFile(), msg.getAttachments().get(0).getContentFile());
+        }
+
+        emailer.processQueuedEmails();
+
+        // attachment is streamed from file storage into every message
+        assertEquals(3, testMailSender.getBufferSize());
+        while (!testMailSender.isEmpty()) {
+            MimeBodyPart attachment = getFirstAttachment(testMailSender.fetchSentEmail());
+            assertByteArrayEquals(expectedBytes, IOUtils.toByteArray(attachment.getInputStream()));
+        }
+    }
+
+    @Test
+    public void testAttachmentFromFileStorage() throws Exception {
+        testMailSender.clearBuffer();
+
+        byte[] expectedBytes = new byte[]{1, 2, 3, 4, 6};
+        FileRef fileRef = fileStorageLocator.getDefault()
+                .saveStream("invoice.pdf", new ByteArrayInputStream(expectedBytes));
+
+        EmailInfo emailInfo = EmailInfoBuilder.create()
+                .setAddresses("test@example.com")
+                .setSubject("Test")
+                .setBody("Test Email Body")
+                .setAttachments(new EmailAttachment(fileRef, "invoice.pdf"))
+                .build();
+        SendingMessage message = emailer.sendEmailAsync(emailInfo);
+
+        SendingAttachment attachment = reload(message, "sendingMessage.loadFromQueue").getAttachments().get(0);
+        assertNull(attachment.getContent());
+        assertEquals(fileRef, attachment.getContentFile());
+
+        emailer.processQueuedEmails();
+
+        MimeBodyPart sentAttachment = getFirstAttachment(testMailSender.fetchSentEmail());
+        assertEquals("invoice.pdf", sentAttachment.getFileName());
+        assertByteArrayEquals(expectedBytes, IOUtils.toByteArray(sentAttachment.getInputStream()));
+    }
+
     /* Utility */
     private Date getDeadlineWhichDoesntMatter() {
         return DateUtils.addHours(timeSource.currentTimestamp(), 2);
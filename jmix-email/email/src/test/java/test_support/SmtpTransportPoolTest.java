@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support;
+
+import io.jmix.core.Metadata;
+import io.jmix.email.EmailSender;
+import io.jmix.email.EmailerConfigPropertiesAccess;
+import io.jmix.email.EmailerProperties;
+import io.jmix.email.entity.SendingMessage;
+import io.jmix.email.impl.SmtpTransportPool;
+import jakarta.mail.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {EmailTestConfiguration.class})
+@Tag("slowTests")
+public class SmtpTransportPoolTest {
+
+    @Autowired
+    private EmailSender emailSender;
+
+    @Autowired
+    private SmtpTransportPool transportPool;
+
+    @Autowired
+    private TestMailSender testMailSender;
+
+    @Autowired
+    private EmailerProperties emailerProperties;
+
+    @Autowired
+    private Metadata metadata;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        EmailerConfigPropertiesAccess.setSmtpConnectionPoolSize(emailerProperties, 1);
+        testMailSender.getSession().setProvider(new Provider(Provider.Type.TRANSPORT, "smtp",
+                FakeTransport.class.getName(), "test", null));
+        FakeTransport.instances.clear();
+        FakeTransport.failNextSend = false;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(transportPool, "closeAll");
+        EmailerConfigPropertiesAccess.setSmtpConnectionPoolSize(emailerProperties, 0);
+        EmailerConfigPropertiesAccess.setSmtpRateLimit(emailerProperties, 0);
+    }
+
+    @Test
+    public void testConnectionIsReused() throws Exception {
+        Map<SendingMessage, Exception> failures = emailSender.sendEmails(
+                List.of(createMessage("a@example.com"), createMessage("b@example.com")));
+        emailSender.sendEmail(createMessage("c@example.com"));
+
+        assertTrue(failures.isEmpty());
+        assertEquals(1, FakeTransport.instances.size());
+        assertEquals(3, FakeTransport.instances.get(0).sentMessages.size());
+        assertTrue(testMailSender.isEmpty());
+    }
+
+    @Test
+    public void testBrokenConnectionIsReplaced() {
+        SendingMessage failed = createMessage("a@example.com");
+        SendingMessage sent = createMessage("b@example.com");
+        FakeTransport.failNextSend = true;
+
+        Map<SendingMessage, Exception> failures = emailSender.sendEmails(List.of(failed, sent));
+
+        assertEquals(List.of(failed), new ArrayList<>(failures.keySet()));
+        assertEquals(2, FakeTransport.instances.size());
+        assertFalse(FakeTransport.instances.get(0).isConnected());
+        assertEquals(1, FakeTransport.instances.get(1).sentMessages.size());
+    }
+
+    @Test
+    public void testClosedIdleConnectionIsReplaced() throws Exception {
+        emailSender.sendEmail(createMessage("a@example.com"));
+        FakeTransport.instances.get(0).dropped = true;
+
+        emailSender.sendEmail(createMessage("b@example.com"));
+
+        assertEquals(2, FakeTransport.instances.size());
+        assertEquals(1, FakeTransport.instances.get(1).sentMessages.size());
+    }
+
+    @Test
+    public void testBorrowWaitsForFreeConnection() throws Exception {
+        Transport transport = transportPool.borrow();
+        CompletableFuture<Transport> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return transportPool.borrow();
+            } catch (MessagingException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        try {
+            Thread.sleep(200);
+            assertFalse(waiting.isDone());
+
+            transportPool.release(transport, true);
+
+            assertSame(transport, waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            transportPool.release(waiting.get(5, TimeUnit.SECONDS), true);
+        }
+        assertEquals(1, FakeTransport.instances.size());
+    }
+
+    @Test
+    public void testRateLimit() {
+        EmailerConfigPropertiesAccess.setSmtpRateLimit(emailerProperties, 5);
+        List<SendingMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            messages.add(createMessage("recipient" + i + "@example.com"));
+        }
+
+        long start = System.nanoTime();
+        Map<SendingMessage, Exception> failures = emailSender.sendEmails(messages);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(failures.isEmpty());
+        assertEquals(4, FakeTransport.instances.get(0).sentMessages.size());
+        // the first message is sent immediately, the next ones are spaced by 200 ms
+        assertTrue(elapsedMillis >= 500, "Elapsed " + elapsedMillis + " ms");
+    }
+
+    private SendingMessage createMessage(String address) {
+        SendingMessage message = metadata.create(SendingMessage.class);
+        message.setAddress(address);
+        message.setFrom("sender@example.com");
+        message.setSubject("Test");
+        message.setContentText("Test Body");
+        message.setBodyContentType("text/plain; charset=UTF-8");
+        message.setAttachments(new ArrayList<>());
+        return message;
+    }
+
+    /**
+     * Records sent messages instead of connecting to an SMTP server.
+     */
+    public static class FakeTransport extends Transport {
+
+        static final List<FakeTransport> instances = new CopyOnWriteArrayList<>();
+        static volatile boolean failNextSend;
+
+        final List<Message> sentMessages = new CopyOnWriteArrayList<>();
+        volatile boolean dropped;
+
+        public FakeTransport(Session session, URLName urlname) {
+            super(session, urlname);
+            instances.add(this);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return super.isConnected() && !dropped;
+        }
+
+        @Override
+        public void sendMessage(Message msg, Address[] addresses) throws MessagingException {
+            if (failNextSend) {
+                failNextSend = false;
+                throw new MessagingException("Connection reset");
+            }
+            sentMessages.add(msg);
+        }
+    }
+}
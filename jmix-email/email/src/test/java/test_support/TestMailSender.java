@@ -25,6 +25,7 @@ import org.springframework.stereotype.Component;
 
 import jakarta.mail.internet.MimeMessage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -61,6 +62,14 @@ public class TestMailSender extends JavaMailSenderImpl {
         myMessages.add(mimeMessage);
     }
 
+    @Override
+    public void send(MimeMessage... mimeMessages) throws MailException {
+        if (mustFail) {
+            throw new MailSendException("Smtp server not available");
+        }
+        myMessages.addAll(Arrays.asList(mimeMessages));
+    }
+
     public boolean isEmpty() {
         return myMessages.isEmpty();
     }
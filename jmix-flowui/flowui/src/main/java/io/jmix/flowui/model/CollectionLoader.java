@@ -58,6 +58,21 @@ public interface CollectionLoader<E> extends BaseCollectionLoader {
      */
     void setCacheable(boolean cacheable);
 
+    /**
+     * Returns true if the loader uses keyset pagination.
+     */
+    boolean isKeysetPagination();
+
+    /**
+     * Sets whether the loader uses keyset pagination. In this mode, the entities are ordered by the loader sort
+     * extended by the primary key, and a page following a previously loaded page is selected by the values of
+     * the last entity instead of skipping {@link #getFirstResult()} rows, so loading deep pages doesn't slow down.
+     * If the loader sort is not supported by keyset pagination, the loader uses {@code firstResult} as usual.
+     *
+     * @see io.jmix.core.KeysetPagination
+     */
+    void setKeysetPagination(boolean keysetPagination);
+
     /**
      * Returns the fetch plan used for loading entities.
      */
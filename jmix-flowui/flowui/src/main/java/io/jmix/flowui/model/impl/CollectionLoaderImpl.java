@@ -59,6 +59,8 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     protected List<QueryStringProcessor> queryStringProcessors;
     @Autowired
     protected MeterRegistry meterRegistry;
+    @Autowired
+    protected KeysetPagination keysetPaginationSupport;
 
     protected DataContext dataContext;
     protected CollectionContainer<E> container;
@@ -68,6 +70,8 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     protected int firstResult = 0;
     protected int maxResults = Integer.MAX_VALUE;
     protected boolean cacheable;
+    protected boolean keysetPagination;
+    protected Map<Integer, KeysetPosition> keysetPositions = new HashMap<>();
     protected FetchPlan fetchPlan;
     protected String fetchPlanName;
     protected Sort sort;
@@ -113,6 +117,8 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
             return false;
         }
 
+        boolean keysetPaginationUsed = loadContext.getQuery() != null && loadContext.getQuery().isKeysetPagination();
+
         List<E> list;
 
         Timer.Sample sample = startTimerSample(meterRegistry);
@@ -129,6 +135,10 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         DataLoaderMonitoringInfo info = monitoringInfoProvider.apply(this);
         stopDataLoaderTimerSample(sample, meterRegistry, DataLoaderLifeCycle.LOAD, info);
 
+        if (keysetPaginationUsed) {
+            rememberKeysetPosition(list);
+        }
+
         if (dataContext != null) {
             List<E> mergedList = new ArrayList<>(list.size());
             for (E entity : list) {
@@ -161,8 +171,19 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         query.setCacheable(cacheable);
         query.setDistinct(canLeadToDuplicateResultsRecursive(condition));
 
-        if (firstResult > 0)
+        if (isKeysetPaginationApplicable()) {
+            query.setKeysetPagination(true);
+            // the page can be selected by the keyset position if the previous page has been loaded,
+            // otherwise it is selected by the offset in the keyset order
+            KeysetPosition keysetPosition = firstResult > 0 ? keysetPositions.get(firstResult) : null;
+            if (keysetPosition != null) {
+                query.setKeysetPosition(keysetPosition);
+            } else if (firstResult > 0) {
+                query.setFirstResult(firstResult);
+            }
+        } else if (firstResult > 0) {
             query.setFirstResult(firstResult);
+        }
         if (maxResults < Integer.MAX_VALUE)
             query.setMaxResults(maxResults);
 
@@ -172,6 +193,26 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         return loadContext;
     }
 
+    protected boolean isKeysetPaginationApplicable() {
+        return keysetPagination && keysetPaginationSupport.isSupported(container.getEntityMetaClass(), sort);
+    }
+
+    protected void rememberKeysetPosition(List<E> loadedEntities) {
+        if (firstResult == 0) {
+            // the first page is reloaded, so the data may have changed
+            keysetPositions.clear();
+        }
+        if (loadedEntities.isEmpty() || maxResults == Integer.MAX_VALUE) {
+            return;
+        }
+        Sort keysetSort = keysetPaginationSupport.getKeysetSort(container.getEntityMetaClass(), sort);
+        KeysetPosition position = keysetPaginationSupport.createPosition(
+                loadedEntities.get(loadedEntities.size() - 1), keysetSort);
+        if (position != null) {
+            keysetPositions.put(firstResult + loadedEntities.size(), position);
+        }
+    }
+
     /**
      * Evaluates recursively if the condition depends on some x-to-many property
      * so the list of loaded entities can contain duplicates.
@@ -265,6 +306,7 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     @Override
     public void setQuery(String query) {
         this.query = query;
+        keysetPositions.clear();
     }
 
     @Nullable
@@ -276,6 +318,7 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     @Override
     public void setCondition(Condition condition) {
         this.condition = condition;
+        keysetPositions.clear();
     }
 
     @Override
@@ -299,11 +342,13 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     @Override
     public void setParameter(String name, @Nullable Object value) {
         parameters.put(name, value);
+        keysetPositions.clear();
     }
 
     @Override
     public void removeParameter(String name) {
         parameters.remove(name);
+        keysetPositions.clear();
     }
 
     @Override
@@ -346,6 +391,17 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         this.cacheable = cacheable;
     }
 
+    @Override
+    public boolean isKeysetPagination() {
+        return keysetPagination;
+    }
+
+    @Override
+    public void setKeysetPagination(boolean keysetPagination) {
+        this.keysetPagination = keysetPagination;
+        keysetPositions.clear();
+    }
+
     @Override
     public FetchPlan getFetchPlan() {
         return fetchPlan;
@@ -376,6 +432,7 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         } else {
             this.sort = sort;
         }
+        keysetPositions.clear();
     }
 
     @Override
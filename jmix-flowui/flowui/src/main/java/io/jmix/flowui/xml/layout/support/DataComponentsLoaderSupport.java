@@ -332,6 +332,7 @@ public class DataComponentsLoaderSupport {
             loaderSupport.loadInteger(element, "firstResult", loader::setFirstResult);
             loaderSupport.loadInteger(element, "maxResults", loader::setMaxResults);
             loaderSupport.loadBoolean(element, "cacheable", loader::setCacheable);
+            loaderSupport.loadBoolean(element, "keysetPagination", loader::setKeysetPagination);
         }
 
         dataHolder.registerLoader(loaderId, loader);
@@ -17,6 +17,8 @@
 package data_components
 
 import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Sort
 import io.jmix.flowui.model.CollectionContainer
 import io.jmix.flowui.model.CollectionLoader
 import io.jmix.flowui.model.DataComponents
@@ -121,4 +123,51 @@ class CollectionLoaderTest extends DataContextSpec {
 
         1 * preLoadListener.accept({ it.loadContext.query.queryString == 'select e from test_Foo e where e.name = :name' })
     }
+
+    def "keyset pagination selects next page by position of the previous page"() {
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        loader.setContainer(container)
+
+        List<LoadContext.Query> queries = []
+        loader.addPreLoadListener({ CollectionLoader.PreLoadEvent e -> queries << e.loadContext.query.copy() })
+
+        def foos = (1..3).collect {
+            Foo foo = new Foo()
+            foo.name = "keyset-$it"
+            dataManager.save(foo)
+        }
+
+        when: "the first page is loaded"
+
+        loader.setQuery('select e from test_Foo e where e.name like :name')
+        loader.setParameter('name', 'keyset-%')
+        loader.setSort(Sort.by('name'))
+        loader.setMaxResults(2)
+        loader.setKeysetPagination(true)
+        loader.load()
+
+        then:
+
+        container.getItems()*.name == ['keyset-1', 'keyset-2']
+        queries[0].keysetPagination
+        queries[0].keysetPosition == null
+
+        when: "the second page is loaded"
+
+        loader.setFirstResult(2)
+        loader.load()
+
+        then: "it is selected by the keyset position instead of the offset"
+
+        container.getItems()*.name == ['keyset-3']
+        queries[1].keysetPagination
+        queries[1].keysetPosition != null
+        queries[1].keysetPosition.values['name'] == 'keyset-2'
+        queries[1].firstResult == 0
+
+        cleanup:
+
+        deleteRecord(*foos)
+    }
 }
@@ -28,6 +28,9 @@ import io.jmix.core.Messages;
 import io.jmix.core.annotation.JmixModule;
 import io.jmix.graphql.datafetcher.MessagesDataFetcher;
 import io.jmix.graphql.datafetcher.PermissionDataFetcher;
+import io.jmix.graphql.execution.CachingPreparsedDocumentProvider;
+import io.jmix.graphql.execution.OperationTimingInstrumentation;
+import io.jmix.graphql.execution.PreparsedDocumentProviderInstaller;
 import io.jmix.graphql.limitation.JmixMaxQueryDepthInstrumentation;
 import io.jmix.graphql.limitation.LimitationProperties;
 import io.jmix.graphql.limitation.OperationRateLimitInstrumentation;
@@ -54,8 +57,10 @@ import io.leangen.graphql.spqr.spring.annotations.WithResolverBuilder;
 import io.leangen.graphql.spqr.spring.autoconfigure.AopAwareMethodInvokerFactory;
 import io.leangen.graphql.spqr.spring.autoconfigure.SpqrProperties;
 import io.leangen.graphql.util.Utils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -131,6 +136,8 @@ public class GraphQLConfiguration {
     protected ScalarTypes scalarTypes;
     @Autowired
     SpqrCustomSchemeRegistry schemeRegistry;
+    @Autowired
+    protected MeterRegistry meterRegistry;
 
 
     @Bean
@@ -139,10 +146,17 @@ public class GraphQLConfiguration {
                 new SecurityInstrumentation(schemeRegistry,accessManager,messages),
                 new OperationRateLimitInstrumentation(operationRateLimitService),
                 new SpecificPermissionInstrumentation(accessManager, messages),
-                new JmixMaxQueryDepthInstrumentation(limitationProperties.getMaxQueryDepth())
+                new JmixMaxQueryDepthInstrumentation(limitationProperties.getMaxQueryDepth()),
+                new OperationTimingInstrumentation(meterRegistry)
         );
     }
 
+    @Bean
+    public static PreparsedDocumentProviderInstaller preparsedDocumentProviderInstaller(
+            ObjectProvider<CachingPreparsedDocumentProvider> documentProvider) {
+        return new PreparsedDocumentProviderInstaller(documentProvider);
+    }
+
     @Bean
     public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
         return builder -> builder.serializerByType(Timestamp.class,
@@ -26,11 +26,39 @@ public class GraphQlProperties {
 
     Boolean multipleSortSupported = false;
 
-    public GraphQlProperties(@DefaultValue("false") Boolean multipleSortSupported) {
+    /**
+     * Maximum number of parsed and validated GraphQL documents kept in the cache. Value 0 disables the cache.
+     */
+    int preparsedDocumentCacheSize;
+
+    /**
+     * Maximum number of fetch plans built from selection sets kept in the cache. Value 0 disables the cache.
+     */
+    int fetchPlanCacheSize;
+
+    public GraphQlProperties(@DefaultValue("false") Boolean multipleSortSupported,
+                             @DefaultValue("1000") int preparsedDocumentCacheSize,
+                             @DefaultValue("1000") int fetchPlanCacheSize) {
         this.multipleSortSupported = multipleSortSupported;
+        this.preparsedDocumentCacheSize = preparsedDocumentCacheSize;
+        this.fetchPlanCacheSize = fetchPlanCacheSize;
     }
 
     public Boolean isMultipleSortSupported() {
         return multipleSortSupported;
     }
+
+    /**
+     * @see #preparsedDocumentCacheSize
+     */
+    public int getPreparsedDocumentCacheSize() {
+        return preparsedDocumentCacheSize;
+    }
+
+    /**
+     * @see #fetchPlanCacheSize
+     */
+    public int getFetchPlanCacheSize() {
+        return fetchPlanCacheSize;
+    }
 }
@@ -1,19 +1,25 @@
 package io.jmix.graphql.datafetcher;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Node;
 import graphql.schema.DataFetchingEnvironment;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.EntityAttributeContext;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetadataObject;
+import io.jmix.graphql.GraphQlProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component("gql_DataFetcherPlanBuilder")
@@ -34,17 +40,44 @@ public class DataFetcherPlanBuilder {
 
     private final static Logger log = LoggerFactory.getLogger(DataFetcherPlanBuilder.class);
 
+    // documents are weak keys, so selections are evicted together with documents from the preparsed document cache
+    private final Cache<Document, DocumentSelections> selectionCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    @Nullable
+    private final Cache<List<Object>, FetchPlan> fetchPlanCache;
+
+    public DataFetcherPlanBuilder(GraphQlProperties graphQlProperties) {
+        int cacheSize = graphQlProperties.getFetchPlanCacheSize();
+        fetchPlanCache = cacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(cacheSize).build()
+                : null;
+    }
+
     public <E extends Entity> FetchPlan buildFetchPlan(Class<E> entityClass, DataFetchingEnvironment environment) {
         MetaClass metaClass = metadata.getClass(entityClass);
-        List<String> properties = excludeForbiddenProperties(metaClass, environmentUtils.getEntityProperties(environment));
+        SelectedProperties selectedProperties = getSelectedProperties(entityClass, environment);
+        // attribute permissions depend on the current user, so they are applied to cached selections on each request
+        List<String> properties = excludeForbiddenProperties(metaClass, selectedProperties.properties);
 
         log.debug("properties {}", properties);
 
+        if (fetchPlanCache == null) {
+            return createFetchPlan(entityClass, metaClass, properties, selectedProperties.instanceNameRequired);
+        }
+        List<Object> key = Arrays.asList(entityClass, selectedProperties.instanceNameRequired, properties);
+        return fetchPlanCache.asMap().computeIfAbsent(key, k ->
+                createFetchPlan(entityClass, metaClass, properties, selectedProperties.instanceNameRequired));
+    }
+
+    private FetchPlan createFetchPlan(Class<?> entityClass, MetaClass metaClass, List<String> properties,
+                                      boolean instanceNameRequired) {
         // todo inject correctly
         io.jmix.core.FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(entityClass);
 
         // todo support _instName for nested entities too
-        if (environmentUtils.hasInstanceNameProperty(environment)) {
+        if (instanceNameRequired) {
             Collection<String> instanceNameRelatedProperties = metadataTools
                     .getInstanceNameRelatedProperties(metaClass).stream()
                     .map(MetadataObject::getName)
@@ -58,6 +91,49 @@ public class DataFetcherPlanBuilder {
                 .build();
     }
 
+    /**
+     * Returns entity properties selected by the field being fetched. Selections are cached by the operation name and
+     * the field path within the parsed document, as the same document instance is reused for repeated operations.
+     */
+    private SelectedProperties getSelectedProperties(Class<?> entityClass, DataFetchingEnvironment environment) {
+        Document document = environment.getDocument();
+        DocumentSelections selections = document != null
+                ? selectionCache.asMap().computeIfAbsent(document, d -> new DocumentSelections(!hasConditionalDirectives(d)))
+                : null;
+        // selection set of a document with @skip/@include directives depends on variables
+        if (selections == null || !selections.cacheable) {
+            return createSelectedProperties(environment);
+        }
+
+        String operationName = environment.getOperationDefinition() != null
+                ? environment.getOperationDefinition().getName()
+                : null;
+        List<Object> key = Arrays.asList(
+                operationName,
+                environment.getExecutionStepInfo().getPath().toString(),
+                entityClass);
+        return selections.properties.computeIfAbsent(key, k -> createSelectedProperties(environment));
+    }
+
+    private SelectedProperties createSelectedProperties(DataFetchingEnvironment environment) {
+        return new SelectedProperties(
+                Collections.unmodifiableList(environmentUtils.getEntityProperties(environment)),
+                environmentUtils.hasInstanceNameProperty(environment));
+    }
+
+    private boolean hasConditionalDirectives(Node<?> node) {
+        if (node instanceof Directive) {
+            String name = ((Directive) node).getName();
+            return "skip".equals(name) || "include".equals(name);
+        }
+        for (Node<?> child : node.getChildren()) {
+            if (hasConditionalDirectives(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private List<String> excludeForbiddenProperties(MetaClass metaClass, Collection<String> properties) {
         List<String> result = new ArrayList<>();
         properties.forEach(property -> {
@@ -69,4 +145,25 @@ public class DataFetcherPlanBuilder {
         });
         return result;
     }
+
+    private static class DocumentSelections {
+
+        private final boolean cacheable;
+        private final Map<List<Object>, SelectedProperties> properties = new ConcurrentHashMap<>();
+
+        private DocumentSelections(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+    }
+
+    private static class SelectedProperties {
+
+        private final List<String> properties;
+        private final boolean instanceNameRequired;
+
+        private SelectedProperties(List<String> properties, boolean instanceNameRequired) {
+            this.properties = properties;
+            this.instanceNameRequired = instanceNameRequired;
+        }
+    }
 }
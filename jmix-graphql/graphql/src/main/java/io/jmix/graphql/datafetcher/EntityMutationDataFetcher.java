@@ -124,8 +124,7 @@ public class EntityMutationDataFetcher {
                         Collections.singletonList(entity), entityImportPlan));
             }
 
-            return responseBuilder.buildResponse((Entity) mainEntity, fetchPlan, metaClass,
-                    environmentUtils.getDotDelimitedProps(environment));
+            return responseBuilder.buildResult(mainEntity, fetchPlan);
         };
     }
 
@@ -86,19 +86,18 @@ public class EntityQueryDataFetcher {
             if (queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass()) == null) {
                 Object entity = dataManager.load(lc);
                 if (entity == null) return null;
-                return responseBuilder.buildResponse((Entity) entity, fetchPlan, metaClass, environmentUtils.getDotDelimitedProps(environment));
+                return responseBuilder.buildResult(entity, fetchPlan);
             } else {
                 Object bean = queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass());
                 Method method = bean.getClass().getDeclaredMethod(GRAPHQL_ENTITY_LOADER_METHOD_NAME,
                         GraphQLEntityDataFetcherContext.class);
-                return responseBuilder.buildResponse((Entity) method.invoke(bean,
-                                new GraphQLEntityDataFetcherContext(metaClass, id, lc, fetchPlan)), fetchPlan, metaClass,
-                        environmentUtils.getDotDelimitedProps(environment));
+                return responseBuilder.buildResult(method.invoke(bean,
+                        new GraphQLEntityDataFetcherContext(metaClass, id, lc, fetchPlan)), fetchPlan);
             }
         };
     }
 
-    public DataFetcher<List<Map<String, Object>>> loadEntities(MetaClass metaClass) {
+    public DataFetcher<?> loadEntities(MetaClass metaClass) {
 
         return environment -> {
             checkCanReadEntity(metaClass);
@@ -155,13 +154,8 @@ public class EntityQueryDataFetcher {
                         orderByConditions, limit, offset, fetchPan));
             }
 
-            Set<String> props = environmentUtils.getDotDelimitedProps(environment);
-            List<Map<String, Object>> entitiesAsMap = objects.stream()
-                    .map(e -> responseBuilder.buildResponse((Entity) e, fetchPan, metaClass, props))
-                    .collect(Collectors.toList());
-
-            log.debug("loadEntities return {} objects for {}", entitiesAsMap.size(), metaClass.getName());
-            return entitiesAsMap;
+            log.debug("loadEntities return {} objects for {}", objects.size(), metaClass.getName());
+            return responseBuilder.buildResult(objects, fetchPan);
         };
     }
 
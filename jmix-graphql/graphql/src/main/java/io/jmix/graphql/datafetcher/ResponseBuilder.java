@@ -16,8 +16,12 @@
 
 package io.jmix.graphql.datafetcher;
 
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
 import io.jmix.core.Entity;
+import io.jmix.core.EntityStates;
 import io.jmix.core.FetchPlan;
+import io.jmix.core.FetchPlanProperty;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.entity.EntityValues;
@@ -28,6 +32,7 @@ import io.jmix.graphql.NamingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
@@ -37,9 +42,14 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static io.jmix.graphql.NamingUtils.ID_ATTR_NAME;
+import static io.jmix.graphql.NamingUtils.SYS_ATTR_INSTANCE_NAME;
 
 /**
- * Converts entities to Map&lt;String, Object&gt; response format.
+ * Builds data fetcher results for loaded entities.
+ * <p>
+ * Entities are returned to GraphQL as is, their fields are resolved by {@link #entityField()} directly from the entity
+ * instances. The fetch plan used to load entities is passed down as a local context, so only loaded properties are
+ * returned.
  */
 @Component("gql_ResponseBuilder")
 public class ResponseBuilder {
@@ -52,6 +62,63 @@ public class ResponseBuilder {
     Metadata metadata;
     @Autowired
     protected EnvironmentUtils environmentUtils;
+    @Autowired
+    protected EntityStates entityStates;
+
+    /**
+     * Wraps loaded entity or collection of entities to the data fetcher result.
+     *
+     * @param data      loaded entity, collection of entities or null
+     * @param fetchPlan fetch plan used to load the entities
+     * @return data fetcher result that passes the fetch plan to the field resolvers
+     */
+    public DataFetcherResult<Object> buildResult(@Nullable Object data, FetchPlan fetchPlan) {
+        return DataFetcherResult.newResult()
+                .data(data)
+                .localContext(fetchPlan)
+                .build();
+    }
+
+    /**
+     * @return data fetcher resolving a field of entity output type from the source entity
+     */
+    public DataFetcher<?> entityField() {
+        return environment -> {
+            Object source = environment.getSource();
+            String fieldName = environment.getFieldDefinition().getName();
+            if (source instanceof Map) {
+                // entity converted by buildResponse() in a custom data fetcher
+                return ((Map<?, ?>) source).get(fieldName);
+            }
+            if (!(source instanceof Entity)) {
+                return null;
+            }
+            Entity entity = (Entity) source;
+
+            if (SYS_ATTR_INSTANCE_NAME.equals(fieldName)) {
+                return metadataTools.getInstanceName(entity);
+            }
+
+            Object localContext = environment.getLocalContext();
+            if (!(localContext instanceof FetchPlan)) {
+                // entity returned by a custom operation, fetch plan is unknown
+                return entityStates.isLoaded(entity, fieldName) ? EntityValues.getValue(entity, fieldName) : null;
+            }
+
+            FetchPlanProperty fetchPlanProperty = ((FetchPlan) localContext).getProperty(fieldName);
+            if (fetchPlanProperty == null) {
+                // id is always returned
+                return ID_ATTR_NAME.equals(fieldName) ? EntityValues.getId(entity) : null;
+            }
+
+            Object fieldValue = EntityValues.getValue(entity, fieldName);
+            FetchPlan nestedFetchPlan = fetchPlanProperty.getFetchPlan();
+            if (fieldValue == null || nestedFetchPlan == null) {
+                return fieldValue;
+            }
+            return buildResult(fieldValue, nestedFetchPlan);
+        };
+    }
 
 
     /**
@@ -62,7 +129,9 @@ public class ResponseBuilder {
      * @param metaClass entity meta class
      * @param props we need pass full set of properties to have information about system props such '_instanceName'
      * @return entity converted to response as Map&lt;String, Object&gt;
+     * @deprecated return entities wrapped by {@link #buildResult(Object, FetchPlan)} instead
      */
+    @Deprecated
     public Map<String, Object> buildResponse(Entity entity, FetchPlan fetchPlan, MetaClass metaClass, Set<String> props) {
         Map<String, Object> entityAsMap = new HashMap<>();
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.jmix.graphql.GraphQlProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caches parsed and validated GraphQL documents by query text, so repeated operations skip parsing and validation.
+ * <p>
+ * Cached documents are shared between requests, which also allows {@link io.jmix.graphql.datafetcher.DataFetcherPlanBuilder}
+ * to reuse fetch plans built for the same operation.
+ */
+@Component("gql_CachingPreparsedDocumentProvider")
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    @Nullable
+    protected final Cache<String, PreparsedDocumentEntry> cache;
+
+    public CachingPreparsedDocumentProvider(GraphQlProperties graphQlProperties) {
+        int cacheSize = graphQlProperties.getPreparsedDocumentCacheSize();
+        cache = cacheSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(cacheSize).build()
+                : null;
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (cache == null) {
+            return parseAndValidateFunction.apply(executionInput);
+        }
+        // exceptions thrown by the function (e.g. max query depth violation) are not cached
+        ConcurrentMap<String, PreparsedDocumentEntry> entries = cache.asMap();
+        return entries.computeIfAbsent(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput));
+    }
+
+    /**
+     * Removes all cached documents.
+     */
+    public void clear() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+}
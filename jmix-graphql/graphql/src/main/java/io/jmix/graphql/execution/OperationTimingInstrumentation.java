@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.OperationDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.whenCompleted;
+
+/**
+ * Records execution time of GraphQL operations to the {@code jmix.graphql.operation} timer tagged by the operation
+ * type and name.
+ */
+public class OperationTimingInstrumentation extends SimpleInstrumentation {
+
+    public static final String TIMER_NAME = "jmix.graphql.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    public OperationTimingInstrumentation(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters) {
+        OperationDefinition operation = parameters.getExecutionContext().getOperationDefinition();
+        String operationType = operation.getOperation() != null ? operation.getOperation().name() : "QUERY";
+        String operationName = operation.getName() != null ? operation.getName() : "anonymous";
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return whenCompleted((result, throwable) ->
+                sample.stop(meterRegistry.timer(TIMER_NAME,
+                        "type", operationType,
+                        "operation", operationName,
+                        "failed", String.valueOf(throwable != null || (result != null && !result.getErrors().isEmpty())))));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import graphql.GraphQL;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Installs {@link CachingPreparsedDocumentProvider} into the {@link GraphQL} instance created by the GraphQL
+ * auto-configuration, which doesn't expose the preparsed document provider as an extension point.
+ */
+public class PreparsedDocumentProviderInstaller implements BeanPostProcessor {
+
+    protected final ObjectProvider<CachingPreparsedDocumentProvider> documentProvider;
+
+    public PreparsedDocumentProviderInstaller(ObjectProvider<CachingPreparsedDocumentProvider> documentProvider) {
+        this.documentProvider = documentProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof GraphQL) {
+            PreparsedDocumentProvider provider = documentProvider.getObject();
+            return ((GraphQL) bean).transform(builder -> builder.preparsedDocumentProvider(provider));
+        }
+        return bean;
+    }
+}
@@ -16,15 +16,13 @@
 
 package io.jmix.graphql.limitation;
 
+import graphql.ExecutionResult;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.SimpleInstrumentation;
-import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
-import graphql.validation.ValidationError;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import io.jmix.graphql.datafetcher.EnvironmentUtils;
 
-import java.util.List;
-
-import static graphql.execution.instrumentation.SimpleInstrumentationContext.whenCompleted;
+import static graphql.execution.instrumentation.SimpleInstrumentationContext.noOp;
 
 public class OperationRateLimitInstrumentation extends SimpleInstrumentation {
 
@@ -34,12 +32,13 @@ public class OperationRateLimitInstrumentation extends SimpleInstrumentation {
         this.operationRateLimitService = operationRateLimitService;
     }
 
+    // validation is skipped for cached documents, so operations are counted at the beginning of execution,
+    // before any data fetcher runs; an exceeded limit aborts the execution
     @Override
-    public  InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
-        return whenCompleted((errors, throwable) -> {
-            if (operationRateLimitService.isRateLimited()) {
-                operationRateLimitService.queryPerformed(EnvironmentUtils.getRemoteIPAddress(parameters.getContext()));
-            }
-        });
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters) {
+        if (operationRateLimitService.isRateLimited()) {
+            operationRateLimitService.queryPerformed(EnvironmentUtils.getRemoteIPAddress(parameters.getContext()));
+        }
+        return noOp();
     }
 }
@@ -16,6 +16,7 @@
 
 package io.jmix.graphql.schema;
 
+import graphql.schema.DataFetcher;
 import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLFieldDefinition;
@@ -25,6 +26,7 @@ import io.jmix.graphql.MetadataUtils;
 import io.jmix.graphql.NamingUtils;
 import io.jmix.graphql.datafetcher.EntityMutationDataFetcher;
 import io.jmix.graphql.datafetcher.EntityQueryDataFetcher;
+import io.jmix.graphql.datafetcher.ResponseBuilder;
 import io.jmix.graphql.schema.scalar.CustomScalars;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -45,6 +47,8 @@ public class GenericSchemaGenerator {
     private EntityMutationDataFetcher entityMutationDataFetcher;
     @Autowired
     private GraphQlProperties graphQlProperties;
+    @Autowired
+    private ResponseBuilder responseBuilder;
 
     public List<GraphQLFieldDefinition> generateQueryFields() {
 
@@ -156,7 +160,19 @@ public class GenericSchemaGenerator {
     }
 
     public void assignDataFetchers(GraphQLCodeRegistry.Builder codeRegistryBuilder) {
+        DataFetcher<?> entityFieldDataFetcher = responseBuilder.entityField();
         metadataUtils.allSupportedMetaClasses().forEach(metaClass -> {
+            // fields of entity out type are resolved directly from loaded entities
+            String outTypeName = NamingUtils.normalizeName(metaClass.getName());
+            metaClass.getProperties().forEach(metaProperty ->
+                    codeRegistryBuilder.dataFetcher(
+                            FieldCoordinates.coordinates(outTypeName, metaProperty.getName()),
+                            entityFieldDataFetcher));
+            codeRegistryBuilder.dataFetcher(
+                    FieldCoordinates.coordinates(outTypeName, NamingUtils.SYS_ATTR_INSTANCE_NAME),
+                    entityFieldDataFetcher);
+
+
             codeRegistryBuilder.dataFetcher(
                     FieldCoordinates.coordinates("Query", NamingUtils.composeListQueryName(metaClass)),
                     entityQueryDataFetcher.loadEntities(metaClass));
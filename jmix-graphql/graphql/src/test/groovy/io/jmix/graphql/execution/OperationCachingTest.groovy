@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution
+
+import io.jmix.graphql.AbstractGraphQLTest
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+
+class OperationCachingTest extends AbstractGraphQLTest {
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    def "repeated operation returns the same result"() {
+        when:
+        def first = query("datafetcher/query-cars.gql", "{}")
+        def second = query("datafetcher/query-cars.gql", "{}")
+
+        then:
+        getBody(first) == getBody(second)
+        !first.getList('$.data.scr_CarList', Map).isEmpty()
+    }
+
+    def "selection depending on variables is not cached"() {
+        when:
+        def withPrice = query("execution/query-cars-include-price.gql", '{"withPrice": true}')
+        def withoutPrice = query("execution/query-cars-include-price.gql", '{"withPrice": false}')
+
+        then:
+        withPrice.getList('$.data.scr_CarList', Map)[0].containsKey('price')
+        !withoutPrice.getList('$.data.scr_CarList', Map)[0].containsKey('price')
+    }
+
+    def "operation execution time is recorded"() {
+        when:
+        query("datafetcher/query-cars.gql", "{}")
+
+        then:
+        meterRegistry.find(OperationTimingInstrumentation.TIMER_NAME).tag("type", "QUERY").timer().count() > 0
+    }
+}
@@ -17,9 +17,11 @@
 package io.jmix.graphql.limitation
 
 import com.graphql.spring.boot.test.GraphQLResponse
+import io.jmix.core.UnconstrainedDataManager
 import io.jmix.graphql.AbstractGraphQLTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.TestPropertySource
+import test_support.entity.Car
 import test_support.entity.CarType
 
 @TestPropertySource(properties = ["jmix.graphql.operation-rate-limit-per-minute=3"])
@@ -28,6 +30,9 @@ class OperationRateLimitServiceTest extends AbstractGraphQLTest {
     @Autowired
     private OperationRateLimitService operationRateLimitService
 
+    @Autowired
+    private UnconstrainedDataManager dataManager
+
     def "query limit is working with 2 attempt"() {
         when:
         //where capacity = 50
@@ -113,4 +118,22 @@ class OperationRateLimitServiceTest extends AbstractGraphQLTest {
         errorMsg == "Exceeded the number of allowed requests per minute"
         extensionErrMsg == "ExecutionAborted"
     }
+
+    def "mutation over the limit is not executed"() {
+        def carCount = { ->
+            dataManager.loadValue("select count(e) from scr\$Car e where e.manufacturer = '1' and e.model = '2'", Long)
+                    .one()
+        }
+        def countBefore = carCount()
+
+        when:
+        def responses = (0..<4).collect {
+            query("datafetcher/upsert-car.graphql", asObjectNode('{}'))
+        }
+        def executed = responses.count { getErrors(it) == null }
+
+        then:
+        executed < 4
+        carCount() == countBefore + executed
+    }
 }
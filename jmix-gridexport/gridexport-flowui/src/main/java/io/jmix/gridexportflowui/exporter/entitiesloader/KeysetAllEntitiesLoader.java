@@ -18,12 +18,10 @@ package io.jmix.gridexportflowui.exporter.entitiesloader;
 
 import io.jmix.core.*;
 import io.jmix.core.metamodel.model.MetaClass;
-import io.jmix.core.querycondition.Condition;
-import io.jmix.core.querycondition.LogicalCondition;
-import io.jmix.core.querycondition.PropertyCondition;
 import io.jmix.flowui.model.CollectionLoader;
 import io.jmix.gridexportflowui.GridExportProperties;
 import io.jmix.gridexportflowui.exporter.EntityExportContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -33,13 +31,16 @@ import java.util.Objects;
 /**
  * This loader implements the keyset pagination strategy. Entities retrieval is based on sorting
  * by primary key. The next page starts after the last entity on the previous page.
+ *
+ * @see KeysetPagination
  */
 @Component
 public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
 
     public static final String PAGINATION_STRATEGY = "keyset";
 
-    protected static String LAST_LOADED_PK_CONDITION_PARAMETER_NAME = "lastLoadedPkValue";
+    @Autowired
+    protected KeysetPagination keysetPagination;
 
     public KeysetAllEntitiesLoader(MetadataTools metadataTools, DataManager dataManager,
                                    PlatformTransactionManager platformTransactionManager,
@@ -72,28 +73,14 @@ public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
             throw new IllegalStateException("Cannot find a primary key for a meta class " + entityMetaClass.getName());
         }
         query.setSort(Sort.by(primaryKeyName));
-
-        Condition condition = loadContext.getQuery().getCondition();
-
-        LogicalCondition wrappingCondition = new LogicalCondition(LogicalCondition.Type.AND);
-        //noinspection ConstantValue
-        if (condition != null) {
-            //in case there is no filter on the screen a condition in the query may be null
-            wrappingCondition.add(condition);
-        }
-
-        PropertyCondition lastPkCondition = PropertyCondition.createWithParameterName(primaryKeyName,
-                        PropertyCondition.Operation.GREATER, LAST_LOADED_PK_CONDITION_PARAMETER_NAME)
-                .skipNullOrEmpty();
-        wrappingCondition.add(lastPkCondition);
-        query.setCondition(wrappingCondition);
+        query.setKeysetPagination(true);
         query.setFirstResult(0);
 
         return loadContext;
     }
 
     /**
-     * Sort entities by the primary key, load the first batch and save the last entity primary key value.
+     * Sort entities by the primary key, load the first batch and save the position of the last entity.
      * Load the next batch with primary keys after the last entity primary key.
      * @param exportedEntityVisitor {@link ExportedEntityVisitor#visitEntity(EntityExportContext)}
      * @param loadBatchSize {@link GridExportProperties#getExportAllBatchSize()} number of entities loaded in one query
@@ -102,8 +89,7 @@ public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
                                 ExportedEntityVisitor exportedEntityVisitor,
                                 int loadBatchSize) {
         int rowNumber = 0;
-        boolean initialLoading = true;
-        Object lastLoadedPkValue = null;
+        KeysetPosition lastLoadedPosition = null;
         boolean proceedToExport = true;
         boolean lastBatchLoaded = false;
 
@@ -111,17 +97,18 @@ public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
             LoadContext<?> loadContext = generateLoadContext(collectionLoader);
             //query is not null - checked when generated load context
             LoadContext.Query query = Objects.requireNonNull(loadContext.getQuery());
+            Sort keysetSort = Objects.requireNonNull(query.getSort());
 
-            if (initialLoading) {
-                initialLoading = false;
-            } else {
-                query.setParameter(LAST_LOADED_PK_CONDITION_PARAMETER_NAME, lastLoadedPkValue);
-            }
+            query.setKeysetPosition(lastLoadedPosition);
             query.setMaxResults(loadBatchSize);
 
+            // convert the keyset position to the query condition, so that a load delegate receives the context
+            // with the condition even if it doesn't use DataManager
+            LoadContext<?> storeContext = keysetPagination.apply(loadContext);
+
             List<?> entities = collectionLoader.getLoadDelegate() == null
-                    ? dataManager.loadList(loadContext)
-                    : collectionLoader.getLoadDelegate().apply((LoadContext) loadContext);
+                    ? dataManager.loadList(storeContext)
+                    : collectionLoader.getLoadDelegate().apply((LoadContext) storeContext);
             for (Object entity : entities) {
                 EntityExportContext entityExportContext = new EntityExportContext(entity, ++rowNumber);
                 proceedToExport = exportedEntityVisitor.visitEntity(entityExportContext);
@@ -133,7 +120,7 @@ public class KeysetAllEntitiesLoader extends AbstractAllEntitiesLoader {
             int loadedEntitiesAmount = entities.size();
             if (loadedEntitiesAmount > 0) {
                 Object lastEntity = entities.get(loadedEntitiesAmount - 1);
-                lastLoadedPkValue = Id.of(lastEntity).getValue();
+                lastLoadedPosition = keysetPagination.createPosition(lastEntity, keysetSort);
             }
             lastBatchLoaded = loadedEntitiesAmount == 0 || loadedEntitiesAmount < loadBatchSize;
         }
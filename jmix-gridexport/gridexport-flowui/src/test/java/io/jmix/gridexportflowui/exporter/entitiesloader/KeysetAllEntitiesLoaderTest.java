@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gridexportflowui.exporter.entitiesloader;
+
+import io.jmix.core.*;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.jmix.flowui.model.CollectionLoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class KeysetAllEntitiesLoaderTest {
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void loadDelegateReceivesKeysetCondition() {
+        MetaClass metaClass = mock(MetaClass.class);
+        MetadataTools metadataTools = mock(MetadataTools.class);
+        when(metadataTools.getPrimaryKeyName(metaClass)).thenReturn("id");
+        DataManager dataManager = mock(DataManager.class);
+
+        KeysetAllEntitiesLoader loader = new KeysetAllEntitiesLoader(metadataTools, dataManager, null, null);
+        loader.keysetPagination = new TestKeysetPagination(metadataTools);
+
+        List<Row> rows = IntStream.rangeClosed(1, 5).mapToObj(Row::new).toList();
+        // loads rows without DataManager, so the keyset position must be already converted to the condition
+        Function<LoadContext<Row>, List<Row>> loadDelegate = loadContext -> {
+            LoadContext.Query query = loadContext.getQuery();
+            assertFalse(query.isKeysetPagination());
+            int lastId = findLastId(query.getCondition());
+            return rows.stream()
+                    .filter(row -> row.id() > lastId)
+                    .limit(query.getMaxResults())
+                    .toList();
+        };
+
+        CollectionLoader collectionLoader = mock(CollectionLoader.class);
+        when(collectionLoader.createLoadContext()).thenAnswer(invocation ->
+                new LoadContext<>(metaClass).setQuery(new LoadContext.Query("select e from test_Row e")));
+        when(collectionLoader.getLoadDelegate()).thenReturn(loadDelegate);
+
+        List<Object> exported = new ArrayList<>();
+        loader.loadEntities(collectionLoader, context -> exported.add(context.getEntity()), 2);
+
+        assertEquals(rows, exported);
+        verify(dataManager, never()).loadList(any());
+    }
+
+    private static int findLastId(Condition condition) {
+        if (condition instanceof PropertyCondition propertyCondition
+                && propertyCondition.getProperty().equals("id")
+                && propertyCondition.getOperation().equals(PropertyCondition.Operation.GREATER)) {
+            return (Integer) propertyCondition.getParameterValue();
+        }
+        if (condition instanceof LogicalCondition logicalCondition) {
+            for (Condition nested : logicalCondition.getConditions()) {
+                int lastId = findLastId(nested);
+                if (lastId > 0) {
+                    return lastId;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private record Row(int id) {
+    }
+
+    private static class TestKeysetPagination extends KeysetPagination {
+
+        TestKeysetPagination(MetadataTools metadataTools) {
+            super(metadataTools);
+        }
+
+        @Override
+        public Sort getKeysetSort(MetaClass metaClass, Sort sort) {
+            return Sort.by("id");
+        }
+
+        @Override
+        public KeysetPosition createPosition(Object entity, Sort keysetSort) {
+            return KeysetPosition.of(Map.of("id", ((Row) entity).id()));
+        }
+    }
+}
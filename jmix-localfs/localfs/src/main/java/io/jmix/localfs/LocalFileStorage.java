@@ -20,6 +20,9 @@ import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.*;
 import io.jmix.core.annotation.Internal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import jakarta.annotation.PreDestroy;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -29,32 +32,53 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 
 @Internal
 @Component("locfs_FileStorage")
-public class LocalFileStorage implements FileStorage {
+public class LocalFileStorage implements RangedFileStorage {
 
     private static final Logger log = LoggerFactory.getLogger(LocalFileStorage.class);
 
     public static final String DEFAULT_STORAGE_NAME = "fs";
 
+    /**
+     * Directory in each storage root containing the content files in the deduplication mode.
+     */
+    public static final String CONTENT_DIR = ".content";
+
+    /**
+     * {@link FileRef} parameter containing the SHA-256 hash of the file contents in the deduplication mode.
+     */
+    public static final String CONTENT_HASH_PARAMETER = "contentHash";
+
+    protected static final String TEMP_DIR = "tmp";
+
     protected String storageName;
     protected String storageDir;
 
@@ -72,8 +96,16 @@ public class LocalFileStorage implements FileStorage {
 
     protected boolean isImmutableFileStorage;
 
-    protected ExecutorService writeExecutor = Executors.newFixedThreadPool(5,
-            new ThreadFactoryBuilder().setNameFormat("FileStorageWriter-%d").build());
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected volatile ThreadPoolExecutor writeExecutor;
+
+    protected volatile ScheduledThreadPoolExecutor retryExecutor;
+
+    protected final Map<Path, Boolean> hardLinksSupported = new ConcurrentHashMap<>();
+
+    protected Counter replicationFailedCounter;
 
     protected volatile Path[] storageRoots;
 
@@ -139,6 +171,14 @@ public class LocalFileStorage implements FileStorage {
     }
 
     public long saveStream(FileRef fileRef, InputStream inputStream) {
+        return doSaveStream(fileRef, inputStream).size();
+    }
+
+    /**
+     * Saves the stream to the file denoted by the reference and returns its size and, in the deduplication mode,
+     * the hash of its contents.
+     */
+    protected Stored doSaveStream(FileRef fileRef, InputStream inputStream) {
         Path relativePath = getRelativePath(fileRef.getPath());
 
         Path[] roots = getStorageRoots();
@@ -160,6 +200,12 @@ public class LocalFileStorage implements FileStorage {
 
         checkFileExists(path);
 
+        if (isDeduplicationEnabled(roots[0])) {
+            Stored stored = saveDeduplicated(roots[0], path, inputStream);
+            replicate(fileRef, roots, relativePath, stored.hash());
+            return stored;
+        }
+
         long size;
         long maxAllowedSize = properties.getMaxFileSize().toBytes();
         try (OutputStream outputStream = Files.newOutputStream(path, CREATE_NEW)) {
@@ -189,25 +235,255 @@ public class LocalFileStorage implements FileStorage {
             throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
         }
 
-        // Copy file to secondary storages asynchronously
+        replicate(fileRef, roots, relativePath, null);
+
+        return new Stored(size, null);
+    }
+
+    /**
+     * Writes the stream to the content file named by the SHA-256 hash of the contents, unless it already exists,
+     * and creates the file denoted by the path as a hard link to it.
+     */
+    protected Stored saveDeduplicated(Path root, Path path, InputStream inputStream) {
+        Path tempFile = null;
+        try {
+            Path tempDir = root.resolve(CONTENT_DIR).resolve(TEMP_DIR);
+            Files.createDirectories(tempDir);
+            tempFile = tempDir.resolve(UuidProvider.createUuid().toString());
+
+            MessageDigest digest = createDigest();
+            long size;
+            long maxAllowedSize = properties.getMaxFileSize().toBytes();
+            try (OutputStream outputStream = Files.newOutputStream(tempFile, CREATE_NEW)) {
+                DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest);
+                size = IOUtils.copyLarge(digestInputStream, outputStream, 0, maxAllowedSize);
+                if (size >= maxAllowedSize && digestInputStream.read() != IOUtils.EOF) {
+                    throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
+                            String.format("File is too large: '%s'. Max file size = %s MB is exceeded " +
+                                            "but there are unread bytes left.",
+                                    path.toAbsolutePath(), properties.getMaxFileSize().toMegabytes()));
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            linkContent(tempFile, getContentPath(root, hash), path);
+            return new Stored(size, hash);
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
+        } finally {
+            if (tempFile != null) {
+                FileUtils.deleteQuietly(tempFile.toFile());
+            }
+        }
+    }
+
+    protected void linkContent(Path source, Path contentPath, Path path) throws IOException {
+        Files.createDirectories(contentPath.getParent());
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Files.createLink(contentPath, source);
+            } catch (FileAlreadyExistsException e) {
+                // the same contents is already stored
+            }
+            try {
+                Files.createLink(path, contentPath);
+                return;
+            } catch (NoSuchFileException e) {
+                // the content file has been removed together with its last reference, create it again
+                if (attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the content file of the given SHA-256 hash, for example {@code .content/3a/7b/3a7b...}.
+     */
+    protected Path getContentPath(Path root, String hash) {
+        return root.resolve(CONTENT_DIR).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    protected MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected String computeHash(Path path) throws IOException {
+        MessageDigest digest = createDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(path), digest)) {
+            IOUtils.consume(inputStream);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns true if the deduplication mode is enabled and the file system of the storage root supports it.
+     */
+    protected boolean isDeduplicationEnabled(Path root) {
+        return properties.isDeduplicationEnabled() && isHardLinksSupported(root);
+    }
+
+    /**
+     * Returns true if hard links can be created in the storage root and their number can be read by
+     * {@link #getLinkCount(Path)}. Otherwise, files of the root are stored without deduplication.
+     */
+    protected boolean isHardLinksSupported(Path root) {
+        return hardLinksSupported.computeIfAbsent(root, dir -> {
+            Path tempDir = dir.resolve(CONTENT_DIR).resolve(TEMP_DIR);
+            Path file = tempDir.resolve(UuidProvider.createUuid().toString());
+            Path link = tempDir.resolve(file.getFileName() + ".link");
+            try {
+                Files.createDirectories(tempDir);
+                Files.createFile(file);
+                Files.createLink(link, file);
+                if (getLinkCount(file) == 2) {
+                    return true;
+                }
+                log.warn("File system of {} does not provide the number of hard links, " +
+                        "files are stored without deduplication", dir);
+            } catch (IOException | UnsupportedOperationException e) {
+                log.warn("File system of {} does not support hard links, files are stored without deduplication: {}",
+                        dir, e.toString());
+            } finally {
+                FileUtils.deleteQuietly(link.toFile());
+                FileUtils.deleteQuietly(file.toFile());
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns the number of hard links to the file, or -1 if the file system does not provide it.
+     */
+    protected int getLinkCount(Path path) throws IOException {
+        try {
+            return ((Number) Files.getAttribute(path, "unix:nlink")).intValue();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Copies the saved file to the secondary storage directories asynchronously. If the replication queue is full,
+     * the file is copied by the calling thread.
+     */
+    protected void replicate(FileRef fileRef, Path[] roots, Path relativePath, @Nullable String hash) {
+        Path path = roots[0].resolve(relativePath);
         for (int i = 1; i < roots.length; i++) {
-            if (!roots[i].toFile().exists()) {
-                log.error("Error saving {} into {} : directory doesn't exist", fileRef.getFileName(), roots[i]);
+            Path root = roots[i];
+            if (!root.toFile().exists()) {
+                log.error("Error saving {} into {} : directory doesn't exist", fileRef.getFileName(), root);
                 continue;
             }
+            getWriteExecutor().execute(() -> replicateWithRetry(fileRef, path, root, relativePath, hash, 1));
+        }
+    }
 
-            Path pathCopy = roots[i].resolve(relativePath);
+    /**
+     * Copies the file to the secondary storage root. A failed attempt is retried by the retry executor after a delay
+     * instead of blocking the current thread, which can be the saving thread if the replication queue is full.
+     */
+    protected void replicateWithRetry(FileRef fileRef, Path path, Path root, Path relativePath,
+                                      @Nullable String hash, int attempt) {
+        Path pathCopy = root.resolve(relativePath);
+        int maxAttempts = Math.max(1, properties.getReplicationMaxAttempts());
+        try {
+            copyToRoot(path, root, pathCopy, hash);
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                log.error("Error saving {} into {} : {}", fileRef.getFileName(), pathCopy, e.getMessage());
+                replicationFailedCounter.increment();
+                return;
+            }
+            log.warn("Error saving {} into {}, attempt {} of {} : {}",
+                    fileRef.getFileName(), pathCopy, attempt, maxAttempts, e.getMessage());
+            try {
+                getRetryExecutor().schedule(
+                        () -> replicateWithRetry(fileRef, path, root, relativePath, hash, attempt + 1),
+                        attempt, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException re) {
+                log.error("Error saving {} into {} : file storage is stopped", fileRef.getFileName(), pathCopy);
+                replicationFailedCounter.increment();
+            }
+        }
+    }
 
-            writeExecutor.submit(() -> {
-                try {
-                    FileUtils.copyFile(path.toFile(), pathCopy.toFile(), true);
-                } catch (Exception e) {
-                    log.error("Error saving {} into {} : {}", fileRef.getFileName(), pathCopy, e.getMessage());
+    protected void copyToRoot(Path path, Path root, Path pathCopy, @Nullable String hash) throws IOException {
+        if (hash == null || !isHardLinksSupported(root)) {
+            FileUtils.copyFile(path.toFile(), pathCopy.toFile(), true);
+            return;
+        }
+        Files.createDirectories(pathCopy.getParent());
+        Files.deleteIfExists(pathCopy);
+        Path contentCopy = getContentPath(root, hash);
+        if (Files.exists(contentCopy)) {
+            try {
+                Files.createLink(pathCopy, contentCopy);
+                return;
+            } catch (NoSuchFileException e) {
+                // the content file has been removed concurrently, copy it again
+            }
+        }
+        Path tempDir = root.resolve(CONTENT_DIR).resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path tempFile = tempDir.resolve(UuidProvider.createUuid().toString());
+        try {
+            Files.copy(path, tempFile);
+            linkContent(tempFile, contentCopy, pathCopy);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    protected ThreadPoolExecutor getWriteExecutor() {
+        ThreadPoolExecutor executor = writeExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = writeExecutor;
+                if (executor == null) {
+                    int threads = Math.max(1, properties.getReplicationThreads());
+                    executor = new ThreadPoolExecutor(threads, threads,
+                            60L, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(Math.max(1, properties.getReplicationQueueCapacity())),
+                            new ThreadFactoryBuilder().setNameFormat("FileStorageWriter-%d").build(),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    meterRegistry.gauge("jmix.localfs.replication.queue.size", Tags.of("storage", storageName),
+                            executor, e -> e.getQueue().size());
+                    replicationFailedCounter = meterRegistry.counter("jmix.localfs.replication.failed",
+                            Tags.of("storage", storageName));
+                    writeExecutor = executor;
                 }
-            });
+            }
         }
+        return executor;
+    }
 
-        return size;
+    protected ScheduledThreadPoolExecutor getRetryExecutor() {
+        ScheduledThreadPoolExecutor executor = retryExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = retryExecutor;
+                if (executor == null) {
+                    executor = new ScheduledThreadPoolExecutor(1,
+                            new ThreadFactoryBuilder().setNameFormat("FileStorageWriterRetry-%d").build());
+                    retryExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Returns the number of files waiting to be copied to the secondary storage directories.
+     */
+    public int getReplicationQueueSize() {
+        ThreadPoolExecutor executor = writeExecutor;
+        return executor == null ? 0 : executor.getQueue().size();
     }
 
     @Override
@@ -215,8 +491,13 @@ public class LocalFileStorage implements FileStorage {
         Path relativePath = createRelativeFilePath(fileName);
         Map<String, String> fileRefParams = Maps.toMap(parameters.keySet(), key -> parameters.get(key).toString());
         FileRef fileRef = new FileRef(storageName, pathToString(relativePath), fileName, fileRefParams);
-        saveStream(fileRef, inputStream);
-        return fileRef;
+        Stored stored = doSaveStream(fileRef, inputStream);
+        if (stored.hash() == null) {
+            return fileRef;
+        }
+        Map<String, String> params = new LinkedHashMap<>(fileRefParams);
+        params.put(CONTENT_HASH_PARAMETER, stored.hash());
+        return new FileRef(storageName, fileRef.getPath(), fileName, params);
     }
 
     protected Path createRelativeFilePath(String fileName) {
@@ -261,6 +542,69 @@ public class LocalFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public FileMetadata getFileMetadata(FileRef reference) {
+        Path path = findFile(reference);
+        try {
+            long size = Files.size(path);
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+            String eTag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified.toEpochMilli()) + "\"";
+            return new FileMetadata(size, eTag, lastModified);
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
+        }
+    }
+
+    /**
+     * Writes the range using {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which lets the operating
+     * system copy the data without passing it through the Java heap when the target channel supports it.
+     */
+    @Override
+    public void writeRange(FileRef reference, long offset, long length, OutputStream outputStream) {
+        Path path = findFile(reference);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long end = Math.min(offset + length, channel.size());
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = offset;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
+        }
+    }
+
+    /**
+     * Returns the first existing file denoted by the reference in the storage roots.
+     *
+     * @throws FileStorageException of the {@link FileStorageException.Type#FILE_NOT_FOUND} type if the file
+     *                              does not exist
+     */
+    protected Path findFile(FileRef reference) {
+        Path relativePath = getRelativePath(reference.getPath());
+        for (Path root : getStorageRoots()) {
+            Path path = root.resolve(relativePath);
+            if (!path.toFile().exists()) {
+                continue;
+            }
+            try {
+                if (!Boolean.TRUE.equals(disablePathCheck) && !path.toRealPath().startsWith(root.toRealPath())) {
+                    log.error("File '{}' is outside of root dir '{}': ", path, root);
+                    continue;
+                }
+            } catch (IOException e) {
+                log.error("Error resolving path " + path, e);
+                continue;
+            }
+            return path;
+        }
+        throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.toString());
+    }
+
     @Override
     public void removeFile(FileRef reference) {
         Path[] roots = getStorageRoots();
@@ -274,14 +618,114 @@ public class LocalFileStorage implements FileStorage {
             Path filePath = root.resolve(relativePath);
             File file = filePath.toFile();
             if (file.exists()) {
+                Path contentPath = findUnreferencedContent(root, filePath,
+                        reference.getParameters().get(CONTENT_HASH_PARAMETER));
                 if (!file.delete()) {
                     throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION,
                             "Unable to delete file " + file.getAbsolutePath());
                 }
+                if (contentPath != null) {
+                    FileUtils.deleteQuietly(contentPath.toFile());
+                }
             }
         }
     }
 
+    /**
+     * Returns the content file that is referenced only by the given file and should be removed together with it.
+     *
+     * @param hash hash of the contents stored in the file reference, or null to compute it from the file
+     */
+    @Nullable
+    protected Path findUnreferencedContent(Path root, Path filePath, @Nullable String hash) {
+        if (!isDeduplicationEnabled(root)) {
+            return null;
+        }
+        try {
+            // the file itself and the content file
+            if (getLinkCount(filePath) != 2) {
+                return null;
+            }
+            Path contentPath = getContentPath(root, hash != null ? hash : computeHash(filePath));
+            return Files.exists(contentPath) && Files.isSameFile(contentPath, filePath) ? contentPath : null;
+        } catch (IOException e) {
+            log.warn("Unable to find content file of {}: {}", filePath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Migrates the files of all storage roots to the deduplication mode. Files with the same contents are replaced
+     * by hard links to a single content file, and content files no longer referenced by any file are removed.
+     * <p>
+     * The method can be executed on a working application and repeated. Storage roots whose file system does not
+     * support hard links are skipped.
+     *
+     * @return statistics of the migration
+     */
+    public DeduplicationResult deduplicate() {
+        long files = 0;
+        long duplicates = 0;
+        long savedBytes = 0;
+        long removedContents = 0;
+        for (Path root : getStorageRoots()) {
+            if (!Files.isDirectory(root) || !isHardLinksSupported(root)) {
+                continue;
+            }
+            Path contentDir = root.resolve(CONTENT_DIR);
+            List<Path> paths;
+            try (Stream<Path> stream = Files.walk(root)) {
+                paths = stream
+                        .filter(path -> !path.startsWith(contentDir))
+                        .filter(Files::isRegularFile)
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, root.toString(), e);
+            }
+
+            for (Path path : paths) {
+                try {
+                    Path contentPath = getContentPath(root, computeHash(path));
+                    files++;
+                    if (!Files.exists(contentPath)) {
+                        Files.createDirectories(contentPath.getParent());
+                        Files.createLink(contentPath, path);
+                    } else if (!Files.isSameFile(contentPath, path)) {
+                        long size = Files.size(path);
+                        Path link = path.resolveSibling(path.getFileName() + ".dedup");
+                        Files.deleteIfExists(link);
+                        Files.createLink(link, contentPath);
+                        Files.move(link, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                        duplicates++;
+                        savedBytes += size;
+                    }
+                } catch (IOException e) {
+                    log.error("Unable to deduplicate file {}", path, e);
+                }
+            }
+
+            if (Files.isDirectory(contentDir)) {
+                Path tempDir = contentDir.resolve(TEMP_DIR);
+                try (Stream<Path> stream = Files.walk(contentDir)) {
+                    for (Path contentPath : stream
+                            .filter(path -> !path.startsWith(tempDir))
+                            .filter(Files::isRegularFile)
+                            .collect(Collectors.toList())) {
+                        if (getLinkCount(contentPath) == 1) {
+                            Files.delete(contentPath);
+                            removedContents++;
+                        }
+                    }
+                } catch (IOException e) {
+                    log.error("Unable to remove unreferenced content files in {}", contentDir, e);
+                }
+            }
+        }
+        DeduplicationResult result = new DeduplicationResult(files, duplicates, savedBytes, removedContents);
+        log.info("Deduplicated file storage '{}': {}", storageName, result);
+        return result;
+    }
+
     @Override
     public boolean fileExists(FileRef reference) {
         Path[] roots = getStorageRoots();
@@ -365,7 +809,25 @@ public class LocalFileStorage implements FileStorage {
 
     @PreDestroy
     protected void stopWriteExecutor() {
-        writeExecutor.shutdown();
+        if (writeExecutor != null) {
+            writeExecutor.shutdown();
+        }
+        if (retryExecutor != null) {
+            retryExecutor.shutdown();
+        }
     }
 
+    protected record Stored(long size, @Nullable String hash) {
+    }
+
+    /**
+     * Statistics of {@link #deduplicate()}.
+     *
+     * @param files           number of processed files
+     * @param duplicates      number of files replaced by links to the same contents
+     * @param savedBytes      disk space freed by the replaced files
+     * @param removedContents number of removed content files that were not referenced by any file
+     */
+    public record DeduplicationResult(long files, long duplicates, long savedBytes, long removedContents) {
+    }
 }
@@ -33,11 +33,45 @@ public class LocalFileStorageProperties {
      */
     DataSize maxFileSize;
 
+    /**
+     * Whether files with the same contents are stored once. Each file is identified by the SHA-256 hash of its
+     * contents, and the files returned by {@link LocalFileStorage} are hard links to the single copy.
+     * <p>
+     * The file system must support hard links and provide their number through the {@code unix} file attribute view.
+     * Otherwise, for example on Windows, a warning is logged and files are stored without deduplication.
+     */
+    boolean deduplicationEnabled;
+
+    /**
+     * Number of threads copying saved files to the secondary storage directories.
+     */
+    int replicationThreads;
+
+    /**
+     * Maximum number of files waiting to be copied to the secondary storage directories. If the queue is full,
+     * files are copied by the saving thread.
+     */
+    int replicationQueueCapacity;
+
+    /**
+     * Maximum number of attempts to copy a file to a secondary storage directory. Failed attempts are repeated
+     * with an increasing delay by a separate thread.
+     */
+    int replicationMaxAttempts;
+
     public LocalFileStorageProperties(
             String storageDir,
-            @DefaultValue("100MB") DataSize maxFileSize) {
+            @DefaultValue("100MB") DataSize maxFileSize,
+            @DefaultValue("false") boolean deduplicationEnabled,
+            @DefaultValue("5") int replicationThreads,
+            @DefaultValue("1000") int replicationQueueCapacity,
+            @DefaultValue("3") int replicationMaxAttempts) {
         this.storageDir = storageDir;
         this.maxFileSize = maxFileSize;
+        this.deduplicationEnabled = deduplicationEnabled;
+        this.replicationThreads = replicationThreads;
+        this.replicationQueueCapacity = replicationQueueCapacity;
+        this.replicationMaxAttempts = replicationMaxAttempts;
     }
 
     /**
@@ -53,4 +87,32 @@ public class LocalFileStorageProperties {
     public DataSize getMaxFileSize() {
         return maxFileSize;
     }
+
+    /**
+     * @see #deduplicationEnabled
+     */
+    public boolean isDeduplicationEnabled() {
+        return deduplicationEnabled;
+    }
+
+    /**
+     * @see #replicationThreads
+     */
+    public int getReplicationThreads() {
+        return replicationThreads;
+    }
+
+    /**
+     * @see #replicationQueueCapacity
+     */
+    public int getReplicationQueueCapacity() {
+        return replicationQueueCapacity;
+    }
+
+    /**
+     * @see #replicationMaxAttempts
+     */
+    public int getReplicationMaxAttempts() {
+        return replicationMaxAttempts;
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.CoreProperties
+import io.jmix.core.FileRef
+import io.jmix.core.TimeSource
+import io.jmix.localfs.LocalFileStorage
+import io.jmix.localfs.LocalFileStorageConfiguration
+import io.jmix.localfs.LocalFileStorageProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.apache.commons.io.IOUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.util.unit.DataSize
+import spock.lang.Specification
+import spock.lang.TempDir
+import test_support.LocalFileStorageTestConfiguration
+import test_support.TestContextInititalizer
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.concurrent.atomic.AtomicBoolean
+
+@ContextConfiguration(
+        classes = [CoreConfiguration, LocalFileStorageConfiguration, LocalFileStorageTestConfiguration],
+        initializers = [TestContextInititalizer]
+)
+class LocalFileStorageDeduplicationTest extends Specification {
+
+    @Autowired
+    CoreProperties coreProperties
+
+    @Autowired
+    TimeSource timeSource
+
+    @TempDir
+    Path primaryDir
+
+    @TempDir
+    Path secondaryDir
+
+    def "files with the same contents are stored once"() {
+        def storage = createStorage(true, primaryDir)
+        byte[] content = 'duplicate'.bytes
+
+        when:
+        FileRef fileRef1 = storage.saveStream('a.txt', new ByteArrayInputStream(content))
+        FileRef fileRef2 = storage.saveStream('b.txt', new ByteArrayInputStream(content))
+
+        then:
+        IOUtils.toByteArray(storage.openStream(fileRef1)) == content
+        IOUtils.toByteArray(storage.openStream(fileRef2)) == content
+        Files.isSameFile(primaryDir.resolve(fileRef1.path), primaryDir.resolve(fileRef2.path))
+        contentFiles(primaryDir).size() == 1
+
+        when:
+        storage.removeFile(fileRef1)
+
+        then:
+        !storage.fileExists(fileRef1)
+        IOUtils.toByteArray(storage.openStream(fileRef2)) == content
+        contentFiles(primaryDir).size() == 1
+
+        when:
+        storage.removeFile(fileRef2)
+
+        then:
+        contentFiles(primaryDir).isEmpty()
+    }
+
+    def "existing files are deduplicated"() {
+        def storage = createStorage(false, primaryDir)
+        byte[] content = 'duplicate'.bytes
+        FileRef fileRef1 = storage.saveStream('a.txt', new ByteArrayInputStream(content))
+        FileRef fileRef2 = storage.saveStream('b.txt', new ByteArrayInputStream(content))
+        storage.saveStream('c.txt', new ByteArrayInputStream('unique'.bytes))
+
+        when:
+        def result = storage.deduplicate()
+
+        then:
+        result.files() == 3
+        result.duplicates() == 1
+        result.savedBytes() == content.length
+        Files.isSameFile(primaryDir.resolve(fileRef1.path), primaryDir.resolve(fileRef2.path))
+        IOUtils.toByteArray(storage.openStream(fileRef2)) == content
+
+        when:
+        result = storage.deduplicate()
+
+        then:
+        result.duplicates() == 0
+    }
+
+    def "files are replicated to secondary directories"() {
+        def storage = createStorage(true, primaryDir, secondaryDir)
+        byte[] content = 'replicated'.bytes
+
+        when:
+        FileRef fileRef = storage.saveStream('a.txt', new ByteArrayInputStream(content))
+        def copy = secondaryDir.resolve(fileRef.path)
+        long deadline = System.currentTimeMillis() + 5000
+        while (!Files.exists(copy) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50)
+        }
+
+        then:
+        Files.readAllBytes(copy) == content
+        contentFiles(secondaryDir).size() == 1
+
+        cleanup:
+        storage.stopWriteExecutor()
+    }
+
+    def "content hash is stored in the file reference"() {
+        def storage = createStorage(true, primaryDir)
+        byte[] content = 'hashed'.bytes
+
+        when:
+        FileRef fileRef = storage.saveStream('a.txt', new ByteArrayInputStream(content))
+        String hash = fileRef.parameters[LocalFileStorage.CONTENT_HASH_PARAMETER]
+
+        then:
+        hash == HexFormat.of().formatHex(MessageDigest.getInstance('SHA-256').digest(content))
+        contentFiles(primaryDir) == [primaryDir.resolve(LocalFileStorage.CONTENT_DIR)
+                                             .resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash)]
+
+        when:
+        storage.removeFile(FileRef.fromString(fileRef.toString()))
+
+        then:
+        contentFiles(primaryDir).isEmpty()
+    }
+
+    def "files are stored without deduplication if hard links are not supported"() {
+        def storage = configure(new LocalFileStorage('dedupfs', primaryDir.toString()) {
+            @Override
+            protected boolean isHardLinksSupported(Path root) {
+                return false
+            }
+        }, true)
+        byte[] content = 'duplicate'.bytes
+
+        when:
+        FileRef fileRef1 = storage.saveStream('a.txt', new ByteArrayInputStream(content))
+        FileRef fileRef2 = storage.saveStream('b.txt', new ByteArrayInputStream(content))
+
+        then:
+        !fileRef1.parameters.containsKey(LocalFileStorage.CONTENT_HASH_PARAMETER)
+        IOUtils.toByteArray(storage.openStream(fileRef2)) == content
+        !Files.isSameFile(primaryDir.resolve(fileRef1.path), primaryDir.resolve(fileRef2.path))
+        contentFiles(primaryDir).isEmpty()
+
+        when:
+        storage.removeFile(fileRef1)
+
+        then:
+        !storage.fileExists(fileRef1)
+        storage.fileExists(fileRef2)
+    }
+
+    def "failed replication is retried without blocking the calling thread"() {
+        List<String> attemptThreads = Collections.synchronizedList([])
+        def failNext = new AtomicBoolean()
+        def storage = configure(new LocalFileStorage('dedupfs', "$primaryDir,$secondaryDir") {
+            @Override
+            protected void copyToRoot(Path path, Path root, Path pathCopy, String hash) throws IOException {
+                attemptThreads << Thread.currentThread().name
+                if (failNext.getAndSet(false)) {
+                    throw new IOException('Disk is not ready')
+                }
+                super.copyToRoot(path, root, pathCopy, hash)
+            }
+        }, false, 2)
+        FileRef fileRef = storage.saveStream('a.txt', new ByteArrayInputStream('retried'.bytes))
+        def path = primaryDir.resolve(fileRef.path)
+        def copy = secondaryDir.resolve(fileRef.path)
+        waitForFile(copy)
+        Files.delete(copy)
+        attemptThreads.clear()
+        failNext.set(true)
+
+        when:
+        long start = System.currentTimeMillis()
+        storage.replicateWithRetry(fileRef, path, secondaryDir, primaryDir.relativize(path), null, 1)
+        long duration = System.currentTimeMillis() - start
+        waitForFile(copy)
+
+        then:
+        duration < 500
+        Files.readAllBytes(copy) == 'retried'.bytes
+        attemptThreads.size() == 2
+        attemptThreads[0] == Thread.currentThread().name
+        attemptThreads[1].startsWith('FileStorageWriterRetry')
+
+        cleanup:
+        storage.stopWriteExecutor()
+    }
+
+    private void waitForFile(Path path) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (!Files.exists(path) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50)
+        }
+    }
+
+    private LocalFileStorage createStorage(boolean deduplicationEnabled, Path... dirs) {
+        return configure(new LocalFileStorage('dedupfs', dirs.collect { it.toString() }.join(',')),
+                deduplicationEnabled)
+    }
+
+    private LocalFileStorage configure(LocalFileStorage storage, boolean deduplicationEnabled, int maxAttempts = 1) {
+        storage.properties = new LocalFileStorageProperties(null, DataSize.ofMegabytes(100),
+                deduplicationEnabled, 1, 10, maxAttempts)
+        storage.coreProperties = coreProperties
+        storage.timeSource = timeSource
+        storage.meterRegistry = new SimpleMeterRegistry()
+        return storage
+    }
+
+    private List<Path> contentFiles(Path root) {
+        def contentDir = root.resolve(LocalFileStorage.CONTENT_DIR)
+        if (!Files.exists(contentDir)) {
+            return []
+        }
+        return Files.walk(contentDir)
+                .filter { Files.isRegularFile(it) && !it.startsWith(contentDir.resolve('tmp')) }
+                .collect()
+    }
+}
@@ -18,9 +18,13 @@
 import io.jmix.core.FileRef
 import io.jmix.core.FileStorage
 import io.jmix.core.CoreConfiguration
+import io.jmix.core.FileTransferService
+import io.jmix.core.RangedFileStorage
 import io.jmix.localfs.LocalFileStorageConfiguration
 import org.apache.commons.io.IOUtils
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 import test_support.LocalFileStorageTestConfiguration
@@ -35,6 +39,9 @@ class LocalFileStorageTest extends Specification {
     @Autowired
     private FileStorage fileStorage
 
+    @Autowired
+    private FileTransferService fileTransferService
+
     def "write/load data using file storage"() {
         byte[] a = 'Test output'.getBytes()
         FileRef fileRef = fileStorage.saveStream("test.txt", new ByteArrayInputStream(a))
@@ -47,6 +54,82 @@ class LocalFileStorageTest extends Specification {
         fileStorage.removeFile(fileRef)
     }
 
+    def "read file ranges"() {
+        byte[] a = '0123456789'.getBytes()
+        FileRef fileRef = fileStorage.saveStream("test.txt", new ByteArrayInputStream(a))
+        def rangedFileStorage = (RangedFileStorage) fileStorage
+
+        when:
+        def metadata = rangedFileStorage.getFileMetadata(fileRef)
+        def outputStream = new ByteArrayOutputStream()
+        rangedFileStorage.writeRange(fileRef, 2, 5, outputStream)
+
+        then:
+        metadata.size() == 10
+        metadata.eTag() != null
+        metadata.lastModified() != null
+        outputStream.toString() == '23456'
+
+        cleanup:
+        fileStorage.removeFile(fileRef)
+    }
+
+    def "download with Range and conditional headers"() {
+        byte[] a = '0123456789'.getBytes()
+        FileRef fileRef = fileStorage.saveStream("test.txt", new ByteArrayInputStream(a))
+
+        when: "whole file"
+        def response = download(fileRef, [:])
+
+        then:
+        response.status == 200
+        response.contentLengthLong == 10
+        response.getHeader('Accept-Ranges') == 'bytes'
+        response.contentAsString == '0123456789'
+
+        when: "range"
+        def eTag = response.getHeader('ETag')
+        response = download(fileRef, ['Range': 'bytes=7-', 'If-Range': eTag])
+
+        then:
+        response.status == 206
+        response.contentLengthLong == 3
+        response.getHeader('Content-Range') == 'bytes 7-9/10'
+        response.contentAsString == '789'
+
+        when: "range with outdated If-Range"
+        response = download(fileRef, ['Range': 'bytes=7-', 'If-Range': '"outdated"'])
+
+        then:
+        response.status == 200
+        response.contentAsString == '0123456789'
+
+        when: "unsatisfiable range"
+        response = download(fileRef, ['Range': 'bytes=20-'])
+
+        then:
+        response.status == 416
+        response.getHeader('Content-Range') == 'bytes */10'
+
+        when: "not modified"
+        response = download(fileRef, ['If-None-Match': eTag])
+
+        then:
+        response.status == 304
+        response.contentAsByteArray.length == 0
+
+        cleanup:
+        fileStorage.removeFile(fileRef)
+    }
+
+    private MockHttpServletResponse download(FileRef fileRef, Map<String, String> headers) {
+        def request = new MockHttpServletRequest()
+        headers.each { name, value -> request.addHeader(name, value) }
+        def response = new MockHttpServletResponse()
+        fileTransferService.downloadAndWriteResponse(fileRef, fileRef.storageName, false, request, response)
+        return response
+    }
+
     def "FileRef format"() {
         when: "FileRef as URI string"
         def fileRefString = 'fs://2021/01/25/60680137-5d4a-69a0-999e-526acf141308.png?name=1.txt&testParam=foo'
@@ -22,6 +22,8 @@ import io.jmix.oidc.OidcConfiguration;
 import io.jmix.rest.RestConfiguration;
 import io.jmix.rest.security.impl.RestAsResourceServerBeforeInvocationEventListener;
 import io.jmix.rest.security.impl.RestOidcResourceServerBeforeInvocationEventListener;
+import io.jmix.rest.security.impl.RestResponseCacheRoleModifiedEventListener;
+import io.jmix.security.SecurityConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -41,4 +43,10 @@ public class RestAutoConfiguration {
     protected RestOidcResourceServerBeforeInvocationEventListener restOidcResourceServerBeforeInvocationEventListener() {
         return new RestOidcResourceServerBeforeInvocationEventListener();
     }
+
+    @Bean("rest_RestResponseCacheRoleModifiedEventListener")
+    @ConditionalOnClass(SecurityConfiguration.class)
+    protected RestResponseCacheRoleModifiedEventListener restResponseCacheRoleModifiedEventListener() {
+        return new RestResponseCacheRoleModifiedEventListener();
+    }
 }
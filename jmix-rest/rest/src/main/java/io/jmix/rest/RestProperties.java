@@ -87,6 +87,11 @@ public class RestProperties {
      */
     private final String capabilitiesPath;
 
+    /**
+     * Batch API path.
+     */
+    private final String batchPath;
+
     /**
      * Whether the passed entities versions should be validated before entities are persisted.
      */
@@ -105,6 +110,44 @@ public class RestProperties {
      */
     private final boolean inlineFetchPlanEnabled;
 
+    /**
+     * Whether entity lists and query results are loaded by chunks and written to the response while being loaded,
+     * instead of building the whole JSON in memory. Responses requiring a model version transformation are always
+     * built in memory.
+     */
+    private final boolean streamingResponseEnabled;
+
+    /**
+     * Whether the entity endpoint returns an ETag derived from the entity version or last modification date and
+     * answers a matching If-None-Match header with 304 without serializing the entity. Changes of referenced entities
+     * don't change the ETag of the loaded entity, so enable it only if clients request fetch plans of local
+     * attributes or can tolerate stale references.
+     */
+    private final boolean entityEtagEnabled;
+
+    /**
+     * Whether serialized responses of metadata and messages endpoints are cached on the server for each locale.
+     * The cache is cleared automatically when roles are modified. After reloading messages, it should be cleared by
+     * {@link io.jmix.rest.impl.RestResponseCache#clear()}.
+     */
+    private final boolean metadataResponseCacheEnabled;
+
+    /**
+     * Maximum number of responses in the metadata and messages response cache.
+     */
+    private final int metadataResponseCacheSize;
+
+    /**
+     * Maximum number of operations in a batch request.
+     */
+    private final int batchMaxOperations;
+
+    /**
+     * Number of write operations of a batch request saved in one transaction. If 0 (default), all operations are
+     * saved in a single transaction.
+     */
+    private final int batchOperationsPerTransaction;
+
     /**
      * File extensions that can be opened for viewing in a browser by replying with 'Content-Disposition=inline' header.
      */
@@ -133,12 +176,19 @@ public class RestProperties {
             @DefaultValue("/userInfo") String userInfoPath,
             @DefaultValue("/user-session") String userSessionPath,
             @DefaultValue("/capabilities") String capabilitiesPath,
+            @DefaultValue("/batch") String batchPath,
             @DefaultValue("false") boolean optimisticLockingEnabled,
             @DefaultValue("true") boolean responseFetchPlanEnabled,
             @DefaultValue("10000") int defaultMaxFetchSize,
             @DefaultValue({"jpg", "png", "jpeg", "pdf"}) Set<String> inlineEnabledFileExtensions,
             @Nullable Map<String, Integer> entityMaxFetchSize,
             @DefaultValue("true") boolean inlineFetchPlanEnabled,
+            @DefaultValue("false") boolean streamingResponseEnabled,
+            @DefaultValue("false") boolean entityEtagEnabled,
+            @DefaultValue("false") boolean metadataResponseCacheEnabled,
+            @DefaultValue("1000") int metadataResponseCacheSize,
+            @DefaultValue("1000") int batchMaxOperations,
+            @DefaultValue("0") int batchOperationsPerTransaction,
             String servicesConfig,
             String queriesConfig) {
         this.basePath = checkPath("jmix.rest.base-path", basePath);
@@ -153,12 +203,19 @@ public class RestProperties {
         this.userInfoPath = checkPath("jmix.rest.user-info-path", userInfoPath);
         this.userSessionPath = checkPath("jmix.rest.user-session-path", userSessionPath);
         this.capabilitiesPath = checkPath("jmix.rest.capabilities-path", capabilitiesPath);
+        this.batchPath = checkPath("jmix.rest.batch-path", batchPath);
         this.optimisticLockingEnabled = optimisticLockingEnabled;
         this.responseFetchPlanEnabled = responseFetchPlanEnabled;
         this.defaultMaxFetchSize = defaultMaxFetchSize;
         this.entityMaxFetchSize = entityMaxFetchSize == null ? Collections.emptyMap() : entityMaxFetchSize;
         this.inlineEnabledFileExtensions = inlineEnabledFileExtensions;
         this.inlineFetchPlanEnabled = inlineFetchPlanEnabled;
+        this.streamingResponseEnabled = streamingResponseEnabled;
+        this.entityEtagEnabled = entityEtagEnabled;
+        this.metadataResponseCacheEnabled = metadataResponseCacheEnabled;
+        this.metadataResponseCacheSize = metadataResponseCacheSize;
+        this.batchMaxOperations = batchMaxOperations;
+        this.batchOperationsPerTransaction = batchOperationsPerTransaction;
         this.servicesConfig = servicesConfig;
         this.queriesConfig = queriesConfig;
     }
@@ -255,6 +312,13 @@ public class RestProperties {
         return capabilitiesPath;
     }
 
+    /**
+     * @see #batchPath
+     */
+    public String getBatchPath() {
+        return batchPath;
+    }
+
     /**
      * @see #optimisticLockingEnabled
      */
@@ -287,6 +351,48 @@ public class RestProperties {
         return inlineFetchPlanEnabled;
     }
 
+    /**
+     * @see #streamingResponseEnabled
+     */
+    public boolean isStreamingResponseEnabled() {
+        return streamingResponseEnabled;
+    }
+
+    /**
+     * @see #entityEtagEnabled
+     */
+    public boolean isEntityEtagEnabled() {
+        return entityEtagEnabled;
+    }
+
+    /**
+     * @see #metadataResponseCacheEnabled
+     */
+    public boolean isMetadataResponseCacheEnabled() {
+        return metadataResponseCacheEnabled;
+    }
+
+    /**
+     * @see #metadataResponseCacheSize
+     */
+    public int getMetadataResponseCacheSize() {
+        return metadataResponseCacheSize;
+    }
+
+    /**
+     * @see #batchMaxOperations
+     */
+    public int getBatchMaxOperations() {
+        return batchMaxOperations;
+    }
+
+    /**
+     * @see #batchOperationsPerTransaction
+     */
+    public int getBatchOperationsPerTransaction() {
+        return batchOperationsPerTransaction;
+    }
+
     /**
      * @see #servicesPath
      */
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.rest.impl;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.EntitySerialization;
+import io.jmix.core.EntitySerializationOption;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.LoadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Body that loads entities by chunks using {@link DataManager#loadStream(LoadContext)} and writes them to the output
+ * stream as a JSON array.
+ * <p>
+ * The first chunk is loaded by {@link #open()} before anything is written, so errors of the query itself (invalid
+ * JPQL, missing permissions, etc.) can be reported as a regular REST error. An error occurring after the first byte is
+ * written can't be reported this way: it is rethrown and the response is left incomplete.
+ *
+ * @see RestControllerUtils#writeStreamingResponse(jakarta.servlet.http.HttpServletResponse, StreamingResponseBody, Object)
+ */
+public class EntitiesStreamingResponseBody implements StreamingResponseBody {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitiesStreamingResponseBody.class);
+
+    protected final DataManager dataManager;
+    protected final EntitySerialization entitySerialization;
+    protected final LoadContext<?> loadContext;
+    protected final FetchPlan fetchPlan;
+    protected final EntitySerializationOption[] options;
+
+    protected Stream<?> entities;
+    protected Iterator<?> iterator;
+
+    public EntitiesStreamingResponseBody(DataManager dataManager,
+                                         EntitySerialization entitySerialization,
+                                         LoadContext<?> loadContext,
+                                         @Nullable FetchPlan fetchPlan,
+                                         EntitySerializationOption... options) {
+        this.dataManager = dataManager;
+        this.entitySerialization = entitySerialization;
+        this.loadContext = loadContext;
+        this.fetchPlan = fetchPlan;
+        this.options = options;
+    }
+
+    /**
+     * Executes the query and loads the first chunk of entities. Does nothing if the body is already opened.
+     * If loading fails, the body is closed and the exception is rethrown.
+     */
+    public void open() {
+        if (entities != null) {
+            return;
+        }
+        entities = dataManager.loadStream(loadContext);
+        try {
+            iterator = entities.iterator();
+            iterator.hasNext();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the resources held by the opened stream.
+     */
+    public void close() {
+        if (entities != null) {
+            entities.close();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        open();
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            Stream<?> remaining = StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+            entitySerialization.toJson(remaining, fetchPlan, writer, options);
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            log.error("Error while streaming {} entities, the response is incomplete",
+                    loadContext.getEntityMetaClass().getName(), e);
+            throw e;
+        } finally {
+            close();
+        }
+    }
+}
@@ -23,10 +23,16 @@ import io.jmix.rest.RestProperties;
 import io.jmix.rest.exception.RestAPIException;
 import io.jmix.rest.impl.config.RestJsonTransformations;
 import io.jmix.rest.transform.JsonTransformationDirection;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 
 /**
@@ -50,6 +56,12 @@ public class RestControllerUtils {
     @Autowired
     protected RestProperties restProperties;
 
+    @Autowired
+    protected DataManager dataManager;
+
+    @Autowired
+    protected EntitySerialization entitySerialization;
+
     /**
      * Finds metaClass by entityName. Throws a RestAPIException if metaClass not found
      */
@@ -122,6 +134,59 @@ public class RestControllerUtils {
                 restJsonTransformations.getTransformer(entityName, modelVersion, direction).transformJson(json);
     }
 
+    /**
+     * Returns true if a list of entities should be written to the response while being loaded.
+     *
+     * @param modelVersion requested model version. Responses transformed to a model version are built in memory.
+     * @see RestProperties#isStreamingResponseEnabled()
+     */
+    public boolean isStreamingResponseRequired(@Nullable String modelVersion) {
+        return restProperties.isStreamingResponseEnabled() && Strings.isNullOrEmpty(modelVersion);
+    }
+
+    /**
+     * Creates a body that loads entities by chunks using {@link DataManager#loadStream(LoadContext)} and writes
+     * them to the output stream as a JSON array.
+     *
+     * @param loadContext load context defining the entities
+     * @param fetchPlan   fetch plan used for serialization
+     * @param options     serialization options
+     */
+    public StreamingResponseBody createStreamingResponseBody(LoadContext<?> loadContext,
+                                                             @Nullable FetchPlan fetchPlan,
+                                                             EntitySerializationOption... options) {
+        return new EntitiesStreamingResponseBody(dataManager, entitySerialization, loadContext, fetchPlan, options);
+    }
+
+    /**
+     * Writes the given body to the response in the current thread, so the load is executed in the security
+     * context of the request.
+     * <p>
+     * If the body is an {@link EntitiesStreamingResponseBody}, its first chunk is loaded before the status and
+     * headers are set, so a failing query is reported by the exception handler as a regular error response.
+     * An error occurring later, when a part of the JSON array is already sent, is rethrown and the client receives
+     * an incomplete response.
+     *
+     * @param response   HTTP response
+     * @param body       body to write
+     * @param totalCount value of the {@code X-Total-Count} header, or null if the header is not required
+     */
+    public void writeStreamingResponse(HttpServletResponse response,
+                                       StreamingResponseBody body,
+                                       @Nullable Object totalCount) throws IOException {
+        if (body instanceof EntitiesStreamingResponseBody entitiesBody) {
+            entitiesBody.open();
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (totalCount != null) {
+            response.setHeader("X-Total-Count", totalCount.toString());
+        }
+        body.writeTo(response.getOutputStream());
+        response.flushBuffer();
+    }
+
     private boolean isJsonObject(String s) {
         String trimmed = s.trim();
         return trimmed.startsWith("{") && trimmed.endsWith("}");
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.rest.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.rest.RestProperties;
+import io.jmix.rest.exception.RestAPIException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps responses of metadata and messages endpoints together with their ETags. If
+ * {@link RestProperties#isMetadataResponseCacheEnabled()} is set, responses are cached for each locale, so repeated
+ * requests are answered without building the response.
+ * <p>
+ * The cache is cleared when resource or row-level roles are modified. Each clearing also increments
+ * {@link #getVersion()} which is a part of entity ETags, so they don't match anymore after permissions are changed.
+ */
+@Component("rest_RestResponseCache")
+public class RestResponseCache {
+
+    protected final RestProperties restProperties;
+    protected final CurrentAuthentication currentAuthentication;
+    protected final ObjectMapper objectMapper;
+
+    protected final Cache<List<Object>, CachedResponse> cache;
+    protected final AtomicLong version = new AtomicLong();
+
+    public RestResponseCache(RestProperties restProperties,
+                             CurrentAuthentication currentAuthentication,
+                             ObjectProvider<ObjectMapper> objectMapper) {
+        this.restProperties = restProperties;
+        this.currentAuthentication = currentAuthentication;
+        this.objectMapper = objectMapper.getIfAvailable(ObjectMapper::new);
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(restProperties.getMetadataResponseCacheSize())
+                .build();
+    }
+
+    /**
+     * Returns the response for the given key.
+     *
+     * @param key          key identifying the response for the current locale
+     * @param bodySupplier builds the response body. A string body is considered already serialized to JSON.
+     */
+    public CachedResponse get(String key, Supplier<?> bodySupplier) {
+        if (!restProperties.isMetadataResponseCacheEnabled()) {
+            return createResponse(bodySupplier.get());
+        }
+        List<Object> cacheKey = Arrays.asList(key, currentAuthentication.getLocale());
+        return cache.asMap().computeIfAbsent(cacheKey, k -> createResponse(bodySupplier.get()));
+    }
+
+    /**
+     * Returns the response body for the given key, or null if it matches the If-None-Match header of the
+     * request. In the latter case, the response status is set to 304.
+     *
+     * @param key          key identifying the response for the current locale
+     * @param bodySupplier builds the response body. A string body is considered already serialized to JSON.
+     * @param request      current request
+     */
+    @Nullable
+    public <T> T getBody(String key, Supplier<T> bodySupplier, WebRequest request) {
+        CachedResponse response = get(key, bodySupplier);
+        if (request.checkNotModified(response.getEtag())) {
+            return null;
+        }
+        //noinspection unchecked
+        return (T) response.getBody();
+    }
+
+    /**
+     * Removes all cached responses and increments {@link #getVersion()}.
+     */
+    public void clear() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns a number incremented on each {@link #clear()}. It is included in entity ETags.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    protected CachedResponse createResponse(Object body) {
+        String json;
+        if (body instanceof String) {
+            json = (String) body;
+        } else {
+            try {
+                json = objectMapper.writeValueAsString(body);
+            } catch (JsonProcessingException e) {
+                throw new RestAPIException("Unable to serialize response", e.getMessage(),
+                        HttpStatus.INTERNAL_SERVER_ERROR, e);
+            }
+        }
+        String etag = "\"" + Hashing.sha256().hashString(json, StandardCharsets.UTF_8) + "\"";
+        return new CachedResponse(body, etag);
+    }
+
+    /**
+     * Response body and the strong ETag of its JSON.
+     */
+    public static class CachedResponse {
+
+        protected final Object body;
+        protected final String etag;
+
+        public CachedResponse(Object body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public Object getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
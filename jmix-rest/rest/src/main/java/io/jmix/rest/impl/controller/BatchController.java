@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.rest.impl.controller;
+
+import io.jmix.rest.impl.service.BatchControllerManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that executes several create, update, delete and load operations in one request. The request body is
+ * a JSON array of operations, for example:
+ * <pre>
+ * [
+ *   {"method": "create", "entityName": "sales_Customer", "entity": {"name": "Alice"}, "fetchPlan": "_base"},
+ *   {"method": "update", "entityName": "sales_Customer", "id": "...", "entity": {"name": "Bob"}},
+ *   {"method": "delete", "entityName": "sales_Order", "id": "..."},
+ *   {"method": "load", "entityName": "sales_Order", "id": "...", "fetchPlan": "order-with-lines"}
+ * ]
+ * </pre>
+ * The response is a JSON array of results in the same order, each containing the {@code status} of the operation
+ * and either the entity {@code body} or the {@code error} and {@code details}.
+ */
+@RestController("rest_BatchController")
+@RequestMapping(value = "${jmix.rest.base-path}${jmix.rest.batch-path}", produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+public class BatchController {
+
+    @Autowired
+    protected BatchControllerManager batchControllerManager;
+
+    @PostMapping
+    public String executeBatch(@RequestBody String operationsJson) {
+        return batchControllerManager.executeBatch(operationsJson);
+    }
+}
@@ -35,9 +35,9 @@ public class CapabilitiesController {
 
     @GetMapping
     public Capabilities getCapabilities() {
-        return new Capabilities(restProperties.isInlineFetchPlanEnabled());
+        return new Capabilities(restProperties.isInlineFetchPlanEnabled(), true);
     }
 
-    public record Capabilities (boolean inlineFetchPlans) {
+    public record Capabilities (boolean inlineFetchPlans, boolean batch) {
     }
 }
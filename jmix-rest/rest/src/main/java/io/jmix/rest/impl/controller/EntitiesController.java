@@ -19,10 +19,12 @@ package io.jmix.rest.impl.controller;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import io.jmix.rest.impl.RestControllerUtils;
 import io.jmix.rest.impl.service.EntitiesControllerManager;
 import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
 import io.jmix.rest.impl.service.filter.data.ResponseInfo;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +33,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
 
 /**
  * Controller that performs CRUD entity operations
@@ -42,15 +47,19 @@ public class EntitiesController {
     @Autowired
     protected EntitiesControllerManager entitiesControllerManager;
 
+    @Autowired
+    protected RestControllerUtils restControllerUtils;
+
     @GetMapping("/{entityName}/{entityId}")
     public String loadEntity(@PathVariable String entityName,
                              @PathVariable String entityId,
                              @RequestParam(required = false) String fetchPlan,
                              @RequestParam(required = false) Boolean returnNulls,
                              @RequestParam(required = false) Boolean dynamicAttributes,
-                             @RequestParam(required = false) String modelVersion) {
+                             @RequestParam(required = false) String modelVersion,
+                             WebRequest request) {
         return entitiesControllerManager.loadEntity(entityName, entityId, fetchPlan,
-                returnNulls, dynamicAttributes, modelVersion);
+                returnNulls, dynamicAttributes, modelVersion, request);
     }
 
     @GetMapping("/{entityName}")
@@ -62,9 +71,15 @@ public class EntitiesController {
                                                    @RequestParam(required = false) Boolean returnNulls,
                                                    @RequestParam(required = false) Boolean returnCount,
                                                    @RequestParam(required = false) Boolean dynamicAttributes,
-                                                   @RequestParam(required = false) String modelVersion) {
+                                                   @RequestParam(required = false) String modelVersion,
+                                                   HttpServletResponse response) throws IOException {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.loadEntitiesList(entityName, fetchPlan,
                 limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
+        if (entitiesSearchResult.getStreamingBody() != null) {
+            restControllerUtils.writeStreamingResponse(response, entitiesSearchResult.getStreamingBody(),
+                    entitiesSearchResult.getCount());
+            return null;
+        }
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         if (BooleanUtils.isTrue(returnCount)) {
             responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
@@ -82,9 +97,15 @@ public class EntitiesController {
                                                         @RequestParam(required = false) Boolean returnNulls,
                                                         @RequestParam(required = false) Boolean returnCount,
                                                         @RequestParam(required = false) Boolean dynamicAttributes,
-                                                        @RequestParam(required = false) String modelVersion) {
+                                                        @RequestParam(required = false) String modelVersion,
+                                                        HttpServletResponse response) throws IOException {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, filter,
                 fetchPlan, limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
+        if (entitiesSearchResult.getStreamingBody() != null) {
+            restControllerUtils.writeStreamingResponse(response, entitiesSearchResult.getStreamingBody(),
+                    entitiesSearchResult.getCount());
+            return null;
+        }
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         if (BooleanUtils.isTrue(returnCount)) {
             responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
@@ -101,8 +122,14 @@ public class EntitiesController {
 
     @PostMapping("/{entityName}/search")
     public ResponseEntity<String> searchEntitiesListPost(@PathVariable String entityName,
-                                                         @RequestBody String requestBodyJson) {
+                                                         @RequestBody String requestBodyJson,
+                                                         HttpServletResponse response) throws IOException {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, requestBodyJson);
+        if (entitiesSearchResult.getStreamingBody() != null) {
+            restControllerUtils.writeStreamingResponse(response, entitiesSearchResult.getStreamingBody(),
+                    entitiesSearchResult.getCount());
+            return null;
+        }
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         JsonObject requestJsonObject = new JsonParser().parse(requestBodyJson).getAsJsonObject();
         JsonPrimitive returnCount = requestJsonObject.getAsJsonPrimitive("returnCount");
@@ -16,6 +16,7 @@
 
 package io.jmix.rest.impl.controller;
 
+import io.jmix.rest.impl.RestResponseCache;
 import io.jmix.rest.impl.service.EntitiesMetadataControllerManager;
 import io.jmix.rest.impl.service.filter.data.MetaClassInfo;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Collection;
 
@@ -37,36 +39,45 @@ public class EntitiesMetadataController {
     @Autowired
     protected EntitiesMetadataControllerManager controllerManager;
 
+    @Autowired
+    protected RestResponseCache restResponseCache;
+
     @GetMapping("/entities/{entityName}")
-    public MetaClassInfo getMetaClassInfo(@PathVariable String entityName) {
-        return controllerManager.getMetaClassInfo(entityName);
+    public MetaClassInfo getMetaClassInfo(@PathVariable String entityName, WebRequest request) {
+        return restResponseCache.getBody("metadata/entities/" + entityName,
+                () -> controllerManager.getMetaClassInfo(entityName), request);
     }
 
     @GetMapping("/entities")
-    public Collection<MetaClassInfo> getAllMetaClassesInfo() {
-        return controllerManager.getAllMetaClassesInfo();
+    public Collection<MetaClassInfo> getAllMetaClassesInfo(WebRequest request) {
+        return restResponseCache.getBody("metadata/entities",
+                () -> controllerManager.getAllMetaClassesInfo(), request);
     }
 
     @Deprecated(forRemoval = true)
     @GetMapping("/entities/{entityName}/views/{viewName}")
     public String getView(@PathVariable String entityName,
-                          @PathVariable String viewName) {
-        return controllerManager.getFetchPlan(entityName, viewName);
+                          @PathVariable String viewName,
+                          WebRequest request) {
+        return getFetchPlan(entityName, viewName, request);
     }
 
     @GetMapping("/entities/{entityName}/fetchPlans/{fetchPlanName}")
     public String getFetchPlan(@PathVariable String entityName,
-                               @PathVariable String fetchPlanName) {
-        return controllerManager.getFetchPlan(entityName, fetchPlanName);
+                               @PathVariable String fetchPlanName,
+                               WebRequest request) {
+        return restResponseCache.getBody("metadata/fetchPlans/" + entityName + "/" + fetchPlanName,
+                () -> controllerManager.getFetchPlan(entityName, fetchPlanName), request);
     }
 
     @GetMapping("/entities/{entityName}/views")
-    public String getAllViewsForMetaClass(@PathVariable String entityName) {
-        return controllerManager.getAllFetchPlansForMetaClass(entityName);
+    public String getAllViewsForMetaClass(@PathVariable String entityName, WebRequest request) {
+        return getAllFetchPlansForMetaClass(entityName, request);
     }
 
     @GetMapping("/entities/{entityName}/fetchPlans")
-    public String getAllFetchPlansForMetaClass(@PathVariable String entityName) {
-        return controllerManager.getAllFetchPlansForMetaClass(entityName);
+    public String getAllFetchPlansForMetaClass(@PathVariable String entityName, WebRequest request) {
+        return restResponseCache.getBody("metadata/fetchPlans/" + entityName,
+                () -> controllerManager.getAllFetchPlansForMetaClass(entityName), request);
     }
 }
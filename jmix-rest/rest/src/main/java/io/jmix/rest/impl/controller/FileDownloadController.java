@@ -23,6 +23,7 @@ import io.jmix.core.Metadata;
 import io.jmix.rest.RestProperties;
 import io.jmix.rest.accesscontext.RestFileDownloadContext;
 import io.jmix.rest.exception.RestAPIException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -59,6 +60,7 @@ public class FileDownloadController {
     @GetMapping
     public void downloadFile(@RequestParam String fileRef,
                              @RequestParam(required = false) Boolean attachment,
+                             HttpServletRequest request,
                              HttpServletResponse response) {
 
         checkFileDownloadPermission();
@@ -66,7 +68,8 @@ public class FileDownloadController {
             FileRef fileReference;
             fileReference = FileRef.fromString(fileRef);
             attachment = resolveAttachmentValue(attachment, fileReference);
-            fileTransferService.downloadAndWriteResponse(fileReference, fileReference.getStorageName(), attachment, response);
+            fileTransferService.downloadAndWriteResponse(fileReference, fileReference.getStorageName(), attachment,
+                    request, response);
         } catch (IllegalArgumentException e) {
             throw new RestAPIException("Invalid file reference",
                     String.format("Cannot convert '%s' into valid file reference", fileRef),
@@ -16,12 +16,14 @@
 
 package io.jmix.rest.impl.controller;
 
+import io.jmix.rest.impl.RestResponseCache;
 import io.jmix.rest.impl.service.MessagesControllerManager;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import java.util.Map;
@@ -36,23 +38,30 @@ public class MessagesController {
     @Autowired
     protected MessagesControllerManager messagesControllerManager;
 
+    @Autowired
+    protected RestResponseCache restResponseCache;
+
     @GetMapping("/entities/{entityName}")
-    public Map<String, String> getLocalizationForEntity(@PathVariable String entityName) {
-        return messagesControllerManager.getLocalizationForEntity(entityName);
+    public Map<String, String> getLocalizationForEntity(@PathVariable String entityName, WebRequest request) {
+        return restResponseCache.getBody("messages/entities/" + entityName,
+                () -> messagesControllerManager.getLocalizationForEntity(entityName), request);
     }
 
     @GetMapping("/entities")
-    public Map<String, String> getLocalizationForAllEntities() {
-        return messagesControllerManager.getLocalizationForAllEntities();
+    public Map<String, String> getLocalizationForAllEntities(WebRequest request) {
+        return restResponseCache.getBody("messages/entities",
+                () -> messagesControllerManager.getLocalizationForAllEntities(), request);
     }
 
     @GetMapping("/enums/{enumClassName:.+}")
-    public Map<String, String> getLocalizationForEnum(@PathVariable String enumClassName) {
-        return messagesControllerManager.getLocalizationForEnum(enumClassName);
+    public Map<String, String> getLocalizationForEnum(@PathVariable String enumClassName, WebRequest request) {
+        return restResponseCache.getBody("messages/enums/" + enumClassName,
+                () -> messagesControllerManager.getLocalizationForEnum(enumClassName), request);
     }
 
     @GetMapping("/enums")
-    public Map<String, String> getLocalizationForAllEnums() {
-        return messagesControllerManager.getLocalizationForAllEnums();
+    public Map<String, String> getLocalizationForAllEnums(WebRequest request) {
+        return restResponseCache.getBody("messages/enums",
+                () -> messagesControllerManager.getLocalizationForAllEnums(), request);
     }
 }
@@ -16,8 +16,10 @@
 
 package io.jmix.rest.impl.controller;
 
+import io.jmix.rest.impl.RestControllerUtils;
 import io.jmix.rest.impl.config.RestQueriesConfiguration;
 import io.jmix.rest.impl.service.QueriesControllerManager;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +27,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +44,9 @@ public class QueriesController {
     @Autowired
     protected QueriesControllerManager queriesControllerManager;
 
+    @Autowired
+    protected RestControllerUtils restControllerUtils;
+
     @GetMapping("/{entityName}/{queryName}")
     public ResponseEntity<String> executeQueryGet(@PathVariable String entityName,
                                                   @PathVariable String queryName,
@@ -51,7 +58,18 @@ public class QueriesController {
                                                   @RequestParam(required = false) Boolean dynamicAttributes,
                                                   @RequestParam(required = false) Boolean returnCount,
                                                   @RequestParam(required = false) String modelVersion,
-                                                  @RequestParam Map<String, String> params) {
+                                                  @RequestParam Map<String, String> params,
+                                                  HttpServletResponse response) throws IOException {
+        StreamingResponseBody streamingBody = queriesControllerManager.executeQueryGetStreaming(entityName, queryName,
+                limit, offset, StringUtils.defaultString(fetchPlan, view), returnNulls, dynamicAttributes, modelVersion, params);
+        if (streamingBody != null) {
+            String count = BooleanUtils.isTrue(returnCount) ?
+                    queriesControllerManager.getCountGet(entityName, queryName, modelVersion, params)
+                    : null;
+            restControllerUtils.writeStreamingResponse(response, streamingBody, count);
+            return null;
+        }
+
         String resultJson = queriesControllerManager.executeQueryGet(entityName, queryName, limit, offset,
                 StringUtils.defaultString(fetchPlan, view), returnNulls,
                 dynamicAttributes, modelVersion, params);
@@ -74,7 +92,17 @@ public class QueriesController {
                                                    @RequestParam(required = false) Boolean dynamicAttributes,
                                                    @RequestParam(required = false) Boolean returnCount,
                                                    @RequestParam(required = false) String modelVersion,
-                                                   @RequestBody String paramsJson) {
+                                                   @RequestBody String paramsJson,
+                                                   HttpServletResponse response) throws IOException {
+        StreamingResponseBody streamingBody = queriesControllerManager.executeQueryPostStreaming(entityName, queryName,
+                limit, offset, StringUtils.defaultString(fetchPlan, view), returnNulls, dynamicAttributes, modelVersion, paramsJson);
+        if (streamingBody != null) {
+            String count = BooleanUtils.isTrue(returnCount) ?
+                    queriesControllerManager.getCountPost(entityName, queryName, modelVersion, paramsJson)
+                    : null;
+            restControllerUtils.writeStreamingResponse(response, streamingBody, count);
+            return null;
+        }
 
         String resultJson = queriesControllerManager.executeQueryPost(entityName, queryName, limit, offset,
                 StringUtils.defaultString(fetchPlan, view), returnNulls, dynamicAttributes, modelVersion, paramsJson);
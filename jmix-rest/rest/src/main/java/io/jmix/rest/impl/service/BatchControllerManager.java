@@ -0,0 +1,426 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.rest.impl.service;
+
+import com.google.gson.*;
+import io.jmix.core.*;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.importexport.EntityImportPlanJsonBuilder;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.security.AccessDeniedException;
+import io.jmix.rest.RestProperties;
+import io.jmix.rest.exception.RestAPIException;
+import io.jmix.rest.impl.RestControllerUtils;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Class that executes business logic required by the {@link io.jmix.rest.impl.controller.BatchController}.
+ * <p>
+ * Write operations of a batch are imported into a single {@link SaveContext} and saved in one transaction, or in
+ * several transactions of {@link RestProperties#getBatchOperationsPerTransaction()} operations each. If an operation
+ * of a transaction fails, other operations of the transaction are not executed. Load operations are executed after
+ * the write operations of the same transaction are saved. A failed load operation doesn't affect other operations.
+ */
+@Component("rest_BatchControllerManager")
+public class BatchControllerManager {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchControllerManager.class);
+
+    @Autowired
+    protected EntitiesControllerManager entitiesControllerManager;
+
+    @Autowired
+    protected RestControllerUtils restControllerUtils;
+
+    @Autowired
+    protected DataManager dataManager;
+
+    @Autowired
+    protected EntitySerialization entitySerialization;
+
+    @Autowired
+    protected EntityImportPlanJsonBuilder entityImportPlanJsonBuilder;
+
+    @Autowired
+    protected EntityImportExport entityImportExport;
+
+    @Autowired
+    protected EntityStates entityStates;
+
+    @Autowired
+    protected RestProperties restProperties;
+
+    public enum BatchMethod {
+        CREATE, UPDATE, DELETE, LOAD
+    }
+
+    protected static class BatchOperation {
+        protected final int index;
+        protected final BatchMethod method;
+        protected final String entityName;
+        @Nullable
+        protected final String id;
+        @Nullable
+        protected final String entityJson;
+        @Nullable
+        protected final String fetchPlanNameOrJson;
+
+        protected MetaClass metaClass;
+        protected Object entityId;
+        protected FetchPlan fetchPlan;
+        protected Object entity;
+
+        public BatchOperation(int index, BatchMethod method, String entityName, @Nullable String id,
+                              @Nullable String entityJson, @Nullable String fetchPlanNameOrJson) {
+            this.index = index;
+            this.method = method;
+            this.entityName = entityName;
+            this.id = id;
+            this.entityJson = entityJson;
+            this.fetchPlanNameOrJson = fetchPlanNameOrJson;
+        }
+    }
+
+    /**
+     * Executes operations passed as a JSON array and returns a JSON array of results in the same order. Each result
+     * contains the HTTP status of the operation and either the entity body or the error.
+     */
+    public String executeBatch(String operationsJson) {
+        List<BatchOperation> operations = parseOperations(operationsJson);
+        String[] results = new String[operations.size()];
+
+        int operationsPerTransaction = restProperties.getBatchOperationsPerTransaction() > 0
+                ? restProperties.getBatchOperationsPerTransaction()
+                : Math.max(operations.size(), 1);
+        for (int from = 0; from < operations.size(); from += operationsPerTransaction) {
+            int to = Math.min(from + operationsPerTransaction, operations.size());
+            executeInTransaction(operations.subList(from, to), results);
+        }
+        return "[" + String.join(",", results) + "]";
+    }
+
+    protected List<BatchOperation> parseOperations(String operationsJson) {
+        JsonElement rootElement;
+        try {
+            rootElement = JsonParser.parseString(operationsJson);
+        } catch (JsonSyntaxException e) {
+            throw new RestAPIException("Malformed request JSON data structure", "", HttpStatus.BAD_REQUEST, e);
+        }
+        if (!rootElement.isJsonArray()) {
+            throw new RestAPIException("The body of batch request should be an array",
+                    "The body of batch request should be an array",
+                    HttpStatus.BAD_REQUEST);
+        }
+        JsonArray operationsArray = rootElement.getAsJsonArray();
+        if (operationsArray.size() > restProperties.getBatchMaxOperations()) {
+            throw new RestAPIException("Too many operations in batch request",
+                    String.format("Batch request contains %d operations, maximum is %d",
+                            operationsArray.size(), restProperties.getBatchMaxOperations()),
+                    HttpStatus.BAD_REQUEST);
+        }
+
+        List<BatchOperation> operations = new ArrayList<>(operationsArray.size());
+        for (int i = 0; i < operationsArray.size(); i++) {
+            JsonElement element = operationsArray.get(i);
+            if (!element.isJsonObject()) {
+                throw new RestAPIException("Invalid batch operation",
+                        String.format("Operation %d is not a JSON object", i),
+                        HttpStatus.BAD_REQUEST);
+            }
+            JsonObject operationObject = element.getAsJsonObject();
+
+            String methodName = getRequiredString(operationObject, "method", i);
+            BatchMethod method;
+            try {
+                method = BatchMethod.valueOf(methodName.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RestAPIException("Invalid batch operation",
+                        String.format("Operation %d has unknown method %s", i, methodName),
+                        HttpStatus.BAD_REQUEST);
+            }
+            String entityName = getRequiredString(operationObject, "entityName", i);
+            String id = method == BatchMethod.CREATE ? null : getRequiredString(operationObject, "id", i);
+
+            String entityJson = null;
+            if (method == BatchMethod.CREATE || method == BatchMethod.UPDATE) {
+                JsonElement entityElement = operationObject.get("entity");
+                if (entityElement == null || !entityElement.isJsonObject()) {
+                    throw new RestAPIException("Invalid batch operation",
+                            String.format("Operation %d requires the entity object", i),
+                            HttpStatus.BAD_REQUEST);
+                }
+                entityJson = entityElement.toString();
+            }
+
+            String fetchPlan = null;
+            JsonElement fetchPlanElement = operationObject.get("fetchPlan");
+            if (fetchPlanElement != null && !fetchPlanElement.isJsonNull()) {
+                fetchPlan = fetchPlanElement.isJsonPrimitive() ? fetchPlanElement.getAsString() : fetchPlanElement.toString();
+            }
+
+            operations.add(new BatchOperation(i, method, entityName, id, entityJson, fetchPlan));
+        }
+        return operations;
+    }
+
+    protected String getRequiredString(JsonObject operationObject, String property, int index) {
+        JsonElement element = operationObject.get(property);
+        if (element == null || !element.isJsonPrimitive()) {
+            throw new RestAPIException("Invalid batch operation",
+                    String.format("Operation %d requires the %s attribute", index, property),
+                    HttpStatus.BAD_REQUEST);
+        }
+        return element.getAsString();
+    }
+
+    protected void executeInTransaction(List<BatchOperation> operations, String[] results) {
+        List<BatchOperation> writeOperations = operations.stream()
+                .filter(operation -> operation.method != BatchMethod.LOAD)
+                .collect(Collectors.toList());
+
+        // load operations don't change data, so a failed access check of one of them doesn't affect other operations
+        for (BatchOperation operation : operations) {
+            if (operation.method == BatchMethod.LOAD) {
+                try {
+                    resolveOperation(operation);
+                } catch (Exception e) {
+                    results[operation.index] = createErrorResult(e);
+                }
+            }
+        }
+
+        SaveContext saveContext = new SaveContext();
+        BatchOperation currentOperation = null;
+        try {
+            for (BatchOperation operation : writeOperations) {
+                currentOperation = operation;
+                resolveOperation(operation);
+            }
+            currentOperation = null;
+            Map<Object, Object> existingEntities = loadExistingEntities(writeOperations);
+            for (BatchOperation operation : writeOperations) {
+                currentOperation = operation;
+                importOperation(operation, existingEntities, saveContext);
+            }
+        } catch (Exception e) {
+            if (currentOperation == null) {
+                setResults(writeOperations, createErrorResult(e), results);
+            } else {
+                results[currentOperation.index] = createErrorResult(e);
+            }
+            setNotExecutedResults(operations, results);
+            return;
+        }
+
+        if (!writeOperations.isEmpty()) {
+            try {
+                saveOperations(writeOperations, saveContext);
+            } catch (Exception e) {
+                setResults(writeOperations, createErrorResult(e), results);
+                setNotExecutedResults(operations, results);
+                return;
+            }
+        }
+
+        for (BatchOperation operation : operations) {
+            if (results[operation.index] != null) {
+                continue;
+            }
+            try {
+                results[operation.index] = createResult(operation);
+            } catch (Exception e) {
+                results[operation.index] = createErrorResult(e);
+            }
+        }
+    }
+
+    protected void resolveOperation(BatchOperation operation) {
+        operation.metaClass = restControllerUtils.getMetaClass(operation.entityName);
+        switch (operation.method) {
+            case CREATE -> entitiesControllerManager.checkCanCreateEntity(operation.metaClass);
+            case UPDATE -> entitiesControllerManager.checkCanUpdateEntity(operation.metaClass);
+            case DELETE -> entitiesControllerManager.checkCanDeleteEntity(operation.metaClass);
+            case LOAD -> entitiesControllerManager.checkCanReadEntity(operation.metaClass);
+        }
+        if (operation.id != null) {
+            operation.entityId = entitiesControllerManager.getIdFromString(operation.id, operation.metaClass);
+        }
+        if (operation.method != BatchMethod.DELETE) {
+            operation.fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(operation.metaClass, operation.fetchPlanNameOrJson);
+        }
+    }
+
+    /**
+     * Loads entities updated or deleted by the operations with one query for each entity class.
+     *
+     * @return map of the loaded entities by their ids
+     */
+    protected Map<Object, Object> loadExistingEntities(List<BatchOperation> writeOperations) {
+        Map<MetaClass, Set<Object>> idsByMetaClass = new LinkedHashMap<>();
+        for (BatchOperation operation : writeOperations) {
+            if (operation.method == BatchMethod.UPDATE || operation.method == BatchMethod.DELETE) {
+                idsByMetaClass.computeIfAbsent(operation.metaClass, metaClass -> new LinkedHashSet<>())
+                        .add(operation.entityId);
+            }
+        }
+
+        Map<Object, Object> existingEntities = new HashMap<>();
+        for (Map.Entry<MetaClass, Set<Object>> entry : idsByMetaClass.entrySet()) {
+            LoadContext<Object> loadContext = new LoadContext<>(entry.getKey()).setIds(entry.getValue());
+            for (Object entity : dataManager.loadList(loadContext)) {
+                existingEntities.put(Arrays.asList(entry.getKey(), EntityValues.getId(entity)), entity);
+            }
+        }
+        return existingEntities;
+    }
+
+    protected void importOperation(BatchOperation operation, Map<Object, Object> existingEntities, SaveContext saveContext) {
+        Object existingEntity = null;
+        if (operation.method == BatchMethod.UPDATE || operation.method == BatchMethod.DELETE) {
+            existingEntity = existingEntities.get(Arrays.asList(operation.metaClass, operation.entityId));
+            entitiesControllerManager.checkEntityIsNotNull(operation.metaClass.getName(), operation.id, existingEntity);
+        }
+
+        switch (operation.method) {
+            case CREATE -> {
+                Object entity = deserializeEntity(operation);
+                entityImportExport.importEntityIntoSaveContext(saveContext, entity,
+                        entityImportPlanJsonBuilder.buildFromJson(operation.entityJson, operation.metaClass), false);
+                operation.entity = entity;
+            }
+            case UPDATE -> {
+                Object entity = deserializeEntity(operation);
+                EntityValues.setId(entity, operation.entityId);
+                entityImportExport.importEntityIntoSaveContext(saveContext, entity,
+                        entityImportPlanJsonBuilder.buildFromJson(operation.entityJson, operation.metaClass),
+                        false, restProperties.isOptimisticLockingEnabled());
+                operation.entity = entity;
+            }
+            case DELETE -> saveContext.removing(existingEntity);
+            default -> {
+            }
+        }
+    }
+
+    protected Object deserializeEntity(BatchOperation operation) {
+        try {
+            return entitySerialization.entityFromJson(Objects.requireNonNull(operation.entityJson), operation.metaClass);
+        } catch (Exception e) {
+            throw new RestAPIException("Cannot deserialize an entity from JSON", "", HttpStatus.BAD_REQUEST, e);
+        }
+    }
+
+    protected void saveOperations(List<BatchOperation> writeOperations, SaveContext saveContext) {
+        Collection<Object> rootEntities = writeOperations.stream()
+                .filter(operation -> operation.entity != null)
+                .map(operation -> operation.entity)
+                .collect(Collectors.toList());
+        if (!rootEntities.isEmpty()) {
+            entitiesControllerManager.validateEntities(rootEntities, new LinkedHashSet<>(saveContext.getEntitiesToSave()));
+        }
+
+        EntitySet savedEntities = dataManager.save(saveContext);
+
+        for (BatchOperation operation : writeOperations) {
+            if (operation.entity != null && EntityValues.getId(operation.entity) != null) {
+                operation.entity = savedEntities.optional(operation.entity).orElse(operation.entity);
+            }
+        }
+    }
+
+    protected String createResult(BatchOperation operation) {
+        return switch (operation.method) {
+            case CREATE -> createEntityResult(HttpStatus.CREATED, operation);
+            case UPDATE -> createEntityResult(HttpStatus.OK, operation);
+            case DELETE -> "{\"status\":" + HttpStatus.NO_CONTENT.value() + "}";
+            case LOAD -> {
+                String json = entitiesControllerManager.loadEntity(operation.entityName, Objects.requireNonNull(operation.id),
+                        operation.fetchPlanNameOrJson, null, null, null);
+                yield "{\"status\":" + HttpStatus.OK.value() + ",\"body\":" + json + "}";
+            }
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected String createEntityResult(HttpStatus status, BatchOperation operation) {
+        Object entity = operation.entity;
+        FetchPlan responseFetchPlan = operation.fetchPlan;
+        if (restProperties.isResponseFetchPlanEnabled() && responseFetchPlan != null
+                && !entityStates.isLoadedWithFetchPlan(entity, responseFetchPlan)) {
+            LoadContext loadContext = new LoadContext(operation.metaClass).setFetchPlan(responseFetchPlan);
+            loadContext.setId(EntityValues.getId(entity));
+            entity = dataManager.load(loadContext);
+        }
+        String json = entitiesControllerManager.createEntityJson(entity, operation.metaClass, responseFetchPlan, null);
+        return "{\"status\":" + status.value() + ",\"body\":" + json + "}";
+    }
+
+    protected void setResults(List<BatchOperation> operations, String result, String[] results) {
+        for (BatchOperation operation : operations) {
+            results[operation.index] = result;
+        }
+    }
+
+    protected void setNotExecutedResults(List<BatchOperation> operations, String[] results) {
+        String notExecutedResult = createErrorResult(HttpStatus.FAILED_DEPENDENCY, "Operation not executed",
+                "Another operation of the same transaction failed");
+        for (BatchOperation operation : operations) {
+            if (results[operation.index] == null) {
+                results[operation.index] = notExecutedResult;
+            }
+        }
+    }
+
+    protected String createErrorResult(Exception e) {
+        if (e instanceof RestAPIException restAPIException) {
+            return createErrorResult(restAPIException.getHttpStatus(), restAPIException.getMessage(),
+                    restAPIException.getDetails());
+        } else if (e instanceof AccessDeniedException) {
+            return createErrorResult(HttpStatus.FORBIDDEN, "Forbidden", e.getMessage());
+        } else if (e instanceof ConstraintViolationException constraintViolationException) {
+            String details = constraintViolationException.getConstraintViolations().stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; "));
+            return createErrorResult(HttpStatus.BAD_REQUEST, "Validation failed", details);
+        } else if (e instanceof OptimisticLockException) {
+            return createErrorResult(HttpStatus.BAD_REQUEST, "Optimistic lock", e.getMessage());
+        } else if (e instanceof DeletePolicyException) {
+            return createErrorResult(HttpStatus.CONFLICT, "Delete policy violation", e.getMessage());
+        }
+        log.error("Error executing batch operation", e);
+        return createErrorResult(HttpStatus.INTERNAL_SERVER_ERROR, "Server error", "");
+    }
+
+    protected String createErrorResult(HttpStatus status, String error, @Nullable String details) {
+        JsonObject resultObject = new JsonObject();
+        resultObject.addProperty("status", status.value());
+        resultObject.addProperty("error", error);
+        resultObject.addProperty("details", details);
+        return resultObject.toString();
+    }
+}
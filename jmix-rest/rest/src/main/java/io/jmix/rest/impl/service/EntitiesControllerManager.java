@@ -18,6 +18,7 @@ package io.jmix.rest.impl.service;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
 import com.google.gson.*;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.CrudEntityContext;
@@ -32,11 +33,13 @@ import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.querycondition.Condition;
 import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.core.validation.EntityValidationException;
 import io.jmix.core.validation.group.RestApiChecks;
 import io.jmix.rest.RestProperties;
 import io.jmix.rest.exception.RestAPIException;
 import io.jmix.rest.impl.RestControllerUtils;
+import io.jmix.rest.impl.RestResponseCache;
 import io.jmix.rest.impl.controller.EntitiesController;
 import io.jmix.rest.impl.service.filter.RestFilterParseException;
 import io.jmix.rest.impl.service.filter.RestFilterParser;
@@ -54,7 +57,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -119,12 +125,34 @@ public class EntitiesControllerManager {
     @Autowired
     protected List<QueryStringProcessor> queryStringProcessors;
 
+    @Autowired
+    protected CurrentAuthentication currentAuthentication;
+
+    @Autowired
+    protected RestResponseCache restResponseCache;
+
     public String loadEntity(String entityName,
                              String entityId,
                              @Nullable String fetchPlanNameOrJson,
                              @Nullable Boolean returnNulls,
                              @Nullable Boolean dynamicAttributes,
                              @Nullable String modelVersion) {
+        return loadEntity(entityName, entityId, fetchPlanNameOrJson, returnNulls, dynamicAttributes, modelVersion, null);
+    }
+
+    /**
+     * Loads an entity and returns its JSON. If {@link RestProperties#isEntityEtagEnabled()} is set and the passed
+     * request contains an If-None-Match header matching the current ETag of the entity, the response status is set
+     * to 304 and null is returned without serializing the entity.
+     */
+    @Nullable
+    public String loadEntity(String entityName,
+                             String entityId,
+                             @Nullable String fetchPlanNameOrJson,
+                             @Nullable Boolean returnNulls,
+                             @Nullable Boolean dynamicAttributes,
+                             @Nullable String modelVersion,
+                             @Nullable WebRequest request) {
 
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, modelVersion, JsonTransformationDirection.FROM_VERSION);
         MetaClass metaClass = restControllerUtils.getMetaClass(entityName);
@@ -144,6 +172,13 @@ public class EntitiesControllerManager {
         Object entity = dataManager.load(ctx);
         checkEntityIsNotNull(entityName, entityId, entity);
 
+        if (request != null) {
+            String etag = getEntityEtag(entity, fetchPlanNameOrJson, returnNulls, dynamicAttributes, modelVersion);
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
+        }
+
         List<EntitySerializationOption> serializationOptions = new ArrayList<>();
         serializationOptions.add(SERIALIZE_INSTANCE_NAME);
         serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
@@ -154,6 +189,54 @@ public class EntitiesControllerManager {
         return json;
     }
 
+    /**
+     * Returns a strong ETag of the entity response, or null if the entity has neither version nor last modification
+     * date, or ETags are disabled. The ETag depends on the roles of the current user and on
+     * {@link RestResponseCache#getVersion()}, so it changes when permissions are changed.
+     */
+    @Nullable
+    protected String getEntityEtag(Object entity,
+                                   @Nullable String fetchPlanNameOrJson,
+                                   @Nullable Boolean returnNulls,
+                                   @Nullable Boolean dynamicAttributes,
+                                   @Nullable String modelVersion) {
+        // dynamic attributes are changed independently of the entity version
+        if (!restProperties.isEntityEtagEnabled() || BooleanUtils.isTrue(dynamicAttributes)) {
+            return null;
+        }
+        Object version = EntityValues.isVersionSupported(entity) ? EntityValues.getVersion(entity) : null;
+        Object lastModifiedDate = EntityValues.getLastModifiedDate(entity);
+        if (version == null && lastModifiedDate == null) {
+            return null;
+        }
+        if (lastModifiedDate instanceof Date) {
+            lastModifiedDate = ((Date) lastModifiedDate).getTime();
+        }
+        String source = String.join("|",
+                metadata.getClass(entity).getName(),
+                String.valueOf(EntityValues.getId(entity)),
+                String.valueOf(version),
+                String.valueOf(lastModifiedDate),
+                Strings.nullToEmpty(fetchPlanNameOrJson),
+                String.valueOf(BooleanUtils.isTrue(returnNulls)),
+                Strings.nullToEmpty(modelVersion),
+                currentAuthentication.getUser().getUsername(),
+                getAuthoritiesKey(),
+                String.valueOf(restResponseCache.getVersion()),
+                String.valueOf(currentAuthentication.getLocale()));
+        return "\"" + Hashing.sha256().hashString(source, StandardCharsets.UTF_8) + "\"";
+    }
+
+    /**
+     * Returns sorted authorities of the current user, so the entity ETag changes when user roles are changed.
+     */
+    protected String getAuthoritiesKey() {
+        return currentAuthentication.getAuthentication().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
     public EntitiesSearchResult loadEntitiesList(String entityName,
                                                  @Nullable String fetchPlanNameOrJson,
                                                  @Nullable Integer limit,
@@ -169,6 +252,15 @@ public class EntitiesControllerManager {
 
         FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
 
+        if (restControllerUtils.isStreamingResponseRequired(modelVersion)) {
+            StreamingResponseBody body = createEntitiesStreamingBody(LogicalCondition.and(),
+                    fetchPlan, limit, offset, sort, returnNulls, dynamicAttributes, metaClass);
+            Long count = BooleanUtils.isTrue(returnCount) ?
+                    countEntities(metaClass, LogicalCondition.and())
+                    : null;
+            return new EntitiesSearchResult(body, count);
+        }
+
         String json = loadEntitiesJson(LogicalCondition.and(),
                 fetchPlan,
                 limit,
@@ -237,6 +329,15 @@ public class EntitiesControllerManager {
             throw new RestAPIException("Cannot parse entities filter", e.getMessage(), HttpStatus.BAD_REQUEST, e);
         }
 
+        if (restControllerUtils.isStreamingResponseRequired(modelVersion)) {
+            StreamingResponseBody body = createEntitiesStreamingBody(jmixCondition, fetchPlan, limit, offset, sort,
+                    returnNulls, dynamicAttributes, metaClass);
+            Long count = BooleanUtils.isTrue(returnCount) ?
+                    countEntities(metaClass, jmixCondition)
+                    : null;
+            return new EntitiesSearchResult(body, count);
+        }
+
         String json = loadEntitiesJson(jmixCondition, fetchPlan, limit, offset, sort, returnNulls,
                 dynamicAttributes, modelVersion, metaClass);
         Long count = BooleanUtils.isTrue(returnCount) ?
@@ -339,6 +440,44 @@ public class EntitiesControllerManager {
                                       @Nullable Boolean dynamicAttributes,
                                       @Nullable String modelVersion,
                                       MetaClass metaClass) {
+        LoadContext<Object> ctx = createEntitiesLoadContext(condition, fetchPlan, limit, offset, sort,
+                dynamicAttributes, metaClass);
+
+        List<Object> entities = dataManager.loadList(ctx);
+
+        String json = entitySerialization.toJson(entities, fetchPlan, getSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    protected StreamingResponseBody createEntitiesStreamingBody(Condition condition,
+                                                                @Nullable FetchPlan fetchPlan,
+                                                                @Nullable Integer limit,
+                                                                @Nullable Integer offset,
+                                                                @Nullable String sort,
+                                                                @Nullable Boolean returnNulls,
+                                                                @Nullable Boolean dynamicAttributes,
+                                                                MetaClass metaClass) {
+        LoadContext<Object> ctx = createEntitiesLoadContext(condition, fetchPlan, limit, offset, sort,
+                dynamicAttributes, metaClass);
+        return restControllerUtils.createStreamingResponseBody(ctx, fetchPlan, getSerializationOptions(returnNulls));
+    }
+
+    protected EntitySerializationOption[] getSerializationOptions(@Nullable Boolean returnNulls) {
+        List<EntitySerializationOption> serializationOptions = new ArrayList<>();
+        serializationOptions.add(SERIALIZE_INSTANCE_NAME);
+        serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
+        if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
+    }
+
+    protected LoadContext<Object> createEntitiesLoadContext(Condition condition,
+                                                            @Nullable FetchPlan fetchPlan,
+                                                            @Nullable Integer limit,
+                                                            @Nullable Integer offset,
+                                                            @Nullable String sort,
+                                                            @Nullable Boolean dynamicAttributes,
+                                                            MetaClass metaClass) {
         LoadContext<Object> ctx = new LoadContext<>(metaClass);
 
         String queryString = createSimpleSelect(metaClass);
@@ -370,17 +509,7 @@ public class EntitiesControllerManager {
         }
 
         ctx.setHint("jmix.dynattr", BooleanUtils.isTrue(dynamicAttributes));
-
-        List<Object> entities = dataManager.loadList(ctx);
-
-        List<EntitySerializationOption> serializationOptions = new ArrayList<>();
-        serializationOptions.add(SERIALIZE_INSTANCE_NAME);
-        serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
-        if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
-
-        String json = entitySerialization.toJson(entities, fetchPlan, serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+        return ctx;
     }
 
     protected String addOrderBy(String queryString, @Nullable String sort, MetaClass metaClass) {
@@ -811,7 +940,7 @@ public class EntitiesControllerManager {
         }
     }
 
-    private Object getIdFromString(String entityId, MetaClass metaClass) {
+    protected Object getIdFromString(String entityId, MetaClass metaClass) {
         try {
             MetaProperty primaryKeyProperty = Objects.requireNonNull(metadataTools.getPrimaryKeyProperty(metaClass));
 
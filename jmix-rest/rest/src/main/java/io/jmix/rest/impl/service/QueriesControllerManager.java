@@ -39,6 +39,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.springframework.lang.Nullable;
 import java.math.BigDecimal;
@@ -105,6 +106,54 @@ public class QueriesControllerManager {
         return _executeQuery(entityName, queryName, limit, offset, fetchPlanName, returnNulls, dynamicAttributes, version, paramsMap);
     }
 
+    /**
+     * Returns a body writing the query result to the response while it is being loaded, or null if the result must
+     * be built in memory by {@link #executeQueryGet(String, String, Integer, Integer, String, Boolean, Boolean, String, Map)}.
+     *
+     * @see RestControllerUtils#isStreamingResponseRequired(String)
+     */
+    @Nullable
+    public StreamingResponseBody executeQueryGetStreaming(String entityName,
+                                                          String queryName,
+                                                          @Nullable Integer limit,
+                                                          @Nullable Integer offset,
+                                                          @Nullable String fetchPlanName,
+                                                          @Nullable Boolean returnNulls,
+                                                          @Nullable Boolean dynamicAttributes,
+                                                          @Nullable String version,
+                                                          Map<String, String> params) {
+        if (!restControllerUtils.isStreamingResponseRequired(version)) {
+            return null;
+        }
+        LoadContext<?> ctx = createExecuteQueryLoadContext(entityName, queryName, limit, offset, fetchPlanName,
+                dynamicAttributes, params);
+        return restControllerUtils.createStreamingResponseBody(ctx, ctx.getFetchPlan(), getSerializationOptions(returnNulls));
+    }
+
+    /**
+     * Returns a body writing the query result to the response while it is being loaded, or null if the result must
+     * be built in memory by {@link #executeQueryPost(String, String, Integer, Integer, String, Boolean, Boolean, String, String)}.
+     *
+     * @see RestControllerUtils#isStreamingResponseRequired(String)
+     */
+    @Nullable
+    public StreamingResponseBody executeQueryPostStreaming(String entityName,
+                                                           String queryName,
+                                                           @Nullable Integer limit,
+                                                           @Nullable Integer offset,
+                                                           @Nullable String fetchPlanName,
+                                                           @Nullable Boolean returnNulls,
+                                                           @Nullable Boolean dynamicAttributes,
+                                                           @Nullable String version,
+                                                           String paramsJson) {
+        if (!restControllerUtils.isStreamingResponseRequired(version)) {
+            return null;
+        }
+        Map<String, String> paramsMap = restParseUtils.parseParamsJson(paramsJson);
+        return executeQueryGetStreaming(entityName, queryName, limit, offset, fetchPlanName, returnNulls,
+                dynamicAttributes, version, paramsMap);
+    }
+
     protected String _executeQuery(String entityName,
                                    String queryName,
                                    @Nullable Integer limit,
@@ -114,8 +163,24 @@ public class QueriesControllerManager {
                                    @Nullable Boolean dynamicAttributes,
                                    @Nullable String version,
                                    Map<String, String> params) {
-        LoadContext<?> ctx;
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, version, JsonTransformationDirection.FROM_VERSION);
+        LoadContext<?> ctx = createExecuteQueryLoadContext(entityName, queryName, limit, offset, fetchPlanName,
+                dynamicAttributes, params);
+        List<?> entities = dataManager.loadList(ctx);
+
+        String json = entitySerializationAPI.toJson(entities, ctx.getFetchPlan(), getSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    protected LoadContext<?> createExecuteQueryLoadContext(String entityName,
+                                                           String queryName,
+                                                           @Nullable Integer limit,
+                                                           @Nullable Integer offset,
+                                                           @Nullable String fetchPlanName,
+                                                           @Nullable Boolean dynamicAttributes,
+                                                           Map<String, String> params) {
+        LoadContext<?> ctx;
         try {
             ctx = createQueryLoadContext(entityName, queryName, limit, offset, params);
         } catch (ClassNotFoundException | ParseException e) {
@@ -129,16 +194,15 @@ public class QueriesControllerManager {
         if (fetchPlan != null) {
             ctx.setFetchPlan(fetchPlan);
         }
-        List<?> entities = dataManager.loadList(ctx);
+        return ctx;
+    }
 
+    protected EntitySerializationOption[] getSerializationOptions(@Nullable Boolean returnNulls) {
         List<EntitySerializationOption> serializationOptions = new ArrayList<>();
         serializationOptions.add(EntitySerializationOption.SERIALIZE_INSTANCE_NAME);
         serializationOptions.add(EntitySerializationOption.DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(EntitySerializationOption.SERIALIZE_NULLS);
-
-        String json = entitySerializationAPI.toJson(entities, ctx.getFetchPlan(), serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
     }
 
     public String getCountGet(String entityName,
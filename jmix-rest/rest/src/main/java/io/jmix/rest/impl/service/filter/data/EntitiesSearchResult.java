@@ -16,19 +16,41 @@
 
 package io.jmix.rest.impl.service.filter.data;
 
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 public class EntitiesSearchResult {
     protected String json;
     protected Long count;
+    protected StreamingResponseBody streamingBody;
 
     public EntitiesSearchResult(String json, Long count) {
         this.json = json;
         this.count = count;
     }
 
+    public EntitiesSearchResult(StreamingResponseBody streamingBody, Long count) {
+        this.streamingBody = streamingBody;
+        this.count = count;
+    }
+
+    /**
+     * @return JSON array of entities, or null if the result is written by the {@link #getStreamingBody()}
+     */
+    @Nullable
     public String getJson() {
         return json;
     }
 
+    /**
+     * @return body writing the entities to the response while they are being loaded, or null if the result is
+     * built in memory
+     */
+    @Nullable
+    public StreamingResponseBody getStreamingBody() {
+        return streamingBody;
+    }
+
     public Long getCount() {
         return count;
     }
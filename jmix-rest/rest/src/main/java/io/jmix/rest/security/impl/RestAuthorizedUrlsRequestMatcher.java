@@ -41,7 +41,8 @@ public class RestAuthorizedUrlsRequestMatcher {
                 basePath + restProperties.getFilesPath() + "/**",
                 basePath + restProperties.getUserInfoPath(),
                 basePath + restProperties.getPermissionsPath(),
-                basePath + restProperties.getUserSessionPath() + "/locale"
+                basePath + restProperties.getUserSessionPath() + "/locale",
+                basePath + restProperties.getBatchPath()
         );
     }
 
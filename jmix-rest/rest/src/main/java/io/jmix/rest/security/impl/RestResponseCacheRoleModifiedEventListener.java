@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.rest.security.impl;
+
+import io.jmix.rest.impl.RestResponseCache;
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Clears {@link RestResponseCache} when roles are modified, so entity ETags computed with previous permissions
+ * don't match anymore.
+ */
+public class RestResponseCacheRoleModifiedEventListener {
+
+    @Autowired
+    protected RestResponseCache restResponseCache;
+
+    @EventListener({ResourceRoleModifiedEvent.class, RowLevelRoleModifiedEvent.class})
+    public void onRoleModified() {
+        restResponseCache.clear();
+    }
+}
@@ -25,7 +25,7 @@ class RestAuthorizedUrlsRequestMatcherTest extends Specification {
 
     def restProperties = new RestProperties('/rest', '/entities', '/docs', '/metadata', '/files', '/messages',
             '/permissions', '/queries', '/services', '/userInfo', '/user-session', '/capabilities',
-            false, true, 1000, null, null, true, null, null)
+            '/batch', false, true, 1000, null, null, true, false, false, false, 1000, 1000, 0, null, null)
 
     def "test without servlet context"() {
         def matcher = new RestAuthorizedUrlsRequestMatcher(restProperties)
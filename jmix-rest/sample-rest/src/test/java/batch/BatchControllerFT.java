@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package batch;
+
+import io.jmix.samples.rest.security.ColorCreateRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import test_support.AbstractRestControllerFT;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static test_support.RestTestUtils.getAuthToken;
+
+@AutoConfigureMockMvc
+public class BatchControllerFT extends AbstractRestControllerFT {
+
+    private static final String COLOR_CREATE_LOGIN = "batchColorCreateUser";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UserDetails colorCreate;
+
+    private UUID carId;
+
+    @Override
+    public void prepareDb() throws Exception {
+        colorCreate = User.builder()
+                .username(COLOR_CREATE_LOGIN)
+                .password("{noop}" + COLOR_CREATE_LOGIN)
+                .authorities(roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(ColorCreateRole.NAME))
+                .build();
+        userRepository.addUser(colorCreate);
+
+        carId = dirtyData.createCarUuid();
+        executePrepared("insert into ref_car(id, vin, version) values (?, ?, 1)",
+                carId,
+                "001");
+    }
+
+    @AfterEach
+    public void removeUsers() {
+        userRepository.removeUser(colorCreate);
+    }
+
+    @Test
+    public void allOperationsSucceed() throws Exception {
+        UUID firstId = dirtyData.createColourUuid();
+        UUID secondId = dirtyData.createColourUuid();
+        String body = "[" +
+                createColourOperation(firstId, "Batch 1") + "," +
+                createColourOperation(secondId, "Batch 2") + "," +
+                "{\"method\":\"LOAD\",\"entityName\":\"ref_Car\",\"id\":\"" + carId + "\"}" +
+                "]";
+
+        mockMvc.perform(post("/rest/batch")
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].body.name").value("Batch 1"))
+                .andExpect(jsonPath("$[1].status").value(201))
+                .andExpect(jsonPath("$[2].status").value(200))
+                .andExpect(jsonPath("$[2].body.vin").value("001"));
+
+        assertEquals("Batch 1", getColourName(firstId));
+        assertEquals("Batch 2", getColourName(secondId));
+    }
+
+    @Test
+    public void deniedLoadDoesNotAbortWrites() throws Exception {
+        UUID colourId = dirtyData.createColourUuid();
+        String body = "[" +
+                createColourOperation(colourId, "Batch 1") + "," +
+                "{\"method\":\"LOAD\",\"entityName\":\"ref_Car\",\"id\":\"" + carId + "\"}" +
+                "]";
+        String colorCreateToken = getAuthToken(oauthUrl, COLOR_CREATE_LOGIN, COLOR_CREATE_LOGIN);
+
+        mockMvc.perform(post("/rest/batch")
+                        .header("Authorization", "Bearer " + colorCreateToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[1].status").value(403));
+
+        assertEquals("Batch 1", getColourName(colourId));
+    }
+
+    @Test
+    public void failedWriteRollsBackTransaction() throws Exception {
+        UUID colourId = dirtyData.createColourUuid();
+        String body = "[" +
+                createColourOperation(colourId, "Batch 1") + "," +
+                "{\"method\":\"UPDATE\",\"entityName\":\"ref$Colour\",\"id\":\"" + UUID.randomUUID() + "\"," +
+                "\"entity\":{\"name\":\"Missing\"}}" +
+                "]";
+
+        mockMvc.perform(post("/rest/batch")
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(424))
+                .andExpect(jsonPath("$[1].status").value(404));
+
+        assertNull(getColourName(colourId));
+    }
+
+    private String createColourOperation(UUID id, String name) {
+        return "{\"method\":\"CREATE\",\"entityName\":\"ref$Colour\"," +
+                "\"entity\":{\"id\":\"" + id + "\",\"name\":\"" + name + "\"}}";
+    }
+
+    private String getColourName(UUID id) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("select name from ref_colour where id = ?")) {
+            stmt.setObject(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private void executePrepared(String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            stmt.executeUpdate();
+        }
+    }
+}
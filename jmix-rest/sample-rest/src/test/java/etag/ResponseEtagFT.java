@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package etag;
+
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.rest.impl.RestResponseCache;
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import test_support.AbstractRestControllerFT;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jmix.rest.entity-etag-enabled = true",
+        "jmix.rest.metadata-response-cache-enabled = true"
+})
+public class ResponseEtagFT extends AbstractRestControllerFT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RestResponseCache restResponseCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SystemAuthenticator systemAuthenticator;
+
+    private UUID colourId;
+
+    @Override
+    public void prepareDb() throws Exception {
+        colourId = dirtyData.createColourUuid();
+        executePrepared("insert into ref_colour(id, name, version) values (?, ?, 1)",
+                colourId,
+                "Red");
+    }
+
+    @Test
+    public void metadataNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/rest/metadata/entities/ref$Colour")
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entityName").value("ref$Colour"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/rest/metadata/entities/ref$Colour")
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void messagesNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/rest/messages/entities/ref$Colour")
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['ref$Colour']").exists())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/rest/messages/entities/ref$Colour")
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void cacheIsClearedWhenRolesAreModified() {
+        systemAuthenticator.runWithSystem(() -> {
+            RestResponseCache.CachedResponse response = restResponseCache.get("test", () -> "[1]");
+            assertSame(response, restResponseCache.get("test", () -> "[2]"));
+
+            eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this));
+
+            assertEquals("[2]", restResponseCache.get("test", () -> "[2]").getBody());
+        });
+    }
+
+    @Test
+    public void entityNotModified() throws Exception {
+        String url = "/rest/entities/ref$Colour/" + colourId;
+        String etag = mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Red"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        executePrepared("update ref_colour set name = ?, version = 2 where id = ?", "Blue", colourId);
+
+        mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Blue"));
+    }
+
+    @Test
+    public void entityEtagChangesWhenRolesAreModified() throws Exception {
+        String url = "/rest/entities/ref$Colour/" + colourId;
+        String etag = mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this));
+
+        String newEtag = mockMvc.perform(get(url)
+                        .header("Authorization", "Bearer " + oauthToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+    }
+
+    private void executePrepared(String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package streaming;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import io.jmix.core.DataManager;
+import io.jmix.core.EntitySerialization;
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.rest.impl.EntitiesStreamingResponseBody;
+import io.jmix.samples.rest.entity.driver.Colour;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import test_support.AbstractRestControllerFT;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "jmix.rest.streaming-response-enabled = true",
+        "jmix.core.load-stream-chunk-size = 2"
+})
+public class StreamingResponseFT extends AbstractRestControllerFT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Metadata metadata;
+
+    @Autowired
+    private EntitySerialization entitySerialization;
+
+    private List<UUID> coloursUuids = new ArrayList<>();
+
+    @Override
+    public void prepareDb() throws Exception {
+        for (int i = 1; i < 6; i++) {
+            UUID colourId = dirtyData.createColourUuid();
+            coloursUuids.add(colourId);
+            executePrepared("insert into ref_colour(id, name, version) values (?, ?, 1)",
+                    colourId,
+                    "Colour " + i);
+        }
+    }
+
+    @Test
+    public void loadEntitiesByChunks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/rest/entities/ref$Colour")
+                        .param("sort", "name")
+                        .param("returnCount", "true")
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "5"))
+                .andReturn();
+
+        ReadContext ctx = JsonPath.parse(result.getResponse().getContentAsString());
+        assertEquals(5, ctx.<Collection<?>>read("$").size());
+        assertEquals("Colour 1", ctx.read("$.[0].name"));
+        assertEquals("Colour 5", ctx.read("$.[4].name"));
+    }
+
+    @Test
+    public void executeQueryByChunks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/rest/queries/ref$Colour/allColours")
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ReadContext ctx = JsonPath.parse(result.getResponse().getContentAsString());
+        assertEquals(5, ctx.<Collection<?>>read("$").size());
+        assertEquals(coloursUuids.get(2).toString(), ctx.read("$.[2].id"));
+    }
+
+    @Test
+    public void failingQueryIsReportedBeforeStreaming() throws Exception {
+        MvcResult result = mockMvc.perform(get("/rest/queries/ref$Colour/coloursByMissingAttribute")
+                        .header("Authorization", "Bearer " + oauthToken))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andReturn();
+
+        ReadContext ctx = JsonPath.parse(result.getResponse().getContentAsString());
+        assertNotNull(ctx.read("$.error"));
+    }
+
+    @Test
+    public void failureAfterFirstChunkIsRethrown() {
+        Colour colour = metadata.create(Colour.class);
+        colour.setName("Colour 1");
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Object> entities = Stream.concat(
+                        Stream.<Object>of(colour, colour),
+                        Stream.generate(() -> {
+                            throw new IllegalStateException("Connection lost");
+                        }))
+                .onClose(() -> closed.set(true));
+
+        DataManager dataManager = mock(DataManager.class);
+        when(dataManager.loadStream(any(LoadContext.class))).thenReturn(entities);
+
+        EntitiesStreamingResponseBody body = new EntitiesStreamingResponseBody(dataManager, entitySerialization,
+                new LoadContext<>(metadata.getClass(Colour.class)), null);
+        body.open();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> body.writeTo(outputStream));
+        assertTrue(closed.get());
+    }
+
+    private void executePrepared(String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -35,6 +35,8 @@ public class RestCapabilities {
 
     private volatile boolean inlineFetchPlans;
 
+    private volatile boolean batch;
+
     private final RestInvoker restInvoker;
 
     private final ObjectMapper objectMapper;
@@ -49,6 +51,11 @@ public class RestCapabilities {
         return inlineFetchPlans;
     }
 
+    public boolean isBatchEnabled() {
+        checkInitialized();
+        return batch;
+    }
+
     private void checkInitialized() {
         if (!initialized) {
             synchronized (this) {
@@ -65,6 +72,9 @@ public class RestCapabilities {
             String json = restInvoker.capabilities();
             JsonNode rootNode = objectMapper.readTree(json);
             inlineFetchPlans = rootNode.get("inlineFetchPlans").asBoolean();
+            // absent in REST API versions without the batch endpoint
+            JsonNode batchNode = rootNode.get("batch");
+            batch = batchNode != null && batchNode.asBoolean();
         } catch (HttpClientErrorException.NotFound e) {
             log.info("Cannot determine REST capabilities: {}", e.getMessage());
         } catch (RestDataStoreAccessException e) {
@@ -24,7 +24,9 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.restds.annotation.RestDataStoreEntity;
 import io.jmix.restds.exception.InvalidFetchPlanException;
+import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.restds.filestorage.RestFileStorage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
@@ -33,6 +35,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -65,6 +68,10 @@ public class RestDataStore extends AbstractDataStore {
     private FetchPlanSerialization fetchPlanSerialization;
     @Autowired
     private FileStorageLocator fileStorageLocator;
+    @Autowired
+    private CurrentAuthentication currentAuthentication;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private String storeName;
 
@@ -72,6 +79,8 @@ public class RestDataStore extends AbstractDataStore {
 
     private RestCapabilities restCapabilities;
 
+    private RestDataStoreResponseCache responseCache;
+
     public RestInvoker getRestInvoker() {
         return restInvoker;
     }
@@ -86,7 +95,7 @@ public class RestDataStore extends AbstractDataStore {
         Object entity = null;
         if (id != null) {
             RestInvoker.LoadParams params = new RestInvoker.LoadParams(entityName, id, fetchPlan);
-            String json = restInvoker.load(params);
+            String json = responseCache.get(getUsername(), "load", params, () -> restInvoker.load(params));
             entity = restSerialization.fromJson(json, entityClass);
         } else {
             RestInvoker.LoadListParams params = new RestInvoker.LoadListParams(entityName,
@@ -95,7 +104,7 @@ public class RestDataStore extends AbstractDataStore {
                     createRestSort(context.getQuery()),
                     createRestFilter(context),
                     fetchPlan);
-            String json = restInvoker.loadList(params);
+            String json = responseCache.get(getUsername(), "loadList", params, () -> restInvoker.loadList(params));
             List<Object> entities = restSerialization.fromJsonCollection(json, entityClass);
             if (!entities.isEmpty()) {
                 entity = entities.get(0);
@@ -120,7 +129,7 @@ public class RestDataStore extends AbstractDataStore {
                 createRestSort(context.getQuery()),
                 createRestFilter(context),
                 fetchPlan);
-        String json = restInvoker.loadList(params);
+        String json = responseCache.get(getUsername(), "loadList", params, () -> restInvoker.loadList(params));
         List<Object> entities = restSerialization.fromJsonCollection(json, entityClass);
 
         for (Object entity : entities) {
@@ -205,6 +214,10 @@ public class RestDataStore extends AbstractDataStore {
         return storageName;
     }
 
+    private String getUsername() {
+        return currentAuthentication.isSet() ? currentAuthentication.getUser().getUsername() : "";
+    }
+
     private String getEntityName(MetaClass localMetaClass) {
         String restEntityName = (String) metadataTools.getMetaAnnotationAttributes(localMetaClass.getAnnotations(), RestDataStoreEntity.class)
                 .get("remoteName");
@@ -267,14 +280,29 @@ public class RestDataStore extends AbstractDataStore {
     @Override
     protected long countAll(LoadContext<?> context) {
         String entityName = context.getEntityMetaClass().getName();
-        long count = restInvoker.count(entityName, createRestFilter(context));
-        return count;
+        String filter = createRestFilter(context);
+        Long count = responseCache.get(getUsername(), "count", new RestInvoker.LoadListParams(entityName, filter),
+                () -> restInvoker.count(entityName, filter));
+        return count == null ? 0 : count;
     }
 
     @Override
     protected Set<Object> saveAll(SaveContext context) {
+        try {
+            return saveAllInternal(context);
+        } finally {
+            // the changes can affect any cached response
+            responseCache.invalidateAll();
+        }
+    }
+
+    private Set<Object> saveAllInternal(SaveContext context) {
         Set<Object> saved = new HashSet<>();
         Set<FileRef> fileRefs = saveContextProcessor.process(context);
+        if (context.getEntitiesToSave().size() > 1 && restCapabilities.isBatchEnabled()) {
+            saveAllInBatch(context, fileRefs, saved);
+            return saved;
+        }
         for (Object entity : context.getEntitiesToSave()) {
             String entityName = getEntityName(metadata.getClass(entity));
             FetchPlan fetchPlan = null;
@@ -294,21 +322,61 @@ public class RestDataStore extends AbstractDataStore {
                 String entityJson = serializeToJson(entity, false, fileRefs);
                 savedEntityJson = restInvoker.update(entityName, id.toString(), entityJson);
             }
-            Object savedEntity = restSerialization.fromJson(savedEntityJson, entity.getClass());
-            if (savedEntity == null) {
-                throw new IllegalStateException("Saved entity is null");
-            }
-            if (isNew && EntityValues.getId(entity) == null) {
-                // set new ID to the passed instance to let the framework match the saved instance with the original one
-                EntityValues.setId(entity, EntityValues.getId(savedEntity));
-            }
-            updateEntityState(savedEntity, fetchPlan);
-            entityEventManager.publishEntitySavedEvent(entity, savedEntity, isNew);
-            saved.add(savedEntity);
+            saved.add(processSavedEntity(entity, savedEntityJson, isNew, fetchPlan));
         }
         return saved;
     }
 
+    /**
+     * Sends all entities in one request to the batch endpoint which saves them in a single transaction on the server.
+     */
+    private void saveAllInBatch(SaveContext context, Set<FileRef> fileRefs, Set<Object> saved) {
+        List<Object> entities = new ArrayList<>(context.getEntitiesToSave());
+        List<Boolean> isNewList = new ArrayList<>(entities.size());
+        List<RestInvoker.BatchOperation> operations = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            String entityName = getEntityName(metadata.getClass(entity));
+            boolean isNew = entityStates.isNew(entity);
+            if (isNew) {
+                entityEventManager.publishEntitySavingEvent(entity, true);
+                String entityJson = serializeToJson(entity, true, fileRefs);
+                operations.add(RestInvoker.BatchOperation.create(entityName, entityJson));
+            } else {
+                Object id = EntityValues.getId(entity);
+                if (id == null) {
+                    throw new IllegalArgumentException("Entity id is null for " + entity);
+                }
+                entityEventManager.publishEntitySavingEvent(entity, false);
+                operations.add(RestInvoker.BatchOperation.update(entityName, id.toString(),
+                        serializeToJson(entity, false, fileRefs)));
+            }
+            isNewList.add(isNew);
+        }
+
+        List<String> savedEntityJsons = restInvoker.batch(operations);
+        for (int i = 0; i < entities.size(); i++) {
+            saved.add(processSavedEntity(entities.get(i), savedEntityJsons.get(i), isNewList.get(i), null));
+        }
+    }
+
+    private Object processSavedEntity(Object entity, @Nullable String savedEntityJson, boolean isNew,
+                                      @Nullable FetchPlan fetchPlan) {
+        if (savedEntityJson == null) {
+            throw new IllegalStateException("Saved entity JSON is null");
+        }
+        Object savedEntity = restSerialization.fromJson(savedEntityJson, entity.getClass());
+        if (savedEntity == null) {
+            throw new IllegalStateException("Saved entity is null");
+        }
+        if (isNew && EntityValues.getId(entity) == null) {
+            // set new ID to the passed instance to let the framework match the saved instance with the original one
+            EntityValues.setId(entity, EntityValues.getId(savedEntity));
+        }
+        updateEntityState(savedEntity, fetchPlan);
+        entityEventManager.publishEntitySavedEvent(entity, savedEntity, isNew);
+        return savedEntity;
+    }
+
     private String serializeToJson(Object entity, boolean isNew, Set<FileRef> fileRefs) {
         String json = restSerialization.toJson(entity, isNew);
         if (fileRefs.isEmpty()) {
@@ -334,7 +402,32 @@ public class RestDataStore extends AbstractDataStore {
 
     @Override
     protected Set<Object> deleteAll(SaveContext context) {
+        try {
+            return deleteAllInternal(context);
+        } finally {
+            responseCache.invalidateAll();
+        }
+    }
+
+    private Set<Object> deleteAllInternal(SaveContext context) {
         Set<Object> saved = new HashSet<>();
+        if (context.getEntitiesToRemove().size() > 1 && restCapabilities.isBatchEnabled()) {
+            List<RestInvoker.BatchOperation> operations = new ArrayList<>();
+            for (Object entity : context.getEntitiesToRemove()) {
+                Object id = EntityValues.getId(entity);
+                if (id == null) {
+                    throw new IllegalArgumentException("Entity id is null for " + entity);
+                }
+                String entityName = getEntityName(metadata.getClass(entity));
+                operations.add(RestInvoker.BatchOperation.delete(entityName, id.toString()));
+            }
+            restInvoker.batch(operations);
+            for (Object entity : context.getEntitiesToRemove()) {
+                entityEventManager.publishEntityRemovedEvent(entity);
+                saved.add(entity);
+            }
+            return saved;
+        }
         for (Object entity : context.getEntitiesToRemove()) {
             String entityName = getEntityName(metadata.getClass(entity));
             Object id = EntityValues.getId(entity);
@@ -393,6 +486,7 @@ public class RestDataStore extends AbstractDataStore {
         storeName = name;
         restInvoker = applicationContext.getBean(RestInvoker.class, storeName);
         restCapabilities = new RestCapabilities(restInvoker);
+        responseCache = new RestDataStoreResponseCache(storeName, applicationContext.getEnvironment(), meterRegistry);
     }
 
     private static class DummyTransactionContextState implements TransactionContextState {
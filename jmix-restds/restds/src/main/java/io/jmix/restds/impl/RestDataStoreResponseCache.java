@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.restds.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Local cache of responses returned by the load, load list and count requests of a particular REST data store.
+ * <p>
+ * The cache is configured by the following properties prefixed with the data store name:
+ * <ul>
+ *     <li>{@code responseCacheEnabled} - whether the responses are cached, false by default</li>
+ *     <li>{@code responseCacheMaxSize} - maximum number of cached responses, 1000 by default</li>
+ *     <li>{@code responseCacheExpiration} - time in milliseconds after which a cached response is evicted,
+ *     60000 by default</li>
+ * </ul>
+ * The cache is cleared when entities are saved or removed through the data store. Changes made in the remote
+ * application by other clients become visible after the cached responses expire.
+ * <p>
+ * Cache statistics are exposed as {@code cache.*} metrics with the {@code cache=jmix.restds.responses} and
+ * {@code dataStore} tags.
+ */
+public class RestDataStoreResponseCache {
+
+    @Nullable
+    private final Cache<Key, Optional<Object>> cache;
+
+    public RestDataStoreResponseCache(String dataStoreName, Environment environment, MeterRegistry meterRegistry) {
+        boolean enabled = environment.getProperty(dataStoreName + ".responseCacheEnabled", Boolean.class, false);
+        if (enabled) {
+            long maxSize = environment.getProperty(dataStoreName + ".responseCacheMaxSize", Long.class, 1000L);
+            long expiration = environment.getProperty(
+                    dataStoreName + ".responseCacheExpiration", Long.class, 60000L);
+            cache = CacheBuilder.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(expiration, TimeUnit.MILLISECONDS)
+                    .recordStats()
+                    .build();
+            GuavaCacheMetrics.monitor(meterRegistry, cache, "jmix.restds.responses", "dataStore", dataStoreName);
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Returns the cached response or executes the request and caches its response.
+     *
+     * @param username  name of the user executing the request, as the response depends on the user permissions
+     * @param operation request type
+     * @param params    request parameters, must implement {@code equals()} and {@code hashCode()}
+     * @param request   executes the request
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> T get(String username, String operation, Object params, Supplier<T> request) {
+        if (cache == null) {
+            return request.get();
+        }
+        try {
+            return (T) cache.get(new Key(username, operation, params), () -> Optional.ofNullable(request.get()))
+                    .orElse(null);
+        } catch (UncheckedExecutionException e) {
+            // rethrow HTTP client exceptions as is to let the callers handle them
+            throw (RuntimeException) e.getCause();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error executing request", e.getCause());
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private record Key(String username, String operation, Object params) {
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.restds.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates pooled HTTP clients used by {@link RestInvoker}s of REST data stores.
+ * <p>
+ * A single client is created for a data store and shared by all its invokers, so the connections to the remote
+ * application are kept alive and reused between requests. The client is configured by the following properties
+ * prefixed with the data store name:
+ * <ul>
+ *     <li>{@code maxConnections} - maximum number of pooled connections, 50 by default</li>
+ *     <li>{@code connectTimeout} - connect timeout in milliseconds, 10000 by default</li>
+ *     <li>{@code responseTimeout} - timeout of waiting for a response in milliseconds, 0 (no timeout) by default</li>
+ *     <li>{@code connectionTimeToLive} - time in milliseconds after which a connection is closed instead of being
+ *     reused, 0 (unlimited) by default</li>
+ *     <li>{@code compressionEnabled} - whether gzip and deflate encoded responses are requested, true by default</li>
+ * </ul>
+ * The connection pool state is exposed as {@code httpcomponents.httpclient.pool.*} metrics with the
+ * {@code dataStore} tag.
+ */
+@Component("restds_RestHttpClientManager")
+public class RestHttpClientManager {
+
+    private static final Logger log = LoggerFactory.getLogger(RestHttpClientManager.class);
+
+    protected final Environment environment;
+
+    protected final MeterRegistry meterRegistry;
+
+    protected final Map<String, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    public RestHttpClientManager(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns a request factory creating requests with the pooled HTTP client of the given data store.
+     */
+    public ClientHttpRequestFactory getRequestFactory(String dataStoreName) {
+        CloseableHttpClient httpClient = httpClients.computeIfAbsent(dataStoreName, this::createHttpClient);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    protected CloseableHttpClient createHttpClient(String dataStoreName) {
+        int maxConnections = environment.getProperty(dataStoreName + ".maxConnections", Integer.class, 50);
+        long connectTimeout = environment.getProperty(dataStoreName + ".connectTimeout", Long.class, 10000L);
+        long responseTimeout = environment.getProperty(dataStoreName + ".responseTimeout", Long.class, 0L);
+        long timeToLive = environment.getProperty(dataStoreName + ".connectionTimeToLive", Long.class, 0L);
+        boolean compressionEnabled = environment.getProperty(
+                dataStoreName + ".compressionEnabled", Boolean.class, true);
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setTimeToLive(timeToLive > 0 ? TimeValue.ofMilliseconds(timeToLive) : null)
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // all requests of a data store go to the same host
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(
+                connectionManager, dataStoreName, "dataStore", dataStoreName).bindTo(meterRegistry);
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMinutes(1));
+        if (!compressionEnabled) {
+            builder.disableContentCompression();
+        }
+        log.debug("Created HTTP client for {} with max {} connections", dataStoreName, maxConnections);
+        return builder.build();
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        for (Map.Entry<String, CloseableHttpClient> entry : httpClients.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (IOException e) {
+                log.warn("Error closing HTTP client of {}", entry.getKey(), e);
+            }
+        }
+        httpClients.clear();
+    }
+}
@@ -16,10 +16,14 @@
 
 package io.jmix.restds.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jmix.restds.exception.RestDataStoreAccessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -28,8 +32,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
@@ -38,13 +44,17 @@ import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriBuilder;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @SuppressWarnings("UnnecessaryLocalVariable")
 @Component("restds_RestInvoker")
@@ -68,10 +78,17 @@ public class RestInvoker implements InitializingBean {
     private String userInfoPath;
     private String permissionsPath;
     private String capabilitiesPath;
+    private String batchPath;
 
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private RestHttpClientManager httpClientManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
 
     public record LoadParams(String entityName,
                                  Object id,
@@ -94,6 +111,24 @@ public class RestInvoker implements InitializingBean {
         }
     }
 
+    public record BatchOperation(String method,
+                                 String entityName,
+                                 @Nullable String id,
+                                 @Nullable String entityJson) {
+
+        public static BatchOperation create(String entityName, String entityJson) {
+            return new BatchOperation("create", entityName, null, entityJson);
+        }
+
+        public static BatchOperation update(String entityName, String id, String entityJson) {
+            return new BatchOperation("update", entityName, id, entityJson);
+        }
+
+        public static BatchOperation delete(String entityName, String id) {
+            return new BatchOperation("delete", entityName, id, null);
+        }
+    }
+
     public RestInvoker(String dataStoreName) {
         this.dataStoreName = dataStoreName;
     }
@@ -115,13 +150,16 @@ public class RestInvoker implements InitializingBean {
         userInfoPath = environment.getProperty(dataStoreName + ".userInfoPath", "/userInfo");
         permissionsPath = environment.getProperty(dataStoreName + ".permissionsPath", "/permissions");
         capabilitiesPath = environment.getProperty(dataStoreName + ".capabilitiesPath", "/capabilities");
+        batchPath = environment.getProperty(dataStoreName + ".batchPath", "/batch");
 
         restClient = RestClient.builder()
                 .baseUrl(baseUrl)
+                .requestFactory(httpClientManager.getRequestFactory(dataStoreName))
                 .messageConverters(converters ->
                         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8)))
                 .requestInterceptor(authenticator.getAuthenticationInterceptor())
                 .requestInterceptor(new LoggingClientHttpRequestInterceptor())
+                .requestInterceptor(new MetricsClientHttpRequestInterceptor())
                 .build();
     }
 
@@ -286,6 +324,84 @@ public class RestInvoker implements InitializingBean {
         }
     }
 
+    /**
+     * Executes the operations in one request to the batch endpoint.
+     *
+     * @return JSON bodies of the saved entities in the order of operations, null for delete operations
+     * @throws HttpClientErrorException or {@link HttpServerErrorException} with the status and error of the first
+     *                                  failed operation
+     */
+    public List<String> batch(List<BatchOperation> operations) {
+        String resultJson;
+        try {
+            resultJson = restClient.post()
+                    .uri(basePath + batchPath)
+                    .body(createBatchBody(operations))
+                    .retrieve()
+                    .body(String.class);
+        } catch (ResourceAccessException e) {
+            throw new RestDataStoreAccessException(dataStoreName, e);
+        }
+        if (resultJson == null) {
+            throw new IllegalStateException("Result JSON is null");
+        }
+
+        try {
+            JsonNode resultsNode = objectMapper.readTree(resultJson);
+            List<String> bodies = new ArrayList<>(resultsNode.size());
+            JsonNode failedNode = null;
+            for (JsonNode resultNode : resultsNode) {
+                int status = resultNode.get("status").asInt();
+                // operations not executed because of another failed operation have the 424 status
+                if (status >= 400 && (failedNode == null || failedNode.get("status").asInt() == 424)) {
+                    failedNode = resultNode;
+                }
+                JsonNode bodyNode = resultNode.get("body");
+                bodies.add(bodyNode == null ? null : objectMapper.writeValueAsString(bodyNode));
+            }
+            if (failedNode != null) {
+                HttpStatusCode statusCode = HttpStatusCode.valueOf(failedNode.get("status").asInt());
+                byte[] body = objectMapper.writeValueAsBytes(failedNode);
+                if (statusCode.is4xxClientError()) {
+                    throw HttpClientErrorException.create(statusCode, "Batch operation failed",
+                            HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+                }
+                throw HttpServerErrorException.create(statusCode, "Batch operation failed",
+                        HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+            }
+            return bodies;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error parsing batch response", e);
+        }
+    }
+
+    private String createBatchBody(List<BatchOperation> operations) {
+        try {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+                generator.writeStartArray();
+                for (BatchOperation operation : operations) {
+                    generator.writeStartObject();
+                    generator.writeStringField("method", operation.method());
+                    generator.writeStringField("entityName", operation.entityName());
+                    if (operation.id() != null) {
+                        generator.writeStringField("id", operation.id());
+                    }
+                    if (operation.entityJson() != null) {
+                        generator.writeFieldName("entity");
+                        generator.writeRawValue(operation.entityJson());
+                        generator.writeStringField("fetchPlan", "_base");
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            return writer.toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Error creating request body", e);
+        }
+    }
+
     public String userInfo() {
         try {
             String resultJson = restClient.get()
@@ -348,4 +464,23 @@ public class RestInvoker implements InitializingBean {
             return response;
         }
     }
+
+    private class MetricsClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String status = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                status = String.valueOf(response.getStatusCode().value());
+                return response;
+            } finally {
+                sample.stop(meterRegistry.timer("jmix.restds.requests",
+                        "dataStore", dataStoreName,
+                        "method", request.getMethod().name(),
+                        "status", status));
+            }
+        }
+    }
 }
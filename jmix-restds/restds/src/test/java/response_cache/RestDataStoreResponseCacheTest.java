@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package response_cache;
+
+import io.jmix.restds.impl.RestDataStoreResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestDataStoreResponseCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicInteger requestCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCount = new AtomicInteger();
+    }
+
+    @Test
+    void testHitAndMiss() {
+        RestDataStoreResponseCache cache = createCache(true);
+
+        assertThat(cache.get("user1", "load", "id1", () -> request("json1"))).isEqualTo("json1");
+        assertThat(cache.get("user1", "load", "id1", () -> request("json2"))).isEqualTo("json1");
+        assertThat(requestCount.get()).isEqualTo(1);
+
+        // different operation and parameters are cached separately
+        assertThat(cache.get("user1", "count", "id1", () -> request("json3"))).isEqualTo("json3");
+        assertThat(cache.get("user1", "load", "id2", () -> request("json4"))).isEqualTo("json4");
+        assertThat(requestCount.get()).isEqualTo(3);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jmix.restds.responses")
+                .tag("dataStore", "restService1").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testUserIsolation() {
+        RestDataStoreResponseCache cache = createCache(true);
+
+        assertThat(cache.get("user1", "load", "id1", () -> request("json-user1"))).isEqualTo("json-user1");
+        assertThat(cache.get("user2", "load", "id1", () -> request("json-user2"))).isEqualTo("json-user2");
+        assertThat(cache.get("user1", "load", "id1", () -> request("json"))).isEqualTo("json-user1");
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testNullResponseAndInvalidation() {
+        RestDataStoreResponseCache cache = createCache(true);
+
+        assertThat(cache.<String>get("user1", "load", "id1", () -> request(null))).isNull();
+        assertThat(cache.<String>get("user1", "load", "id1", () -> request("json"))).isNull();
+        assertThat(requestCount.get()).isEqualTo(1);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("user1", "load", "id1", () -> request("json"))).isEqualTo("json");
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailedRequestIsNotCached() {
+        RestDataStoreResponseCache cache = createCache(true);
+
+        assertThatThrownBy(() -> cache.get("user1", "load", "id1", () -> {
+            throw new IllegalStateException("Remote error");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("user1", "load", "id1", () -> request("json"))).isEqualTo("json");
+    }
+
+    @Test
+    void testDisabled() {
+        RestDataStoreResponseCache cache = createCache(false);
+
+        cache.get("user1", "load", "id1", () -> request("json"));
+        cache.get("user1", "load", "id1", () -> request("json"));
+
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.find("cache.gets").functionCounter()).isNull();
+    }
+
+    private RestDataStoreResponseCache createCache(boolean enabled) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("restService1.responseCacheEnabled", String.valueOf(enabled));
+        return new RestDataStoreResponseCache("restService1", environment, meterRegistry);
+    }
+
+    private String request(String response) {
+        requestCount.incrementAndGet();
+        return response;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rest_ds;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.EntitySet;
+import io.jmix.core.SaveContext;
+import io.jmix.core.querycondition.PropertyCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.client.HttpClientErrorException;
+import test_support.BaseRestDsIntegrationTest;
+import test_support.entity.Customer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchSaveTest extends BaseRestDsIntegrationTest {
+
+    @Autowired
+    DataManager dataManager;
+
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void testSaveSeveralEntities() {
+        Customer customer1 = dataManager.create(Customer.class);
+        customer1.setLastName("batch-cust-1-" + now);
+        Customer customer2 = dataManager.create(Customer.class);
+        customer2.setLastName("batch-cust-2-" + now);
+
+        EntitySet saved = dataManager.save(new SaveContext().saving(customer1, customer2));
+
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(customer1).getLastName()).isEqualTo(customer1.getLastName());
+        assertThat(dataManager.load(Customer.class).id(customer2.getId()).one().getLastName())
+                .isEqualTo(customer2.getLastName());
+
+        dataManager.remove(saved.get(customer1), saved.get(customer2));
+
+        assertThat(dataManager.load(Customer.class).id(customer1.getId()).optional()).isEmpty();
+        assertThat(dataManager.load(Customer.class).id(customer2.getId()).optional()).isEmpty();
+    }
+
+    @Test
+    void testFailedOperationRollsBackBatch() {
+        Customer customer = dataManager.create(Customer.class);
+        customer.setLastName("batch-rollback-cust-" + now);
+        Customer missingCustomer = dataManager.getReference(Customer.class, UUID.randomUUID());
+        missingCustomer.setLastName("batch-missing-cust-" + now);
+
+        assertThatThrownBy(() -> dataManager.save(new SaveContext().saving(customer, missingCustomer)))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+
+        assertThat(dataManager.load(Customer.class)
+                .condition(PropertyCondition.equal("lastName", customer.getLastName()))
+                .list())
+                .isEmpty();
+    }
+}
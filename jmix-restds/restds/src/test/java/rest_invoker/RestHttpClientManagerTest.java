@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package rest_invoker;
+
+import io.jmix.restds.impl.RestHttpClientManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestHttpClientManagerTest {
+
+    @Test
+    void testClientIsSharedByDataStore() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("restService1.maxConnections", "7");
+        RestHttpClientManager manager = new RestHttpClientManager(environment, meterRegistry);
+
+        CloseableHttpClient client1 = getHttpClient(manager, "restService1");
+        CloseableHttpClient client2 = getHttpClient(manager, "restService1");
+        CloseableHttpClient otherClient = getHttpClient(manager, "restService2");
+
+        assertThat(client1).isSameAs(client2);
+        assertThat(otherClient).isNotSameAs(client1);
+
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("dataStore", "restService1").gauge().value())
+                .isEqualTo(7);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("dataStore", "restService2").gauge().value())
+                .isEqualTo(50);
+    }
+
+    private CloseableHttpClient getHttpClient(RestHttpClientManager manager, String dataStoreName) {
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                (HttpComponentsClientHttpRequestFactory) manager.getRequestFactory(dataStoreName);
+        return (CloseableHttpClient) requestFactory.getHttpClient();
+    }
+}
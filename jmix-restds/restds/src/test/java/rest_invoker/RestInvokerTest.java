@@ -21,6 +21,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jmix.core.Metadata;
 import io.jmix.restds.impl.RestInvoker;
 import io.jmix.restds.impl.RestSerialization;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +43,8 @@ class RestInvokerTest extends BaseRestDsIntegrationTest {
     Metadata metadata;
     @Autowired
     RestSerialization restSerialization;
+    @Autowired
+    MeterRegistry meterRegistry;
 
     ObjectMapper objectMapper = new ObjectMapper();
 
@@ -68,6 +72,25 @@ class RestInvokerTest extends BaseRestDsIntegrationTest {
         assertThat(customer).isEqualTo(customers.get(0));
     }
 
+    @Test
+    void testRequestMetrics() {
+        double count = getRequestCount();
+
+        restInvoker.loadList(new RestInvoker.LoadListParams("Customer", 1, 0, null, null, null));
+
+        assertThat(getRequestCount()).isEqualTo(count + 1);
+    }
+
+    private double getRequestCount() {
+        return meterRegistry.find("jmix.restds.requests")
+                .tag("dataStore", "restService1")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .timers().stream()
+                .mapToDouble(Timer::count)
+                .sum();
+    }
+
     @Test
     void testCreateUpdateDelete() {
         Customer customer = metadata.create(Customer.class);
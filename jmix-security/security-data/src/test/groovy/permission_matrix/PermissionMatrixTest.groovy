@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package permission_matrix
+
+import io.jmix.core.Metadata
+import io.jmix.core.security.InMemoryUserRepository
+import io.jmix.core.security.SecurityContextHelper
+import io.jmix.security.constraint.PolicyStore
+import io.jmix.security.constraint.SecureOperations
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent
+import io.jmix.security.role.RoleGrantedAuthorityUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.AuthenticationManager
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.userdetails.User
+import org.springframework.security.core.userdetails.UserDetails
+import test_support.SecurityDataSpecification
+import test_support.entity.ExtBar
+import test_support.role.TestExtBarRole
+
+class PermissionMatrixTest extends SecurityDataSpecification {
+
+    @Autowired
+    AuthenticationManager authenticationManager
+
+    @Autowired
+    InMemoryUserRepository userRepository
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    SecureOperations secureOperations
+
+    @Autowired
+    PolicyStore policyStore
+
+    @Autowired
+    RoleGrantedAuthorityUtils roleGrantedAuthorityUtils
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher
+
+    UserDetails user1
+    UserDetails user2
+
+    def setup() {
+        user1 = User.builder()
+                .username("user1")
+                .password("{noop}123")
+                .authorities(roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(TestExtBarRole.CODE))
+                .build()
+        user2 = User.builder()
+                .username("user2")
+                .password("{noop}123")
+                .authorities(roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(TestExtBarRole.CODE))
+                .build()
+
+        userRepository.addUser(user1)
+        userRepository.addUser(user2)
+
+        SecurityContextHelper.setAuthentication(authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken('user1', '123')))
+    }
+
+    def cleanup() {
+        userRepository.removeUser(user1)
+        userRepository.removeUser(user2)
+    }
+
+    def "permissions are compiled once per set of roles"() {
+        def metaClass = metadata.getClass(ExtBar)
+
+        when:
+        def matrix = secureOperations.getPermissionMatrix(policyStore)
+
+        then:
+        matrix.is(secureOperations.getPermissionMatrix(policyStore))
+
+        when: "another user with the same roles is authenticated"
+        SecurityContextHelper.setAuthentication(authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken('user2', '123')))
+
+        then:
+        matrix.is(secureOperations.getPermissionMatrix(policyStore))
+
+        secureOperations.isEntityCreatePermitted(metaClass, policyStore)
+        secureOperations.isEntityReadPermitted(metaClass, policyStore)
+        !secureOperations.isEntityUpdatePermitted(metaClass, policyStore)
+        !secureOperations.isEntityDeletePermitted(metaClass, policyStore)
+
+        secureOperations.isEntityAttrUpdatePermitted(metaClass.getPropertyPath('name'), policyStore)
+        secureOperations.isEntityAttrReadPermitted(metaClass.getPropertyPath('description'), policyStore)
+        !secureOperations.isEntityAttrUpdatePermitted(metaClass.getPropertyPath('description'), policyStore)
+    }
+
+    def "compiled permissions are discarded when roles are modified"() {
+        def matrix = secureOperations.getPermissionMatrix(policyStore)
+
+        when:
+        eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this))
+
+        then:
+        !matrix.is(secureOperations.getPermissionMatrix(policyStore))
+        secureOperations.isEntityReadPermitted(metadata.getClass(ExtBar), policyStore)
+    }
+
+    def "attribute permissions are compiled on first check"() {
+        def metaClass = metadata.getClass(ExtBar)
+
+        when:
+        secureOperations.invalidateCache()
+        secureOperations.isEntityReadPermitted(metaClass, policyStore)
+        def entityPermissions = secureOperations.getPermissionMatrix(policyStore).get(metaClass)
+
+        then:
+        entityPermissions.attributeOperations.isEmpty()
+
+        when:
+        secureOperations.isEntityAttrReadPermitted(metaClass.getPropertyPath('description'), policyStore)
+
+        then:
+        entityPermissions.attributeOperations.keySet() == ['description'] as Set
+    }
+}
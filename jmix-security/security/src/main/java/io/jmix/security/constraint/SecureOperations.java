@@ -61,4 +61,10 @@ public interface SecureOperations {
 
     @Deprecated(forRemoval = true)
     boolean isGraphQLPermitted(String resourceName, PolicyStore policyStore);
+
+    /**
+     * Discards permissions cached by the implementation, for example after modification of roles.
+     */
+    default void invalidateCache() {
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.constraint;
+
+import io.jmix.core.metamodel.model.MetaClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * INTERNAL.
+ * Entity and entity attribute permissions of a set of roles compiled from their resource policies.
+ * <p>
+ * Permissions of an entity and of each of its attributes are compiled on the first access and then stay immutable,
+ * so subsequent checks don't evaluate policies and take constant time.
+ */
+public class PermissionMatrix {
+
+    public static final int CREATE = 1;
+    public static final int READ = 1 << 1;
+    public static final int UPDATE = 1 << 2;
+    public static final int DELETE = 1 << 3;
+
+    public static final int VIEW = 1;
+    public static final int MODIFY = 1 << 1;
+
+    protected final Map<MetaClass, EntityPermissions> entityPermissions = new ConcurrentHashMap<>();
+    protected final Function<MetaClass, EntityPermissions> compiler;
+
+    public PermissionMatrix(Function<MetaClass, EntityPermissions> compiler) {
+        this.compiler = compiler;
+    }
+
+    /**
+     * Returns compiled permissions of the given entity.
+     */
+    public EntityPermissions get(MetaClass metaClass) {
+        EntityPermissions permissions = entityPermissions.get(metaClass);
+        if (permissions == null) {
+            permissions = entityPermissions.computeIfAbsent(metaClass, compiler);
+        }
+        return permissions;
+    }
+
+    /**
+     * Permissions of an entity and its attributes.
+     */
+    public static class EntityPermissions {
+
+        protected final int entityOperations;
+        protected final Map<String, Integer> attributeOperations = new ConcurrentHashMap<>();
+        protected final ToIntFunction<String> attributeCompiler;
+
+        /**
+         * @param entityOperations  bits of permitted entity operations
+         * @param attributeCompiler function returning bits of permitted operations of an entity attribute
+         */
+        public EntityPermissions(int entityOperations, ToIntFunction<String> attributeCompiler) {
+            this.entityOperations = entityOperations;
+            this.attributeCompiler = attributeCompiler;
+        }
+
+        public boolean isEntityOperationPermitted(int operation) {
+            return (entityOperations & operation) != 0;
+        }
+
+        /**
+         * Returns true if any of the given attribute operations is permitted.
+         */
+        public boolean isAttributeOperationPermitted(String attribute, int operations) {
+            Integer permitted = attributeOperations.get(attribute);
+            if (permitted == null) {
+                permitted = attributeOperations.computeIfAbsent(attribute, attributeCompiler::applyAsInt);
+            }
+            return (permitted & operations) != 0;
+        }
+    }
+}
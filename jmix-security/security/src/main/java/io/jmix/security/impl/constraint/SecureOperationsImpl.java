@@ -16,22 +16,75 @@
 
 package io.jmix.security.impl.constraint;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.core.security.ClientDetails;
+import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.security.constraint.PolicyStore;
 import io.jmix.security.constraint.SecureOperations;
+import io.jmix.security.impl.constraint.PermissionMatrix.EntityPermissions;
 import io.jmix.security.model.EntityAttributePolicyAction;
 import io.jmix.security.model.EntityPolicyAction;
 import io.jmix.security.model.ResourcePolicy;
 import io.jmix.security.model.ResourcePolicyEffect;
+import io.jmix.security.role.RoleGrantedAuthorityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 @Component("sec_SecureOperations")
 public class SecureOperationsImpl implements SecureOperations {
 
+    @Autowired
+    protected CurrentAuthentication currentAuthentication;
+
+    @Autowired
+    protected RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
+
+    /**
+     * Permission matrices of authentications evaluated by {@link AuthenticationPolicyStore}, keyed by the resource
+     * roles and the scope of an authentication, so users with the same roles share a matrix.
+     */
+    protected final Cache<PermissionMatrixKey, PermissionMatrix> permissionMatrices = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+
+    /**
+     * Codes of resource roles granted to an authentication together with its scope.
+     */
+    protected static class PermissionMatrixKey {
+        protected final Set<String> roleCodes;
+        protected final String scope;
+
+        public PermissionMatrixKey(Set<String> roleCodes, @Nullable String scope) {
+            this.roleCodes = roleCodes;
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PermissionMatrixKey that = (PermissionMatrixKey) o;
+            return roleCodes.equals(that.roleCodes) && Objects.equals(scope, that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roleCodes, scope);
+        }
+    }
+
     public boolean isEntityCreatePermitted(MetaClass metaClass, PolicyStore policyStore) {
         return isEntityOperationPermitted(metaClass, EntityPolicyAction.CREATE, policyStore);
     }
@@ -53,7 +106,15 @@ public class SecureOperationsImpl implements SecureOperations {
 
     protected boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction entityPolicyAction,
                                                  PolicyStore policyStore) {
+        PermissionMatrix permissionMatrix = getPermissionMatrix(policyStore);
+        if (permissionMatrix != null) {
+            return permissionMatrix.get(metaClass).isEntityOperationPermitted(getOperationBit(entityPolicyAction));
+        }
+        return evaluateEntityOperationPermitted(metaClass, entityPolicyAction, policyStore);
+    }
 
+    protected boolean evaluateEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction entityPolicyAction,
+                                                       PolicyStore policyStore) {
         boolean result = policyStore.getEntityResourcePolicies(metaClass)
                 .anyMatch(policy -> isEntityOperationPermitted(policy, entityPolicyAction));
 
@@ -99,7 +160,20 @@ public class SecureOperationsImpl implements SecureOperations {
     protected boolean isEntityAttrPermitted(MetaClass metaClass, String name,
                                             EntityAttributePolicyAction[] policyActions,
                                             PolicyStore policyStore) {
+        PermissionMatrix permissionMatrix = getPermissionMatrix(policyStore);
+        if (permissionMatrix != null) {
+            int operations = 0;
+            for (EntityAttributePolicyAction policyAction : policyActions) {
+                operations |= getOperationBit(policyAction);
+            }
+            return permissionMatrix.get(metaClass).isAttributeOperationPermitted(name, operations);
+        }
+        return evaluateEntityAttrPermitted(metaClass, name, policyActions, policyStore);
+    }
 
+    protected boolean evaluateEntityAttrPermitted(MetaClass metaClass, String name,
+                                                  EntityAttributePolicyAction[] policyActions,
+                                                  PolicyStore policyStore) {
         boolean result = policyStore.getEntityAttributesResourcePolicies(metaClass, name)
                 .anyMatch(policy -> isEntityAttrPermitted(policy, policyActions));
 
@@ -151,4 +225,84 @@ public class SecureOperationsImpl implements SecureOperations {
 
         return result;
     }
+
+    /**
+     * Returns the permission matrix of the current authentication if the policies are provided by the
+     * {@link AuthenticationPolicyStore}, or null if the policy store is unknown and policies must be evaluated on
+     * each check.
+     */
+    @Nullable
+    protected PermissionMatrix getPermissionMatrix(PolicyStore policyStore) {
+        if (!(policyStore instanceof AuthenticationPolicyStore)) {
+            return null;
+        }
+        Authentication authentication = currentAuthentication.getAuthentication();
+        try {
+            return permissionMatrices.get(createPermissionMatrixKey(authentication),
+                    () -> new PermissionMatrix(metaClass -> compileEntityPermissions(metaClass, policyStore)));
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to create permission matrix", e);
+        }
+    }
+
+    protected PermissionMatrixKey createPermissionMatrixKey(Authentication authentication) {
+        String rolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
+        Set<String> roleCodes = new HashSet<>();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String roleCode = authority.getAuthority();
+            if (roleCode != null && roleCode.startsWith(rolePrefix)) {
+                roleCodes.add(roleCode.substring(rolePrefix.length()));
+            }
+        }
+        String scope = authentication.getDetails() instanceof ClientDetails
+                ? ((ClientDetails) authentication.getDetails()).getScope()
+                : null;
+        return new PermissionMatrixKey(roleCodes, scope);
+    }
+
+    protected EntityPermissions compileEntityPermissions(MetaClass metaClass, PolicyStore policyStore) {
+        int entityOperations = 0;
+        for (EntityPolicyAction action : new EntityPolicyAction[]{EntityPolicyAction.CREATE, EntityPolicyAction.READ,
+                EntityPolicyAction.UPDATE, EntityPolicyAction.DELETE}) {
+            if (evaluateEntityOperationPermitted(metaClass, action, policyStore)) {
+                entityOperations |= getOperationBit(action);
+            }
+        }
+        return new EntityPermissions(entityOperations,
+                attribute -> compileAttributeOperations(metaClass, attribute, policyStore));
+    }
+
+    protected int compileAttributeOperations(MetaClass metaClass, String name, PolicyStore policyStore) {
+        int operations = 0;
+        for (EntityAttributePolicyAction action : EntityAttributePolicyAction.values()) {
+            if (evaluateEntityAttrPermitted(metaClass, name, new EntityAttributePolicyAction[]{action}, policyStore)) {
+                operations |= getOperationBit(action);
+            }
+        }
+        return operations;
+    }
+
+    protected int getOperationBit(EntityPolicyAction action) {
+        switch (action) {
+            case CREATE:
+                return PermissionMatrix.CREATE;
+            case READ:
+                return PermissionMatrix.READ;
+            case UPDATE:
+                return PermissionMatrix.UPDATE;
+            case DELETE:
+                return PermissionMatrix.DELETE;
+            default:
+                return PermissionMatrix.CREATE | PermissionMatrix.READ | PermissionMatrix.UPDATE | PermissionMatrix.DELETE;
+        }
+    }
+
+    protected int getOperationBit(EntityAttributePolicyAction action) {
+        return action == EntityAttributePolicyAction.MODIFY ? PermissionMatrix.MODIFY : PermissionMatrix.VIEW;
+    }
+
+    @Override
+    public void invalidateCache() {
+        permissionMatrices.invalidateAll();
+    }
 }
@@ -16,25 +16,31 @@
 
 package io.jmix.security.impl.role;
 
+import io.jmix.security.constraint.SecureOperations;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
 import io.jmix.security.role.ResourceRoleRepository;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Listener invalidates resource roles repository cache when database resource role entity is modified.
+ * Listener invalidates resource roles repository cache and compiled permissions of authenticated users when database
+ * resource role entity is modified.
  */
 @Component("sec_ResourceRoleModifiedEventListener")
 public class ResourceRoleModifiedEventListener {
 
     private final ResourceRoleRepository resourceRoleRepository;
+    private final SecureOperations secureOperations;
 
-    public ResourceRoleModifiedEventListener(ResourceRoleRepository resourceRoleRepository) {
+    public ResourceRoleModifiedEventListener(ResourceRoleRepository resourceRoleRepository,
+                                             SecureOperations secureOperations) {
         this.resourceRoleRepository = resourceRoleRepository;
+        this.secureOperations = secureOperations;
     }
 
     @EventListener
     public void onResourceRoleModifiedEvent(ResourceRoleModifiedEvent event) {
         resourceRoleRepository.invalidateCache();
+        secureOperations.invalidateCache();
     }
 }